@@ -0,0 +1,401 @@
+/*
+ * VesselState.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.message.AISMessage05;
+import net.sf.marineapi.ais.message.AISMessage19;
+import net.sf.marineapi.ais.message.AISMessage24;
+import net.sf.marineapi.ais.message.AISPositionReport;
+import net.sf.marineapi.ais.message.AISPositionReportB;
+
+/**
+ * <p>
+ * Snapshot of the latest known state of a vessel, combined from its position
+ * reports (message types 1, 2, 3, 18, 19 and 27) and static data (message
+ * types 5, 19 and 24). Instances are immutable; each update creates a new
+ * snapshot in {@link VesselStateStore}.
+ * </p>
+ * <p>
+ * Values are stored in AIS resolution, i.e. position in 1/10000 minutes,
+ * speed in 1/10 knots and course in 1/10 degrees, and converted on access.
+ * Position is retained from the last report having a position, while
+ * speed, course and heading are always taken from the latest report.
+ * </p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see VesselStateStore
+ */
+public final class VesselState {
+
+	// minutes in 1/10000 per degree
+	private static final double RESOLUTION = 600000.0;
+
+	private static final int NO_POSITION = Integer.MIN_VALUE;
+	private static final short NOT_AVAILABLE = -1;
+
+	private final int mmsi;
+	private long lastSeen;
+	private long positionTime;
+	private int latitude = NO_POSITION;
+	private int longitude = NO_POSITION;
+	private short speed = NOT_AVAILABLE;
+	private short course = NOT_AVAILABLE;
+	private short heading = NOT_AVAILABLE;
+	private byte navigationalStatus = NOT_AVAILABLE;
+	private byte shipType;
+	private short bow;
+	private short stern;
+	private byte port;
+	private byte starboard;
+	private short draught;
+	private int imo;
+	private String name;
+	private String callSign;
+	private String destination;
+
+	/**
+	 * Creates an empty state for given vessel.
+	 */
+	private VesselState(int mmsi) {
+		this.mmsi = mmsi;
+	}
+
+	/**
+	 * Creates a copy of given state.
+	 */
+	private VesselState(VesselState s) {
+		this.mmsi = s.mmsi;
+		this.lastSeen = s.lastSeen;
+		this.positionTime = s.positionTime;
+		this.latitude = s.latitude;
+		this.longitude = s.longitude;
+		this.speed = s.speed;
+		this.course = s.course;
+		this.heading = s.heading;
+		this.navigationalStatus = s.navigationalStatus;
+		this.shipType = s.shipType;
+		this.bow = s.bow;
+		this.stern = s.stern;
+		this.port = s.port;
+		this.starboard = s.starboard;
+		this.draught = s.draught;
+		this.imo = s.imo;
+		this.name = s.name;
+		this.callSign = s.callSign;
+		this.destination = s.destination;
+	}
+
+	/**
+	 * Tells if given message provides vessel position or static data.
+	 *
+	 * @param msg Message to check
+	 * @return {@code true} if the message updates vessel state.
+	 */
+	static boolean isSupported(AISMessage msg) {
+		return msg instanceof AISPositionReportB || msg instanceof AISMessage05
+			|| msg instanceof AISMessage24;
+	}
+
+	/**
+	 * Creates a new state with values of given message.
+	 *
+	 * @param previous Previous state of vessel or {@code null} if none.
+	 * @param msg Message of a supported type
+	 * @param time Time of reception in milliseconds
+	 * @return New state
+	 * @see #isSupported(AISMessage)
+	 */
+	static VesselState update(VesselState previous, AISMessage msg, long time) {
+
+		VesselState s = previous == null
+			? new VesselState(msg.getMMSI()) : new VesselState(previous);
+		s.lastSeen = time;
+
+		if (msg instanceof AISPositionReportB) {
+			s.setPosition((AISPositionReportB) msg, time);
+		}
+		if (msg instanceof AISMessage19) {
+			AISMessage19 m = (AISMessage19) msg;
+			s.name = m.getName();
+			s.shipType = (byte) m.getTypeOfShipAndCargoType();
+			s.setDimensions(m.getBow(), m.getStern(), m.getPort(), m.getStarboard());
+		} else if (msg instanceof AISMessage05) {
+			AISMessage05 m = (AISMessage05) msg;
+			s.imo = m.getIMONumber();
+			s.name = m.getName();
+			s.callSign = m.getCallSign();
+			s.destination = m.getDestination();
+			s.shipType = (byte) m.getTypeOfShipAndCargoType();
+			s.draught = (short) Math.round(m.getMaximumDraught() * 10);
+			s.setDimensions(m.getBow(), m.getStern(), m.getPort(), m.getStarboard());
+		} else if (msg instanceof AISMessage24) {
+			AISMessage24 m = (AISMessage24) msg;
+			if (m.getPartNumber() == 0) {
+				s.name = m.getName();
+			} else {
+				s.callSign = m.getCallSign();
+				s.shipType = (byte) m.getTypeOfShipAndCargoType();
+				s.setDimensions(m.getBow(), m.getStern(), m.getPort(), m.getStarboard());
+			}
+		}
+		return s;
+	}
+
+	private void setPosition(AISPositionReportB m, long time) {
+		if (m.hasLatitude() && m.hasLongitude()) {
+			latitude = (int) Math.round(m.getLatitudeInDegrees() * RESOLUTION);
+			longitude = (int) Math.round(m.getLongitudeInDegrees() * RESOLUTION);
+			positionTime = time;
+		}
+		speed = m.hasSpeedOverGround()
+			? (short) Math.round(m.getSpeedOverGround() * 10) : NOT_AVAILABLE;
+		course = m.hasCourseOverGround()
+			? (short) Math.round(m.getCourseOverGround() * 10) : NOT_AVAILABLE;
+		heading = m.hasTrueHeading() ? (short) m.getTrueHeading() : NOT_AVAILABLE;
+		if (m instanceof AISPositionReport) {
+			navigationalStatus = (byte) ((AISPositionReport) m).getNavigationalStatus();
+		}
+	}
+
+	private void setDimensions(int bow, int stern, int port, int starboard) {
+		this.bow = (short) bow;
+		this.stern = (short) stern;
+		this.port = (byte) port;
+		this.starboard = (byte) starboard;
+	}
+
+	/**
+	 * Returns the MMSI of vessel.
+	 *
+	 * @return MMSI
+	 */
+	public int getMMSI() {
+		return mmsi;
+	}
+
+	/**
+	 * Returns the time when a message was last received from the vessel.
+	 *
+	 * @return Time in milliseconds
+	 */
+	public long getLastSeen() {
+		return lastSeen;
+	}
+
+	/**
+	 * Returns the time of last received position.
+	 *
+	 * @return Time in milliseconds, zero if position is not available.
+	 */
+	public long getPositionTime() {
+		return positionTime;
+	}
+
+	/**
+	 * Tells if the position of vessel is available.
+	 *
+	 * @return {@code true} if position has been received.
+	 */
+	public boolean hasPosition() {
+		return latitude != NO_POSITION;
+	}
+
+	/**
+	 * Returns the latitude of last received position.
+	 *
+	 * @return Latitude in degrees, {@code NaN} if not available.
+	 */
+	public double getLatitude() {
+		return hasPosition() ? latitude / RESOLUTION : Double.NaN;
+	}
+
+	/**
+	 * Returns the longitude of last received position.
+	 *
+	 * @return Longitude in degrees, {@code NaN} if not available.
+	 */
+	public double getLongitude() {
+		return hasPosition() ? longitude / RESOLUTION : Double.NaN;
+	}
+
+	/**
+	 * Tells if the speed over ground is available.
+	 *
+	 * @return {@code true} if available in latest position report.
+	 */
+	public boolean hasSpeedOverGround() {
+		return speed != NOT_AVAILABLE;
+	}
+
+	/**
+	 * Returns the speed over ground.
+	 *
+	 * @return Speed in knots, {@code NaN} if not available.
+	 */
+	public double getSpeedOverGround() {
+		return hasSpeedOverGround() ? speed / 10.0 : Double.NaN;
+	}
+
+	/**
+	 * Tells if the course over ground is available.
+	 *
+	 * @return {@code true} if available in latest position report.
+	 */
+	public boolean hasCourseOverGround() {
+		return course != NOT_AVAILABLE;
+	}
+
+	/**
+	 * Returns the course over ground.
+	 *
+	 * @return Course in degrees, {@code NaN} if not available.
+	 */
+	public double getCourseOverGround() {
+		return hasCourseOverGround() ? course / 10.0 : Double.NaN;
+	}
+
+	/**
+	 * Tells if the true heading is available.
+	 *
+	 * @return {@code true} if available in latest position report.
+	 */
+	public boolean hasTrueHeading() {
+		return heading != NOT_AVAILABLE;
+	}
+
+	/**
+	 * Returns the true heading.
+	 *
+	 * @return Heading in degrees, -1 if not available.
+	 */
+	public int getTrueHeading() {
+		return heading;
+	}
+
+	/**
+	 * Returns the navigational status reported by class A transponders.
+	 *
+	 * @return Navigational status, -1 if not received.
+	 * @see net.sf.marineapi.ais.util.NavigationalStatus
+	 */
+	public int getNavigationalStatus() {
+		return navigationalStatus;
+	}
+
+	/**
+	 * Returns the ship name.
+	 *
+	 * @return Name or {@code null} if not received.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the call sign.
+	 *
+	 * @return Call sign or {@code null} if not received.
+	 */
+	public String getCallSign() {
+		return callSign;
+	}
+
+	/**
+	 * Returns the destination reported by class A transponders.
+	 *
+	 * @return Destination or {@code null} if not received.
+	 */
+	public String getDestination() {
+		return destination;
+	}
+
+	/**
+	 * Returns the IMO number.
+	 *
+	 * @return IMO number, zero if not received.
+	 */
+	public int getIMONumber() {
+		return imo;
+	}
+
+	/**
+	 * Returns the type of ship and cargo.
+	 *
+	 * @return Ship type, zero if not received.
+	 * @see net.sf.marineapi.ais.util.ShipType
+	 */
+	public int getTypeOfShipAndCargoType() {
+		return shipType & 0xFF;
+	}
+
+	/**
+	 * Returns the distance from reference point to bow.
+	 *
+	 * @return Distance in meters
+	 */
+	public int getBow() {
+		return bow;
+	}
+
+	/**
+	 * Returns the distance from reference point to stern.
+	 *
+	 * @return Distance in meters
+	 */
+	public int getStern() {
+		return stern;
+	}
+
+	/**
+	 * Returns the distance from reference point to port side.
+	 *
+	 * @return Distance in meters
+	 */
+	public int getPort() {
+		return port;
+	}
+
+	/**
+	 * Returns the distance from reference point to starboard side.
+	 *
+	 * @return Distance in meters
+	 */
+	public int getStarboard() {
+		return starboard;
+	}
+
+	/**
+	 * Returns the maximum present static draught.
+	 *
+	 * @return Draught in meters
+	 */
+	public double getMaximumDraught() {
+		return draught / 10.0;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("mmsi=%d, name=%s, lat=%s, lon=%s, sog=%s, cog=%s, lastSeen=%d",
+			mmsi, name, getLatitude(), getLongitude(), getSpeedOverGround(),
+			getCourseOverGround(), lastSeen);
+	}
+}
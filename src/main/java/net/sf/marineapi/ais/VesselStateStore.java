@@ -0,0 +1,266 @@
+/*
+ * VesselStateStore.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import net.sf.marineapi.ais.message.AISMessage;
+
+/**
+ * <p>
+ * In-memory store of the latest {@link VesselState} of each vessel, keyed by
+ * MMSI. Position reports and static data messages are combined in the state
+ * of transmitting vessel, while other message types are ignored.
+ * </p>
+ * <p>
+ * States are held in an open-addressing hash table of primitive MMSI keys.
+ * Updates are serialized and each update replaces the vessel state with a
+ * new immutable snapshot, so that all values of a message are applied at
+ * once. Reads do not lock and always see a complete snapshot.
+ * </p>
+ * <p>
+ * Tracking 100,000 vessels having both position and static data takes
+ * about 260 bytes per vessel on a 64-bit JVM with compressed references, as
+ * measured from heap usage after garbage collection. Of this, the table
+ * slots take about 20 bytes, the state itself 70 bytes and the name, call
+ * sign and destination strings the rest. Vessels having only position take
+ * about 90 bytes.
+ * </p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see VesselState
+ */
+public class VesselStateStore {
+
+	private static final int EMPTY = -1;
+	private static final int DELETED = -2;
+	private static final int MIN_CAPACITY = 16;
+
+	private volatile Table table;
+	private int size;
+	private int used; // including deleted slots
+
+	/**
+	 * Creates a new empty store.
+	 */
+	public VesselStateStore() {
+		this(MIN_CAPACITY);
+	}
+
+	/**
+	 * Creates a new empty store for given number of vessels.
+	 *
+	 * @param expected Expected number of vessels
+	 */
+	public VesselStateStore(int expected) {
+		this.table = new Table(capacityFor(expected));
+	}
+
+	/**
+	 * Updates the vessel state with given message, received now.
+	 *
+	 * @param msg AIS message to apply
+	 * @return Updated state, or {@code null} if message type is not stored.
+	 */
+	public VesselState update(AISMessage msg) {
+		return update(msg, System.currentTimeMillis());
+	}
+
+	/**
+	 * Updates the vessel state with given message.
+	 *
+	 * @param msg AIS message to apply
+	 * @param time Time of reception in milliseconds
+	 * @return Updated state, or {@code null} if message type is not stored.
+	 */
+	public VesselState update(AISMessage msg, long time) {
+		if (!VesselState.isSupported(msg)) {
+			return null;
+		}
+		final int mmsi = msg.getMMSI();
+		synchronized (this) {
+			Table t = table;
+			int free = -1;
+			for (int i = t.slot(mmsi);; i = (i + 1) & t.mask) {
+				int key = t.keys.get(i);
+				if (key == mmsi) {
+					VesselState state = VesselState.update(t.values.get(i), msg, time);
+					t.values.set(i, state);
+					return state;
+				}
+				if (key == DELETED && free < 0) {
+					free = i;
+				} else if (key == EMPTY) {
+					VesselState state = VesselState.update(null, msg, time);
+					if (free < 0) {
+						free = i;
+						used++;
+					}
+					t.values.set(free, state);
+					t.keys.set(free, mmsi);
+					size++;
+					if (used > t.threshold) {
+						rehash();
+					}
+					return state;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the current state of given vessel.
+	 *
+	 * @param mmsi MMSI of vessel
+	 * @return Vessel state or {@code null} if not stored.
+	 */
+	public VesselState get(int mmsi) {
+		final Table t = table;
+		for (int i = t.slot(mmsi), n = 0; n <= t.mask; i = (i + 1) & t.mask, n++) {
+			int key = t.keys.get(i);
+			if (key == EMPTY) {
+				return null;
+			}
+			if (key == mmsi) {
+				// slot may have been reused since reading the key
+				VesselState state = t.values.get(i);
+				if (state != null && state.getMMSI() == mmsi) {
+					return state;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the vessels that have not been seen since given time.
+	 *
+	 * @param time Time in milliseconds
+	 * @return Number of removed vessels
+	 */
+	public synchronized int evict(long time) {
+		final Table t = table;
+		int count = 0;
+		for (int i = 0; i <= t.mask; i++) {
+			VesselState state = t.values.get(i);
+			if (state != null && state.getLastSeen() < time) {
+				t.keys.set(i, DELETED);
+				t.values.set(i, null);
+				count++;
+			}
+		}
+		size -= count;
+		return count;
+	}
+
+	/**
+	 * Removes all vessels.
+	 */
+	public synchronized void clear() {
+		table = new Table(MIN_CAPACITY);
+		size = 0;
+		used = 0;
+	}
+
+	/**
+	 * Performs given action for the current state of each vessel. Updates
+	 * made during iteration may or may not be included.
+	 *
+	 * @param action Action to perform
+	 */
+	public void forEach(Consumer<VesselState> action) {
+		final Table t = table;
+		for (int i = 0; i <= t.mask; i++) {
+			VesselState state = t.values.get(i);
+			if (state != null) {
+				action.accept(state);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of vessels in store.
+	 *
+	 * @return Vessel count
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Copies the states to a new table, doubling the capacity when more
+	 * than half full.
+	 */
+	private void rehash() {
+		final Table old = table;
+		int capacity = old.mask + 1;
+		Table t = new Table(size * 2 > capacity ? capacity * 2 : capacity);
+		for (int i = 0; i < capacity; i++) {
+			VesselState state = old.values.get(i);
+			if (state != null) {
+				int j = t.slot(state.getMMSI());
+				while (t.keys.get(j) != EMPTY) {
+					j = (j + 1) & t.mask;
+				}
+				t.values.set(j, state);
+				t.keys.set(j, state.getMMSI());
+			}
+		}
+		used = size;
+		table = t;
+	}
+
+	private static int capacityFor(int expected) {
+		int capacity = MIN_CAPACITY;
+		while (capacity * 3 / 4 < expected) {
+			capacity *= 2;
+		}
+		return capacity;
+	}
+
+	/**
+	 * Hash table of MMSI keys and vessel states, with power of two capacity.
+	 */
+	private static final class Table {
+
+		final AtomicIntegerArray keys;
+		final AtomicReferenceArray<VesselState> values;
+		final int mask;
+		final int threshold;
+
+		Table(int capacity) {
+			keys = new AtomicIntegerArray(capacity);
+			values = new AtomicReferenceArray<>(capacity);
+			mask = capacity - 1;
+			threshold = capacity * 3 / 4;
+			for (int i = 0; i < capacity; i++) {
+				keys.set(i, EMPTY);
+			}
+		}
+
+		int slot(int mmsi) {
+			int h = mmsi * 0x9E3779B9;
+			return (h ^ (h >>> 16)) & mask;
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * AISMessageFilter.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.event;
+
+import java.util.Arrays;
+
+import net.sf.marineapi.ais.util.AISHeader;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+
+/**
+ * <p>
+ * Prefilter for AIS messages by message type and MMSI. The filter reads only
+ * the message header from the payload of first sentence, so that unwanted
+ * messages can be dropped before the payload is decoded and message parser
+ * created. See {@link AbstractAISMessageListener#setFilter(AISMessageFilter)}.
+ * </p>
+ * <p>
+ * Message types and MMSIs may be allowed and denied. When allowed values are
+ * set, other values are rejected. Denied values are always rejected. By
+ * default, all messages are accepted. Messages having no readable header in
+ * the first sentence are also accepted, leaving them to be handled by
+ * the parser.
+ * </p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see AISHeader
+ */
+public class AISMessageFilter {
+
+	private static final int[] NONE = new int[0];
+
+	// sorted sets of values, allowed sets are not applied when null
+	private volatile int[] allowedTypes;
+	private volatile int[] deniedTypes = NONE;
+	private volatile int[] allowedMMSIs;
+	private volatile int[] deniedMMSIs = NONE;
+
+	/**
+	 * Creates a new filter that accepts all messages.
+	 */
+	public AISMessageFilter() {
+	}
+
+	/**
+	 * Sets the allowed message types, rejecting all other types.
+	 *
+	 * @param types Message types to allow, none for all types.
+	 */
+	public void setAllowedTypes(int... types) {
+		this.allowedTypes = types.length > 0 ? sorted(types) : null;
+	}
+
+	/**
+	 * Sets the denied message types.
+	 *
+	 * @param types Message types to reject
+	 */
+	public void setDeniedTypes(int... types) {
+		this.deniedTypes = sorted(types);
+	}
+
+	/**
+	 * Sets the allowed MMSIs, rejecting messages from all other stations.
+	 *
+	 * @param mmsi MMSIs to allow, none for all stations.
+	 */
+	public void setAllowedMMSIs(int... mmsi) {
+		this.allowedMMSIs = mmsi.length > 0 ? sorted(mmsi) : null;
+	}
+
+	/**
+	 * Sets the denied MMSIs.
+	 *
+	 * @param mmsi MMSIs to reject
+	 */
+	public void setDeniedMMSIs(int... mmsi) {
+		this.deniedMMSIs = sorted(mmsi);
+	}
+
+	/**
+	 * Tells if the message of given sentence should be parsed.
+	 *
+	 * @param sentence First sentence of AIS message
+	 * @return {@code true} if accepted, otherwise {@code false}.
+	 */
+	public boolean accept(AISSentence sentence) {
+		return accept(AISHeader.read(sentence.getPayload()));
+	}
+
+	/**
+	 * Tells if the message of given header should be parsed.
+	 *
+	 * @param header Header bits
+	 * @return {@code true} if accepted, otherwise {@code false}.
+	 * @see AISHeader#read(CharSequence)
+	 */
+	public boolean accept(long header) {
+		if (header == AISHeader.NONE) {
+			return true;
+		}
+		return accept(AISHeader.getMessageType(header), AISHeader.getMMSI(header));
+	}
+
+	/**
+	 * Tells if the message of given type and MMSI should be parsed.
+	 *
+	 * @param type Message type
+	 * @param mmsi MMSI of transmitting station
+	 * @return {@code true} if accepted, otherwise {@code false}.
+	 */
+	public boolean accept(int type, int mmsi) {
+		return isAccepted(type, allowedTypes, deniedTypes)
+			&& isAccepted(mmsi, allowedMMSIs, deniedMMSIs);
+	}
+
+	private static boolean isAccepted(int value, int[] allowed, int[] denied) {
+		if (allowed != null && Arrays.binarySearch(allowed, value) < 0) {
+			return false;
+		}
+		return denied.length == 0 || Arrays.binarySearch(denied, value) < 0;
+	}
+
+	private static int[] sorted(int[] values) {
+		int[] copy = values.clone();
+		Arrays.sort(copy);
+		return copy;
+	}
+}
@@ -20,6 +20,7 @@
  */
 package net.sf.marineapi.ais.event;
 
+import net.sf.marineapi.ais.parser.AISMessageAssembler;
 import net.sf.marineapi.ais.parser.AISMessageFactory;
 import net.sf.marineapi.ais.message.AISMessage;
 import net.sf.marineapi.nmea.event.AbstractSentenceListener;
@@ -27,9 +28,6 @@ import net.sf.marineapi.nmea.event.SentenceListener;
 import net.sf.marineapi.nmea.sentence.AISSentence;
 import net.sf.marineapi.util.GenericTypeResolver;
 
-import java.util.LinkedList;
-import java.util.Queue;
-
 /**
  * <p>
  * Abstract listener for AIS messages. Extend this class to create a listener
@@ -39,12 +37,24 @@ import java.util.Queue;
  * To listen to all incoming AIS sentences, extend the {@link
  * AbstractSentenceListener} using {@link AISSentence} as type. However, in this
  * case you also need to implement the message concatenation to parse messages
- * being delivered over multiple sentences.</p>
+ * being delivered over multiple sentences, e.g. by using
+ * {@link AISMessageAssembler}.</p>
  * <p>
  * This class is based on {@link AbstractSentenceListener} and thus it has the
  * same recommendations and limitations regarding the usage of generics and
  * inheritance.
  * </p>
+ * <p>
+ * Messages may be prefiltered by message type and MMSI with
+ * {@link AISMessageFilter}, in which case the rejected messages are not
+ * decoded at all.
+ * </p>
+ * <p>
+ * Fragments are assembled without regard to their source, i.e. the reader
+ * or receiver that delivered them. If the listener receives interleaved
+ * fragments of messages from multiple receivers, using same sequential
+ * message id and channel, they are discarded as out of order.
+ * </p>
  * 
  * @author Kimmo Tuukkanen
  * @param <T> AIS message type to be listened.
@@ -55,8 +65,9 @@ public abstract class AbstractAISMessageListener<T extends AISMessage>
     extends AbstractSentenceListener<AISSentence> {
 
     final Class<?> messageType;
-    private final Queue<AISSentence> queue = new LinkedList<>();
+    private final AISMessageAssembler assembler = new AISMessageAssembler();
     private final AISMessageFactory factory = AISMessageFactory.getInstance();
+    private volatile AISMessageFilter filter;
 
     /**
      * Default constructor with automatic generic type resolving. Notice that
@@ -97,14 +108,15 @@ public abstract class AbstractAISMessageListener<T extends AISMessage>
     @SuppressWarnings("unchecked")    
     public final void sentenceRead(AISSentence sentence) {
 
-        if (sentence.isFirstFragment()) {
-            queue.clear();
+        AISMessageFilter f = filter;
+        if (f != null && sentence.isFirstFragment() && !f.accept(sentence)) {
+            // drop the remaining fragments as well
+            assembler.skip(sentence);
+            return;
         }
 
-        queue.add(sentence);
-
-        if (sentence.isLastFragment()) {
-            AISSentence[] sentences = queue.toArray(new AISSentence[queue.size()]);
+        AISSentence[] sentences = assembler.add(sentence);
+        if (sentences != null) {
             try {
                 AISMessage message = factory.create(sentences);
                 if (messageType.isAssignableFrom(message.getClass())) {
@@ -116,6 +128,36 @@ public abstract class AbstractAISMessageListener<T extends AISMessage>
         }
     }
 
+    /**
+     * Returns the assembler of messages delivered over multiple sentences,
+     * e.g. for reading its counters.
+     *
+     * @return AISMessageAssembler
+     */
+    public AISMessageAssembler getAssembler() {
+        return assembler;
+    }
+
+    /**
+     * Returns the prefilter of received messages.
+     *
+     * @return AISMessageFilter or {@code null} if not set.
+     */
+    public AISMessageFilter getFilter() {
+        return filter;
+    }
+
+    /**
+     * Sets the prefilter of received messages. The message type and MMSI of
+     * each message are checked from the first sentence, before parsing the
+     * message.
+     *
+     * @param filter AISMessageFilter to set, {@code null} to accept all.
+     */
+    public void setFilter(AISMessageFilter filter) {
+        this.filter = filter;
+    }
+
     /**
      * Invoked when AIS message has been received.
      * @param msg AISMessage of type {@code T}
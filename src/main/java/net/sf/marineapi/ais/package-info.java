@@ -0,0 +1,4 @@
+/**
+ * Tracking of AIS targets.
+ */
+package net.sf.marineapi.ais;
@@ -84,24 +84,6 @@ class AISMessage05Parser extends AISMessageParser implements AISMessage05 {
 		40, 70, 112, 232, 240, 249, 258, 264, 270, 274, 278, 283, 288, 294, 302, 422, 423
 	};
 
-	private int			fAISVersion;
-	private int			fIMONumber;
-	private String		fCallSign;
-	private String		fName;
-	private int			fShipAndCargoType;
-	private int			fBow;
-	private int			fStern;
-	private int			fPort;
-	private int			fStarboard;
-	private int			fTypeOfEPFD;
-	private int			fETAMinute;
-	private int			fETAHour;
-	private int			fETADay;
-	private int			fETAMonth;
-	private int			fMaximumDraught;
-	private String		fDestination;
-	private boolean		fDte;
-
 	/**
 	 * Constructor.
 	 *
@@ -109,77 +91,64 @@ class AISMessage05Parser extends AISMessageParser implements AISMessage05 {
 	 */
 	public AISMessage05Parser(Sixbit content) {
 		super(content, 424);
-		fAISVersion = content.getInt(FROM[AISVERSION], TO[AISVERSION]);
-		fIMONumber = content.getInt(FROM[IMONUMBER], TO[IMONUMBER]);
-		fCallSign = content.getString(FROM[CALLSIGN], TO[CALLSIGN]).trim();
-		fName = content.getString(FROM[NAME], TO[NAME]).trim();
-		fShipAndCargoType = content.getInt(FROM[TYPEOFSHIPANDCARGO], TO[TYPEOFSHIPANDCARGO]);
-
-		fBow = content.getInt(FROM[BOW], TO[BOW]); 
-		fStern = content.getInt(FROM[STERN], TO[STERN]);
-		fPort = content.getInt(FROM[PORT], TO[PORT]);
-		fStarboard = content.getInt(FROM[STARBOARD], TO[STARBOARD]);
-
-		fTypeOfEPFD = content.getInt(FROM[TYPEOFEPFD], TO[TYPEOFEPFD]);
+	}
 
-		fETAMonth = content.getInt(FROM[MONTH], TO[MONTH]); 
-		fETADay = content.getInt(FROM[DAY], TO[DAY]);
-		fETAHour = content.getInt(FROM[HOUR], TO[HOUR]); 
-		fETAMinute = content.getInt(FROM[MINUTE], TO[MINUTE]); 
+	private int getInt(int field) {
+		return getSixbit().getInt(FROM[field], TO[field]);
+	}
 
-		fMaximumDraught = content.getInt(FROM[DRAUGHT], TO[DRAUGHT]);
-		fDestination = content.getString(FROM[DESTINATION], TO[DESTINATION]).trim();
-		fDte = content.getBoolean(TO[DTE]);
-	}    
+	private String getString(int field) {
+		return getSixbit().getString(FROM[field], TO[field]).trim();
+	}
 
-	public int getAISVersionIndicator() { return fAISVersion; }
+	public int getAISVersionIndicator() { return getInt(AISVERSION); }
 
-	public int getIMONumber() { return fIMONumber; }
+	public int getIMONumber() { return getInt(IMONUMBER); }
 
-	public String getCallSign() { return fCallSign; }
+	public String getCallSign() { return getString(CALLSIGN); }
 
-	public String getName() { return fName; }
+	public String getName() { return getString(NAME); }
 
-	public int getTypeOfShipAndCargoType() { return fShipAndCargoType; }
+	public int getTypeOfShipAndCargoType() { return getInt(TYPEOFSHIPANDCARGO); }
 
-	public int getBow() { return fBow; }
+	public int getBow() { return getInt(BOW); }
 
-	public int getStern() { return fStern; }
+	public int getStern() { return getInt(STERN); }
 
-	public int getPort() { return fPort; }
+	public int getPort() { return getInt(PORT); }
 
-	public int getStarboard() { return fStarboard; }
+	public int getStarboard() { return getInt(STARBOARD); }
 
-	public int getTypeOfEPFD() { return fTypeOfEPFD; }
+	public int getTypeOfEPFD() { return getInt(TYPEOFEPFD); }
 
-	public int getETAMonth() { return fETAMonth; }
+	public int getETAMonth() { return getInt(MONTH); }
 
-	public int getETADay() { return fETADay; }
+	public int getETADay() { return getInt(DAY); }
 	
-	public int getETAHour() { return fETAHour; }
+	public int getETAHour() { return getInt(HOUR); }
 	
-	public int getETAMinute() { return fETAMinute; }
+	public int getETAMinute() { return getInt(MINUTE); }
 	
-	public double getMaximumDraught() { return fMaximumDraught / 10.0; }
+	public double getMaximumDraught() { return getInt(DRAUGHT) / 10.0; }
 
-	public String getDestination() { return fDestination; }
+	public String getDestination() { return getString(DESTINATION); }
 
-	public boolean isDteReady() { return fDte; }
+	public boolean isDteReady() { return getSixbit().getBoolean(TO[DTE]); }
 
 	public String toString() {
-		String result =     "\tIMO:       " + Integer.toString(fIMONumber);
-		result += SEPARATOR + "Call sign: " + fCallSign;
-		result += SEPARATOR + "Name:      " + fName;
-		result += SEPARATOR + "Type:      " + ShipType.shipTypeToString(fShipAndCargoType);
-		String dim = "Bow: " + fBow + ", Stern: " + fStern +
-				", Port: " + fPort + ", Starboard: " + fStarboard + " [m]";
+		String result =     "\tIMO:       " + Integer.toString(getIMONumber());
+		result += SEPARATOR + "Call sign: " + getCallSign();
+		result += SEPARATOR + "Name:      " + getName();
+		result += SEPARATOR + "Type:      " + ShipType.shipTypeToString(getTypeOfShipAndCargoType());
+		String dim = "Bow: " + getBow() + ", Stern: " + getStern() +
+				", Port: " + getPort() + ", Starboard: " + getStarboard() + " [m]";
 		result += SEPARATOR + "Dim:       " + dim;
-		result += SEPARATOR + "ETA:       " + "Month: " + fETAMonth + ", D: " + fETADay +
-				", H: " + fETAHour + ", M: " + fETAMinute;
-		result += SEPARATOR + "Draft:     " + Float.toString(fMaximumDraught / 10f);
-		result += SEPARATOR + "EPFD:      " + PositioningDevice.toString(fTypeOfEPFD);
-		result += SEPARATOR + "Dest:      " + fDestination;
-		result += SEPARATOR + "DTE:       " + fDte;
+		result += SEPARATOR + "ETA:       " + "Month: " + getETAMonth() + ", D: " + getETADay() +
+				", H: " + getETAHour() + ", M: " + getETAMinute();
+		result += SEPARATOR + "Draft:     " + Float.toString(getInt(DRAUGHT) / 10f);
+		result += SEPARATOR + "EPFD:      " + PositioningDevice.toString(getTypeOfEPFD());
+		result += SEPARATOR + "Dest:      " + getDestination();
+		result += SEPARATOR + "DTE:       " + isDteReady();
 		return result;
 	}
 }
@@ -80,19 +80,6 @@ class AISMessage09Parser extends AISMessageParser implements AISMessage09 {
     private static final int[] FROM = new int[]{38,50,60,61,89,116,128,134,142,43,146,147,149};
     private static final int[] TO =   new int[]{50,60,61,89,116,128,134,142,43,146,147,149,167};
 
-    private int fAltitude;
-    private int		fSOG;
-    private boolean	fPositionAccuracy;
-    private int		fLongitude;
-    private int		fLatitude;
-    private int		fCOG;
-    private int		fTimeStamp;
-    private int	    fRegional;
-    private boolean	fDTE;
-    private boolean	fAssignedModeFlag;
-    private boolean	fRAIMFlag;
-    private int	fRadioStatus;
-
     /**
      * Constructor.
      *
@@ -100,31 +87,43 @@ class AISMessage09Parser extends AISMessageParser implements AISMessage09 {
      */
     public AISMessage09Parser(Sixbit content) {
         super(content, 168);
-        fAltitude = content.getInt(FROM[ALTITUDE], TO[ALTITUDE]);
-        fSOG = content.getInt(FROM[SPEEDOVERGROUND], TO[SPEEDOVERGROUND]);
-        fPositionAccuracy = content.getBoolean(TO[POSITIONACCURACY]);
-        fLongitude = content.getAs28BitInt(FROM[LONGITUDE], TO[LONGITUDE]);
-        if (!Longitude28.isCorrect(fLongitude))
-            addViolation(new AISRuleViolation("LongitudeInDegrees", fLongitude, Longitude28.RANGE));
-        fLatitude = content.getAs27BitInt(FROM[LATITUDE], TO[LATITUDE]);
-        if (!Latitude27.isCorrect(fLatitude))
-            addViolation(new AISRuleViolation("LatitudeInDegrees", fLatitude, Latitude27.RANGE));
-        fCOG = content.getInt(FROM[COURSEOVERGROUND], TO[COURSEOVERGROUND]);
-        if (!Angle12.isCorrect(fCOG))
-            addViolation(new AISRuleViolation("CourseOverGround", fCOG, Angle12.RANGE));
-        fTimeStamp = content.getInt(FROM[TIMESTAMP], TO[TIMESTAMP]);
-        fRegional = content.getInt(FROM[REGIONAL], TO[REGIONAL]);
-        fDTE = content.getBoolean(TO[DTE]);
-        fAssignedModeFlag = content.getBoolean(TO[ASSIGNEDMODEFLAG]);
-        fRAIMFlag = content.getBoolean(TO[RAIMFLAG]);
-        fRadioStatus = content.getInt(FROM[RADIOSTATUS], TO[RADIOSTATUS]);
+    }
+
+    @Override
+    protected void validate() {
+        super.validate();
+        int longitude = longitude();
+        if (!Longitude28.isCorrect(longitude))
+            addViolation(new AISRuleViolation("LongitudeInDegrees", longitude, Longitude28.RANGE));
+        int latitude = latitude();
+        if (!Latitude27.isCorrect(latitude))
+            addViolation(new AISRuleViolation("LatitudeInDegrees", latitude, Latitude27.RANGE));
+        int cog = cog();
+        if (!Angle12.isCorrect(cog))
+            addViolation(new AISRuleViolation("CourseOverGround", cog, Angle12.RANGE));
+    }
+
+    private int getInt(int field) {
+        return getSixbit().getInt(FROM[field], TO[field]);
+    }
+
+    private int longitude() {
+        return getSixbit().getAs28BitInt(FROM[LONGITUDE], TO[LONGITUDE]);
+    }
+
+    private int latitude() {
+        return getSixbit().getAs27BitInt(FROM[LATITUDE], TO[LATITUDE]);
+    }
+
+    private int cog() {
+        return getInt(COURSEOVERGROUND);
     }
 
     public int getAltitude() {
-        return fAltitude;
+        return getInt(ALTITUDE);
     }
 
-    public int getSpeedOverGround() { return fSOG; }
+    public int getSpeedOverGround() { return getInt(SPEEDOVERGROUND); }
 
     /**
      * Returns the String representation of speed over ground.
@@ -132,25 +131,26 @@ class AISMessage09Parser extends AISMessageParser implements AISMessage09 {
      * @return formatted value, "no SOG" or ">=1022"
      */
     public String getSOGString() {
+        int sog = getSpeedOverGround();
         String msg;
-        if (fSOG == 1023)
+        if (sog == 1023)
             msg = "no SOG";
-        else if (fSOG == 1022)
+        else if (sog == 1022)
             msg = ">=1022";
         else
-            msg = new DecimalFormat("##0.0").format(fSOG / 10.0);
+            msg = new DecimalFormat("##0.0").format(sog / 10.0);
         return msg;
     }
 
-    public boolean isAccurate() { return fPositionAccuracy; }
+    public boolean isAccurate() { return getSixbit().getBoolean(TO[POSITIONACCURACY]); }
 
-    public double getLongitudeInDegrees() { return Longitude28.toDegrees(fLongitude); }
+    public double getLongitudeInDegrees() { return Longitude28.toDegrees(longitude()); }
 
-    public double getLatitudeInDegrees() { return Latitude27.toDegrees(fLatitude); }
+    public double getLatitudeInDegrees() { return Latitude27.toDegrees(latitude()); }
 
-    public double getCourseOverGround() { return Angle12.toDegrees(fCOG); }
+    public double getCourseOverGround() { return Angle12.toDegrees(cog()); }
 
-    public int getTimeStamp() { return fTimeStamp; }
+    public int getTimeStamp() { return getInt(TIMESTAMP); }
 
     /**
      * Regional reserved (spare)
@@ -158,47 +158,47 @@ class AISMessage09Parser extends AISMessageParser implements AISMessage09 {
      * @return Int value
      */
     public int getRegional() {
-        return fRegional;
+        return getInt(REGIONAL);
     }
 
     public boolean getDTEFlag() {
-        return fDTE;
+        return getSixbit().getBoolean(TO[DTE]);
     }
 
     public boolean getAssignedModeFlag() {
-        return fAssignedModeFlag;
+        return getSixbit().getBoolean(TO[ASSIGNEDMODEFLAG]);
     }
 
     public boolean getRAIMFlag() {
-        return fRAIMFlag;
+        return getSixbit().getBoolean(TO[RAIMFLAG]);
     }
 
     public int getRadioStatus() {
-        return fRadioStatus;
+        return getInt(RADIOSTATUS);
     }
 
     @Override
     public boolean hasLongitude() {
-        return Longitude28.isAvailable(fLongitude);
+        return Longitude28.isAvailable(longitude());
     }
 
     @Override
     public boolean hasLatitude() {
-        return Latitude27.isAvailable(fLatitude);
+        return Latitude27.isAvailable(latitude());
     }
 
     public String toString() {
-        String result = "\tAlt:      " + fAltitude;
-        result += SEPARATOR + "SOG:     " + SpeedOverGround.toString(fSOG);
-        result += SEPARATOR + "Pos acc: " + (fPositionAccuracy ? "high" : "low") + " accuracy";
-        result += SEPARATOR + "Lon:     " + Longitude28.toString(fLongitude);
-        result += SEPARATOR + "Lat:     " + Latitude27.toString(fLatitude);
-        result += SEPARATOR + "COG:     " + Angle12.toString(fCOG);
-        result += SEPARATOR + "Time:    " + TimeStamp.toString(fTimeStamp);
+        String result = "\tAlt:      " + getAltitude();
+        result += SEPARATOR + "SOG:     " + SpeedOverGround.toString(getSpeedOverGround());
+        result += SEPARATOR + "Pos acc: " + (isAccurate() ? "high" : "low") + " accuracy";
+        result += SEPARATOR + "Lon:     " + Longitude28.toString(longitude());
+        result += SEPARATOR + "Lat:     " + Latitude27.toString(latitude());
+        result += SEPARATOR + "COG:     " + Angle12.toString(cog());
+        result += SEPARATOR + "Time:    " + TimeStamp.toString(getTimeStamp());
         result += SEPARATOR + "Regional:     " + getRegional();
-        result += SEPARATOR + "DTE: " + (fDTE ? "yes" : "no");
-        result += SEPARATOR + "Assigned Mode Flag: " + (fAssignedModeFlag ? "yes" : "no");
-        result += SEPARATOR + "RAIM Flag: " + (fRAIMFlag ? "yes" : "no");
+        result += SEPARATOR + "DTE: " + (getDTEFlag() ? "yes" : "no");
+        result += SEPARATOR + "Assigned Mode Flag: " + (getAssignedModeFlag() ? "yes" : "no");
+        result += SEPARATOR + "RAIM Flag: " + (getRAIMFlag() ? "yes" : "no");
         result += SEPARATOR + "RadioStatus:     " + getRadioStatus();
         return result;
     }
@@ -62,14 +62,6 @@ class AISMessage19Parser extends AISPositionReportBParser implements AISMessage1
 	private final static int[]	TO					= {
 		263, 271, 280, 289, 295, 301, 305};
 
-	private String		fName;
-	private int			fShipAndCargoType;
-	private int			fBow;
-	private int			fStern;
-	private int			fPort;
-	private int			fStarboard;
-	private int			fTypeOfEPFD;
-
 	/**
 	 * Constructor.
 	 *
@@ -77,40 +69,34 @@ class AISMessage19Parser extends AISPositionReportBParser implements AISMessage1
 	 */
 	public AISMessage19Parser(Sixbit content) {
 		super(content, 312);
+	}
 
-		fName = content.getString(FROM[NAME], TO[NAME]);
-		fShipAndCargoType = content.getInt(FROM[TYPEOFSHIPANDCARGO], TO[TYPEOFSHIPANDCARGO]);
-
-		fBow = content.getInt(FROM[BOW], TO[BOW]); 
-		fStern = content.getInt(FROM[STERN], TO[STERN]);
-		fPort = content.getInt(FROM[PORT], TO[PORT]);
-		fStarboard = content.getInt(FROM[STARBOARD], TO[STARBOARD]);
-
-		fTypeOfEPFD = content.getInt(FROM[TYPEOFEPFD], TO[TYPEOFEPFD]);
+	private int getInt(int field) {
+		return getSixbit().getInt(FROM[field], TO[field]);
 	}
 
-	public String getName() { return fName; }
+	public String getName() { return getSixbit().getString(FROM[NAME], TO[NAME]); }
 
-	public int getTypeOfShipAndCargoType() { return fShipAndCargoType; }
+	public int getTypeOfShipAndCargoType() { return getInt(TYPEOFSHIPANDCARGO); }
 
-	public int getBow() { return fBow; }
+	public int getBow() { return getInt(BOW); }
 
-	public int getStern() { return fStern; }
+	public int getStern() { return getInt(STERN); }
 
-	public int getPort() { return fPort; }
+	public int getPort() { return getInt(PORT); }
 
-	public int getStarboard() { return fStarboard; }
+	public int getStarboard() { return getInt(STARBOARD); }
 
-	public int getTypeOfEPFD() { return fTypeOfEPFD; }
+	public int getTypeOfEPFD() { return getInt(TYPEOFEPFD); }
 
 	public String toString () {
 		String result = super.toString();
-		result += SEPARATOR + "Name:    " + fName;
-		result += SEPARATOR + "Type:    " + ShipType.shipTypeToString(fShipAndCargoType);
-		String dim = "Bow: " + fBow + ", Stern: " + fStern +
-				", Port: " + fPort + ", Starboard: " + fStarboard + " [m]";
+		result += SEPARATOR + "Name:    " + getName();
+		result += SEPARATOR + "Type:    " + ShipType.shipTypeToString(getTypeOfShipAndCargoType());
+		String dim = "Bow: " + getBow() + ", Stern: " + getStern() +
+				", Port: " + getPort() + ", Starboard: " + getStarboard() + " [m]";
 		result += SEPARATOR + "Dim:     " + dim;
-		result += SEPARATOR + "EPFD:    " + PositioningDevice.toString(fTypeOfEPFD);
+		result += SEPARATOR + "EPFD:    " + PositioningDevice.toString(getTypeOfEPFD());
 		return result;		
 	}
 }
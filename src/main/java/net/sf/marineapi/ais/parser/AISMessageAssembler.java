@@ -0,0 +1,451 @@
+/*
+ * AISMessageAssembler.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import net.sf.marineapi.nmea.sentence.AISSentence;
+
+/**
+ * <p>
+ * Reassembles AIS messages delivered over multiple sentences. Fragments are
+ * collected by source, sequential message id and radio channel, so that
+ * messages from different receivers or channels may be interleaved in the
+ * same feed. Completed fragment sequences are returned in order, ready to be
+ * passed to {@link AISMessageFactory#create(AISSentence...)}.
+ * </p>
+ * <p>
+ * The source is given by the caller. Notice that
+ * {@link net.sf.marineapi.ais.event.AbstractAISMessageListener} always adds
+ * sentences without source, so when it receives interleaved messages from
+ * multiple receivers, fragments with same message id and channel collide
+ * and are discarded out of order. Use an assembler of your own with
+ * distinct sources in such case.
+ * </p>
+ * <p>
+ * Incomplete messages are discarded when the first fragment is older than
+ * the timeout, or when the number of incomplete messages exceeds the
+ * capacity. Messages not wanted, e.g. rejected by a filter on the first
+ * fragment, may be skipped so that their remaining fragments are dropped
+ * silently.
+ * </p>
+ * <p>
+ * Pending messages are held in shards having a lock of their own, which
+ * allows concurrent use from multiple reader threads. Each shard holds at
+ * least 64 messages, so that small capacities use a single shard, and the
+ * capacity is divided evenly among the shards. The capacity is thus
+ * enforced per shard: when a shard is full, its oldest message is
+ * discarded, even if other shards have room or older messages. The total
+ * number of pending messages never exceeds the capacity.
+ * </p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see AISMessageFactory
+ */
+public class AISMessageAssembler {
+
+    /** Default timeout of incomplete messages, in milliseconds */
+    public static final long DEFAULT_TIMEOUT = 5000;
+
+    /** Default max number of incomplete messages */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    // max number of shards, power of two
+    private static final int MAX_SHARDS = 16;
+
+    // min number of messages held by each shard
+    private static final int MIN_SHARD_CAPACITY = 64;
+
+    private final long timeout;
+    private final int shardCapacity;
+    private final Shard[] shards;
+    private final LongAdder singles = new LongAdder();
+
+    /**
+     * Creates a new assembler with default timeout and capacity.
+     */
+    public AISMessageAssembler() {
+        this(DEFAULT_TIMEOUT, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new assembler.
+     *
+     * @param timeout Max age of incomplete messages, in milliseconds.
+     * @param capacity Max number of incomplete messages to hold, divided
+     *            evenly among the shards.
+     * @throws IllegalArgumentException If timeout or capacity is not
+     *             positive.
+     */
+    public AISMessageAssembler(long timeout, int capacity) {
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.timeout = timeout;
+        int count = Math.min(capacity / MIN_SHARD_CAPACITY, MAX_SHARDS);
+        this.shards = new Shard[Integer.highestOneBit(Math.max(count, 1))];
+        this.shardCapacity = capacity / shards.length;
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard();
+        }
+    }
+
+    /**
+     * Adds a sentence received from the default source.
+     *
+     * @param sentence AIS sentence to add
+     * @return All sentences of the message when completed by given
+     *         sentence, otherwise {@code null}.
+     * @see #add(Object, AISSentence, long)
+     */
+    public AISSentence[] add(AISSentence sentence) {
+        return add(null, sentence, System.currentTimeMillis());
+    }
+
+    /**
+     * Adds a sentence received from given source.
+     *
+     * @param source Source of sentence, e.g. receiver address or id.
+     * @param sentence AIS sentence to add
+     * @return All sentences of the message when completed by given
+     *         sentence, otherwise {@code null}.
+     * @see #add(Object, AISSentence, long)
+     */
+    public AISSentence[] add(Object source, AISSentence sentence) {
+        return add(source, sentence, System.currentTimeMillis());
+    }
+
+    /**
+     * Adds a sentence received from given source at given time. Single
+     * sentence messages are returned immediately. Fragments are collected
+     * until the last fragment of message is added. A fragment that does not
+     * continue any pending message is discarded, as well as the pending
+     * message it conflicts with. A first fragment replaces the pending
+     * message with same source, id and channel.
+     *
+     * @param source Source of sentence, may be {@code null}.
+     * @param sentence AIS sentence to add
+     * @param time Time of reception in milliseconds, e.g. from
+     *            {@link System#currentTimeMillis()} or log timestamps.
+     * @return All sentences of the message when completed by given
+     *         sentence, otherwise {@code null}.
+     */
+    public AISSentence[] add(Object source, AISSentence sentence, long time) {
+
+        if (!sentence.isFragmented()) {
+            singles.increment();
+            return new AISSentence[] { sentence };
+        }
+        return add(source, sentence, time, false);
+    }
+
+    /**
+     * Skips the message of given first fragment, received from the default
+     * source.
+     *
+     * @param sentence First fragment of message to skip
+     * @see #skip(Object, AISSentence, long)
+     */
+    public void skip(AISSentence sentence) {
+        skip(null, sentence, System.currentTimeMillis());
+    }
+
+    /**
+     * Skips the message of given first fragment, received from given source.
+     *
+     * @param source Source of sentence, e.g. receiver address or id.
+     * @param sentence First fragment of message to skip
+     * @see #skip(Object, AISSentence, long)
+     */
+    public void skip(Object source, AISSentence sentence) {
+        skip(source, sentence, System.currentTimeMillis());
+    }
+
+    /**
+     * Skips the message of given first fragment, received from given source
+     * at given time. The remaining fragments of message are then discarded
+     * when added, without counting them out of order. Skipped messages are
+     * not counted completed or expired either. Sentences other than first
+     * fragments of multi-sentence messages are ignored.
+     *
+     * @param source Source of sentence, may be {@code null}.
+     * @param sentence First fragment of message to skip
+     * @param time Time of reception in milliseconds
+     */
+    public void skip(Object source, AISSentence sentence, long time) {
+        if (sentence.isFragmented() && sentence.isFirstFragment()) {
+            add(source, sentence, time, true);
+        }
+    }
+
+    /**
+     * Adds a fragment of multi-sentence message.
+     */
+    private AISSentence[] add(Object source, AISSentence sentence, long time,
+        boolean skip) {
+
+        // blank id or channel is a valid key
+        Key key = new Key(source,
+            sentence.hasMessageId() ? sentence.getMessageId() : "",
+            sentence.hasRadioChannel() ? sentence.getRadioChannel() : "");
+        Shard shard = shards[key.hashCode() & (shards.length - 1)];
+
+        synchronized (shard) {
+            shard.expire(time - timeout);
+
+            Pending pending = shard.pending.get(key);
+            if (sentence.isFirstFragment()) {
+                if (pending != null) {
+                    shard.discard(key, pending);
+                }
+                pending = new Pending(sentence, time, skip);
+                shard.pending.put(key, pending);
+                if (shard.pending.size() > shardCapacity) {
+                    shard.evictEldest();
+                }
+                return null;
+            }
+
+            if (pending == null || !pending.isNext(sentence)) {
+                shard.outOfOrder++;
+                if (pending != null) {
+                    shard.discard(key, pending);
+                }
+                return null;
+            }
+
+            pending.append(sentence);
+            if (sentence.isLastFragment()) {
+                shard.pending.remove(key);
+                if (pending.isSkipped()) {
+                    return null;
+                }
+                shard.completed++;
+                return pending.fragments;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Discards the incomplete messages older than timeout.
+     *
+     * @param time Current time in milliseconds
+     */
+    public void expire(long time) {
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                shard.expire(time - timeout);
+            }
+        }
+    }
+
+    /**
+     * Discards all incomplete messages, without counting them expired.
+     */
+    public void clear() {
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                shard.pending.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of completed messages, including single sentence
+     * messages.
+     *
+     * @return Completed messages count
+     */
+    public long getCompletedCount() {
+        long sum = singles.sum();
+        for (Shard shard : shards) {
+            sum += shard.completed;
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the number of incomplete messages discarded due to timeout or
+     * capacity.
+     *
+     * @return Expired messages count
+     */
+    public long getExpiredCount() {
+        long sum = 0;
+        for (Shard shard : shards) {
+            sum += shard.expired;
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the number of fragments discarded due to missing, duplicate or
+     * unexpected fragments in sequence.
+     *
+     * @return Out of order fragments count
+     */
+    public long getOutOfOrderCount() {
+        long sum = 0;
+        for (Shard shard : shards) {
+            sum += shard.outOfOrder;
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the number of incomplete messages currently held.
+     *
+     * @return Pending messages count
+     */
+    public int getPendingCount() {
+        int sum = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                sum += shard.pending.size();
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("completed=%d, expired=%d, outOfOrder=%d, pending=%d",
+            getCompletedCount(), getExpiredCount(), getOutOfOrderCount(),
+            getPendingCount());
+    }
+
+    /**
+     * Pending messages in order of first fragment and counters, guarded by
+     * the shard itself.
+     */
+    private static final class Shard {
+
+        final LinkedHashMap<Key, Pending> pending = new LinkedHashMap<>();
+        volatile long completed;
+        volatile long expired;
+        volatile long outOfOrder;
+
+        void expire(long oldest) {
+            Iterator<Pending> it = pending.values().iterator();
+            while (it.hasNext()) {
+                Pending p = it.next();
+                if (p.time >= oldest) {
+                    break;
+                }
+                it.remove();
+                if (!p.isSkipped()) {
+                    expired++;
+                }
+            }
+        }
+
+        void evictEldest() {
+            Iterator<Pending> it = pending.values().iterator();
+            Pending p = it.next();
+            it.remove();
+            if (!p.isSkipped()) {
+                expired++;
+            }
+        }
+
+        void discard(Key key, Pending p) {
+            pending.remove(key);
+            if (!p.isSkipped()) {
+                outOfOrder += p.count;
+            }
+        }
+    }
+
+    /**
+     * Fragments of incomplete message, not collected for skipped message.
+     */
+    private static final class Pending {
+
+        final AISSentence[] fragments;
+        final int total;
+        final long time;
+        int count;
+
+        Pending(AISSentence first, long time, boolean skip) {
+            this.total = first.getNumberOfFragments();
+            this.fragments = skip ? null : new AISSentence[total];
+            this.time = time;
+            append(first);
+        }
+
+        boolean isSkipped() {
+            return fragments == null;
+        }
+
+        boolean isNext(AISSentence sentence) {
+            return sentence.getNumberOfFragments() == total
+                && sentence.getFragmentNumber() == count + 1;
+        }
+
+        void append(AISSentence sentence) {
+            if (fragments != null) {
+                fragments[count] = sentence;
+            }
+            count++;
+        }
+    }
+
+    /**
+     * Source, sequential message id and radio channel of message.
+     */
+    private static final class Key {
+
+        final Object source;
+        final String id;
+        final String channel;
+        final int hash;
+
+        Key(Object source, String id, String channel) {
+            this.source = source;
+            this.id = id;
+            this.channel = channel;
+            int h = Objects.hash(source, id, channel);
+            this.hash = h ^ (h >>> 16);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key k = (Key) obj;
+            return Objects.equals(source, k.source) && Objects.equals(id, k.id)
+                && Objects.equals(channel, k.channel);
+        }
+    }
+}
@@ -20,9 +20,9 @@
  */
 package net.sf.marineapi.ais.parser;
 
-import java.lang.reflect.Constructor;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 import net.sf.marineapi.ais.message.AISMessage;
 import net.sf.marineapi.ais.util.Sixbit;
@@ -36,24 +36,24 @@ import net.sf.marineapi.nmea.sentence.AISSentence;
 public class AISMessageFactory {
 
     private static AISMessageFactory instance;
-    private Map<Integer, Class<? extends AISMessage>> parsers;
+    private Map<Integer, Function<Sixbit, AISMessage>> parsers;
 
     /**
      * Hidden constructor.
      */
     private AISMessageFactory() {
-        parsers = new HashMap<Integer, Class<? extends AISMessage>>(7);
-        parsers.put(1, AISMessage01Parser.class);
-        parsers.put(2, AISMessage02Parser.class);
-        parsers.put(3, AISMessage03Parser.class);
-        parsers.put(4, AISMessage04Parser.class);
-        parsers.put(5, AISMessage05Parser.class);
-        parsers.put(9, AISMessage09Parser.class);
-        parsers.put(18, AISMessage18Parser.class);
-        parsers.put(19, AISMessage19Parser.class);
-        parsers.put(21, AISMessage21Parser.class);
-        parsers.put(24, AISMessage24Parser.class);
-        parsers.put(27, AisMessage27Parser.class);
+        parsers = new HashMap<Integer, Function<Sixbit, AISMessage>>(16);
+        parsers.put(1, AISMessage01Parser::new);
+        parsers.put(2, AISMessage02Parser::new);
+        parsers.put(3, AISMessage03Parser::new);
+        parsers.put(4, AISMessage04Parser::new);
+        parsers.put(5, AISMessage05Parser::new);
+        parsers.put(9, AISMessage09Parser::new);
+        parsers.put(18, AISMessage18Parser::new);
+        parsers.put(19, AISMessage19Parser::new);
+        parsers.put(21, AISMessage21Parser::new);
+        parsers.put(24, AISMessage24Parser::new);
+        parsers.put(27, AisMessage27Parser::new);
     }
 
 
@@ -71,18 +71,17 @@ public class AISMessageFactory {
 
         AISMessageParser parser = new AISMessageParser(sentences);
 
-        if (!parsers.containsKey(parser.getMessageType())) {
+        Function<Sixbit, AISMessage> c = parsers.get(parser.getMessageType());
+        if (c == null) {
             String msg = String.format("no parser for message type %d", parser.getMessageType());
             throw new IllegalArgumentException(msg);
         }
 
         AISMessage result;
-        Class<? extends AISMessage> c = parsers.get(parser.getMessageType());
         try {
-            Constructor<? extends AISMessage> co = c.getConstructor(Sixbit.class);
-            result = co.newInstance(parser.getSixbit());
-        } catch (Exception e) {
-            throw new IllegalStateException(e.getCause());
+            result = c.apply(parser.getSixbit());
+        } catch (RuntimeException e) {
+            throw new IllegalStateException(e);
         }
 
         return result;
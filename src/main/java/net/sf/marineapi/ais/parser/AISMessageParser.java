@@ -30,6 +30,12 @@ import net.sf.marineapi.nmea.sentence.AISSentence;
 
 /**
  * Base class for all AIS messages.
+ * <p>
+ * Messages keep the six-bit payload and decode each field when its accessor
+ * is called, so that reading only a few fields such as MMSI and position does
+ * not pay for decoding the rest of message. Similarly, the field values are
+ * checked for rule violations when violations are first requested.
+ * </p>
  *
  * @author Lázár József, Kimmo Tuukkanen
  */
@@ -47,7 +53,7 @@ public class AISMessageParser implements AISMessage {
     private int fillBits = 0;
     private int lastFragmentNr = 0;
 
-    private List<Violation> fViolations = new ArrayList<>();
+    private List<Violation> fViolations;
 
 
     /**
@@ -123,7 +129,18 @@ public class AISMessageParser implements AISMessage {
      * @param v Violation to add
      */
     protected void addViolation(Violation v) {
-        fViolations.add(v);
+        violations().add(v);
+    }
+
+    /**
+     * Checks the decoded field values and adds a violation for each value
+     * out of range. Invoked once, when violations are first requested.
+     * Subclasses having rules to check should override this method and call
+     * the super implementation.
+     *
+     * @see #addViolation(Violation)
+     */
+    protected void validate() {
     }
 
     /**
@@ -132,7 +149,7 @@ public class AISMessageParser implements AISMessage {
      * @return Number of violations.
      */
     public int getNrOfViolations() {
-        return fViolations.size();
+        return violations().size();
     }
 
     /**
@@ -141,6 +158,17 @@ public class AISMessageParser implements AISMessage {
      * @return Number of violations.
      */
     public List<Violation> getViolations() {
+        return violations();
+    }
+
+    /**
+     * Returns the violations list, validating the message on first call.
+     */
+    private synchronized List<Violation> violations() {
+        if (fViolations == null) {
+            fViolations = new ArrayList<>();
+            validate();
+        }
         return fViolations;
     }
 
@@ -170,7 +198,10 @@ public class AISMessageParser implements AISMessage {
         if (decoder == null && message.isEmpty()) {
             throw new IllegalStateException("Message is empty!");
         }
-        return decoder == null ? new Sixbit(message, fillBits) : decoder;
+        if (decoder == null) {
+            decoder = new Sixbit(message, fillBits);
+        }
+        return decoder;
     }
 
     /**
@@ -194,5 +225,6 @@ public class AISMessageParser implements AISMessage {
         this.lastFragmentNr = fragmentIndex;
         this.message += fragment;
         this.fillBits = fillBits; // we always use the last
+        this.decoder = null;
     }
 }
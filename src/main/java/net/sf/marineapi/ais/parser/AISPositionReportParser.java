@@ -79,17 +79,6 @@ class AISPositionReportParser extends AISMessageParser implements AISPositionRep
 	private final static int[]	TO   					= {
 		42, 50, 60, 61, 89, 116, 128, 137, 143, 145};
 
-	private int		fNavigationalStatus;
-	private int		fRateOfTurn;
-	private int		fSOG;
-	private boolean	fPositionAccuracy;
-	private int		fLongitude;
-	private int		fLatitude;
-	private int		fCOG;
-	private int		fTrueHeading;
-	private int		fTimeStamp;
-	private int		fManouverIndicator;
-
 	/**
 	 * Constructs an AIS Message Position Report parser.
 	 *
@@ -97,120 +86,138 @@ class AISPositionReportParser extends AISMessageParser implements AISPositionRep
 	 */
 	public AISPositionReportParser(Sixbit content) {
 		super(content, 168, 204);
+	}
 
-	    fNavigationalStatus = content.getInt(FROM[NAVIGATIONALSTATUS], TO[NAVIGATIONALSTATUS]);
-	    if (!NavigationalStatus.isCorrect(fNavigationalStatus))
-	    	addViolation(new AISRuleViolation("NavigationalStatus", fNavigationalStatus, NavigationalStatus.RANGE));
-	    fRateOfTurn = content.getAs8BitInt(FROM[RATEOFTURN], TO[RATEOFTURN]);
-	    fSOG = content.getInt(FROM[SPEEDOVERGROUND], TO[SPEEDOVERGROUND]);
+	@Override
+	protected void validate() {
+		super.validate();
+		int navigationalStatus = getNavigationalStatus();
+	    if (!NavigationalStatus.isCorrect(navigationalStatus))
+	    	addViolation(new AISRuleViolation("NavigationalStatus", navigationalStatus, NavigationalStatus.RANGE));
+	    int longitude = longitude();
+	    if (!Longitude28.isCorrect(longitude))
+	    	addViolation(new AISRuleViolation("LongitudeInDegrees", longitude, Longitude28.RANGE));
+	    int latitude = latitude();
+	    if (!Latitude27.isCorrect(latitude))
+	    	addViolation(new AISRuleViolation("LatitudeInDegrees", latitude, Latitude27.RANGE));
+	    int cog = cog();
+	    if (!Angle12.isCorrect(cog))
+	    	addViolation(new AISRuleViolation("CourseOverGround", cog, Angle12.RANGE));
+	    int trueHeading = getTrueHeading();
+	    if(!Angle9.isCorrect(trueHeading))
+	    	addViolation(new AISRuleViolation("TrueHeading", trueHeading, Angle9.RANGE));
+	    int manouverIndicator = getManouverIndicator();
+	    if (!ManeuverIndicator.isCorrect(manouverIndicator))
+	    	addViolation(new AISRuleViolation("ManouverIndicator", manouverIndicator, ManeuverIndicator.RANGE));
+	}
 
-	    // FIXME check indices, should be 61-61?
-	    fPositionAccuracy = content.getBoolean(TO[POSITIONACCURACY]);
-
-	    fLongitude = content.getAs28BitInt(FROM[LONGITUDE], TO[LONGITUDE]);
-	    if (!Longitude28.isCorrect(fLongitude))
-	    	addViolation(new AISRuleViolation("LongitudeInDegrees", fLongitude, Longitude28.RANGE));
-	    fLatitude = content.getAs27BitInt(FROM[LATITUDE], TO[LATITUDE]);
-	    if (!Latitude27.isCorrect(fLatitude))
-	    	addViolation(new AISRuleViolation("LatitudeInDegrees", fLatitude, Latitude27.RANGE));
-	    fCOG = content.getInt(FROM[COURSEOVERGROUND], TO[COURSEOVERGROUND]);
-	    if (!Angle12.isCorrect(fCOG))
-	    	addViolation(new AISRuleViolation("CourseOverGround", fCOG, Angle12.RANGE));
-	    fTrueHeading = content.getInt(FROM[TRUEHEADING], TO[TRUEHEADING]);
-	    if(!Angle9.isCorrect(fTrueHeading))
-	    	addViolation(new AISRuleViolation("TrueHeading", fTrueHeading, Angle9.RANGE));
-	    fTimeStamp = content.getInt(FROM[TIMESTAMP], TO[TIMESTAMP]);
-	    fManouverIndicator = content.getInt(FROM[MANOEUVER], TO[MANOEUVER]);
-	    if (!ManeuverIndicator.isCorrect(fManouverIndicator))
-	    	addViolation(new AISRuleViolation("ManouverIndicator", fManouverIndicator, ManeuverIndicator.RANGE));
+	private int rateOfTurn() {
+		return getSixbit().getAs8BitInt(FROM[RATEOFTURN], TO[RATEOFTURN]);
+	}
+
+	private int sog() {
+		return getSixbit().getInt(FROM[SPEEDOVERGROUND], TO[SPEEDOVERGROUND]);
+	}
+
+	private int longitude() {
+		return getSixbit().getAs28BitInt(FROM[LONGITUDE], TO[LONGITUDE]);
+	}
+
+	private int latitude() {
+		return getSixbit().getAs27BitInt(FROM[LATITUDE], TO[LATITUDE]);
+	}
+
+	private int cog() {
+		return getSixbit().getInt(FROM[COURSEOVERGROUND], TO[COURSEOVERGROUND]);
 	}
 
 	public int getNavigationalStatus() {
-	    return fNavigationalStatus;
+	    return getSixbit().getInt(FROM[NAVIGATIONALSTATUS], TO[NAVIGATIONALSTATUS]);
 	}
 
 	public double getRateOfTurn() {
-	    return RateOfTurn.toDegreesPerMinute(fRateOfTurn);
+	    return RateOfTurn.toDegreesPerMinute(rateOfTurn());
 	}
 
 	public double getSpeedOverGround() {
-		return SpeedOverGround.toKnots(fSOG);
+		return SpeedOverGround.toKnots(sog());
 	}
 
 	public boolean isAccurate() {
-	    return fPositionAccuracy;
+	    // FIXME check indices, should be 61-61?
+	    return getSixbit().getBoolean(TO[POSITIONACCURACY]);
 	}
 
 	public double getLongitudeInDegrees() {
-	    return Longitude28.toDegrees(fLongitude);
+	    return Longitude28.toDegrees(longitude());
 	}
 
 	public double getLatitudeInDegrees() {
-	    return Latitude27.toDegrees(fLatitude);
+	    return Latitude27.toDegrees(latitude());
 	}
 
 	public double getCourseOverGround() {
-	    return Angle12.toDegrees(fCOG);
+	    return Angle12.toDegrees(cog());
 	}
 
 	public int getTrueHeading() {
-	    return fTrueHeading;
+	    return getSixbit().getInt(FROM[TRUEHEADING], TO[TRUEHEADING]);
 	}
 
 	public int getTimeStamp() {
-	    return fTimeStamp;
+	    return getSixbit().getInt(FROM[TIMESTAMP], TO[TIMESTAMP]);
 	}
 
 	public int getManouverIndicator() {
-	    return fManouverIndicator;
+	    return getSixbit().getInt(FROM[MANOEUVER], TO[MANOEUVER]);
 	}
 
 	@Override
 	public boolean hasRateOfTurn() {
-		return RateOfTurn.isTurnIndicatorAvailable(fRateOfTurn);
+		return RateOfTurn.isTurnIndicatorAvailable(rateOfTurn());
 	}
 
 	@Override
 	public boolean hasSpeedOverGround() {
-		return SpeedOverGround.isAvailable(fSOG);
+		return SpeedOverGround.isAvailable(sog());
 	}
 
 	@Override
 	public boolean hasCourseOverGround() {
-		return Angle12.isAvailable(fCOG);
+		return Angle12.isAvailable(cog());
 	}
 
 	@Override
 	public boolean hasTrueHeading() {
-		return Angle9.isAvailable(fTrueHeading);
+		return Angle9.isAvailable(getTrueHeading());
 	}
 
 	@Override
 	public boolean hasTimeStamp() {
-		return TimeStamp.isAvailable(fTimeStamp);
+		return TimeStamp.isAvailable(getTimeStamp());
 	}
 
 	@Override
 	public boolean hasLongitude() {
-		return Longitude28.isAvailable(fLongitude);
+		return Longitude28.isAvailable(longitude());
 	}
 
 	@Override
 	public boolean hasLatitude() {
-		return Latitude27.isAvailable(fLatitude);
+		return Latitude27.isAvailable(latitude());
 	}
 
 	public String toString() {
-		String result =     "\tNav st:  " + NavigationalStatus.toString(fNavigationalStatus);
-		result += SEPARATOR + "ROT:     " + RateOfTurn.toString(fRateOfTurn);
-		result += SEPARATOR + "SOG:     " + SpeedOverGround.toString(fSOG);
-		result += SEPARATOR + "Pos acc: " + (fPositionAccuracy ? "high" : "low") + " accuracy";
-		result += SEPARATOR + "Lon:     " + Longitude28.toString(fLongitude);
-		result += SEPARATOR + "Lat:     " + Latitude27.toString(fLatitude);
-		result += SEPARATOR + "COG:     " + Angle12.toString(fCOG);
-		result += SEPARATOR + "Heading: " + Angle9.getTrueHeadingString(fTrueHeading);
-		result += SEPARATOR + "Time:    " + TimeStamp.toString(fTimeStamp);
-		result += SEPARATOR + "Man ind: " + ManeuverIndicator.toString(fManouverIndicator);
+		String result =     "\tNav st:  " + NavigationalStatus.toString(getNavigationalStatus());
+		result += SEPARATOR + "ROT:     " + RateOfTurn.toString(rateOfTurn());
+		result += SEPARATOR + "SOG:     " + SpeedOverGround.toString(sog());
+		result += SEPARATOR + "Pos acc: " + (isAccurate() ? "high" : "low") + " accuracy";
+		result += SEPARATOR + "Lon:     " + Longitude28.toString(longitude());
+		result += SEPARATOR + "Lat:     " + Latitude27.toString(latitude());
+		result += SEPARATOR + "COG:     " + Angle12.toString(cog());
+		result += SEPARATOR + "Heading: " + Angle9.getTrueHeadingString(getTrueHeading());
+		result += SEPARATOR + "Time:    " + TimeStamp.toString(getTimeStamp());
+		result += SEPARATOR + "Man ind: " + ManeuverIndicator.toString(getManouverIndicator());
 		return result;
 	}
 }
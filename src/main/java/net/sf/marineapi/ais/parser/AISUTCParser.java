@@ -74,17 +74,6 @@ class AISUTCParser extends AISMessageParser implements AISUTCReport {
 	private final static int[]	TO   				= {
 		52, 56, 61, 66, 72, 78, 79, 107, 134, 138};
 
-	private int		fUTCYear;
-	private int		fUTCMonth;
-	private int		fUTCDay;
-	private int		fUTCHour;
-	private int		fUTCMinute;
-	private int		fUTCSecond;
-	private boolean	fPositionAccuracy;
-	private int		fLongitude;
-	private int		fLatitude;
-	private int		fTypeOfEPFD;
-
 	/**
 	 * Constructor.
 	 *
@@ -92,48 +81,57 @@ class AISUTCParser extends AISMessageParser implements AISUTCReport {
 	 */
 	public AISUTCParser(Sixbit content) {
 		super(content, 168);
-	    fUTCYear = content.getInt(FROM[UTC_YEAR], TO[UTC_YEAR]);
-	    fUTCMonth = content.getInt(FROM[UTC_MONTH], TO[UTC_MONTH]);
-	    fUTCDay = content.getInt(FROM[UTC_DAY], TO[UTC_DAY]);
-	    fUTCHour = content.getInt(FROM[UTC_HOUR], TO[UTC_HOUR]);
-	    fUTCMinute = content.getInt(FROM[UTC_MINUTE],TO[UTC_MINUTE]);
-	    fUTCSecond = content.getInt(FROM[UTC_SECOND], TO[UTC_SECOND]);
-	    fPositionAccuracy = content.getBoolean(FROM[POSITIONACCURACY]);
-	    fLongitude = content.getAs28BitInt(FROM[LONGITUDE], TO[LONGITUDE]);
-	    if (!Longitude28.isCorrect(fLongitude))
-	    	addViolation(new AISRuleViolation("LongitudeInDegrees", fLongitude, Longitude28.RANGE));
-	    fLatitude = content.getAs27BitInt(FROM[LATITUDE], TO[LATITUDE]);
-	    if (!Latitude27.isCorrect(fLatitude))
-	    	addViolation(new AISRuleViolation("LatitudeInDegrees", fLatitude, Latitude27.RANGE));
-	    fTypeOfEPFD = content.getInt(FROM[FIXING_DEV_TYPE], TO[FIXING_DEV_TYPE]);
 	}
 
-	public int getUtcYear() { return fUTCYear; }
+	@Override
+	protected void validate() {
+		super.validate();
+		int longitude = longitude();
+		if (!Longitude28.isCorrect(longitude))
+			addViolation(new AISRuleViolation("LongitudeInDegrees", longitude, Longitude28.RANGE));
+		int latitude = latitude();
+		if (!Latitude27.isCorrect(latitude))
+			addViolation(new AISRuleViolation("LatitudeInDegrees", latitude, Latitude27.RANGE));
+	}
+
+	private int getInt(int field) {
+		return getSixbit().getInt(FROM[field], TO[field]);
+	}
+
+	private int longitude() {
+		return getSixbit().getAs28BitInt(FROM[LONGITUDE], TO[LONGITUDE]);
+	}
+
+	private int latitude() {
+		return getSixbit().getAs27BitInt(FROM[LATITUDE], TO[LATITUDE]);
+	}
+
+	public int getUtcYear() { return getInt(UTC_YEAR); }
 
-	public int getUtcMonth() { return fUTCMonth; }
+	public int getUtcMonth() { return getInt(UTC_MONTH); }
 
-	public int getUtcDay() { return fUTCDay; }
+	public int getUtcDay() { return getInt(UTC_DAY); }
 
-	public int getUtcHour() { return fUTCHour; }
+	public int getUtcHour() { return getInt(UTC_HOUR); }
 
-	public int getUtcMinute() { return fUTCMinute; }
+	public int getUtcMinute() { return getInt(UTC_MINUTE); }
 
-	public int getUtcSecond() { return fUTCSecond; }
+	public int getUtcSecond() { return getInt(UTC_SECOND); }
 
-	public boolean isAccurate() { return fPositionAccuracy; }
+	public boolean isAccurate() { return getSixbit().getBoolean(FROM[POSITIONACCURACY]); }
 
-	public double getLongitudeInDegrees() { return Longitude28.toDegrees(fLongitude); }
+	public double getLongitudeInDegrees() { return Longitude28.toDegrees(longitude()); }
 
-	public double getLatitudeInDegrees() { return Latitude27.toDegrees(fLatitude); }
+	public double getLatitudeInDegrees() { return Latitude27.toDegrees(latitude()); }
 
-	public int getTypeOfEPFD() { return fTypeOfEPFD; }
+	public int getTypeOfEPFD() { return getInt(FIXING_DEV_TYPE); }
 
 	public boolean hasLongitude() {
-		return Longitude28.isAvailable(fLongitude);
+		return Longitude28.isAvailable(longitude());
 	}
 
 	public boolean hasLatitude() {
-		return Latitude27.isAvailable(fLatitude);
+		return Latitude27.isAvailable(latitude());
 	}
 
 	@Override
@@ -144,10 +142,10 @@ class AISUTCParser extends AISMessageParser implements AISUTCReport {
 		result += SEPARATOR + "Hour:    " + getUtcHour();
 		result += SEPARATOR + "Minute:  " + getUtcMinute();
 		result += SEPARATOR + "Sec:     " + getUtcSecond();
-		result += SEPARATOR + "Pos acc: " + (fPositionAccuracy ? "high" : "low") + " accuracy";
-		result += SEPARATOR + "Lon:     " + Longitude28.toString(fLongitude);
-		result += SEPARATOR + "Lat:     " + Latitude27.toString(fLatitude);
-		result += SEPARATOR + "EPFD:    " + PositioningDevice.toString(fTypeOfEPFD);
+		result += SEPARATOR + "Pos acc: " + (isAccurate() ? "high" : "low") + " accuracy";
+		result += SEPARATOR + "Lon:     " + Longitude28.toString(longitude());
+		result += SEPARATOR + "Lat:     " + Latitude27.toString(latitude());
+		result += SEPARATOR + "EPFD:    " + PositioningDevice.toString(getTypeOfEPFD());
 		return result;
 	}
 }
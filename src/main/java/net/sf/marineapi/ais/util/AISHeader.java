@@ -0,0 +1,101 @@
+/*
+ * AISHeader.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.util;
+
+/**
+ * Reads the common header of AIS messages, i.e. message type, repeat
+ * indicator and MMSI, directly from the first {@value #LENGTH} characters of
+ * six-bit encoded payload. Unlike {@link Sixbit}, no decoder is built and
+ * nothing is allocated, which makes it suitable for filtering messages before
+ * they are parsed.
+ * <p>
+ * The header is returned as {@code long} containing the 42 bits of header
+ * characters, to be read with the static getters of this class.
+ * </p>
+ *
+ * @author Kimmo Tuukkanen
+ */
+public final class AISHeader {
+
+	/** Number of payload characters containing the header */
+	public static final int LENGTH = 7;
+
+	/** Header value of payloads having no readable header */
+	public static final long NONE = -1;
+
+	private AISHeader() {
+	}
+
+	/**
+	 * Reads the header bits from given payload.
+	 *
+	 * @param payload Six-bit encoded payload, or the first fragment of it
+	 * @return Header bits, or {@link #NONE} if the payload is shorter than
+	 *         {@value #LENGTH} characters or contains invalid characters.
+	 */
+	public static long read(CharSequence payload) {
+		if (payload == null || payload.length() < LENGTH) {
+			return NONE;
+		}
+		long header = 0;
+		for (int i = 0; i < LENGTH; i++) {
+			int value = Sixbit.toBinary(payload.charAt(i));
+			if (value < 0) {
+				return NONE;
+			}
+			header = (header << Sixbit.BITS_PER_CHAR) | value;
+		}
+		return header;
+	}
+
+	/**
+	 * Returns the message type.
+	 *
+	 * @param header Header bits
+	 * @return Message type
+	 * @see #read(CharSequence)
+	 */
+	public static int getMessageType(long header) {
+		return (int) (header >>> 36) & 0x3F;
+	}
+
+	/**
+	 * Returns the repeat indicator.
+	 *
+	 * @param header Header bits
+	 * @return Repeat indicator
+	 * @see #read(CharSequence)
+	 */
+	public static int getRepeatIndicator(long header) {
+		return (int) (header >>> 34) & 0x03;
+	}
+
+	/**
+	 * Returns the MMSI of transmitting station.
+	 *
+	 * @param header Header bits
+	 * @return MMSI
+	 * @see #read(CharSequence)
+	 */
+	public static int getMMSI(long header) {
+		return (int) (header >>> 4) & 0x3FFFFFFF;
+	}
+}
@@ -25,12 +25,19 @@ import java.util.BitSet;
 /**
  * Class holding bit values in an array and implementing put/get
  * integer/string operations on it.
+ * <p>
+ * Bits are packed in an array of longs, most significant bit first, so that
+ * any field of up to 64 bits can be read from two adjacent words with a
+ * couple of shifts. An extra word is kept at the end so that fields within
+ * the vector length never need a bounds check. Bits beyond the end of vector
+ * are read as zeros.
+ * </p>
  *
  * @author Lázár József
  */
 public class BitVector {
 
-	private BitSet		fBitVector;
+	private long[] fWords;
 
 	/**
 	 * Creates a new instance with given length.
@@ -38,7 +45,7 @@ public class BitVector {
 	 * @param bits Vector length
 	 */
 	public BitVector(int bits) {
-		fBitVector = new BitSet(bits);
+		fWords = new long[words(bits)];
 	}
 
 	/**
@@ -47,7 +54,32 @@ public class BitVector {
 	 * @param vector BitSet
 	 */
 	public BitVector(BitSet vector) {
-		fBitVector = vector;
+		long[] bits = vector.toLongArray();
+		fWords = new long[words(bits.length * Long.SIZE)];
+		for (int i = 0; i < bits.length; i++) {
+			fWords[i] = Long.reverse(bits[i]);
+		}
+	}
+
+	/**
+	 * Creates a new instance with given packed words.
+	 *
+	 * @param words Bits packed most significant bit first, including the
+	 *            extra word at the end.
+	 */
+	BitVector(long[] words) {
+		fWords = words;
+	}
+
+	/**
+	 * Returns the number of words needed for given number of bits, including
+	 * the extra word at the end.
+	 *
+	 * @param bits Number of bits
+	 * @return Number of words
+	 */
+	static int words(int bits) {
+		return (bits >>> 6) + 2;
 	}
 
 	/**
@@ -56,7 +88,16 @@ public class BitVector {
 	 * @param index Index of bit to set.
 	 */
 	public void set(int index) {
-		fBitVector.set(index);
+		if (index < 0) {
+			throw new IndexOutOfBoundsException("index < 0: " + index);
+		}
+		int i = index >>> 6;
+		if (i + 1 >= fWords.length) {
+			long[] words = new long[Math.max(i + 2, fWords.length * 2)];
+			System.arraycopy(fWords, 0, words, 0, fWords.length);
+			fWords = words;
+		}
+		fWords[i] |= Long.MIN_VALUE >>> index;
 	}
 
 	/**
@@ -69,7 +110,16 @@ public class BitVector {
 	public BitVector get(int from, int to) {
 		to++;
 		from++;
-		return new BitVector(fBitVector.get(from, to));
+		int length = Math.max(to - from, 0);
+		long[] words = new long[words(length)];
+		for (int i = 0; i * Long.SIZE < length; i++) {
+			words[i] = window(from + i * Long.SIZE);
+		}
+		int tail = length & 63;
+		if (tail > 0) {
+			words[length >>> 6] &= -1L << (Long.SIZE - tail);
+		}
+		return new BitVector(words);
 	}
 
 	/**
@@ -79,7 +129,10 @@ public class BitVector {
 	 * @return {@code true} if bit is set, otherwise {@code false}.
 	 */
 	public boolean getBoolean(int index) {
-		return fBitVector.get(index);
+		if (index < 0) {
+			throw new IndexOutOfBoundsException("index < 0: " + index);
+		}
+		return window(index) < 0;
 	}
 
 	/**
@@ -90,11 +143,11 @@ public class BitVector {
 	 * @return unsigned int value
 	 */
 	public int getUInt(int from, int to) {
-		int value = 0;
-		for (int i = fBitVector.previousSetBit(to); i > from; i = fBitVector.previousSetBit(i - 1)) {
-			value += (1 << (to - i));
+		int length = to - from;
+		if (length <= 0) {
+			return 0;
 		}
-		return value;
+		return (int) (window(from + 1) >>> (Long.SIZE - length));
 	}
 
 	/**
@@ -105,10 +158,7 @@ public class BitVector {
 	 * @return Integer value
 	 */
 	public int getAs8BitInt(int from, int to) {
-		int retval = getUInt(from, to);
-		if (retval >= 0x80)
-	        retval -= 0x100;
-		return retval;
+		return signed(getUInt(from, to), 8);
 	}
 
 	/**
@@ -119,10 +169,7 @@ public class BitVector {
 	 * @return Integer value
 	 */
 	public int getAs17BitInt(int from, int to) {
-		int retval = getUInt(from, to);
-		if (retval >= 0x10000)
-	        retval -= 0x20000;
-		return retval;
+		return signed(getUInt(from, to), 17);
 	}
 
 	/**
@@ -133,10 +180,7 @@ public class BitVector {
 	 * @return Integer value
 	 */
 	public int getAs18BitInt(int from, int to) {
-		int retval = getUInt(from, to);
-		if (retval >= 0x20000)
-	        retval -= 0x40000;
-		return retval;
+		return signed(getUInt(from, to), 18);
 	}
 
 	/**
@@ -147,10 +191,7 @@ public class BitVector {
 	 * @return Integer value
 	 */
 	public int getAs27BitInt(int from, int to) {
-		int retval = getUInt(from, to);
-		if (retval >= 0x4000000)
-	        retval -= 0x8000000;
-		return retval;
+		return signed(getUInt(from, to), 27);
 	}
 
 	/**
@@ -161,9 +202,29 @@ public class BitVector {
 	 * @return Integer value
 	 */
 	public int getAs28BitInt(int from, int to) {
-		int retval = getUInt(from, to);
-		if (retval >= 0x8000000)
-	        retval -= 0x10000000;
-		return retval;
+		return signed(getUInt(from, to), 28);
+	}
+
+	/**
+	 * Converts unsigned value of given number of bits to signed value (two's
+	 * complement). Values of ranges wider than given bits are not truncated,
+	 * but 2^bits is subtracted once when the sign bit would be set.
+	 */
+	private static int signed(int value, int bits) {
+		int half = 1 << (bits - 1);
+		return value >= half ? value - (half << 1) : value;
+	}
+
+	/**
+	 * Returns 64 bits starting from given index, the bit at index being the
+	 * most significant one.
+	 */
+	private long window(int index) {
+		int i = index >>> 6;
+		if (i + 1 < fWords.length) {
+			// shifting by 64 is no-op, hence two shifts for the low word
+			return fWords[i] << index | fWords[i + 1] >>> 1 >>> (63 - (index & 63));
+		}
+		return i < fWords.length ? fWords[i] << index : 0L;
 	}
 }
@@ -20,6 +20,8 @@
  */
 package net.sf.marineapi.ais.util;
 
+import java.util.Arrays;
+
 /**
  * AIS characters are encoded as 6 bit values concatenated into a bit array.
  * This class implements the higher level access to this bit array, storing
@@ -32,6 +34,25 @@ public class Sixbit {
 	/** Number of bits per character */
 	public static final int BITS_PER_CHAR = 6;
 
+	// transport characters decoded to 6-bit values, -1 for invalid
+	private static final byte[] BINARY = new byte[128];
+
+	// content characters of 6-bit values, see table 44 (page 100) of
+	// Rec. ITU-R M.1371-4
+	private static final char[] CONTENT = new char[64];
+
+	static {
+		Arrays.fill(BINARY, (byte) -1);
+		for (int ascii = 0x30; ascii <= 0x77; ascii++) {
+			if (ascii <= 0x57 || ascii >= 0x60) {
+				BINARY[ascii] = (byte) (ascii < 0x60 ? ascii - 0x30 : ascii - 0x38);
+			}
+		}
+		for (int value = 0; value < CONTENT.length; value++) {
+			CONTENT[value] = (char) (value < 0x20 ? value + 0x40 : value);
+		}
+	}
+
 	private final String	fPayload;
 	private BitVector		fBitVector;
 	private final int	    fFillBits; // Number of padding bits at end
@@ -50,28 +71,39 @@ public class Sixbit {
             throw new IllegalArgumentException("Fill bits cannot be negative");
         }
 		fPayload = payload;
-		if (!isValidString(fPayload))
-			throw new IllegalArgumentException("Invalid payload characters");
-
-		fBitVector = new BitVector(fPayload.length() * BITS_PER_CHAR);
-		for (int i = 0; i < fPayload.length(); i++) {
-			char c = fPayload.charAt(i);
-			int b = transportToBinary(c);
-			convert(b, i * BITS_PER_CHAR, BITS_PER_CHAR);
-		}
+		fBitVector = new BitVector(pack(fPayload));
 		fFillBits = fillBits;
 	}
 
-	private void convert(int value, int from, int length) {
-		int index = from + BITS_PER_CHAR;
-		while (value != 0L && length > 0) {
-			if (value % 2L != 0) {
-				fBitVector.set(index);
+	/**
+	 * Packs the transport characters in words, most significant bit first.
+	 * The bit vector index 0 is not used, i.e. payload bits are stored at
+	 * indices starting from 1.
+	 */
+	private static long[] pack(String payload) {
+		final int length = payload.length();
+		long[] words = new long[BitVector.words(length * BITS_PER_CHAR + 1)];
+		for (int i = 0; i < length; i++) {
+			int value = toBinary(payload.charAt(i));
+			if (value < 0) {
+				throw new IllegalArgumentException("Invalid payload characters");
 			}
-			index--;
-			value = value >>> 1;
-			length--;
+			int index = i * BITS_PER_CHAR + 1;
+			int offset = index & 63;
+			long bits = (long) value << (Long.SIZE - BITS_PER_CHAR);
+			words[index >>> 6] |= bits >>> offset;
+			// bits crossing the word boundary, shifted out when none
+			words[(index >>> 6) + 1] |= bits << 1 << (63 - offset);
 		}
+		return words;
+	}
+
+	/**
+	 * Returns the 6-bit value of a transport character, or -1 if the
+	 * character is not valid in payload.
+	 */
+	static int toBinary(char c) {
+		return c < BINARY.length ? BINARY[c] : -1;
 	}
 
 	/**
@@ -85,22 +117,6 @@ public class Sixbit {
 		return fBitVector.get(from, to);
 	}
 
-	private boolean isValidCharacter(char ascii) {
-		return ((ascii >= 0x30) && (ascii <= 0x77)) &&
-				((ascii <= 0x57) || (ascii >= 0x60));
-	}
-
-	private boolean isValidString(String bits) {
-		boolean valid = true;
-		for (int i = 0; i < bits.length(); i++) {
-			if (!isValidCharacter(bits.charAt(i))) {
-				valid = false;
-				break;
-			}
-		}
-		return valid;
-	}
-
 	/**
 	 * Returns the payload length.
 	 *
@@ -110,43 +126,6 @@ public class Sixbit {
 		return fPayload.length() * BITS_PER_CHAR - fFillBits;
 	}
 
-	/**
-	 * Decode a transport character to a binary value.
-	 * 
-	 * @param ascii character to decode
-	 * @return decoded value in 6-bit binary representation
-	 */
-	private int transportToBinary(char ascii) {
-		if (!isValidCharacter(ascii))
-			throw new IllegalArgumentException("Invalid transport character: " + ascii);
-		int retval;
-		if (ascii < 0x60)
-			retval = (ascii - 0x30);
-		else
-			retval = (ascii - 0x38);
-		return retval;
-	}
-
-	/** Decode a binary value to a content character.
-	 * 
-	 * @param value to be decoded
-	 * @return corresponding ASCII value (0x20-0x5F)
-	 *
-	 * This function returns the content character as encoded in binary value. 
-	 * See table 44 (page 100) of Rec. ITU-R M.1371-4.
-	 * 
-	 * This function is used to convert binary data to ASCII. This is 
-	 * different from the 6-bit ASCII to binary conversion for VDM 
-	 * messages; it is used for strings within the datastream itself.
-	 * eg. Ship Name, Callsign and Destination.
-	 */
-	private char binaryToContent(int value) {
-		if (value < 0x20)
-			return (char)(value + 0x40);
-		else
-			return (char)value;
-	}
-
 	/**
 	 * Return bit as boolean from the bit vector.
 	 *
@@ -233,8 +212,7 @@ public class Sixbit {
 	public String getString(int fromIndex, int toIndex) {
 		StringBuilder sb = new StringBuilder();
 		for (int i = fromIndex; i < toIndex; i += BITS_PER_CHAR) {
-			int value = getInt(i, i + BITS_PER_CHAR);
-			sb.append(binaryToContent(value));
+			sb.append(CONTENT[getInt(i, i + BITS_PER_CHAR)]);
 		}
 		return stripAtSigns(sb.toString());
 	}
@@ -0,0 +1,49 @@
+/* 
+ * BatchSentenceListener.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ * 
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ * 
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.event;
+
+import java.util.EventListener;
+import java.util.List;
+
+import net.sf.marineapi.nmea.sentence.Sentence;
+
+/**
+ * Interface for receiving sentences in batches instead of one at a time, for
+ * example to store them in a database with a single insert. A batch is
+ * delivered when the data reader has consumed the data received so far, such
+ * as a datagram or a buffer of stream data, or when the maximum batch size or
+ * latency set on registration is reached.
+ *
+ * @author Kimmo Tuukkanen
+ * @see net.sf.marineapi.nmea.io.SentenceReader#addBatchListener(BatchSentenceListener, int, long)
+ */
+public interface BatchSentenceListener extends EventListener {
+
+	/**
+	 * Called by {@link net.sf.marineapi.nmea.io.SentenceReader} with the
+	 * sentences read since previous batch, in the order they were read.
+	 *
+	 * @param sentences Unmodifiable list of sentences, never empty. The list
+	 *            is not reused by the reader and may be retained.
+	 */
+	void sentencesRead(List<Sentence> sentences);
+
+}
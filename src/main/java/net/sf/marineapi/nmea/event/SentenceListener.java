@@ -43,6 +43,12 @@ public interface SentenceListener extends EventListener {
 	 * {@link net.sf.marineapi.nmea.io.SentenceReader#DEFAULT_TIMEOUT}. This
 	 * value can be overridden with
 	 * {@link net.sf.marineapi.nmea.io.SentenceReader#setPauseTimeout(int)}.</p>
+	 * 
+	 * <p>The timeout is detected by a timer thread and this method is called
+	 * in a separate event thread, which may run concurrently with the reader
+	 * thread dispatching sentences, e.g. if the reading restarts. The
+	 * following {@link #readingStarted()} is called only after this method
+	 * has returned.</p>
 	 */
 	void readingPaused();
 
@@ -0,0 +1,39 @@
+/* 
+ * TransientSentenceListener.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ * 
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ * 
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ * 
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.event;
+
+/**
+ * Marker interface for sentence listeners that do not retain the received
+ * sentences. By implementing this interface, the listener agrees that the
+ * sentence passed to {@link #sentenceRead(SentenceEvent)} is valid only until
+ * the method returns, and copies the values it needs later instead of keeping
+ * the sentence or the event, or passing them to other threads.
+ * <p>
+ * This allows the reader to reuse parser instances, provided that all of its
+ * listeners implement this interface.
+ * </p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see net.sf.marineapi.nmea.io.SentenceReader#setParserReuse(boolean)
+ */
+public interface TransientSentenceListener extends SentenceListener {
+
+}
@@ -23,6 +23,7 @@ package net.sf.marineapi.nmea.io;
 import net.sf.marineapi.nmea.parser.SentenceFactory;
 import net.sf.marineapi.nmea.parser.UnsupportedSentenceException;
 import net.sf.marineapi.nmea.sentence.Sentence;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.SentenceValidator;
 
 import java.io.InputStream;
@@ -52,6 +53,7 @@ public abstract class AbstractDataReader implements Runnable {
 
 	private SentenceReader parent;
 	private volatile boolean isRunning = true;
+	private volatile Thread worker;
 
 	/**
 	 * Default constructor.
@@ -108,6 +110,31 @@ public abstract class AbstractDataReader implements Runnable {
 	 */
 	public abstract String read() throws Exception;
 
+	/**
+	 * Tells if {@link #read()} blocks until data is available. Blocking
+	 * readers are not put to sleep between empty reads and they must thus
+	 * ensure that {@code read()} does not return {@code null} immediately
+	 * and repeatedly, e.g. after end of stream has been reached.
+	 *
+	 * @return {@code true} if blocking, default is {@code false}.
+	 */
+	protected boolean isBlocking() {
+		return false;
+	}
+
+	/**
+	 * Tells if the data received so far has lines left for {@link #read()} to
+	 * return without waiting for more data. Used for delimiting the batches of
+	 * {@link net.sf.marineapi.nmea.event.BatchSentenceListener}; readers that
+	 * receive data in chunks should override this to enable batching.
+	 *
+	 * @return {@code true} if more data is buffered, default is {@code false}.
+	 * @throws Exception If checking the data source fails.
+	 */
+	protected boolean hasMoreData() throws Exception {
+		return false;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -116,39 +143,108 @@ public abstract class AbstractDataReader implements Runnable {
 	public void run() {
 
 		ActivityMonitor monitor = new ActivityMonitor(parent);
-		SentenceFactory factory = SentenceFactory.getInstance();
+		worker = Thread.currentThread();
 
 		while (isRunning) {
 			try {
 				String data = read();
 				if (data == null) {
-					Thread.sleep(SLEEP_TIME);
-				} else if (SentenceValidator.isValid(data)) {
-					monitor.refresh();
-					Sentence s = factory.createParser(data);
-					parent.fireSentenceEvent(s);
-				} else if (!SentenceValidator.isSentence(data)) {
-					parent.fireDataEvent(data);
+					if (!isBlocking()) {
+						Thread.sleep(SLEEP_TIME);
+					}
+				} else {
+					dispatch(data, monitor);
+					if (parent.hasBatchListeners() && parent.getPipeline() == null
+						&& !hasMoreData()) {
+						parent.fireBatchEnd();
+					}
 				}
 			} catch (UnsupportedSentenceException use) {
 				LOGGER.warning(use.getMessage());
 			} catch (Exception e) {
+				if (!isRunning) {
+					// interrupted or closed by stop()
+					break;
+				}
 				parent.handleException("Data read failed", e);
 				try {
 					Thread.sleep(SLEEP_TIME);
 				} catch (InterruptedException interruptException) {}
-			} finally {
-				monitor.tick();
 			}
 		}
+		worker = null;
+		SentencePipeline pipeline = parent.getPipeline();
+		if (pipeline != null) {
+			pipeline.close();
+		}
 		monitor.reset();
 		parent.fireReadingStopped();
 	}
 
+	/**
+	 * Validates and parses the given line and dispatches it to the listeners
+	 * of parent reader, either as sentence or as non-NMEA data.
+	 *
+	 * @param data Line read from the data source
+	 * @param monitor Monitor to refresh when a sentence is detected
+	 * @throws InterruptedException If interrupted while waiting for room in
+	 *             the pipeline of parent reader.
+	 */
+	void dispatch(String data, ActivityMonitor monitor)
+		throws InterruptedException {
+		dispatch(data, monitor, null);
+	}
+
+	/**
+	 * Dispatches the given line, or passes it to the pipeline of parent reader
+	 * for parsing and dispatching in other threads.
+	 *
+	 * @param data Line read from the data source
+	 * @param monitor Monitor to refresh when a sentence is detected
+	 * @param statistics Statistics in which to count the dispatched sentence,
+	 *            may be {@code null}.
+	 * @throws InterruptedException If interrupted while waiting for room in
+	 *             the pipeline of parent reader.
+	 */
+	final void dispatch(String data, ActivityMonitor monitor,
+		SourceStatistics statistics) throws InterruptedException {
+
+		SentencePipeline pipeline = parent.getPipeline();
+		if (pipeline != null) {
+			pipeline.submit(data, monitor, statistics);
+			return;
+		}
+		SentenceLayout layout = SentenceValidator.validate(data);
+		if (layout.isValid()) {
+			monitor.refresh();
+			SentenceFactory sf = SentenceFactory.getInstance();
+			Sentence s = parent.isParserReuse() ? sf.reuseParser(layout)
+				: sf.createParser(layout);
+			parent.fireSentenceEvent(s);
+			if (statistics != null) {
+				statistics.sentenceRead();
+			}
+		} else if (!layout.isSentence()) {
+			parent.fireDataEvent(data);
+		}
+	}
+
 	/**
 	 * Stops the reader permanently.
 	 */
 	public void stop() {
 		isRunning = false;
 	}
+
+	/**
+	 * Interrupts the thread currently executing {@link #run()}, if any.
+	 * Blocking readers may use this in {@link #stop()} to wake up the thread
+	 * from an ongoing read.
+	 */
+	void interrupt() {
+		Thread t = worker;
+		if (t != null) {
+			t.interrupt();
+		}
+	}
 }
@@ -20,16 +20,65 @@
  */
 package net.sf.marineapi.nmea.io;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Monitor for firing state change events events, i.e. reader started, paused or
  * stopped.
+ * <p>
+ * The reader calls {@link #refresh()} for each sentence, which only sets a
+ * flag after the reading has started. Timeouts are checked by a timer thread
+ * shared by all monitors, using monotonic clock. The timer runs only for
+ * monitors in started state and checks each monitor at one tenth of the pause
+ * timeout, but no more often than every 10 ms and at least once a second.
+ * The pause is thus detected also when the reader thread is blocked waiting
+ * for data.
+ * </p>
+ * <p>
+ * The monitor may be refreshed, checked and reset in different threads. State
+ * changes are serialized by the monitor lock, but the events are fired
+ * outside of it, so that listeners never run while holding the lock or in
+ * the shared timer thread. Instead, each state change queues its event and
+ * the queue is drained by one thread at a time, which keeps the started and
+ * paused events in turns:
+ * </p>
+ * <ul>
+ * <li>The reading started event is fired in the thread that refreshed the
+ * monitor, usually the reader thread.</li>
+ * <li>The reading paused event, including the delivery of pending batches, is
+ * fired in a pooled event thread. It may thus run concurrently with sentence
+ * events dispatched by the reader thread.</li>
+ * <li>If the reading restarts while the paused event is still being fired,
+ * the started event is fired after it by the event thread, without blocking
+ * the reader thread.</li>
+ * </ul>
  * 
  * @author Kimmo Tuukkanen
  */
 class ActivityMonitor {
 
-	private long lastUpdated = -1;
-	private SentenceReader parent;
+	// bounds for interval of checking the timeout, in milliseconds
+	private static final long MIN_INTERVAL = 10;
+	private static final long MAX_INTERVAL = 1000;
+
+	private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+	private static final ExecutorService EVENTS = createEventPool();
+
+	private final SentenceReader parent;
+	private volatile boolean started = false;
+	private volatile boolean refreshed = false;
+
+	// guarded by this
+	private long lastSeen;
+	private ScheduledFuture<?> check;
+	private final Queue<Runnable> events = new ArrayDeque<>();
+	private boolean firing = false;
 
 	/**
 	 * Creates a new instance for given {@link SentenceReader}.
@@ -41,34 +90,148 @@ class ActivityMonitor {
 	}
 
 	/**
-	 * Resets the monitor in initial state.
+	 * Resets the monitor in initial state and stops checking the timeout.
+	 * Events not yet fired are discarded, but an event that is being fired in
+	 * another thread may still complete after returning.
 	 */
-	public void reset() {
-		lastUpdated = -1;
+	public synchronized void reset() {
+		started = false;
+		refreshed = false;
+		events.clear();
+		cancel();
 	}
 
 	/**
-	 * Refreshes the monitor timestamp and fires reading started event if
-	 * currently paused.
+	 * Marks the monitor active and fires reading started event if currently
+	 * paused.
 	 */
 	public void refresh() {
-		if (lastUpdated < 0) {
-			parent.fireReadingStarted();
+		if (!refreshed) {
+			refreshed = true;
+		}
+		if (!started) {
+			start();
+		}
+	}
+
+	/**
+	 * Fires reading started event and starts checking the timeout, unless
+	 * started meanwhile in another thread.
+	 */
+	private void start() {
+		synchronized (this) {
+			if (started) {
+				return;
+			}
+			started = true;
+			lastSeen = System.nanoTime();
+			events.add(parent::fireReadingStarted);
+			schedule(interval());
+		}
+		fire();
+	}
+
+	/**
+	 * Tells if reading has started and not paused since.
+	 *
+	 * @return {@code true} if started, otherwise {@code false}.
+	 */
+	boolean isStarted() {
+		return started;
+	}
+
+	/**
+	 * Timer task, hands the reading paused event to event thread if the
+	 * monitor has not been refreshed within the pause timeout.
+	 */
+	private synchronized void check() {
+		if (!started) {
+			// reset after the check was scheduled
+			return;
+		}
+		long now = System.nanoTime();
+		long timeout = TimeUnit.MILLISECONDS.toNanos(parent.getPauseTimeout());
+		if (refreshed) {
+			refreshed = false;
+			lastSeen = now;
+		} else if (now - lastSeen >= timeout) {
+			started = false;
+			check = null;
+			events.add(parent::fireReadingPaused);
+			EVENTS.execute(this::fire);
+			return;
 		}
-		this.lastUpdated = System.currentTimeMillis();
+		long remaining = TimeUnit.NANOSECONDS.toMillis(lastSeen + timeout - now);
+		schedule(Math.min(interval(), Math.max(remaining, 1)));
 	}
 
 	/**
-	 * Heartbeat method, checks the time out if not paused.
+	 * Fires the queued events in order, unless already being fired in another
+	 * thread, which then fires also the events queued meanwhile.
 	 */
-	public void tick() {
-		if (lastUpdated > 0) {
-			long elapsed = System.currentTimeMillis() - lastUpdated;
-			int timeout = parent.getPauseTimeout();
-			if (elapsed >= timeout) {
-				parent.fireReadingPaused();
-				reset();
+	private void fire() {
+		synchronized (this) {
+			if (firing) {
+				return;
+			}
+			firing = true;
+		}
+		Runnable event = null;
+		try {
+			while (true) {
+				synchronized (this) {
+					event = events.poll();
+					if (event == null) {
+						firing = false;
+						return;
+					}
+				}
+				event.run();
+			}
+		} finally {
+			if (event != null) {
+				// thrown by the event
+				synchronized (this) {
+					firing = false;
+				}
 			}
 		}
 	}
+
+	/**
+	 * Returns the check interval for current pause timeout.
+	 */
+	private long interval() {
+		long interval = parent.getPauseTimeout() / 10;
+		return Math.max(MIN_INTERVAL, Math.min(MAX_INTERVAL, interval));
+	}
+
+	private void schedule(long delay) {
+		check = TIMER.schedule(this::check, delay, TimeUnit.MILLISECONDS);
+	}
+
+	private void cancel() {
+		if (check != null) {
+			check.cancel(false);
+			check = null;
+		}
+	}
+
+	private static ScheduledThreadPoolExecutor createTimer() {
+		ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, r -> {
+			Thread t = new Thread(r, "ActivityMonitor");
+			t.setDaemon(true);
+			return t;
+		});
+		timer.setRemoveOnCancelPolicy(true);
+		return timer;
+	}
+
+	private static ExecutorService createEventPool() {
+		return Executors.newCachedThreadPool(r -> {
+			Thread t = new Thread(r, "ActivityMonitor-events");
+			t.setDaemon(true);
+			return t;
+		});
+	}
 }
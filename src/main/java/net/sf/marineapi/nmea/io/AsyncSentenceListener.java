@@ -0,0 +1,241 @@
+/*
+ * AsyncSentenceListener.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import net.sf.marineapi.nmea.event.SentenceEvent;
+import net.sf.marineapi.nmea.event.SentenceListener;
+
+/**
+ * Listener wrapper that queues the events and delivers them to the wrapped
+ * listener in a single thread of its own. Reading state events are queued
+ * in order with sentence events, but they are never dropped; if the queue is
+ * full, they wait for room regardless of the overflow policy. The thread is
+ * terminated when idle and re-created on demand.
+ *
+ * @author Kimmo Tuukkanen
+ * @see DispatchPolicy
+ */
+final class AsyncSentenceListener implements SentenceListener {
+
+	private static final Logger LOGGER =
+		Logger.getLogger(AsyncSentenceListener.class.getName());
+
+	// idle time after which the thread is terminated, in seconds
+	private static final long KEEP_ALIVE = 60;
+
+	// sequence for telling apart threads of listeners of the same class
+	private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+	private final SentenceListener listener;
+	private final DispatchPolicy policy;
+	private final ThreadPoolExecutor executor;
+	private final DispatchStatistics statistics;
+
+	/**
+	 * Creates a new asynchronous wrapper.
+	 *
+	 * @param listener Listener to wrap
+	 * @param policy Dispatch policy
+	 */
+	AsyncSentenceListener(SentenceListener listener, DispatchPolicy policy) {
+		this.listener = listener;
+		this.policy = policy;
+
+		BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(policy.getCapacity());
+		this.statistics = new DispatchStatistics(queue);
+
+		String name = "SentenceListener-" + getName(listener) + "-"
+			+ SEQUENCE.incrementAndGet();
+		this.executor = new ThreadPoolExecutor(1, 1, KEEP_ALIVE, TimeUnit.SECONDS,
+			queue, r -> {
+				Thread t = new Thread(r, name);
+				t.setDaemon(true);
+				return t;
+			}, new OverflowHandler());
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Returns the wrapped listener.
+	 *
+	 * @return Listener
+	 */
+	SentenceListener getListener() {
+		return listener;
+	}
+
+	/**
+	 * Returns the dispatch policy.
+	 *
+	 * @return Policy
+	 */
+	DispatchPolicy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * Returns the dispatch counters.
+	 *
+	 * @return Statistics
+	 */
+	DispatchStatistics getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * Delivers the events already queued and terminates the thread.
+	 */
+	void shutdown() {
+		executor.shutdown();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.event.SentenceListener#readingPaused()
+	 */
+	@Override
+	public void readingPaused() {
+		submit(listener::readingPaused, false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.event.SentenceListener#readingStarted()
+	 */
+	@Override
+	public void readingStarted() {
+		submit(listener::readingStarted, false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.event.SentenceListener#readingStopped()
+	 */
+	@Override
+	public void readingStopped() {
+		submit(listener::readingStopped, false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.event.SentenceListener#sentenceRead(net.sf.marineapi.nmea.event.SentenceEvent)
+	 */
+	@Override
+	public void sentenceRead(SentenceEvent event) {
+		submit(() -> listener.sentenceRead(event), true);
+	}
+
+	private void submit(Runnable event, boolean droppable) {
+		try {
+			executor.execute(new Task(event, droppable));
+		} catch (RejectedExecutionException e) {
+			// shut down, listener has been removed
+		}
+	}
+
+	/**
+	 * Queued event, measures the latency of delivery.
+	 */
+	private final class Task implements Runnable {
+
+		private final Runnable event;
+		private final boolean droppable;
+		private final long queued = System.nanoTime();
+
+		Task(Runnable event, boolean droppable) {
+			this.event = event;
+			this.droppable = droppable;
+		}
+
+		@Override
+		public void run() {
+			try {
+				event.run();
+			} catch (Exception e) {
+				LOGGER.log(Level.WARNING, "Exception caught from SentenceListener", e);
+			}
+			statistics.eventDelivered(System.nanoTime() - queued);
+		}
+	}
+
+	/**
+	 * Applies the overflow policy when the queue is full.
+	 */
+	private final class OverflowHandler implements RejectedExecutionHandler {
+
+		@Override
+		public void rejectedExecution(Runnable r, ThreadPoolExecutor e) {
+			if (e.isShutdown()) {
+				return;
+			}
+			OverflowPolicy overflow = policy.getOverflowPolicy();
+			if (overflow == OverflowPolicy.BLOCK || !((Task) r).droppable) {
+				try {
+					e.getQueue().put(r);
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					statistics.eventDropped();
+				}
+			} else if (overflow == OverflowPolicy.DROP_OLDEST && dropOldest(e)) {
+				e.execute(r);
+			} else {
+				statistics.eventDropped();
+			}
+		}
+
+		private boolean dropOldest(ThreadPoolExecutor e) {
+			Iterator<Runnable> it = e.getQueue().iterator();
+			while (it.hasNext()) {
+				if (((Task) it.next()).droppable) {
+					it.remove();
+					statistics.eventDropped();
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the simple name of listener class, or the binary name without
+	 * package for anonymous classes, e.g. "Monitor$1".
+	 */
+	static String getName(SentenceListener listener) {
+		Class<?> c = listener.getClass();
+		String name = c.getSimpleName();
+		if (name.isEmpty()) {
+			name = c.getName();
+			name = name.substring(name.lastIndexOf('.') + 1);
+		}
+		return name;
+	}
+}
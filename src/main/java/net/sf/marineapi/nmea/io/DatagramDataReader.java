@@ -0,0 +1,194 @@
+/*
+ * DatagramDataReader.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+
+/**
+ * Data reader for UDP using a blocking {@link DatagramChannel} as data source.
+ * <p>
+ * Datagrams are received in a reusable direct buffer and split into lines by
+ * scanning for {@code CR/LF} byte by byte, so that each datagram may contain
+ * any number of sentences. End of datagram terminates the last line. A
+ * datagram exceeding the maximum size is truncated and the incomplete line at
+ * its end is discarded; both are reported in {@link #getStatistics()}.
+ * </p>
+ * <pre>
+ * DatagramChannel ch = DatagramChannel.open().bind(new InetSocketAddress(10110));
+ * DatagramDataReader udp = new DatagramDataReader(ch);
+ * SentenceReader reader = new SentenceReader(udp);
+ * </pre>
+ * <p>
+ * As the channel is interruptible, stopping the reader interrupts and thus
+ * closes the channel.
+ * </p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see SentenceReader#SentenceReader(AbstractDataReader)
+ */
+public class DatagramDataReader extends AbstractDataReader {
+
+	/** Maximum size of UDP payload over IPv4, in bytes. */
+	public static final int MAX_DATAGRAM_SIZE = 65507;
+
+	private final DatagramChannel channel;
+	private final int maxSize;
+	private final ByteBuffer buffer;
+	private final SourceStatistics statistics = new SourceStatistics();
+	private final LineFramer framer = new LineFramer(statistics);
+	private boolean truncated;
+
+	/**
+	 * Creates a new reader for datagrams up to {@link #MAX_DATAGRAM_SIZE}.
+	 *
+	 * @param channel Bound channel in blocking mode
+	 * @throws IllegalArgumentException If channel is in non-blocking mode.
+	 */
+	public DatagramDataReader(DatagramChannel channel) {
+		this(channel, MAX_DATAGRAM_SIZE);
+	}
+
+	/**
+	 * Creates a new reader with specified maximum datagram size.
+	 *
+	 * @param channel Bound channel in blocking mode
+	 * @param maxSize Maximum expected datagram size in bytes
+	 * @throws IllegalArgumentException If channel is in non-blocking mode or
+	 *             if size is less than one.
+	 */
+	public DatagramDataReader(DatagramChannel channel, int maxSize) {
+		this(channel, maxSize, ByteBuffer.allocateDirect(maxSize + 1));
+		if (!channel.isBlocking()) {
+			throw new IllegalArgumentException("Channel must be in blocking mode");
+		}
+	}
+
+	/**
+	 * Constructor for subclasses that override {@link #receive(ByteBuffer)}.
+	 * The buffer must be one byte larger than the maximum size, which allows
+	 * detecting the truncated datagrams.
+	 *
+	 * @param channel Channel to receive from, may be {@code null}.
+	 * @param maxSize Maximum datagram size
+	 * @param buffer Receive buffer
+	 */
+	DatagramDataReader(DatagramChannel channel, int maxSize, ByteBuffer buffer) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("Max size must be positive");
+		}
+		this.channel = channel;
+		this.maxSize = maxSize;
+		this.buffer = buffer;
+		this.buffer.limit(0);
+	}
+
+	/**
+	 * Returns the receive counters of this reader.
+	 *
+	 * @return Statistics of received datagrams
+	 */
+	public SourceStatistics getStatistics() {
+		return statistics;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.io.AbstractDataReader#isBlocking()
+	 */
+	@Override
+	protected boolean isBlocking() {
+		return true;
+	}
+
+	/**
+	 * Returns the next line from current datagram, or blocks until the next
+	 * datagram is received when current one has been consumed.
+	 *
+	 * @return Line String
+	 * @throws IOException If receiving fails or channel has been closed.
+	 */
+	@Override
+	public String read() throws IOException {
+		while (true) {
+			String line = framer.next(buffer);
+			if (line != null) {
+				return line;
+			}
+			line = framer.flush();
+			if (line != null) {
+				if (!truncated) {
+					return line;
+				}
+				statistics.linesDropped(1);
+			}
+			buffer.clear();
+			receive(buffer);
+			buffer.flip();
+			int length = buffer.remaining();
+			statistics.packetReceived(Math.min(length, maxSize));
+			truncated = length > maxSize;
+			if (truncated) {
+				statistics.packetTruncated();
+				buffer.limit(maxSize);
+			}
+		}
+	}
+
+	/**
+	 * Tells if current datagram has lines left.
+	 */
+	@Override
+	protected boolean hasMoreData() {
+		return framer.hasLine(buffer, !truncated);
+	}
+
+	/**
+	 * Stops the reader permanently, interrupting the blocked receive.
+	 */
+	@Override
+	public void stop() {
+		super.stop();
+		if (channel != null) {
+			interrupt();
+		}
+	}
+
+	/**
+	 * Counts the dispatched sentences.
+	 */
+	@Override
+	void dispatch(String data, ActivityMonitor monitor)
+		throws InterruptedException {
+		dispatch(data, monitor, statistics);
+	}
+
+	/**
+	 * Receives a single datagram in given buffer, blocking until available.
+	 *
+	 * @param buf Buffer to receive into, cleared for writing.
+	 * @throws IOException If receiving fails.
+	 */
+	void receive(ByteBuffer buf) throws IOException {
+		channel.receive(buf);
+	}
+}
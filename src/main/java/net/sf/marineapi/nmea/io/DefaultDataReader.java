@@ -21,18 +21,40 @@
 package net.sf.marineapi.nmea.io;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
 
 /**
  * The default data reader implementation using InputStream as data source.
- * 
+ * <p>
+ * By default, the stream is polled and {@link #read()} returns {@code null}
+ * when no complete line is available. In blocking mode, the reader waits on
+ * the stream and returns each line as soon as its terminator is received.
+ * Blocking mode is enabled by specifying a retry delay, which is the time to
+ * wait before reading again when end of stream has been reached, e.g. while
+ * a file is being appended. The delay does not limit the time blocked in
+ * read; the reader waits as long as the stream does. Streams that support
+ * timeouts, for example {@link java.net.Socket#getInputStream()} with
+ * {@link java.net.Socket#setSoTimeout(int)}, return from blocked read when
+ * their timeout expires.
+ *
  * @author Kimmo Tuukkanen
  */
 class DefaultDataReader extends AbstractDataReader {
 
+	// polling mode reader
 	private final BufferedReader buffer;
 
+	// blocking mode source, buffers and framing
+	private final InputStream source;
+	private final int retryDelay;
+	private byte[] bytes;
+	private ByteBuffer window;
+	private LineFramer framer;
+
 	/**
 	 * Creates a new instance of DefaultDataReader.
 	 * 
@@ -41,9 +63,52 @@ class DefaultDataReader extends AbstractDataReader {
 	 */
 	DefaultDataReader(InputStream source, SentenceReader parent) {
 		super(parent);
+		this.source = source;
+		this.retryDelay = 0;
 		this.buffer = new BufferedReader(new InputStreamReader(source));
 	}
 
+	/**
+	 * Creates a new instance of DefaultDataReader in blocking mode.
+	 *
+	 * @param source InputStream to be used as data source.
+	 * @param parent SentenceReader dispatching events for this reader.
+	 * @param retryDelay Time to wait before reading again on end of stream,
+	 *            in milliseconds.
+	 * @throws IllegalArgumentException If delay is zero or negative.
+	 */
+	DefaultDataReader(InputStream source, SentenceReader parent, int retryDelay) {
+		super(parent);
+		if (retryDelay < 1) {
+			throw new IllegalArgumentException("Retry delay must be positive");
+		}
+		this.source = source;
+		this.retryDelay = retryDelay;
+		this.buffer = null;
+		this.bytes = new byte[LineFramer.DEFAULT_MAX_LENGTH];
+		this.window = ByteBuffer.wrap(bytes);
+		this.window.limit(0);
+		this.framer = new LineFramer();
+	}
+
+	/**
+	 * Returns the delay of reading again on end of stream.
+	 *
+	 * @return Delay in milliseconds, or zero if not in blocking mode.
+	 */
+	int getRetryDelay() {
+		return retryDelay;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.io.AbstractDataReader#isBlocking()
+	 */
+	@Override
+	protected boolean isBlocking() {
+		return retryDelay > 0;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -51,6 +116,54 @@ class DefaultDataReader extends AbstractDataReader {
 	 */
 	@Override
 	public String read() throws Exception {
-		return buffer.ready() ? buffer.readLine() : null;
+		if (!isBlocking()) {
+			return buffer.ready() ? buffer.readLine() : null;
+		}
+
+		String line = framer.next(window);
+		while (line == null) {
+			int n;
+			try {
+				n = source.read(bytes);
+			} catch (SocketTimeoutException ste) {
+				return null;
+			}
+			if (n < 0) {
+				line = framer.flush();
+				if (line == null) {
+					Thread.sleep(retryDelay);
+				}
+				return line;
+			}
+			window.limit(n).position(0);
+			line = framer.next(window);
+		}
+		return line;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.io.AbstractDataReader#hasMoreData()
+	 */
+	@Override
+	protected boolean hasMoreData() throws IOException {
+		return isBlocking() ? framer.hasLine(window, false) : buffer.ready();
+	}
+
+	/**
+	 * Stops the reader. In blocking mode, interrupts the reader thread and
+	 * closes the stream to release the ongoing read.
+	 */
+	@Override
+	public void stop() {
+		super.stop();
+		if (isBlocking()) {
+			interrupt();
+			try {
+				source.close();
+			} catch (IOException e) {
+				// stopping anyway
+			}
+		}
 	}
 }
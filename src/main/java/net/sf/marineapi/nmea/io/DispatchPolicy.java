@@ -0,0 +1,77 @@
+/*
+ * DispatchPolicy.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+/**
+ * Policy for dispatching events to a listener asynchronously, in a thread of
+ * its own. Events are queued up to the given capacity and the overflow policy
+ * decides what is done when the listener falls behind and the queue is full.
+ *
+ * @author Kimmo Tuukkanen
+ * @see SentenceReader#addSentenceListener(net.sf.marineapi.nmea.event.SentenceListener, String, DispatchPolicy)
+ */
+public final class DispatchPolicy {
+
+	private final int capacity;
+	private final OverflowPolicy overflow;
+
+	/**
+	 * Creates a new dispatch policy.
+	 *
+	 * @param capacity Maximum number of events waiting for the listener
+	 * @param overflow Policy to apply when the queue is full
+	 * @throws IllegalArgumentException If capacity is less than one or
+	 *             overflow policy is {@code null}.
+	 */
+	public DispatchPolicy(int capacity, OverflowPolicy overflow) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be positive");
+		}
+		if (overflow == null) {
+			throw new IllegalArgumentException("Overflow policy cannot be null");
+		}
+		this.capacity = capacity;
+		this.overflow = overflow;
+	}
+
+	/**
+	 * Returns the queue capacity.
+	 *
+	 * @return Maximum number of queued events
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Returns the overflow policy.
+	 *
+	 * @return Policy to apply when the queue is full
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		return overflow;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("capacity=%d, overflow=%s", capacity, overflow);
+	}
+}
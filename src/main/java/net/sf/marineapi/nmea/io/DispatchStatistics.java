@@ -0,0 +1,113 @@
+/*
+ * DispatchStatistics.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Counters of events dispatched to an asynchronous listener. Latency is
+ * measured from queuing the event until the listener has returned.
+ *
+ * @author Kimmo Tuukkanen
+ * @see SentenceReader#getDispatchStatistics(net.sf.marineapi.nmea.event.SentenceListener)
+ */
+public final class DispatchStatistics {
+
+	private final BlockingQueue<?> queue;
+	private volatile long delivered;
+	private volatile long dropped;
+	private volatile long totalLatency;
+	private volatile long maxLatency;
+
+	/**
+	 * Creates a new instance for given listener queue.
+	 *
+	 * @param queue Queue of the listener
+	 */
+	DispatchStatistics(BlockingQueue<?> queue) {
+		this.queue = queue;
+	}
+
+	/**
+	 * Returns the number of events currently waiting for the listener.
+	 *
+	 * @return Queue depth
+	 */
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	/**
+	 * Returns the number of events delivered to the listener.
+	 *
+	 * @return Delivered events count
+	 */
+	public long getDeliveredCount() {
+		return delivered;
+	}
+
+	/**
+	 * Returns the number of events discarded due to full queue.
+	 *
+	 * @return Dropped events count
+	 */
+	public long getDroppedCount() {
+		return dropped;
+	}
+
+	/**
+	 * Returns the average latency of delivered events.
+	 *
+	 * @return Average latency in nanoseconds, zero if nothing delivered.
+	 */
+	public long getAverageLatency() {
+		long n = delivered;
+		return n == 0 ? 0 : totalLatency / n;
+	}
+
+	/**
+	 * Returns the maximum latency of delivered events.
+	 *
+	 * @return Maximum latency in nanoseconds
+	 */
+	public long getMaxLatency() {
+		return maxLatency;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"queued=%d, delivered=%d, dropped=%d, avgLatency=%dns, maxLatency=%dns",
+			getQueueDepth(), delivered, dropped, getAverageLatency(), maxLatency);
+	}
+
+	void eventDelivered(long latency) {
+		totalLatency += latency;
+		if (latency > maxLatency) {
+			maxLatency = latency;
+		}
+		delivered++;
+	}
+
+	void eventDropped() {
+		dropped++;
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * LineFramer.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Splits raw bytes into lines terminated by {@code CR}, {@code LF} or any
+ * combination of them. Empty lines are skipped. Bytes of an incomplete line
+ * are retained between calls, so that the data may be fed in arbitrary
+ * chunks as it is received from the source.
+ * <p>
+ * Lines are decoded as ISO-8859-1, which maps the 7-bit ASCII of NMEA 0183
+ * one-to-one without any charset lookup. Lines exceeding the maximum length
+ * are discarded up to the next terminator and counted as dropped.
+ *
+ * @author Kimmo Tuukkanen
+ */
+final class LineFramer {
+
+	/** Default maximum line length in bytes */
+	static final int DEFAULT_MAX_LENGTH = 1024;
+
+	private static final byte CR = '\r';
+	private static final byte LF = '\n';
+
+	private final int maxLength;
+	private final SourceStatistics statistics;
+	private byte[] line = new byte[128];
+	private int length = 0;
+	private boolean discarding = false;
+	private long dropped = 0;
+
+	/**
+	 * Creates a new instance with {@link #DEFAULT_MAX_LENGTH}.
+	 */
+	LineFramer() {
+		this(DEFAULT_MAX_LENGTH, null);
+	}
+
+	/**
+	 * Creates a new instance with {@link #DEFAULT_MAX_LENGTH}, reporting
+	 * dropped lines to given statistics.
+	 *
+	 * @param statistics Statistics to update, may be {@code null}.
+	 */
+	LineFramer(SourceStatistics statistics) {
+		this(DEFAULT_MAX_LENGTH, statistics);
+	}
+
+	/**
+	 * Creates a new instance with given maximum line length, reporting dropped
+	 * lines to given statistics.
+	 *
+	 * @param maxLength Maximum number of bytes in line, excluding terminator.
+	 * @param statistics Statistics to update, may be {@code null}.
+	 * @throws IllegalArgumentException If length is less than one.
+	 */
+	LineFramer(int maxLength, SourceStatistics statistics) {
+		if (maxLength < 1) {
+			throw new IllegalArgumentException("Max length must be positive");
+		}
+		this.maxLength = maxLength;
+		this.statistics = statistics;
+	}
+
+	/**
+	 * Scans the given buffer from its current position and returns the next
+	 * complete line. Buffer position is advanced past the returned line and
+	 * its terminator. If buffer runs out before a terminator is found, the
+	 * remaining bytes are retained and {@code null} is returned.
+	 *
+	 * @param src Buffer to scan
+	 * @return Next line without terminator, or {@code null} if buffer does
+	 *         not contain any more complete lines.
+	 */
+	String next(ByteBuffer src) {
+		int pos = src.position();
+		final int limit = src.limit();
+		while (pos < limit) {
+			byte b = src.get(pos++);
+			if (b == CR || b == LF) {
+				src.position(pos);
+				String s = terminate();
+				if (s != null) {
+					return s;
+				}
+			} else if (!discarding) {
+				append(b);
+			}
+		}
+		src.position(pos);
+		return null;
+	}
+
+	/**
+	 * Tells if the given buffer, together with the pending bytes, contains
+	 * another complete line. The buffer is not modified.
+	 *
+	 * @param src Buffer to scan
+	 * @param terminated {@code true} if end of buffer terminates a line, e.g.
+	 *            in case of a datagram.
+	 * @return {@code true} if {@link #next(ByteBuffer)} or {@link #flush()}
+	 *         would return a line.
+	 */
+	boolean hasLine(ByteBuffer src, boolean terminated) {
+		boolean skip = discarding;
+		boolean content = length > 0;
+		for (int i = src.position(), limit = src.limit(); i < limit; i++) {
+			byte b = src.get(i);
+			if (b == CR || b == LF) {
+				if (content) {
+					return true;
+				}
+				skip = false;
+			} else if (!skip) {
+				content = true;
+			}
+		}
+		return terminated && content;
+	}
+
+	/**
+	 * Terminates the currently pending line, if any. Used at end of stream or
+	 * datagram, where the last line may not have a terminator.
+	 *
+	 * @return Pending line or {@code null} if there was none.
+	 */
+	String flush() {
+		return terminate();
+	}
+
+	/**
+	 * Returns the number of lines discarded for exceeding the max length.
+	 *
+	 * @return Dropped lines count
+	 */
+	long getDroppedCount() {
+		return dropped;
+	}
+
+	/**
+	 * Tells if there are bytes of an incomplete line pending.
+	 *
+	 * @return {@code true} if pending, otherwise {@code false}.
+	 */
+	boolean hasPending() {
+		return length > 0 || discarding;
+	}
+
+	/**
+	 * Discards any pending bytes.
+	 */
+	void reset() {
+		length = 0;
+		discarding = false;
+	}
+
+	private void append(byte b) {
+		if (length == maxLength) {
+			discarding = true;
+			length = 0;
+			return;
+		}
+		if (length == line.length) {
+			byte[] grown = new byte[Math.min(maxLength, line.length * 2)];
+			System.arraycopy(line, 0, grown, 0, length);
+			line = grown;
+		}
+		line[length++] = b;
+	}
+
+	private String terminate() {
+		if (discarding) {
+			discarding = false;
+			dropped++;
+			if (statistics != null) {
+				statistics.linesDropped(1);
+			}
+			return null;
+		}
+		if (length == 0) {
+			return null;
+		}
+		String s = new String(line, 0, length, StandardCharsets.ISO_8859_1);
+		length = 0;
+		return s;
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * MulticastDataReader.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.io.IOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.ProtocolFamily;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.nio.channels.DatagramChannel;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Data reader for NMEA data published over UDP multicast. Any number of groups
+ * may be joined on chosen network interfaces and all of them are read by a
+ * single thread, as in {@link SelectorDataReader}.
+ * <p>
+ * Each group and port is received through a channel of its own, which is
+ * bound to the group address where the platform supports it. This keeps the
+ * packet, byte and sentence counters separate for each group, also when
+ * several groups share the same port. Joining the same group and port on
+ * several interfaces adds a membership to the existing channel.
+ * </p>
+ * <pre>
+ * MulticastDataReader mc = new MulticastDataReader();
+ * NetworkInterface nif = NetworkInterface.getByName("eth1");
+ * SourceStatistics bridge = mc.joinGroup(InetAddress.getByName("239.192.0.1"), 60001, nif);
+ * SourceStatistics engine = mc.joinGroup(InetAddress.getByName("239.192.0.2"), 60001, nif);
+ * SentenceReader reader = new SentenceReader(mc);
+ * reader.start();
+ * </pre>
+ *
+ * @author Kimmo Tuukkanen
+ */
+public class MulticastDataReader extends SelectorDataReader {
+
+	private static final Logger LOGGER =
+		Logger.getLogger(MulticastDataReader.class.getName());
+
+	private final Map<InetSocketAddress, DatagramChannel> groups =
+		new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new reader without any group memberships.
+	 *
+	 * @throws IOException If selector cannot be opened.
+	 */
+	public MulticastDataReader() throws IOException {
+		super();
+	}
+
+	/**
+	 * Joins a multicast group on specified interface and port. Groups may be
+	 * joined before or after the reader has been started.
+	 *
+	 * @param group Multicast group address
+	 * @param port Port to receive from
+	 * @param nif Network interface on which to join the group
+	 * @return Statistics of the group
+	 * @throws IllegalArgumentException If address is not a multicast address.
+	 * @throws IOException If opening the channel or joining fails.
+	 */
+	public synchronized SourceStatistics joinGroup(InetAddress group, int port,
+		NetworkInterface nif) throws IOException {
+
+		if (!group.isMulticastAddress()) {
+			throw new IllegalArgumentException("Not a multicast address: " + group);
+		}
+
+		InetSocketAddress address = new InetSocketAddress(group, port);
+		DatagramChannel ch = groups.get(address);
+		if (ch == null) {
+			ch = open(address);
+			try {
+				ch.join(group, nif);
+				addSource(ch);
+			} catch (IOException e) {
+				ch.close();
+				throw e;
+			}
+			groups.put(address, ch);
+		} else {
+			ch.join(group, nif);
+		}
+		return getStatistics(ch);
+	}
+
+	/**
+	 * Leaves the multicast group on all interfaces it was joined on.
+	 *
+	 * @param group Multicast group address
+	 * @param port Port of the group
+	 * @throws IOException If closing the channel fails.
+	 */
+	public synchronized void leaveGroup(InetAddress group, int port)
+		throws IOException {
+		DatagramChannel ch = groups.remove(new InetSocketAddress(group, port));
+		if (ch != null) {
+			removeSource(ch);
+			ch.close();
+		}
+	}
+
+	/**
+	 * Returns the statistics of specified group.
+	 *
+	 * @param group Multicast group address
+	 * @param port Port of the group
+	 * @return Group statistics or {@code null} if group has not been joined.
+	 */
+	public SourceStatistics getStatistics(InetAddress group, int port) {
+		DatagramChannel ch = groups.get(new InetSocketAddress(group, port));
+		return ch == null ? null : getStatistics(ch);
+	}
+
+	/**
+	 * Stops the reader permanently and closes all group channels.
+	 */
+	@Override
+	public void stop() {
+		super.stop();
+		for (DatagramChannel ch : groups.values()) {
+			try {
+				ch.close();
+			} catch (IOException e) {
+				// stopping anyway
+			}
+		}
+		groups.clear();
+	}
+
+	/**
+	 * Opens a channel for receiving the given group address.
+	 */
+	private static DatagramChannel open(InetSocketAddress address)
+		throws IOException {
+
+		ProtocolFamily family = address.getAddress() instanceof Inet6Address ?
+			StandardProtocolFamily.INET6 : StandardProtocolFamily.INET;
+
+		DatagramChannel ch = DatagramChannel.open(family);
+		ch.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+		try {
+			// filters out other groups using the same port
+			ch.bind(address);
+		} catch (IOException e) {
+			// not supported on all platforms, e.g. Windows
+			LOGGER.log(Level.FINE, "Binding to group address failed", e);
+			ch.bind(new InetSocketAddress(address.getPort()));
+		}
+		return ch;
+	}
+}
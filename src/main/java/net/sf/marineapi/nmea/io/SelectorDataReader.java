@@ -0,0 +1,334 @@
+/*
+ * SelectorDataReader.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Logger;
+
+/**
+ * Data reader that multiplexes any number of TCP and UDP channels over a
+ * single {@link Selector}, so that one {@link SentenceReader} thread serves
+ * all of them. Sentences from all sources are dispatched to the listeners of
+ * the parent {@code SentenceReader}.
+ * <p>
+ * Each source has its own line framing, activity monitoring and statistics;
+ * partial lines received over TCP are retained per source until completed and
+ * the reading started/paused events are fired as each source starts or
+ * pauses. The channels are owned by the caller and they are not closed by
+ * the reader, except when a stream source reaches end of stream or fails.
+ * </p>
+ * <pre>
+ * SelectorDataReader mux = new SelectorDataReader();
+ * mux.addSource(SocketChannel.open(new InetSocketAddress("ais.local", 5631)));
+ * mux.addSource(DatagramChannel.open().bind(new InetSocketAddress(10110)));
+ * SentenceReader reader = new SentenceReader(mux);
+ * reader.addSentenceListener(listener);
+ * reader.start();
+ * </pre>
+ *
+ * @author Kimmo Tuukkanen
+ * @see SentenceReader#SentenceReader(AbstractDataReader)
+ */
+public class SelectorDataReader extends AbstractDataReader {
+
+	// receive buffer size, enough for any UDP datagram
+	private static final int BUFFER_SIZE = 65536;
+
+	private static final Logger LOGGER =
+		Logger.getLogger(SelectorDataReader.class.getName());
+
+	private final Selector selector;
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+	private final Map<SelectableChannel, Source> sources = new ConcurrentHashMap<>();
+	private final Queue<Source> added = new ConcurrentLinkedQueue<>();
+	private final Queue<SelectableChannel> removed = new ConcurrentLinkedQueue<>();
+
+	// accessed only by the reader thread
+	private Iterator<SelectionKey> ready;
+	private Source current;
+
+	/**
+	 * Creates a new reader without any sources.
+	 *
+	 * @throws IOException If selector cannot be opened.
+	 */
+	public SelectorDataReader() throws IOException {
+		selector = Selector.open();
+	}
+
+	/**
+	 * Adds a connected TCP channel as data source. The channel is switched to
+	 * non-blocking mode. Sources may be added before or after the reader has
+	 * been started.
+	 *
+	 * @param channel Channel to read
+	 * @throws IOException If channel mode cannot be changed.
+	 */
+	public void addSource(SocketChannel channel) throws IOException {
+		add(channel, false);
+	}
+
+	/**
+	 * Adds a bound UDP channel as data source. Each datagram may contain one
+	 * or more sentences. The channel is switched to non-blocking mode.
+	 * Sources may be added before or after the reader has been started.
+	 *
+	 * @param channel Channel to read
+	 * @throws IOException If channel mode cannot be changed.
+	 */
+	public void addSource(DatagramChannel channel) throws IOException {
+		add(channel, true);
+	}
+
+	/**
+	 * Removes the specified data source. The channel is not closed.
+	 *
+	 * @param channel Channel to remove
+	 */
+	public void removeSource(SelectableChannel channel) {
+		sources.remove(channel);
+		removed.add(channel);
+		selector.wakeup();
+	}
+
+	/**
+	 * Returns the statistics of specified source.
+	 *
+	 * @param channel Source channel
+	 * @return Source statistics, or {@code null} if channel is not a source of
+	 *         this reader.
+	 */
+	public SourceStatistics getStatistics(SelectableChannel channel) {
+		Source s = sources.get(channel);
+		return s == null ? null : s.statistics;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.io.AbstractDataReader#isBlocking()
+	 */
+	@Override
+	protected boolean isBlocking() {
+		return true;
+	}
+
+	/**
+	 * Returns the next line received from any of the sources, waiting until
+	 * data is available, sources are added or removed or the reader is
+	 * stopped.
+	 *
+	 * @return Line String or {@code null} if nothing was received.
+	 * @throws IOException If selecting fails.
+	 */
+	@Override
+	public String read() throws IOException {
+		while (true) {
+			if (current != null) {
+				String line = current.next(buffer);
+				if (line != null) {
+					return line;
+				}
+				current = null;
+			}
+			Source s = nextReady();
+			if (s == null) {
+				return null;
+			}
+			if (s.receive(buffer)) {
+				current = s;
+			}
+		}
+	}
+
+	/**
+	 * Tells if the data last received from current source has lines left.
+	 * Data available from other sources is not considered, so each datagram
+	 * or chunk of stream data delimits a batch.
+	 */
+	@Override
+	protected boolean hasMoreData() {
+		return current != null && current.framer.hasLine(buffer, current.datagram);
+	}
+
+	/**
+	 * Stops the reader permanently and closes the selector.
+	 */
+	@Override
+	public void stop() {
+		super.stop();
+		try {
+			selector.close();
+		} catch (IOException e) {
+			// stopping anyway
+		}
+		for (Source s : sources.values()) {
+			if (s.monitor != null) {
+				s.monitor.reset();
+			}
+		}
+	}
+
+	/**
+	 * Dispatches the line using the monitor of the source it was read from.
+	 */
+	@Override
+	void dispatch(String data, ActivityMonitor monitor)
+		throws InterruptedException {
+		if (current == null) {
+			super.dispatch(data, monitor);
+		} else {
+			dispatch(data, current.monitor, current.statistics);
+		}
+	}
+
+	private void add(SelectableChannel channel, boolean datagram)
+		throws IOException {
+		channel.configureBlocking(false);
+		Source s = new Source(channel, datagram);
+		sources.put(channel, s);
+		added.add(s);
+		selector.wakeup();
+	}
+
+	/**
+	 * Returns the next source with data available, selecting when the
+	 * previously selected sources have been consumed.
+	 */
+	private Source nextReady() throws IOException {
+		while (ready == null || !ready.hasNext()) {
+			ready = null;
+			update();
+			if (selector.select() == 0) {
+				return null;
+			}
+			ready = selector.selectedKeys().iterator();
+		}
+		SelectionKey key = ready.next();
+		ready.remove();
+		return key.isValid() ? (Source) key.attachment() : null;
+	}
+
+	/**
+	 * Registers and cancels sources added or removed since last select.
+	 */
+	private void update() {
+		Source s;
+		while ((s = added.poll()) != null) {
+			try {
+				s.monitor = new ActivityMonitor(getParent());
+				s.channel.register(selector, SelectionKey.OP_READ, s);
+			} catch (ClosedChannelException e) {
+				getParent().handleException("Source channel is closed", e);
+			}
+		}
+		SelectableChannel ch;
+		while ((ch = removed.poll()) != null) {
+			SelectionKey key = ch.keyFor(selector);
+			if (key != null) {
+				key.cancel();
+				((Source) key.attachment()).monitor.reset();
+			}
+		}
+	}
+
+	/**
+	 * Data source with own framing and activity state.
+	 */
+	private final class Source {
+
+		private final SelectableChannel channel;
+		private final boolean datagram;
+		private final SourceStatistics statistics = new SourceStatistics();
+		private final LineFramer framer = new LineFramer(statistics);
+		private volatile ActivityMonitor monitor;
+
+		Source(SelectableChannel channel, boolean datagram) {
+			this.channel = channel;
+			this.datagram = datagram;
+		}
+
+		/**
+		 * Receives available data in buffer.
+		 *
+		 * @return {@code true} if data was received, otherwise false.
+		 */
+		boolean receive(ByteBuffer buf) {
+			buf.clear();
+			try {
+				if (datagram) {
+					if (((DatagramChannel) channel).receive(buf) == null) {
+						return false;
+					}
+				} else if (((SocketChannel) channel).read(buf) < 0) {
+					LOGGER.info("End of stream, closing source " + channel);
+					close();
+					return false;
+				}
+			} catch (IOException e) {
+				getParent().handleException("Source read failed", e);
+				if (!datagram) {
+					close();
+				}
+				return false;
+			}
+			buf.flip();
+			if (!buf.hasRemaining()) {
+				return false;
+			}
+			statistics.packetReceived(buf.remaining());
+			return true;
+		}
+
+		/**
+		 * Returns the next line from received data, or {@code null} if no
+		 * complete lines remain. Datagram boundary terminates a line.
+		 */
+		String next(ByteBuffer buf) {
+			String line = framer.next(buf);
+			if (line == null && datagram) {
+				line = framer.flush();
+			}
+			return line;
+		}
+
+		private void close() {
+			sources.remove(channel);
+			try {
+				channel.close();
+			} catch (IOException e) {
+				// closing anyway
+			}
+			monitor.reset();
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * SentenceBatcher.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import net.sf.marineapi.nmea.event.BatchSentenceListener;
+import net.sf.marineapi.nmea.sentence.Sentence;
+
+/**
+ * Collects sentences for a {@link BatchSentenceListener}. Sentences are added
+ * by the thread dispatching them, while the batch may also be flushed by the
+ * event thread of activity monitor when reading pauses. Batches are delivered
+ * under the batcher lock, one at a time and in order.
+ *
+ * @author Kimmo Tuukkanen
+ */
+final class SentenceBatcher {
+
+	private static final Logger LOGGER =
+		Logger.getLogger(SentenceBatcher.class.getName());
+
+	private final BatchSentenceListener listener;
+	private final int maxSize;
+	private final long maxLatency;
+	private List<Sentence> batch;
+	private long started;
+
+	/**
+	 * Creates a new batcher.
+	 *
+	 * @param listener Listener to deliver the batches to
+	 * @param maxSize Maximum number of sentences in batch
+	 * @param maxLatency Maximum time from first sentence of a batch to its
+	 *            delivery in milliseconds, zero for no limit.
+	 */
+	SentenceBatcher(BatchSentenceListener listener, int maxSize, long maxLatency) {
+		this.listener = listener;
+		this.maxSize = maxSize;
+		this.maxLatency = TimeUnit.MILLISECONDS.toNanos(maxLatency);
+		this.batch = new ArrayList<>(Math.min(maxSize, 64));
+	}
+
+	/**
+	 * Returns the listener receiving the batches.
+	 *
+	 * @return Listener
+	 */
+	BatchSentenceListener getListener() {
+		return listener;
+	}
+
+	/**
+	 * Adds a sentence to current batch and delivers the batch if it is full
+	 * or its latency limit has been reached.
+	 *
+	 * @param sentence Sentence to add
+	 */
+	synchronized void add(Sentence sentence) {
+		if (maxLatency > 0 && batch.isEmpty()) {
+			started = System.nanoTime();
+		}
+		batch.add(sentence);
+		if (batch.size() >= maxSize
+			|| (maxLatency > 0 && System.nanoTime() - started >= maxLatency)) {
+			flush();
+		}
+	}
+
+	/**
+	 * Delivers the current batch, if not empty.
+	 */
+	synchronized void flush() {
+		if (batch.isEmpty()) {
+			return;
+		}
+		List<Sentence> sentences = Collections.unmodifiableList(batch);
+		batch = new ArrayList<>(Math.min(maxSize, Math.max(sentences.size(), 16)));
+		try {
+			listener.sentencesRead(sentences);
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Exception caught from BatchSentenceListener", e);
+		}
+	}
+}
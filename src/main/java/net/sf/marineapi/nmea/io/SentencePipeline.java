@@ -0,0 +1,342 @@
+/*
+ * SentencePipeline.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.parser.UnsupportedSentenceException;
+import net.sf.marineapi.nmea.sentence.Sentence;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
+import net.sf.marineapi.nmea.sentence.SentenceValidator;
+
+/**
+ * Pipeline that validates and parses the lines read by a data reader in
+ * worker threads and dispatches the results in a sequencer thread, in the
+ * order the lines were read.
+ * <p>
+ * Lines submitted by the reader thread are queued in a bounded input queue,
+ * which applies the {@link OverflowPolicy} when full. Each worker takes the
+ * next line and its sequence number from the queue, parses it and puts the
+ * result in a reorder window of the same capacity. The sequencer takes the
+ * results from the window in sequence and fires the events. Workers finishing
+ * ahead of the window wait for the sequencer, so a slow listener eventually
+ * backs up to the input queue.
+ * </p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see SentenceReader#setPipelined(int, int, OverflowPolicy)
+ */
+final class SentencePipeline {
+
+	private static final Logger LOGGER =
+		Logger.getLogger(SentencePipeline.class.getName());
+
+	private final SentenceReader parent;
+	private final OverflowPolicy policy;
+	private final BlockingQueue<Entry> input;
+	private final Entry[] window;
+	private final int mask;
+	private final Thread[] workers;
+	private final Thread sequencer;
+	private final AtomicLong dropped = new AtomicLong();
+
+	// guards taking from input and sequence numbering
+	private final Object takeLock = new Object();
+	private long taken = 0;
+
+	// guards the reorder window
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition ready = lock.newCondition();
+	private final Condition room = lock.newCondition();
+	private long delivered = 0;
+	private int active;
+
+	private volatile boolean closed = false;
+
+	/**
+	 * Creates a new pipeline.
+	 *
+	 * @param parent Reader whose listeners to dispatch to
+	 * @param workers Number of parse workers
+	 * @param capacity Capacity of input queue and reorder window
+	 * @param policy Policy to apply when input queue is full
+	 */
+	SentencePipeline(SentenceReader parent, int workers, int capacity,
+		OverflowPolicy policy) {
+
+		this.parent = parent;
+		this.policy = policy;
+		this.input = new ArrayBlockingQueue<>(capacity);
+
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity) {
+			size <<= 1;
+		}
+		this.window = new Entry[size];
+		this.mask = size - 1;
+
+		this.active = workers;
+		this.workers = new Thread[workers];
+		for (int i = 0; i < workers; i++) {
+			this.workers[i] = new Thread(this::work, "SentencePipeline-worker-" + i);
+			this.workers[i].setDaemon(true);
+		}
+		this.sequencer = new Thread(this::sequence, "SentencePipeline-sequencer");
+		this.sequencer.setDaemon(true);
+	}
+
+	/**
+	 * Starts the worker and sequencer threads.
+	 */
+	void start() {
+		for (Thread t : workers) {
+			t.start();
+		}
+		sequencer.start();
+	}
+
+	/**
+	 * Submits a line for parsing and dispatching.
+	 *
+	 * @param line Line to process
+	 * @param monitor Monitor to refresh when line is a sentence
+	 * @param statistics Statistics in which to count the dispatched sentence,
+	 *            may be {@code null}.
+	 * @throws InterruptedException If interrupted while waiting for room.
+	 */
+	void submit(String line, ActivityMonitor monitor, SourceStatistics statistics)
+		throws InterruptedException {
+
+		Entry e = new Entry(line, monitor, statistics);
+		switch (policy) {
+			case BLOCK:
+				input.put(e);
+				break;
+			case DROP_NEWEST:
+				if (!input.offer(e)) {
+					dropped.incrementAndGet();
+				}
+				break;
+			case DROP_OLDEST:
+				while (!input.offer(e)) {
+					if (input.poll() != null) {
+						dropped.incrementAndGet();
+					}
+				}
+				break;
+		}
+	}
+
+	/**
+	 * Returns the number of lines discarded due to full input queue.
+	 *
+	 * @return Number of dropped lines
+	 */
+	long getDroppedCount() {
+		return dropped.get();
+	}
+
+	/**
+	 * Returns the number of lines waiting for a worker.
+	 *
+	 * @return Queue size
+	 */
+	int getQueueSize() {
+		return input.size();
+	}
+
+	/**
+	 * Closes the pipeline and waits until the lines already submitted have
+	 * been dispatched.
+	 */
+	void close() {
+		closed = true;
+		for (Thread t : workers) {
+			t.interrupt();
+		}
+		boolean interrupted = false;
+		while (sequencer.isAlive()) {
+			try {
+				sequencer.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Worker loop, parses the queued lines until closed and drained.
+	 */
+	private void work() {
+		while (true) {
+			Entry e;
+			long seq;
+			synchronized (takeLock) {
+				try {
+					e = closed ? input.poll() : input.take();
+				} catch (InterruptedException ie) {
+					continue;
+				}
+				if (e == null) {
+					break;
+				}
+				seq = taken++;
+			}
+			parse(e);
+			lock.lock();
+			try {
+				while (seq - delivered >= window.length) {
+					room.awaitUninterruptibly();
+				}
+				window[(int) seq & mask] = e;
+				if (seq == delivered) {
+					ready.signal();
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+		lock.lock();
+		try {
+			active--;
+			ready.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Sequencer loop, dispatches the parsed lines in sequence until all
+	 * workers have finished.
+	 */
+	private void sequence() {
+		while (true) {
+			Entry e = take(false);
+			if (e == null) {
+				if (input.isEmpty()) {
+					// pipeline drained, deliver pending batches before waiting
+					parent.fireBatchEnd();
+				}
+				e = take(true);
+				if (e == null) {
+					return;
+				}
+			}
+			deliver(e);
+		}
+	}
+
+	/**
+	 * Takes the next entry in sequence from reorder window.
+	 *
+	 * @param wait Whether to wait until the entry is parsed
+	 * @return Next entry or {@code null} if not available or if all workers
+	 *         have finished.
+	 */
+	private Entry take(boolean wait) {
+		lock.lock();
+		try {
+			int i = (int) delivered & mask;
+			Entry e;
+			while ((e = window[i]) == null) {
+				if (!wait || active == 0) {
+					return null;
+				}
+				ready.awaitUninterruptibly();
+			}
+			window[i] = null;
+			delivered++;
+			if (lock.hasWaiters(room)) {
+				room.signalAll();
+			}
+			return e;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Validates and parses the entry line.
+	 */
+	private static void parse(Entry e) {
+		try {
+			SentenceLayout layout = SentenceValidator.validate(e.line);
+			if (layout.isValid()) {
+				e.valid = true;
+				e.sentence = SentenceFactory.getInstance().createParser(layout);
+			} else {
+				e.data = !layout.isSentence();
+			}
+		} catch (RuntimeException ex) {
+			e.error = ex;
+		}
+	}
+
+	/**
+	 * Fires the events for parsed entry.
+	 */
+	private void deliver(Entry e) {
+		if (e.valid) {
+			e.monitor.refresh();
+		}
+		if (e.sentence != null) {
+			parent.fireSentenceEvent(e.sentence);
+			if (e.statistics != null) {
+				e.statistics.sentenceRead();
+			}
+		} else if (e.error instanceof UnsupportedSentenceException) {
+			LOGGER.warning(e.error.getMessage());
+		} else if (e.error != null) {
+			parent.handleException("Data read failed", e.error);
+		} else if (e.data) {
+			parent.fireDataEvent(e.line);
+		}
+	}
+
+	/**
+	 * Line in the pipeline and the result of parsing it.
+	 */
+	private static final class Entry {
+
+		final String line;
+		final ActivityMonitor monitor;
+		final SourceStatistics statistics;
+		Sentence sentence;
+		RuntimeException error;
+		boolean valid;
+		boolean data;
+
+		Entry(String line, ActivityMonitor monitor, SourceStatistics statistics) {
+			this.line = line;
+			this.monitor = monitor;
+			this.statistics = statistics;
+		}
+	}
+}
@@ -22,18 +22,25 @@ package net.sf.marineapi.nmea.io;
 
 import java.io.InputStream;
 import java.net.DatagramSocket;
+import java.nio.channels.DatagramChannel;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import net.sf.marineapi.nmea.event.BatchSentenceListener;
 import net.sf.marineapi.nmea.event.SentenceEvent;
 import net.sf.marineapi.nmea.event.SentenceListener;
+import net.sf.marineapi.nmea.event.TransientSentenceListener;
 import net.sf.marineapi.nmea.sentence.Sentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
 
@@ -71,8 +78,18 @@ public class SentenceReader {
 	// worker that reads the data source (input stream, socket etc)
 	private AbstractDataReader reader;
 
-	// map of sentence listeners
-	private ConcurrentMap<String, List<SentenceListener>> listeners = new ConcurrentHashMap<>();
+	// registered sentence listeners by type, guarded by itself
+	private final Map<String, List<SentenceListener>> listeners = new LinkedHashMap<>();
+
+	// dispatch table computed from listeners on each change
+	private volatile DispatchTable table = DispatchTable.EMPTY;
+
+	// batch listeners, copied on each change
+	private volatile SentenceBatcher[] batchers = new SentenceBatcher[0];
+
+	// asynchronous wrappers by wrapped listener
+	private final ConcurrentMap<SentenceListener, AsyncSentenceListener> asyncListeners =
+		new ConcurrentHashMap<>();
 
 	// timeout for "reading paused" in ms
 	private volatile int pauseTimeout = DEFAULT_TIMEOUT;
@@ -83,6 +100,17 @@ public class SentenceReader {
 	// Exception listener
 	private ExceptionListener exceptionListener;
 
+	// pipelined mode settings, disabled when zero workers
+	private int pipelineWorkers = 0;
+	private int pipelineCapacity;
+	private OverflowPolicy pipelinePolicy;
+
+	// pipeline of current or last run, null if not pipelined
+	private volatile SentencePipeline pipeline;
+
+	// whether to reuse parser instances when listeners allow it
+	private volatile boolean parserReuse = false;
+
 	/**
 	 * Creates a SentenceReader for UDP/DatagramSocket.
 	 *
@@ -92,6 +120,16 @@ public class SentenceReader {
 		reader = new UDPDataReader(source, this);
 	}
 
+	/**
+	 * Creates a SentenceReader for UDP/DatagramChannel.
+	 *
+	 * @param source Bound channel in blocking mode, from which to read data.
+	 * @see DatagramDataReader
+	 */
+	public SentenceReader(DatagramChannel source) {
+		this(new DatagramDataReader(source));
+	}
+
 	/**
 	 * Creates a new instance of SentenceReader.
 	 *
@@ -101,6 +139,28 @@ public class SentenceReader {
 		reader = new DefaultDataReader(source, this);
 	}
 
+	/**
+	 * Creates a new instance of SentenceReader that blocks on the stream
+	 * instead of polling it. Each sentence is dispatched as soon as its line
+	 * terminator has been received. Calling {@link #stop()} closes the stream
+	 * in order to release the blocked read.
+	 * <p>
+	 * The reader waits in read as long as the stream blocks; the delay only
+	 * applies when end of stream has been reached, e.g. while a file is being
+	 * appended. To limit the time blocked, use a stream that supports
+	 * timeouts, such as socket stream with
+	 * {@link java.net.Socket#setSoTimeout(int)}.
+	 * </p>
+	 *
+	 * @param source Stream from which to read NMEA data
+	 * @param retryDelay Time in milliseconds to wait before reading again when
+	 *            end of stream has been reached.
+	 * @throws IllegalArgumentException If delay is zero or negative.
+	 */
+	public SentenceReader(InputStream source, int retryDelay) {
+		reader = new DefaultDataReader(source, this, retryDelay);
+	}
+
     /**
      * Creates a new instance of SentenceReader with custom data reader.
      *
@@ -147,6 +207,118 @@ public class SentenceReader {
 		registerListener(sl, type);
 	}
 
+	/**
+	 * Adds a {@link BatchSentenceListener} to receive all incoming sentences
+	 * in batches.
+	 * <p>
+	 * A batch is delivered when the data reader has no more data buffered,
+	 * e.g. at the end of each datagram or chunk of stream data, when reading
+	 * pauses or stops, or when the batch reaches maximum size. The latency
+	 * limit is checked when a sentence is added, which bounds the batching
+	 * delay of continuous data flow where the buffers are seldom drained.
+	 * Batches are delivered in the same thread as sentence events, except
+	 * when reading pauses, in which case the pending batch is delivered in
+	 * the event thread of {@link ActivityMonitor}, possibly concurrently with
+	 * sentence events.
+	 * </p>
+	 *
+	 * @param listener Listener to add
+	 * @param maxSize Maximum number of sentences in batch
+	 * @param maxLatency Maximum time in milliseconds between reading the first
+	 *            sentence of a batch and delivering it, zero for no limit.
+	 * @throws IllegalArgumentException If size is less than one or latency is
+	 *             negative.
+	 */
+	public void addBatchListener(BatchSentenceListener listener, int maxSize,
+		long maxLatency) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("Batch size must be positive");
+		}
+		if (maxLatency < 0) {
+			throw new IllegalArgumentException("Latency cannot be negative");
+		}
+		synchronized (listeners) {
+			SentenceBatcher[] b = Arrays.copyOf(batchers, batchers.length + 1);
+			b[b.length - 1] = new SentenceBatcher(listener, maxSize, maxLatency);
+			batchers = b;
+		}
+	}
+
+	/**
+	 * Removes a {@link BatchSentenceListener}. Sentences collected but not yet
+	 * delivered to the listener are discarded.
+	 *
+	 * @param listener Listener to remove
+	 */
+	public void removeBatchListener(BatchSentenceListener listener) {
+		synchronized (listeners) {
+			batchers = Arrays.stream(batchers)
+				.filter(b -> b.getListener() != listener)
+				.toArray(SentenceBatcher[]::new);
+		}
+	}
+
+	/**
+	 * Adds a {@link SentenceListener} to receive all incoming sentences
+	 * asynchronously.
+	 *
+	 * @param listener SentenceListener to add
+	 * @param policy Policy for queuing the events
+	 * @see #addSentenceListener(SentenceListener, String, DispatchPolicy)
+	 */
+	public void addSentenceListener(SentenceListener listener, DispatchPolicy policy) {
+		registerListener(wrap(listener, policy), DISPATCH_ALL);
+	}
+
+	/**
+	 * Adds a {@link SentenceListener} to receive sentences of specified type
+	 * asynchronously.
+	 *
+	 * @param listener SentenceListener to add
+	 * @param type Sentence type for which the listener is registered.
+	 * @param policy Policy for queuing the events
+	 * @see #addSentenceListener(SentenceListener, String, DispatchPolicy)
+	 */
+	public void addSentenceListener(SentenceListener listener, SentenceId type,
+		DispatchPolicy policy) {
+		registerListener(wrap(listener, policy), type.toString());
+	}
+
+	/**
+	 * Adds a {@link SentenceListener} to receive sentences of specified type
+	 * asynchronously.
+	 * <p>
+	 * The events are queued for the listener and delivered in a thread of its
+	 * own, so that a slow listener does not delay reading or the other
+	 * listeners. When the queue is full, the overflow policy either blocks the
+	 * reader until there is room or discards a sentence event; reading state
+	 * events are never discarded. If the listener has already been added
+	 * asynchronously, its existing queue and policy are used. The queue is
+	 * closed when the listener is removed.
+	 * </p>
+	 *
+	 * @param listener SentenceListener to add
+	 * @param type Sentence type for which the listener is registered.
+	 * @param policy Policy for queuing the events
+	 * @see #getDispatchStatistics(SentenceListener)
+	 */
+	public void addSentenceListener(SentenceListener listener, String type,
+		DispatchPolicy policy) {
+		registerListener(wrap(listener, policy), type);
+	}
+
+	/**
+	 * Returns the dispatch counters of an asynchronous listener.
+	 *
+	 * @param listener Listener added with a {@link DispatchPolicy}
+	 * @return Statistics or {@code null} if listener is not registered
+	 *         asynchronously.
+	 */
+	public DispatchStatistics getDispatchStatistics(SentenceListener listener) {
+		AsyncSentenceListener async = asyncListeners.get(listener);
+		return async == null ? null : async.getStatistics();
+	}
+
 	/**
 	 * Pass data to DataListener.
 	 *
@@ -163,10 +335,30 @@ public class SentenceReader {
 	}
 	
 	/**
-	 * Notifies all listeners that reader has paused due to timeout.
+	 * Delivers the batches collected for batch listeners.
+	 */
+	void fireBatchEnd() {
+		for (SentenceBatcher b : batchers) {
+			b.flush();
+		}
+	}
+
+	/**
+	 * Tells if there are any batch listeners registered.
+	 *
+	 * @return {@code true} if batch listeners exist, otherwise {@code false}.
+	 */
+	boolean hasBatchListeners() {
+		return batchers.length > 0;
+	}
+
+	/**
+	 * Notifies all listeners that reader has paused due to timeout. Called
+	 * by the event thread of {@link ActivityMonitor}, outside of its lock.
 	 */
 	void fireReadingPaused() {
-		for (SentenceListener listener : getSentenceListeners()) {
+		fireBatchEnd();
+		for (SentenceListener listener : table.everyone) {
 			try {
 				listener.readingPaused();
 			} catch (Exception e) {
@@ -180,7 +372,7 @@ public class SentenceReader {
 	 * events will be dispatched until stopped or timeout occurs.
 	 */
 	void fireReadingStarted() {
-		for (SentenceListener listener : getSentenceListeners()) {
+		for (SentenceListener listener : table.everyone) {
 			try {
 				listener.readingStarted();
 			} catch (Exception e) {
@@ -193,7 +385,8 @@ public class SentenceReader {
 	 * Notifies all listeners that data reading has stopped.
 	 */
 	void fireReadingStopped() {
-		for (SentenceListener listener : getSentenceListeners()) {
+		fireBatchEnd();
+		for (SentenceListener listener : table.everyone) {
 			try {
 				listener.readingStopped();
 			} catch (Exception e) {
@@ -209,24 +402,26 @@ public class SentenceReader {
 	 */
 	void fireSentenceEvent(Sentence sentence) {
 
-		String type = sentence.getSentenceId();
-		Set<SentenceListener> targets = new HashSet<>();
-
-		if (listeners.containsKey(type)) {
-			targets.addAll(listeners.get(type));
-		}
-		if (listeners.containsKey(DISPATCH_ALL)) {
-			targets.addAll(listeners.get(DISPATCH_ALL));
+		DispatchTable t = table;
+		SentenceListener[] targets = t.byType.get(sentence.getSentenceId());
+		if (targets == null) {
+			targets = t.all;
 		}
 
-		for (SentenceListener listener : targets) {
-			try {
-				SentenceEvent se = new SentenceEvent(this, sentence);
-				listener.sentenceRead(se);
-			} catch (Exception e) {
-				LOGGER.log(Level.WARNING, LOG_MSG, e);
+		if (targets.length > 0) {
+			SentenceEvent se = new SentenceEvent(this, sentence);
+			for (SentenceListener listener : targets) {
+				try {
+					listener.sentenceRead(se);
+				} catch (Exception e) {
+					LOGGER.log(Level.WARNING, LOG_MSG, e);
+				}
 			}
 		}
+
+		for (SentenceBatcher b : batchers) {
+			b.add(sentence);
+		}
 	}
 	
 	/**
@@ -248,17 +443,34 @@ public class SentenceReader {
 		return this.pauseTimeout;
 	}
 
+	/**
+	 * Returns the pipeline of current or last run.
+	 *
+	 * @return Pipeline or {@code null} if not running in pipelined mode.
+	 */
+	SentencePipeline getPipeline() {
+		return pipeline;
+	}
+
+	/**
+	 * Returns the number of lines discarded by the pipeline due to overflow
+	 * during current or last run.
+	 *
+	 * @return Number of dropped lines, zero if not pipelined.
+	 * @see #setPipelined(int, int, OverflowPolicy)
+	 */
+	public long getPipelineDropCount() {
+		SentencePipeline p = pipeline;
+		return p == null ? 0 : p.getDroppedCount();
+	}
+
 	/**
 	 * Returns all currently registered SentenceListeners.
 	 * 
 	 * @return List of SentenceListeners or empty list.
 	 */
 	List<SentenceListener> getSentenceListeners() {
-		Set<SentenceListener> all = new HashSet<>();
-		for (List<SentenceListener> sl : listeners.values()) {
-			all.addAll(sl);
-		}
-		return new ArrayList<>(all);
+		return new ArrayList<>(Arrays.asList(table.everyone));
 	}
 
 	/**
@@ -281,18 +493,53 @@ public class SentenceReader {
 	}
 
 	/**
-	 * Registers a SentenceListener to hash map with given key.
+	 * Registers a SentenceListener with given key and updates the dispatch
+	 * table.
 	 * 
 	 * @param listener SentenceListener to register
 	 * @param type Sentence type to register for
 	 */
 	private void registerListener(SentenceListener listener, String type) {
-		if (listeners.containsKey(type)) {
-			listeners.get(type).add(listener);
-		} else {
-			List<SentenceListener> list = new Vector<>();
-			list.add(listener);
-			listeners.put(type, list);
+		synchronized (listeners) {
+			listeners.computeIfAbsent(type, k -> new ArrayList<>()).add(listener);
+			table = new DispatchTable(listeners);
+		}
+	}
+
+	/**
+	 * Returns the asynchronous wrapper of given listener, creating it if not
+	 * yet registered.
+	 *
+	 * @param listener Listener to wrap
+	 * @param policy Dispatch policy for new wrapper
+	 * @return Wrapper listener
+	 */
+	private SentenceListener wrap(SentenceListener listener, DispatchPolicy policy) {
+		if (policy == null) {
+			throw new IllegalArgumentException("Dispatch policy cannot be null");
+		}
+		return asyncListeners.computeIfAbsent(
+			listener, l -> new AsyncSentenceListener(l, policy));
+	}
+
+	/**
+	 * Shuts down the asynchronous wrapper of given listener if it is no
+	 * longer registered for any type.
+	 *
+	 * @param listener Wrapped listener
+	 */
+	private void release(SentenceListener listener) {
+		AsyncSentenceListener async = asyncListeners.get(listener);
+		if (async != null) {
+			synchronized (listeners) {
+				for (List<SentenceListener> list : listeners.values()) {
+					if (list.contains(async)) {
+						return;
+					}
+				}
+			}
+			asyncListeners.remove(listener);
+			async.shutdown();
 		}
 	}
 
@@ -303,7 +550,14 @@ public class SentenceReader {
 	 * @param listener {@link SentenceListener} to be removed.
 	 */
 	public void removeSentenceListener(SentenceListener listener) {
-		listeners.values().forEach(v -> v.remove(listener));
+		AsyncSentenceListener async = asyncListeners.get(listener);
+		synchronized (listeners) {
+			for (List<SentenceListener> list : listeners.values()) {
+				list.removeIf(l -> l == listener || l == async);
+			}
+			table = new DispatchTable(listeners);
+		}
+		release(listener);
 	}
 
 
@@ -325,7 +579,17 @@ public class SentenceReader {
 	 * @see #removeSentenceListener(SentenceListener, SentenceId)
 	 */
 	public void removeSentenceListener(SentenceListener listener, String type) {
-		listeners.getOrDefault(type, new ArrayList<>()).remove(listener);
+		AsyncSentenceListener async = asyncListeners.get(listener);
+		synchronized (listeners) {
+			List<SentenceListener> list = listeners.get(type);
+			if (list != null) {
+				list.removeIf(l -> l == listener || l == async);
+				table = new DispatchTable(listeners);
+			}
+		}
+		if (async != null) {
+			release(listener);
+		}
 	}
 
 	/**
@@ -374,6 +638,93 @@ public class SentenceReader {
 		reader = new DefaultDataReader(stream, this);
 	}
 
+	/**
+	 * Sets the InputStream to be used as data source in blocking mode. If
+	 * reader is running, it is first stopped and you must call {@link #start()}
+	 * to resume reading.
+	 *
+	 * @param stream InputStream to set.
+	 * @param retryDelay Time in milliseconds to wait before reading again when
+	 *            end of stream has been reached.
+	 * @see #SentenceReader(InputStream, int)
+	 */
+	public void setInputStream(InputStream stream, int retryDelay) {
+		if (reader.isRunning()) {
+			stop();
+		}
+		reader = new DefaultDataReader(stream, this, retryDelay);
+	}
+
+	/**
+	 * Enables or disables reusing the parser instances. When enabled, the
+	 * reader thread re-points one parser instance per sentence type to each
+	 * new sentence, instead of creating a new parser for every sentence, see
+	 * {@link SentenceFactory#reuseParser(String)}.
+	 * <p>
+	 * Listeners opt in to reuse by implementing {@link
+	 * TransientSentenceListener}, i.e. by agreeing not to retain the sentences
+	 * they receive. Reuse is suspended while any other listener is registered,
+	 * including asynchronous and batch listeners, and in pipelined mode, as
+	 * these may keep the sentences beyond the next read.
+	 * </p>
+	 *
+	 * @param enabled {@code true} to reuse parsers, {@code false} to create a
+	 *            new parser for each sentence (default).
+	 */
+	public void setParserReuse(boolean enabled) {
+		this.parserReuse = enabled;
+	}
+
+	/**
+	 * Tells if parsers may currently be reused for dispatching sentences,
+	 * i.e. reuse is enabled and none of the listeners keeps sentences.
+	 *
+	 * @return {@code true} if parsers may be reused, otherwise {@code false}.
+	 */
+	boolean isParserReuse() {
+		return parserReuse && pipeline == null && batchers.length == 0
+			&& table.transientOnly;
+	}
+
+	/**
+	 * Sets the reader in pipelined mode, or back to sequential mode when
+	 * number of workers is zero. Takes effect on next {@link #start()}.
+	 * <p>
+	 * By default, the reader thread reads, parses and dispatches each sentence
+	 * before reading the next one. In pipelined mode, the reader thread only
+	 * reads the lines and queues them for the given number of worker threads,
+	 * which validate and parse them in parallel. A separate dispatcher thread
+	 * then fires the events in the order the lines were read, so the listeners
+	 * are still called from one thread at a time.
+	 * </p>
+	 * <p>
+	 * The capacity bounds both the lines waiting for a worker and the parsed
+	 * sentences waiting for dispatch. When the listeners fall behind and the
+	 * queue is full, the given overflow policy either blocks the reader thread
+	 * or discards a line, see {@link #getPipelineDropCount()}.
+	 * </p>
+	 *
+	 * @param workers Number of parse worker threads, zero to disable.
+	 * @param capacity Maximum number of lines waiting in the pipeline
+	 * @param policy Policy to apply when the pipeline is full
+	 * @throws IllegalArgumentException If workers is negative or capacity is
+	 *             less than one.
+	 */
+	public void setPipelined(int workers, int capacity, OverflowPolicy policy) {
+		if (workers < 0) {
+			throw new IllegalArgumentException("Workers cannot be negative");
+		}
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be positive");
+		}
+		if (policy == null) {
+			throw new IllegalArgumentException("Overflow policy cannot be null");
+		}
+		this.pipelineWorkers = workers;
+		this.pipelineCapacity = capacity;
+		this.pipelinePolicy = policy;
+	}
+
 	/**
 	 * Set timeout time for reading paused events. Default is 5000 ms.
 	 *
@@ -393,6 +744,13 @@ public class SentenceReader {
 			&& reader.isRunning()) {
 			throw new IllegalStateException("Reader is already running");
 		}
+		if (pipelineWorkers > 0) {
+			pipeline = new SentencePipeline(
+				this, pipelineWorkers, pipelineCapacity, pipelinePolicy);
+			pipeline.start();
+		} else {
+			pipeline = null;
+		}
 		thread = new Thread(reader);
 		thread.start();
 	}
@@ -403,6 +761,55 @@ public class SentenceReader {
 	public void stop() {
 		if (reader != null && reader.isRunning()) {
 			reader.stop();
+			if (pipeline != null) {
+				// may be waiting for room in pipeline
+				reader.interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Immutable listener arrays precomputed for dispatching, replaced as a
+	 * whole when listeners are added or removed.
+	 */
+	private static final class DispatchTable {
+
+		static final DispatchTable EMPTY =
+			new DispatchTable(Collections.<String, List<SentenceListener>> emptyMap());
+
+		// listeners of specific types, each including the listeners of all
+		final Map<String, SentenceListener[]> byType;
+		// listeners for types without specific listeners
+		final SentenceListener[] all;
+		// every listener once, for reading state events
+		final SentenceListener[] everyone;
+		// whether every listener has opted in to parser reuse
+		final boolean transientOnly;
+
+		DispatchTable(Map<String, List<SentenceListener>> listeners) {
+			List<SentenceListener> common =
+				listeners.getOrDefault(DISPATCH_ALL, Collections.emptyList());
+			Set<SentenceListener> every = new LinkedHashSet<>();
+			Map<String, SentenceListener[]> types = new HashMap<>();
+
+			for (Map.Entry<String, List<SentenceListener>> e : listeners.entrySet()) {
+				every.addAll(e.getValue());
+				if (!DISPATCH_ALL.equals(e.getKey()) && !e.getValue().isEmpty()) {
+					Set<SentenceListener> targets = new LinkedHashSet<>(e.getValue());
+					targets.addAll(common);
+					types.put(e.getKey(), toArray(targets));
+				}
+			}
+
+			this.byType = types;
+			this.all = toArray(new LinkedHashSet<>(common));
+			this.everyone = toArray(every);
+			this.transientOnly = every.stream()
+				.allMatch(l -> l instanceof TransientSentenceListener);
+		}
+
+		private static SentenceListener[] toArray(Set<SentenceListener> set) {
+			return set.toArray(new SentenceListener[0]);
 		}
 	}
 }
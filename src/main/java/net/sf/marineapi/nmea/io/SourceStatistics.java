@@ -0,0 +1,118 @@
+/*
+ * SourceStatistics.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of data received from a single data source. Counters may be read
+ * from any thread at any time. Packets and dropped lines are counted by the
+ * reader thread, while sentences are counted by the thread dispatching them,
+ * i.e. the reader thread or the sequencer thread of a sentence pipeline.
+ *
+ * @author Kimmo Tuukkanen
+ */
+public final class SourceStatistics {
+
+	private final LongAdder packets = new LongAdder();
+	private final LongAdder bytes = new LongAdder();
+	private final LongAdder sentences = new LongAdder();
+	private final LongAdder truncated = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+
+	/**
+	 * Creates a new instance with all counters set to zero.
+	 */
+	SourceStatistics() {
+	}
+
+	/**
+	 * Returns the number of packets or chunks received from the source.
+	 *
+	 * @return Packet count
+	 */
+	public long getPacketCount() {
+		return packets.sum();
+	}
+
+	/**
+	 * Returns the total number of bytes received from the source.
+	 *
+	 * @return Byte count
+	 */
+	public long getByteCount() {
+		return bytes.sum();
+	}
+
+	/**
+	 * Returns the number of valid sentences dispatched from the source.
+	 *
+	 * @return Sentence count
+	 */
+	public long getSentenceCount() {
+		return sentences.sum();
+	}
+
+	/**
+	 * Returns the number of datagrams that exceeded the receive buffer and
+	 * were truncated.
+	 *
+	 * @return Truncated packets count
+	 */
+	public long getTruncatedCount() {
+		return truncated.sum();
+	}
+
+	/**
+	 * Returns the number of lines discarded, either because they exceeded the
+	 * maximum line length or were cut off by datagram truncation.
+	 *
+	 * @return Dropped lines count
+	 */
+	public long getDroppedCount() {
+		return dropped.sum();
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"packets=%d, bytes=%d, sentences=%d, truncated=%d, dropped=%d",
+			getPacketCount(), getByteCount(), getSentenceCount(),
+			getTruncatedCount(), getDroppedCount());
+	}
+
+	void packetReceived(int length) {
+		packets.increment();
+		bytes.add(length);
+	}
+
+	void sentenceRead() {
+		sentences.increment();
+	}
+
+	void packetTruncated() {
+		truncated.increment();
+	}
+
+	void linesDropped(long count) {
+		dropped.add(count);
+	}
+}
@@ -0,0 +1,343 @@
+/*
+ * TcpDataReader.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+
+/**
+ * Data reader for TCP servers providing NMEA data, such as AIS receivers or
+ * gpsd-style NMEA ports. The connection is opened when the reader is started
+ * and re-opened whenever it is lost, until the reader is stopped.
+ * <p>
+ * Connection attempts are spaced with exponential backoff, starting from the
+ * minimum delay and doubling on each failed attempt up to the maximum delay.
+ * Each delay is randomized between half and full of its nominal value, which
+ * prevents several clients from hammering a restarted server in sync. The
+ * delay is reset once a connection succeeds. Failed attempts and lost
+ * connections are logged on a single line at info level, without notifying
+ * the exception listeners.
+ * </p>
+ * <p>
+ * Data is received in a single reusable buffer and split into lines by the
+ * same framer for all connections. An incomplete line left over by a lost
+ * connection is discarded and counted as dropped in {@link #getStatistics()},
+ * as it cannot be continued by the next connection.
+ * </p>
+ * <pre>
+ * TcpDataReader tcp = new TcpDataReader("localhost", 10110);
+ * tcp.addConnectionListener(new ConnectionListener() { ... });
+ * SentenceReader reader = new SentenceReader(tcp);
+ * reader.start();
+ * </pre>
+ *
+ * @author Kimmo Tuukkanen
+ * @see SentenceReader#SentenceReader(AbstractDataReader)
+ */
+public class TcpDataReader extends AbstractDataReader {
+
+	/** Default connect timeout, in milliseconds. */
+	public static final int DEFAULT_CONNECT_TIMEOUT = 5000;
+	/** Default minimum delay between connection attempts, in milliseconds. */
+	public static final int DEFAULT_MIN_BACKOFF = 500;
+	/** Default maximum delay between connection attempts, in milliseconds. */
+	public static final int DEFAULT_MAX_BACKOFF = 30000;
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private static final Logger LOGGER =
+		Logger.getLogger(TcpDataReader.class.getName());
+
+	private final String host;
+	private final int port;
+	private final byte[] bytes = new byte[BUFFER_SIZE];
+	private final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+	private final SourceStatistics statistics = new SourceStatistics();
+	private final LineFramer framer = new LineFramer(statistics);
+	private final List<ConnectionListener> listeners =
+		new CopyOnWriteArrayList<>();
+
+	private volatile int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+	private volatile int minBackoff = DEFAULT_MIN_BACKOFF;
+	private volatile int maxBackoff = DEFAULT_MAX_BACKOFF;
+
+	private volatile Socket socket;
+	private volatile ConnectionState state = ConnectionState.DISCONNECTED;
+	private volatile long reconnects;
+	private InputStream input;
+	private boolean connected;
+	private int attempts;
+
+	/**
+	 * Creates a new reader for specified server. Host name is resolved on
+	 * each connection attempt.
+	 *
+	 * @param host Host name or address of the server
+	 * @param port Server port
+	 * @throws IllegalArgumentException If port is out of range.
+	 */
+	public TcpDataReader(String host, int port) {
+		if (port < 0 || port > 0xFFFF) {
+			throw new IllegalArgumentException("Port out of range: " + port);
+		}
+		this.host = host;
+		this.port = port;
+		this.buffer.limit(0);
+	}
+
+	/**
+	 * Adds a listener for connection state changes.
+	 *
+	 * @param listener Listener to add
+	 */
+	public void addConnectionListener(ConnectionListener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Removes a connection listener.
+	 *
+	 * @param listener Listener to remove
+	 */
+	public void removeConnectionListener(ConnectionListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Returns the current connection state.
+	 *
+	 * @return Connection state
+	 */
+	public ConnectionState getState() {
+		return state;
+	}
+
+	/**
+	 * Returns the number of times the connection has been re-established
+	 * after it was lost.
+	 *
+	 * @return Reconnect count
+	 */
+	public long getReconnectCount() {
+		return reconnects;
+	}
+
+	/**
+	 * Returns the receive counters of this reader, accumulated over all
+	 * connections.
+	 *
+	 * @return Statistics of received data
+	 */
+	public SourceStatistics getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * Sets the delay range for connection attempts.
+	 *
+	 * @param min Minimum delay in milliseconds
+	 * @param max Maximum delay in milliseconds
+	 * @throws IllegalArgumentException If min is less than one or greater
+	 *             than max.
+	 */
+	public void setBackoff(int min, int max) {
+		if (min < 1 || min > max) {
+			throw new IllegalArgumentException("Invalid backoff range");
+		}
+		this.minBackoff = min;
+		this.maxBackoff = max;
+	}
+
+	/**
+	 * Sets the connect timeout.
+	 *
+	 * @param millis Timeout in milliseconds, zero for infinite.
+	 * @throws IllegalArgumentException If timeout is negative.
+	 */
+	public void setConnectTimeout(int millis) {
+		if (millis < 0) {
+			throw new IllegalArgumentException("Timeout cannot be negative");
+		}
+		this.connectTimeout = millis;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.io.AbstractDataReader#isBlocking()
+	 */
+	@Override
+	protected boolean isBlocking() {
+		return true;
+	}
+
+	/**
+	 * Returns the next line received from the server, connecting first if
+	 * necessary. Blocks until a line is received or the reader is stopped.
+	 *
+	 * @return Line String or {@code null} if the reader was stopped.
+	 * @throws InterruptedException If interrupted while waiting to reconnect.
+	 */
+	@Override
+	public String read() throws InterruptedException {
+		while (isRunning()) {
+			String line = framer.next(buffer);
+			if (line != null) {
+				return line;
+			}
+			int n;
+			try {
+				if (input == null) {
+					connect();
+				}
+				n = input.read(bytes);
+			} catch (IOException e) {
+				// next attempt is delayed by the backoff only
+				if (isRunning()) {
+					LOGGER.info(String.format("Connection to %s:%d failed: %s",
+						host, port, e.getMessage()));
+				}
+				if (input != null) {
+					disconnect();
+				}
+				continue;
+			}
+			if (n < 0) {
+				disconnect();
+				continue;
+			}
+			buffer.position(0).limit(n);
+			statistics.packetReceived(n);
+		}
+		return null;
+	}
+
+	/**
+	 * Tells if the data received so far contains another complete line.
+	 */
+	@Override
+	protected boolean hasMoreData() {
+		return framer.hasLine(buffer, false);
+	}
+
+	/**
+	 * Stops the reader permanently and closes the connection.
+	 */
+	@Override
+	public void stop() {
+		super.stop();
+		interrupt();
+		close(socket);
+	}
+
+	/**
+	 * Counts the dispatched sentences.
+	 */
+	@Override
+	void dispatch(String data, ActivityMonitor monitor)
+		throws InterruptedException {
+		dispatch(data, monitor, statistics);
+	}
+
+	/**
+	 * Waits for the backoff delay, if any, and opens the connection.
+	 */
+	private void connect() throws IOException, InterruptedException {
+		setState(ConnectionState.CONNECTING);
+		if (attempts > 0) {
+			Thread.sleep(backoff(attempts));
+		}
+		attempts++;
+
+		Socket s = new Socket();
+		socket = s;
+		if (!isRunning()) {
+			close(s);
+			throw new IOException("Reader stopped");
+		}
+		try {
+			s.connect(new InetSocketAddress(host, port), connectTimeout);
+			input = s.getInputStream();
+		} catch (IOException e) {
+			close(s);
+			throw e;
+		}
+
+		attempts = 0;
+		if (connected) {
+			reconnects++;
+		}
+		connected = true;
+		setState(ConnectionState.CONNECTED);
+	}
+
+	/**
+	 * Closes the current connection and discards any incomplete line.
+	 */
+	private void disconnect() {
+		close(socket);
+		input = null;
+		buffer.limit(0);
+		if (framer.hasPending()) {
+			statistics.linesDropped(1);
+		}
+		framer.reset();
+		attempts = 1;
+		setState(ConnectionState.DISCONNECTED);
+	}
+
+	/**
+	 * Returns a randomized delay for given number of failed attempts.
+	 */
+	private long backoff(int attempt) {
+		long max = Math.min(maxBackoff, (long) minBackoff << Math.min(attempt - 1, 30));
+		return max / 2 + ThreadLocalRandom.current().nextLong(max / 2 + 1);
+	}
+
+	private void setState(ConnectionState newState) {
+		if (state != newState) {
+			state = newState;
+			for (ConnectionListener l : listeners) {
+				try {
+					l.connectionStateChanged(newState, reconnects);
+				} catch (Exception e) {
+					// nevermind
+				}
+			}
+		}
+	}
+
+	private static void close(Socket s) {
+		if (s != null) {
+			try {
+				s.close();
+			} catch (IOException e) {
+				// closing anyway
+			}
+		}
+	}
+}
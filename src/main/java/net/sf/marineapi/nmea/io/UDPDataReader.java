@@ -20,60 +20,48 @@
  */
 package net.sf.marineapi.nmea.io;
 
+import java.io.IOException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
-import java.util.Arrays;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.nio.ByteBuffer;
 
 /**
- * DataReader implementation using DatagramSocket as data source.
+ * DataReader implementation using DatagramSocket as data source. Datagrams
+ * are received in a reusable heap buffer and framed like in
+ * {@link DatagramDataReader}.
  * 
  * @author Kimmo Tuukkanen, Ludovic Drouineau
  */
-class UDPDataReader extends AbstractDataReader {
+class UDPDataReader extends DatagramDataReader {
 
-	private DatagramSocket socket;
-	private byte[] buffer = new byte[1024];
-	private Queue<String> queue = new LinkedList<>();
+	private final DatagramSocket socket;
+	private final DatagramPacket packet;
 
 	/**
-	 * Creates a new instance of StreamReader.
+	 * Creates a new instance of UDPDataReader.
 	 * 
 	 * @param socket DatagramSocket to be used as data source.
 	 * @param parent SentenceReader dispatching events for this reader.
 	 */
 	UDPDataReader(DatagramSocket socket, SentenceReader parent) {
-		super(parent);
-		this.socket = socket;
+		this(socket, ByteBuffer.allocate(MAX_DATAGRAM_SIZE + 1));
+		setParent(parent);
 	}
 
-	@Override
-	public String read() throws Exception {
-		String data = null;
-		
-		while (true) {
-			// If there is a backlog of sentences in the queue, then return the old sentences first so that each packet is uploaded compete.
-			if ((data = queue.poll()) != null)		
-				break;
-
-			// Once the backlog is cleared, then read the port, split the packet into sentences,
-			// and store the individual sentences in the queue.  Queue will always start empty here.
-			data = receive();
-		    String[] lines = data.split("\\r?\\n");
-		    queue.addAll(Arrays.asList(lines));
-		}
-		
-		return data;
+	private UDPDataReader(DatagramSocket socket, ByteBuffer buffer) {
+		super(null, MAX_DATAGRAM_SIZE, buffer);
+		this.socket = socket;
+		this.packet = new DatagramPacket(buffer.array(), buffer.capacity());
 	}
 
 	/**
-	 * Receive UDP packet and return as String.  Blocks until data is received.
-	 * Exceptions bubble up to the {@link AbstractDataReader}    
+	 * Receive UDP packet in given buffer. Blocks until data is received.
+	 * Exceptions bubble up to the {@link AbstractDataReader}.
 	 */
-	private String receive() throws Exception {
-		DatagramPacket pkg = new DatagramPacket(buffer, buffer.length);
-		socket.receive(pkg);
-		return new String(pkg.getData(), 0, pkg.getLength());
+	@Override
+	void receive(ByteBuffer buf) throws IOException {
+		packet.setLength(buf.capacity());
+		socket.receive(packet);
+		buf.position(packet.getLength());
 	}
 }
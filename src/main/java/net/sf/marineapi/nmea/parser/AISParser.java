@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.AISSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
 /**
@@ -53,6 +54,16 @@ abstract class AISParser extends SentenceParser implements AISSentence {
         super(nmea, sid);
     }
 
+    /**
+     * Creates a new instance from validated sentence.
+     *
+     * @param layout Layout of sentence String
+     * @param sid Expected sentence ID
+     */
+    public AISParser(SentenceLayout layout, SentenceId sid) {
+        super(layout, sid);
+    }
+
     /**
      * Creates a new empty VDOParser.
      *
@@ -78,11 +89,21 @@ abstract class AISParser extends SentenceParser implements AISSentence {
         return getStringValue(MESSAGE_ID);
     }
 
+    @Override
+    public boolean hasMessageId() {
+        return hasValue(MESSAGE_ID);
+    }
+
     @Override
     public String getRadioChannel() {
         return getStringValue(RADIO_CHANNEL);
     }
 
+    @Override
+    public boolean hasRadioChannel() {
+        return hasValue(RADIO_CHANNEL);
+    }
+
     @Override
     public String getPayload() {
         return getStringValue(PAYLOAD);
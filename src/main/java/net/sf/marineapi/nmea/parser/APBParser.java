@@ -21,6 +21,7 @@
 package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.APBSentence;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.DataStatus;
 import net.sf.marineapi.nmea.util.Direction;
@@ -56,6 +57,15 @@ class APBParser extends SentenceParser implements APBSentence {
 		super(nmea);
 	}
 
+	/**
+	 * Creates a new instance of APBParser from validated sentence.
+	 *
+	 * @param layout Layout of APB sentence String
+	 */
+	APBParser(SentenceLayout layout) {
+		super(layout);
+	}
+
 	/**
 	 * Creates a new empty APBParser.
 	 * 
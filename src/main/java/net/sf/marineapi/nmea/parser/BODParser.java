@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.BODSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
 /**
@@ -51,6 +52,15 @@ class BODParser extends SentenceParser implements BODSentence {
 		super(nmea, SentenceId.BOD);
 	}
 
+	/**
+	 * Creates a new instance of BODParser from validated sentence.
+	 *
+	 * @param layout Layout of BOD sentence String
+	 */
+	BODParser(SentenceLayout layout) {
+		super(layout, SentenceId.BOD);
+	}
+
 	/**
 	 * Creates GSA parser with empty sentence.
 	 * 
@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.CURSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
 /**
@@ -56,6 +57,15 @@ class CURParser extends SentenceParser implements CURSentence {
 		super(nmea, SentenceId.CUR);
 	}
 
+	/**
+	 * Creates a new instance of CURParser from validated sentence.
+	 *
+	 * @param layout Layout of CUR sentence String
+	 */
+	CURParser(SentenceLayout layout) {
+		super(layout, SentenceId.CUR);
+	}
+
 	/**
 	 * Creates CUR parser with empty sentence.
 	 *
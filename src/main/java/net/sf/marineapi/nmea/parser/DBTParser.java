@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.DBTSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.Units;
 
@@ -50,6 +51,15 @@ class DBTParser extends SentenceParser implements DBTSentence {
 		super(nmea, SentenceId.DBT);
 	}
 
+	/**
+	 * Creates a new instance of DBTParser from validated sentence.
+	 *
+	 * @param layout Layout of DBT sentence String
+	 */
+	DBTParser(SentenceLayout layout) {
+		super(layout, SentenceId.DBT);
+	}
+
 	/**
 	 * Creates a new instance of DBTParser with empty data fields.
 	 * 
@@ -70,6 +80,22 @@ class DBTParser extends SentenceParser implements DBTSentence {
 		return getDoubleValue(DEPTH_METERS);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.DepthSentence#getDepth(double)
+	 */
+	public double getDepth(double defaultValue) {
+		return getDoubleValue(DEPTH_METERS, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.DepthSentence#hasDepth()
+	 */
+	public boolean hasDepth() {
+		return hasValue(DEPTH_METERS);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.DBTSentence#getFathoms()
@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.DPTSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
 /**
@@ -44,6 +45,15 @@ class DPTParser extends SentenceParser implements DPTSentence {
 		super(nmea, SentenceId.DPT);
 	}
 
+	/**
+	 * Creates a new instance of DPTParser from validated sentence.
+	 *
+	 * @param layout Layout of DPT sentence String
+	 */
+	DPTParser(SentenceLayout layout) {
+		super(layout, SentenceId.DPT);
+	}
+
 	/**
 	 * Creates a new instance of DPTParser with empty data fields.
 	 * 
@@ -61,6 +71,22 @@ class DPTParser extends SentenceParser implements DPTSentence {
 		return getDoubleValue(DEPTH);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.DepthSentence#getDepth(double)
+	 */
+	public double getDepth(double defaultValue) {
+		return getDoubleValue(DEPTH, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.DepthSentence#hasDepth()
+	 */
+	public boolean hasDepth() {
+		return hasValue(DEPTH);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.DPTSentence#getOffset()
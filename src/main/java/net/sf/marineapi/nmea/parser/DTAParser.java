@@ -26,6 +26,7 @@ import java.util.Date;
 
 import net.sf.marineapi.nmea.sentence.DTASentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
 /**
@@ -46,7 +47,6 @@ class DTAParser extends SentenceParser implements DTASentence {
 	private static final int STATUS_CODE= 7;
 	
 	private static final DateFormat DATE_PARSER = new SimpleDateFormat("yyyy/MM/dd HH:mm:ss"); 
-	private int offset = getFieldCount() >= 8 ? 0 : -1;
 	
 	/**
 	 * Creates a new instance of DTAParser with 8 data fields.
@@ -66,6 +66,15 @@ class DTAParser extends SentenceParser implements DTASentence {
 		super(nmea, SentenceId.DTA);
 	}
 
+	/**
+	 * Creates a new instance of DTAParser from validated sentence.
+	 *
+	 * @param layout Layout of DTA sentence String
+	 */
+	DTAParser(SentenceLayout layout) {
+		super(layout, SentenceId.DTA);
+	}
+
 	/**
 	 * Creates a new instance of DTAParser.
 	 *
@@ -75,6 +84,16 @@ class DTAParser extends SentenceParser implements DTASentence {
 		super(nmea, type);
 	}
 
+	/**
+	 * Creates a new instance from validated sentence.
+	 *
+	 * @param layout Layout of sentence String
+	 * @param type Expected sentence ID
+	 */
+	protected DTAParser(SentenceLayout layout, SentenceId type) {
+		super(layout, type);
+	}
+
 	/**
 	 * Creates a new instance of DTAParser with specified type and data fields.
 	 *
@@ -86,11 +105,18 @@ class DTAParser extends SentenceParser implements DTASentence {
 		super(talker, type, size);
 	}
 
+	/**
+	 * Returns the field offset, -1 if channel number field is omitted.
+	 */
+	private int getOffset() {
+		return getFieldCount() >= 8 ? 0 : -1;
+	}
+
 	/**
 	 * Returns the field index fixed with possible offset.
 	*/
 	private int getFieldIndex(int field) {
-		return offset + field;
+		return getOffset() + field;
 	}
 	
 	/*
@@ -99,7 +125,7 @@ class DTAParser extends SentenceParser implements DTASentence {
 	 */
 	@Override
 	public int getChannelNumber() {
-		if (offset == -1) {
+		if (getOffset() == -1) {
 			return 1;
 		}
 		return getIntValue(CHANNEL_NUMBER);
@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.DTBSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
 /**
@@ -52,6 +53,15 @@ class DTBParser extends DTAParser implements DTBSentence {
 		super(nmea, SentenceId.DTB);
 	}
 
+	/**
+	 * Creates a new instance of DTBParser from validated sentence.
+	 *
+	 * @param layout Layout of DTB sentence String
+	 */
+	DTBParser(SentenceLayout layout) {
+		super(layout, SentenceId.DTB);
+	}
+
 	/**
 	 * Gets the hard-coded channel for GasFinder2. Since only GasFinder2
 	 * will send a DTB sentence, and since only GasFinderMC has channels,
@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.DTMSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
 /**
@@ -49,6 +50,15 @@ class DTMParser extends SentenceParser implements DTMSentence {
 		super(nmea, SentenceId.DTM);
 	}
 
+	/**
+	 * Creates a new instance of DTMParser from validated sentence.
+	 *
+	 * @param layout Layout of DTM sentence String
+	 */
+	DTMParser(SentenceLayout layout) {
+		super(layout, SentenceId.DTM);
+	}
+
 	/**
 	 * Creates a new empty instance of DTMParser.
 	 *
@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.GBSSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.Time;
 
@@ -61,6 +62,15 @@ class GBSParser extends SentenceParser implements GBSSentence {
         super(nmea, SentenceId.GBS);
     }
 
+    /**
+     * Creates a new instance of GBSParser from validated sentence.
+     *
+     * @param layout Layout of GBS sentence String
+     */
+    GBSParser(SentenceLayout layout) {
+        super(layout, SentenceId.GBS);
+    }
+
     @Override
     public double getLatitudeError() {
         return getDoubleValue(LAT_ERROR);
@@ -133,7 +143,7 @@ class GBSParser extends SentenceParser implements GBSSentence {
 
     @Override
     public Time getTime() {
-        return new Time(getStringValue(UTC));
+        return getTimeValue(UTC);
     }
 
     @Override
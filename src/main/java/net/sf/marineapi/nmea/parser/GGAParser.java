@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.GGASentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.GpsFixQuality;
 import net.sf.marineapi.nmea.util.Position;
@@ -62,6 +63,15 @@ class GGAParser extends PositionParser implements GGASentence {
 		super(nmea, SentenceId.GGA);
 	}
 
+	/**
+	 * Creates a new instance of GGAParser from validated sentence.
+	 *
+	 * @param layout Layout of GGA sentence String
+	 */
+	GGAParser(SentenceLayout layout) {
+		super(layout, SentenceId.GGA);
+	}
+
 	/**
 	 * Creates GSA parser with empty sentence.
 	 * 
@@ -79,6 +89,22 @@ class GGAParser extends PositionParser implements GGASentence {
 		return getDoubleValue(ALTITUDE);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.GGASentence#getAltitude(double)
+	 */
+	public double getAltitude(double defaultValue) {
+		return getDoubleValue(ALTITUDE, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.GGASentence#hasAltitude()
+	 */
+	public boolean hasAltitude() {
+		return hasValue(ALTITUDE);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.GGASentence#getAltitudeUnits()
@@ -100,6 +126,22 @@ class GGAParser extends PositionParser implements GGASentence {
 		return getDoubleValue(DGPS_AGE);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.GGASentence#getDgpsAge(double)
+	 */
+	public double getDgpsAge(double defaultValue) {
+		return getDoubleValue(DGPS_AGE, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.GGASentence#hasDgpsAge()
+	 */
+	public boolean hasDgpsAge() {
+		return hasValue(DGPS_AGE);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.GGASentence#getDgpsStationId()
@@ -124,6 +166,22 @@ class GGAParser extends PositionParser implements GGASentence {
 		return getDoubleValue(GEOIDAL_HEIGHT);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.GGASentence#getGeoidalHeight(double)
+	 */
+	public double getGeoidalHeight(double defaultValue) {
+		return getDoubleValue(GEOIDAL_HEIGHT, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.GGASentence#hasGeoidalHeight()
+	 */
+	public boolean hasGeoidalHeight() {
+		return hasValue(GEOIDAL_HEIGHT);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.GGASentence#getGeoidalHeightUnits()
@@ -140,6 +198,22 @@ class GGAParser extends PositionParser implements GGASentence {
 		return getDoubleValue(HORIZONTAL_DILUTION);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.GGASentence#getHorizontalDOP(double)
+	 */
+	public double getHorizontalDOP(double defaultValue) {
+		return getDoubleValue(HORIZONTAL_DILUTION, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.GGASentence#hasHorizontalDOP()
+	 */
+	public boolean hasHorizontalDOP() {
+		return hasValue(HORIZONTAL_DILUTION);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.PositionSentence#getPosition()
@@ -168,13 +242,28 @@ class GGAParser extends PositionParser implements GGASentence {
 		return getIntValue(SATELLITES_IN_USE);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.GGASentence#getSatelliteCount(int)
+	 */
+	public int getSatelliteCount(int defaultValue) {
+		return getIntValue(SATELLITES_IN_USE, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.GGASentence#hasSatelliteCount()
+	 */
+	public boolean hasSatelliteCount() {
+		return hasValue(SATELLITES_IN_USE);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.TimeSentence#getTime()
 	 */
 	public Time getTime() {
-		String str = getStringValue(UTC_TIME);
-		return new Time(str);
+		return getTimeValue(UTC_TIME);
 	}
 
 	/*
@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.GLLSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.DataStatus;
 import net.sf.marineapi.nmea.util.FaaMode;
@@ -55,6 +56,15 @@ class GLLParser extends PositionParser implements GLLSentence {
 		super(nmea, SentenceId.GLL);
 	}
 
+	/**
+	 * Creates a new instance of GLLParser from validated sentence.
+	 *
+	 * @param layout Layout of GLL sentence String
+	 */
+	GLLParser(SentenceLayout layout) {
+		super(layout, SentenceId.GLL);
+	}
+
 	/**
 	 * Creates GSA parser with empty sentence.
 	 *
@@ -93,8 +103,7 @@ class GLLParser extends PositionParser implements GLLSentence {
 	 * @see net.sf.marineapi.nmea.sentence.TimeSentence#getTime()
 	 */
 	public Time getTime() {
-		String str = getStringValue(UTC_TIME);
-		return new Time(str);
+		return getTimeValue(UTC_TIME);
 	}
 
 	/*
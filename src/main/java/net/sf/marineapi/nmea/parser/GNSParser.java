@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.GNSSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.Position;
 import net.sf.marineapi.nmea.util.Time;
@@ -61,6 +62,15 @@ class GNSParser extends PositionParser implements GNSSentence {
         super(nmea, SentenceId.GNS);
     }
 
+    /**
+     * Creates a new instance of GNSParser from validated sentence.
+     *
+     * @param layout Layout of GNS sentence String
+     */
+    GNSParser(SentenceLayout layout) {
+        super(layout, SentenceId.GNS);
+    }
+
     /**
      * Constructor for empty GNS sentence.
      *
@@ -74,7 +84,7 @@ class GNSParser extends PositionParser implements GNSSentence {
 
     @Override
     public Time getTime() {
-        return new Time(getStringValue(UTC_TIME));
+        return getTimeValue(UTC_TIME);
     }
 
     @Override
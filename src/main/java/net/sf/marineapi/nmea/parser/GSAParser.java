@@ -25,6 +25,7 @@ import java.util.List;
 
 import net.sf.marineapi.nmea.sentence.GSASentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.FaaMode;
 import net.sf.marineapi.nmea.util.GpsFixStatus;
@@ -55,6 +56,15 @@ class GSAParser extends SentenceParser implements GSASentence {
 		super(nmea, SentenceId.GSA);
 	}
 
+	/**
+	 * Creates a new instance of GSAParser from validated sentence.
+	 *
+	 * @param layout Layout of GSA sentence String
+	 */
+	GSAParser(SentenceLayout layout) {
+		super(layout, SentenceId.GSA);
+	}
+
 	/**
 	 * Creates GSA parser with empty sentence.
 	 * 
@@ -80,6 +90,22 @@ class GSAParser extends SentenceParser implements GSASentence {
 		return getDoubleValue(HORIZONTAL_DOP);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.GSASentence#getHorizontalDOP(double)
+	 */
+	public double getHorizontalDOP(double defaultValue) {
+		return getDoubleValue(HORIZONTAL_DOP, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.GSASentence#hasHorizontalDOP()
+	 */
+	public boolean hasHorizontalDOP() {
+		return hasValue(HORIZONTAL_DOP);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.GSASentence#getMode()
@@ -96,6 +122,22 @@ class GSAParser extends SentenceParser implements GSASentence {
 		return getDoubleValue(POSITION_DOP);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.GSASentence#getPositionDOP(double)
+	 */
+	public double getPositionDOP(double defaultValue) {
+		return getDoubleValue(POSITION_DOP, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.GSASentence#hasPositionDOP()
+	 */
+	public boolean hasPositionDOP() {
+		return hasValue(POSITION_DOP);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.GSASentence#getSatelliteIds()
@@ -118,6 +160,22 @@ class GSAParser extends SentenceParser implements GSASentence {
 		return getDoubleValue(VERTICAL_DOP);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.GSASentence#getVerticalDOP(double)
+	 */
+	public double getVerticalDOP(double defaultValue) {
+		return getDoubleValue(VERTICAL_DOP, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.GSASentence#hasVerticalDOP()
+	 */
+	public boolean hasVerticalDOP() {
+		return hasValue(VERTICAL_DOP);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see
@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.GSTSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.Time;
 
@@ -53,6 +54,15 @@ class GSTParser extends SentenceParser implements GSTSentence {
 		super(nmea, SentenceId.GST);
 	}
 
+	/**
+	 * Creates a new instance of GSTParser from validated sentence.
+	 *
+	 * @param layout Layout of GST sentence String
+	 */
+	GSTParser(SentenceLayout layout) {
+		super(layout, SentenceId.GST);
+	}
+
 	/**
 	 * Creates GSA parser with empty sentence.
 	 *
@@ -67,8 +77,7 @@ class GSTParser extends SentenceParser implements GSTSentence {
 	 * @see net.sf.marineapi.nmea.sentence.TimeSentence#getTime()
 	 */
 	public Time getTime() {
-		String str = getStringValue(UTC_TIME);
-		return new Time(str);
+		return getTimeValue(UTC_TIME);
 	}
 
 	/*
@@ -25,6 +25,7 @@ import java.util.List;
 
 import net.sf.marineapi.nmea.sentence.GSVSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.SatelliteInfo;
 
@@ -57,6 +58,15 @@ class GSVParser extends SentenceParser implements GSVSentence {
         super(nmea, SentenceId.GSV);
     }
 
+    /**
+     * Creates a new instance of GSVParser from validated sentence.
+     *
+     * @param layout Layout of GSV sentence String
+     */
+    GSVParser(SentenceLayout layout) {
+        super(layout, SentenceId.GSV);
+    }
+
     /**
      * Creates an GSV parser with empty sentence.
      *
@@ -82,26 +92,27 @@ class GSVParser extends SentenceParser implements GSVSentence {
 
         List<SatelliteInfo> satellites = new ArrayList<SatelliteInfo>(4);
 
+        final int count = getFieldCount();
         for (int idf : ID_FIELDS) {
+            if (idf + AZIMUTH >= count) {
+                // less than four satellites, give up
+                break;
+            }
+            if (!hasValue(idf) || !hasValue(idf + ELEVATION) || !hasValue(idf + AZIMUTH)) {
+                // nevermind missing satellite info
+                continue;
+            }
             try {
                 String id = getStringValue(idf);
                 int elev = getIntValue(idf + ELEVATION);
                 int azm = getIntValue(idf + AZIMUTH);
-                int snr = 0;
 
 //              In some case, the SNR field will be null
 //              Example: $GLGSV,3,1,09,67,10,065,26,68,36,015,21,69,27,315,31,77,11,035,*6C
-                try {
-                    snr = getIntValue(idf + NOISE);
-                } catch (Exception e) {
-                    //ignore
-                }
+                int snr = getIntValue(idf + NOISE, 0);
                 satellites.add(new SatelliteInfo(id, elev, azm, snr));
-            } catch (DataNotAvailableException e) {
-                // nevermind missing satellite info
-            } catch (IndexOutOfBoundsException e) {
-                // less than four satellites, give up
-                break;
+            } catch (ParseException e) {
+                // nevermind malformed satellite info
             }
         }
 
@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.HDGSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.CompassPoint;
 
@@ -47,6 +48,15 @@ class HDGParser extends SentenceParser implements HDGSentence {
 		super(nmea, SentenceId.HDG);
 	}
 
+	/**
+	 * Creates a new instance of HDGParser from validated sentence.
+	 *
+	 * @param layout Layout of HDG sentence String
+	 */
+	HDGParser(SentenceLayout layout) {
+		super(layout, SentenceId.HDG);
+	}
+
 	/**
 	 * Creates a new empty HDG parser.
 	 * 
@@ -69,6 +79,27 @@ class HDGParser extends SentenceParser implements HDGSentence {
 		return dir == CompassPoint.WEST ? -dev : dev;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.HDGSentence#getDeviation(double)
+	 */
+	public double getDeviation(double defaultValue) {
+		try {
+			return hasDeviation() ? getDeviation() : defaultValue;
+		} catch (DataNotAvailableException | IllegalArgumentException e) {
+			// malformed value or direction
+			return defaultValue;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.HDGSentence#hasDeviation()
+	 */
+	public boolean hasDeviation() {
+		return hasValue(DEVIATION);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.HDGSentence#getHeading()
@@ -77,6 +108,22 @@ class HDGParser extends SentenceParser implements HDGSentence {
 		return getDoubleValue(HEADING);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.HeadingSentence#getHeading(double)
+	 */
+	public double getHeading(double defaultValue) {
+		return getDoubleValue(HEADING, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.HeadingSentence#hasHeading()
+	 */
+	public boolean hasHeading() {
+		return hasValue(HEADING);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.HDGSentence#getVariation()
@@ -90,6 +137,27 @@ class HDGParser extends SentenceParser implements HDGSentence {
 		return dir == CompassPoint.WEST ? -var : var;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.HDGSentence#getVariation(double)
+	 */
+	public double getVariation(double defaultValue) {
+		try {
+			return hasVariation() ? getVariation() : defaultValue;
+		} catch (DataNotAvailableException | IllegalArgumentException e) {
+			// malformed value or direction
+			return defaultValue;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.HDGSentence#hasVariation()
+	 */
+	public boolean hasVariation() {
+		return hasValue(VARIATION);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.HeadingSentence#isTrue()
@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.HDMSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
 /**
@@ -43,6 +44,15 @@ class HDMParser extends SentenceParser implements HDMSentence {
 		super(nmea, SentenceId.HDM);
 	}
 
+	/**
+	 * Creates a new instance of HDMParser from validated sentence.
+	 *
+	 * @param layout Layout of HDM sentence String
+	 */
+	HDMParser(SentenceLayout layout) {
+		super(layout, SentenceId.HDM);
+	}
+
 	/**
 	 * Creates a new empty HDM sentence.
 	 * 
@@ -61,6 +71,22 @@ class HDMParser extends SentenceParser implements HDMSentence {
 		return getDoubleValue(HEADING);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.HeadingSentence#getHeading(double)
+	 */
+	public double getHeading(double defaultValue) {
+		return getDoubleValue(HEADING, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.HeadingSentence#hasHeading()
+	 */
+	public boolean hasHeading() {
+		return hasValue(HEADING);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.HeadingSentence#isTrue()
@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.HDTSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
 /**
@@ -43,6 +44,15 @@ class HDTParser extends SentenceParser implements HDTSentence {
 		super(nmea, SentenceId.HDT);
 	}
 
+	/**
+	 * Creates a new instance of HDTParser from validated sentence.
+	 *
+	 * @param layout Layout of HDT sentence String
+	 */
+	HDTParser(SentenceLayout layout) {
+		super(layout, SentenceId.HDT);
+	}
+
 	/**
 	 * Creates a new empty HDT sentence.
 	 * 
@@ -61,6 +71,22 @@ class HDTParser extends SentenceParser implements HDTSentence {
 		return getDoubleValue(HEADING);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.HeadingSentence#getHeading(double)
+	 */
+	public double getHeading(double defaultValue) {
+		return getDoubleValue(HEADING, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.HeadingSentence#hasHeading()
+	 */
+	public boolean hasHeading() {
+		return hasValue(HEADING);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.HeadingSentence#isTrue()
@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.HTCSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.DataStatus;
 import net.sf.marineapi.nmea.util.Direction;
@@ -53,6 +54,10 @@ class HTCParser extends SentenceParser implements HTCSentence {
         super(nmea, SentenceId.HTC);
     }
 
+    HTCParser(SentenceLayout layout) {
+        super(layout, SentenceId.HTC);
+    }
+
     public HTCParser(TalkerId talker) {
         super(talker, SentenceId.HTC, 13);
     }
@@ -61,6 +66,10 @@ class HTCParser extends SentenceParser implements HTCSentence {
         super(nmea, type);
     }
 
+    HTCParser(SentenceLayout layout, SentenceId type) {
+        super(layout, type);
+    }
+
     HTCParser(TalkerId tid, SentenceId sid, int size) {
         super(tid, sid, size);
     }
@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.HTDSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.DataStatus;
 
@@ -46,6 +47,15 @@ class HTDParser extends HTCParser implements HTDSentence {
 		super(nmea, SentenceId.HTD);
 	}
 
+	/**
+	 * Creates a new instance of HTDParser from validated sentence.
+	 *
+	 * @param layout Layout of HTD sentence String
+	 */
+	HTDParser(SentenceLayout layout) {
+		super(layout, SentenceId.HTD);
+	}
+
 	/**
 	 * Constructor for empty HTD sentence.
 	 *
@@ -91,6 +101,16 @@ class HTDParser extends HTCParser implements HTDSentence {
 		}
 	}
 
+	@Override
+	public double getHeading(double defaultValue) {
+		return getDoubleValue(HEADING, defaultValue);
+	}
+
+	@Override
+	public boolean hasHeading() {
+		return hasValue(HEADING);
+	}
+
 	@Override
 	public boolean isTrue() {
 		return isHeadingTrue();
@@ -21,6 +21,7 @@
 package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.MDASentence;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
 /**
@@ -144,6 +145,15 @@ class MDAParser extends SentenceParser implements MDASentence {
         super(nmea, MDA_SENTENCE_ID);
     }
 
+    /**
+     * Creates a new instance of MDAParser from validated sentence.
+     *
+     * @param layout Layout of MDA sentence String
+     */
+    MDAParser(SentenceLayout layout) {
+        super(layout, MDA_SENTENCE_ID);
+    }
+
     /**
      * Creates a new empty instance of MWVParser.
      * 
@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.MHUSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
 /**
@@ -47,6 +48,15 @@ class MHUParser extends SentenceParser implements MHUSentence {
         super(nmea, SentenceId.MHU);
     }
 
+    /**
+     * Creates a new instance of MHUParser from validated sentence.
+     *
+     * @param layout Layout of MHU sentence String
+     */
+    MHUParser(SentenceLayout layout) {
+        super(layout, SentenceId.MHU);
+    }
+
     /**
      * Constructor for fresh MHU sentence.
      *
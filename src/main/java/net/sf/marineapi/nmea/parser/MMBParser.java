@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.MMBSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
 /**
@@ -47,6 +48,15 @@ class MMBParser extends SentenceParser implements MMBSentence {
         super(nmea, SentenceId.MMB);
     }
 
+    /**
+     * Creates a new instance of MMBParser from validated sentence.
+     *
+     * @param layout Layout of MMB sentence String
+     */
+    MMBParser(SentenceLayout layout) {
+        super(layout, SentenceId.MMB);
+    }
+
     /**
      * Constructs a fresh MMB parser.
      *
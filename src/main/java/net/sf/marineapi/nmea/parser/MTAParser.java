@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.MTASentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.Units;
 
@@ -44,6 +45,15 @@ class MTAParser extends SentenceParser implements MTASentence {
 		super(mta, SentenceId.MTA);
 	}
 
+	/**
+	 * Creates a new instance of MTAParser from validated sentence.
+	 *
+	 * @param layout Layout of MTA sentence String
+	 */
+	MTAParser(SentenceLayout layout) {
+		super(layout, SentenceId.MTA);
+	}
+
 	/**
 	 * Constructor for empty MTA sentence.
 	 *
@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.MTWSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.Units;
 
@@ -44,6 +45,15 @@ class MTWParser extends SentenceParser implements MTWSentence {
 		super(nmea);
 	}
 
+	/**
+	 * Creates a new instance of MTWParser from validated sentence.
+	 *
+	 * @param layout Layout of MTW sentence String
+	 */
+	MTWParser(SentenceLayout layout) {
+		super(layout);
+	}
+
 	/**
 	 * Creates new MTW parse without data.
 	 * 
@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.MWDSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
 /**
@@ -80,6 +81,15 @@ class MWDParser extends SentenceParser implements MWDSentence {
         super(nmea, SentenceId.MWD);
     }
 
+    /**
+     * Creates a new instance of MWDParser from validated sentence.
+     *
+     * @param layout Layout of MWD sentence String
+     */
+    MWDParser(SentenceLayout layout) {
+        super(layout, SentenceId.MWD);
+    }
+
     /**
      * Creates a new empty instance of MWDParser.
      * 
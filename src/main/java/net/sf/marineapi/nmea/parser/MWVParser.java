@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.MWVSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.DataStatus;
 import net.sf.marineapi.nmea.util.Units;
@@ -48,6 +49,15 @@ class MWVParser extends SentenceParser implements MWVSentence {
 		super(nmea, SentenceId.MWV);
 	}
 
+	/**
+	 * Creates a new instance of MWVParser from validated sentence.
+	 *
+	 * @param layout Layout of MWV sentence String
+	 */
+	MWVParser(SentenceLayout layout) {
+		super(layout, SentenceId.MWV);
+	}
+
 	/**
 	 * Creates a new empty instance of MWVParser.
 	 * 
@@ -66,6 +76,22 @@ class MWVParser extends SentenceParser implements MWVSentence {
 		return getDoubleValue(WIND_ANGLE);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.MWVSentence#getAngle(double)
+	 */
+	public double getAngle(double defaultValue) {
+		return getDoubleValue(WIND_ANGLE, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.MWVSentence#hasAngle()
+	 */
+	public boolean hasAngle() {
+		return hasValue(WIND_ANGLE);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.MWVSentence#getSpeed()
@@ -74,6 +100,22 @@ class MWVParser extends SentenceParser implements MWVSentence {
 		return getDoubleValue(WIND_SPEED);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.MWVSentence#getSpeed(double)
+	 */
+	public double getSpeed(double defaultValue) {
+		return getDoubleValue(WIND_SPEED, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.MWVSentence#hasSpeed()
+	 */
+	public boolean hasSpeed() {
+		return hasValue(WIND_SPEED);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.MWVSentence#getSpeedUnit()
@@ -24,6 +24,7 @@ import java.util.Arrays;
 
 import net.sf.marineapi.nmea.sentence.OSDSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.DataStatus;
 import net.sf.marineapi.nmea.util.ReferenceSystem;
@@ -57,6 +58,15 @@ class OSDParser extends SentenceParser implements OSDSentence {
         super(nmea, SentenceId.OSD);
     }
 
+	/**
+	 * Creates a new instance of OSDParser from validated sentence.
+	 *
+	 * @param layout Layout of OSD sentence String
+	 */
+	OSDParser(SentenceLayout layout) {
+		super(layout, SentenceId.OSD);
+	}
+
     /**
 	 * Creates OSD parser with empty sentence.
 	 *
@@ -20,13 +20,13 @@
  */
 package net.sf.marineapi.nmea.parser;
 
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.CompassPoint;
 import net.sf.marineapi.nmea.util.Position;
+import net.sf.marineapi.util.NumberFormatter;
+import net.sf.marineapi.util.NumberParser;
 
 /**
  * <p>
@@ -52,6 +52,16 @@ public abstract class PositionParser extends SentenceParser {
 		super(nmea, type);
 	}
 
+	/**
+	 * Creates a new instance from validated sentence.
+	 *
+	 * @param layout Layout of sentence String
+	 * @param type Expected sentence ID
+	 */
+	protected PositionParser(SentenceLayout layout, SentenceId type) {
+		super(layout, type);
+	}
+
 	/**
 	 * Constructor for empty sentence.
 	 *
@@ -98,8 +108,11 @@ public abstract class PositionParser extends SentenceParser {
 	 * @return Degrees decimal value
 	 */
 	protected double parseDegrees(int index) {
-		String field = getStringValue(index);
-		return PositionParser.parseDegrees(field);
+		String source = getFieldSource(index);
+		int start = getFieldStart(index);
+		int end = getFieldEnd(index);
+		checkValue(start, end);
+		return parseDegrees(source, start, end);
 	}
 
 	/**
@@ -153,13 +166,10 @@ public abstract class PositionParser extends SentenceParser {
 		int deg = (int) Math.floor(lat);
 		double min = (lat - deg) * 60;
 
-		DecimalFormat df = new DecimalFormat("00.000");
-		DecimalFormatSymbols dfs = new DecimalFormatSymbols();
-		dfs.setDecimalSeparator('.');
-		df.setDecimalFormatSymbols(dfs);
-
-		String result = String.format("%02d%s", deg, df.format(min));
-		setStringValue(index, result);
+		StringBuilder sb = new StringBuilder(10);
+		NumberFormatter.appendInt(sb, deg, 2);
+		NumberFormatter.appendDouble(sb, min, 2, 3);
+		setStringValue(index, sb.toString());
 	}
 
 	/**
@@ -175,13 +185,10 @@ public abstract class PositionParser extends SentenceParser {
 		int deg = (int) Math.floor(lon);
 		double min = (lon - deg) * 60;
 
-		DecimalFormat nf = new DecimalFormat("00.000");
-		DecimalFormatSymbols dfs = new DecimalFormatSymbols();
-		dfs.setDecimalSeparator('.');
-		nf.setDecimalFormatSymbols(dfs);
-
-		String result = String.format("%03d%s", deg, nf.format(min));
-		setStringValue(index, result);
+		StringBuilder sb = new StringBuilder(10);
+		NumberFormatter.appendInt(sb, deg, 3);
+		NumberFormatter.appendDouble(sb, min, 2, 3);
+		setStringValue(index, sb.toString());
 	}
 
 	/**
@@ -233,14 +240,32 @@ public abstract class PositionParser extends SentenceParser {
 	 * @return Degrees decimal value
 	 */
 	public static double parseDegrees(String degreeStr) {
+		return parseDegrees(degreeStr, 0, degreeStr.length());
+	}
 
-		int dotIndex = degreeStr.indexOf(".");
-
-		String degStr = dotIndex > 2 ? degreeStr.substring(0, dotIndex - 2) : "0";
-		String minStr = dotIndex > 2 ? degreeStr.substring(dotIndex - 2) : degreeStr;
+	/**
+	 * Parse latitude or longitude degrees and minutes from the specified
+	 * range of chars.
+	 *
+	 * @param s Chars containing the degrees/minutes value
+	 * @param start Index where the value begins
+	 * @param end Index where the value ends (exclusive)
+	 * @return Degrees decimal value
+	 * @see #parseDegrees(String)
+	 */
+	private static double parseDegrees(CharSequence s, int start, int end) {
+
+		int dotIndex = -1;
+		for (int i = start; i < end; i++) {
+			if (s.charAt(i) == '.') {
+				dotIndex = i - start;
+				break;
+			}
+		}
 
-		int deg = Integer.parseInt(degStr);
-		double min = Double.parseDouble(minStr);
+		int split = dotIndex > 2 ? start + dotIndex - 2 : start;
+		int deg = split > start ? NumberParser.parseInt(s, start, split) : 0;
+		double min = NumberParser.parseDouble(s, split, end);
 
 		return deg + (min / 60);
 	}
@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.RMBSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.DataStatus;
 import net.sf.marineapi.nmea.util.Direction;
@@ -59,6 +60,15 @@ class RMBParser extends PositionParser implements RMBSentence {
 		super(nmea, SentenceId.RMB);
 	}
 
+	/**
+	 * Creates a new instance of RMBParser from validated sentence.
+	 *
+	 * @param layout Layout of RMB sentence String
+	 */
+	RMBParser(SentenceLayout layout) {
+		super(layout, SentenceId.RMB);
+	}
+
 	/**
 	 * Creates RMB parser with empty sentence.
 	 * 
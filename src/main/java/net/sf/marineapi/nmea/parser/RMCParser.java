@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.RMCSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.CompassPoint;
 import net.sf.marineapi.nmea.util.DataStatus;
@@ -62,6 +63,15 @@ class RMCParser extends PositionParser implements RMCSentence {
 		super(nmea, SentenceId.RMC);
 	}
 
+	/**
+	 * Creates a new instance of RMCParser from validated sentence.
+	 *
+	 * @param layout Layout of RMC sentence String
+	 */
+	RMCParser(SentenceLayout layout) {
+		super(layout, SentenceId.RMC);
+	}
+
 	/**
 	 * Creates a RMC parser with empty sentence.
 	 *
@@ -87,12 +97,28 @@ class RMCParser extends PositionParser implements RMCSentence {
 		return getDoubleValue(COURSE);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.RMCSentence#getCourse(double)
+	 */
+	public double getCourse(double defaultValue) {
+		return getDoubleValue(COURSE, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.RMCSentence#hasCourse()
+	 */
+	public boolean hasCourse() {
+		return hasValue(COURSE);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.DateSentence#getDate()
 	 */
 	public Date getDate() {
-		return new Date(getStringValue(UTC_DATE));
+		return getDateValue(UTC_DATE);
 	}
 
 	/*
@@ -133,6 +159,22 @@ class RMCParser extends PositionParser implements RMCSentence {
 		return getDoubleValue(SPEED);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.RMCSentence#getSpeed(double)
+	 */
+	public double getSpeed(double defaultValue) {
+		return getDoubleValue(SPEED, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.RMCSentence#hasSpeed()
+	 */
+	public boolean hasSpeed() {
+		return hasValue(SPEED);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.RMCSentence#getDataStatus()
@@ -146,8 +188,7 @@ class RMCParser extends PositionParser implements RMCSentence {
 	 * @see net.sf.marineapi.nmea.sentence.TimeSentence#getTime()
 	 */
 	public Time getTime() {
-		String str = getStringValue(UTC_TIME);
-		return new Time(str);
+		return getTimeValue(UTC_TIME);
 	}
 
 	/*
@@ -162,6 +203,27 @@ class RMCParser extends PositionParser implements RMCSentence {
 		return variation;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.RMCSentence#getVariation(double)
+	 */
+	public double getVariation(double defaultValue) {
+		try {
+			return hasVariation() ? getVariation() : defaultValue;
+		} catch (DataNotAvailableException | IllegalArgumentException e) {
+			// malformed value or direction
+			return defaultValue;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.RMCSentence#hasVariation()
+	 */
+	public boolean hasVariation() {
+		return hasValue(MAG_VARIATION);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.RMCSentence#setCourse(double)
@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.ROTSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.DataStatus;
 
@@ -44,6 +45,15 @@ class ROTParser extends SentenceParser implements ROTSentence {
 		super(nmea, SentenceId.ROT);
 	}
 
+	/**
+	 * Creates a new instance of ROTParser from validated sentence.
+	 *
+	 * @param layout Layout of ROT sentence String
+	 */
+	ROTParser(SentenceLayout layout) {
+		super(layout, SentenceId.ROT);
+	}
+
 	/**
 	 * Creates a new empty ROT sentence.
 	 *
@@ -21,6 +21,7 @@
 package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.RPMSentence;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.DataStatus;
 
@@ -46,6 +47,15 @@ class RPMParser extends SentenceParser implements RPMSentence {
 		super(nmea);
 	}
 
+	/**
+	 * Creates a new instance of RPMParser from validated sentence.
+	 *
+	 * @param layout Layout of RPM sentence String
+	 */
+	RPMParser(SentenceLayout layout) {
+		super(layout);
+	}
+
 	/**
 	 * Creates a new empty parser.
 	 *
@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.RSASentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.DataStatus;
 import net.sf.marineapi.nmea.util.Side;
@@ -47,6 +48,15 @@ class RSAParser extends SentenceParser implements RSASentence {
 		super(nmea, SentenceId.RSA);
 	}
 
+	/**
+	 * Creates a new instance of RSAParser from validated sentence.
+	 *
+	 * @param layout Layout of RSA sentence String
+	 */
+	RSAParser(SentenceLayout layout) {
+		super(layout, SentenceId.RSA);
+	}
+
 	/**
 	 * Creates a new instance of RSAParser with empty data fields.
 	 * 
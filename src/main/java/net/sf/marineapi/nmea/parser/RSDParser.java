@@ -24,6 +24,7 @@ import java.util.Arrays;
 
 import net.sf.marineapi.nmea.sentence.RSDSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.DisplayRotation;
 import net.sf.marineapi.nmea.util.Units;
@@ -60,6 +61,15 @@ class RSDParser extends SentenceParser implements RSDSentence {
         super(nmea, SentenceId.RSD);
     }
 
+	/**
+	 * Creates a new instance of RSDParser from validated sentence.
+	 *
+	 * @param layout Layout of RSD sentence String
+	 */
+	RSDParser(SentenceLayout layout) {
+		super(layout, SentenceId.RSD);
+	}
+
     /**
 	 * Creates RSD parser with empty sentence.
 	 *
@@ -25,6 +25,7 @@ import java.util.List;
 
 import net.sf.marineapi.nmea.sentence.RTESentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.RouteType;
 
@@ -51,6 +52,15 @@ class RTEParser extends SentenceParser implements RTESentence {
 		super(nmea, SentenceId.RTE);
 	}
 
+	/**
+	 * Creates a new instance of RTEParser from validated sentence.
+	 *
+	 * @param layout Layout of RTE sentence String
+	 */
+	RTEParser(SentenceLayout layout) {
+		super(layout, SentenceId.RTE);
+	}
+
 	/**
 	 * Creates RTE parser with empty sentence. The created RTE sentence contains
 	 * none waypoint ID fields.
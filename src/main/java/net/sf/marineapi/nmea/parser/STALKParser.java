@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.STALKSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
 import java.util.ArrayList;
@@ -49,6 +50,15 @@ class STALKParser extends SentenceParser implements STALKSentence {
         super(nmea, SentenceId.ALK);
     }
 
+    /**
+     * Creates a new instance of STALKParser from validated sentence.
+     *
+     * @param layout Layout of $STALK sentence String
+     */
+    STALKParser(SentenceLayout layout) {
+        super(layout, SentenceId.ALK);
+    }
+
     /**
      * Constructor with TalkerId, mostly for compatibility with SentenceFactory.
      * Does not set given talker id, but uses the STALK default 'ST'.
@@ -20,16 +20,21 @@
  */
 package net.sf.marineapi.nmea.parser;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
 
 import net.sf.marineapi.nmea.sentence.Sentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
+import net.sf.marineapi.nmea.sentence.SentenceValidator;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
 /**
@@ -52,7 +57,9 @@ import net.sf.marineapi.nmea.sentence.TalkerId;
  * parameter to {@link SentenceParser#SentenceParser(TalkerId, String, int)}
  * with sentence type and the expected number of data fields.</li>
  * <li>Register {@code XYZParser} in {@code SentenceFactory} by using
- * the {@link #registerParser(String, Class)} method.</li>
+ * the {@link #registerParser(String, Class)} method, or by passing the
+ * constructors to {@link #registerParser(String, Function, Function)}, e.g.
+ * {@code registerParser("XYZ", XYZParser::new, XYZParser::new)}.</li>
  * <li>Use {@link SentenceFactory#createParser(String)} or
  * {@link SentenceFactory#createParser(TalkerId, String)} to obtain an instance
  * of your parser. In addition, {@link net.sf.marineapi.nmea.io.SentenceReader}
@@ -70,8 +77,70 @@ import net.sf.marineapi.nmea.sentence.TalkerId;
  */
 public class SentenceFactory {
 
-	// map that holds registered sentence types and parser classes
-	private static Map<String, Class<? extends SentenceParser>> parsers;
+	// map that holds registered sentence types and parser constructors
+	private static Map<String, Registration> parsers;
+
+	// registrations of SentenceId types by ordinal, mirrors the map
+	private static final AtomicReferenceArray<Registration> INDEX =
+		new AtomicReferenceArray<>(SentenceId.values().length);
+
+	// parsers of the library, registered by reset()
+	private static final BuiltIn[] BUILT_IN = {
+		new BuiltIn("APB", APBParser.class, APBParser::new, APBParser::new),
+		new BuiltIn("ALK", STALKParser.class, STALKParser::new, STALKParser::new),
+		new BuiltIn("BOD", BODParser.class, BODParser::new, BODParser::new),
+		new BuiltIn("CUR", CURParser.class, CURParser::new, CURParser::new),
+		new BuiltIn("DBT", DBTParser.class, DBTParser::new, DBTParser::new),
+		new BuiltIn("DPT", DPTParser.class, DPTParser::new, DPTParser::new),
+		new BuiltIn("DTM", DTMParser.class, DTMParser::new, DTMParser::new),
+		new BuiltIn("GBS", GBSParser.class, GBSParser::new, GBSParser::new),
+		new BuiltIn("GGA", GGAParser.class, GGAParser::new, GGAParser::new),
+		new BuiltIn("GLL", GLLParser.class, GLLParser::new, GLLParser::new),
+		new BuiltIn("GNS", GNSParser.class, GNSParser::new, GNSParser::new),
+		new BuiltIn("GSA", GSAParser.class, GSAParser::new, GSAParser::new),
+		new BuiltIn("GST", GSTParser.class, GSTParser::new, GSTParser::new),
+		new BuiltIn("GSV", GSVParser.class, GSVParser::new, GSVParser::new),
+		new BuiltIn("HDG", HDGParser.class, HDGParser::new, HDGParser::new),
+		new BuiltIn("HDM", HDMParser.class, HDMParser::new, HDMParser::new),
+		new BuiltIn("HDT", HDTParser.class, HDTParser::new, HDTParser::new),
+		new BuiltIn("HTC", HTCParser.class, HTCParser::new, HTCParser::new),
+		new BuiltIn("HTD", HTDParser.class, HTDParser::new, HTDParser::new),
+		new BuiltIn("MHU", MHUParser.class, MHUParser::new, MHUParser::new),
+		new BuiltIn("MMB", MMBParser.class, MMBParser::new, MMBParser::new),
+		new BuiltIn("MTA", MTAParser.class, MTAParser::new, MTAParser::new),
+		new BuiltIn("MTW", MTWParser.class, MTWParser::new, MTWParser::new),
+		new BuiltIn("MWV", MWVParser.class, MWVParser::new, MWVParser::new),
+		new BuiltIn("OSD", OSDParser.class, OSDParser::new, OSDParser::new),
+		new BuiltIn("RMB", RMBParser.class, RMBParser::new, RMBParser::new),
+		new BuiltIn("RMC", RMCParser.class, RMCParser::new, RMCParser::new),
+		new BuiltIn("RPM", RPMParser.class, RPMParser::new, RPMParser::new),
+		new BuiltIn("ROT", ROTParser.class, ROTParser::new, ROTParser::new),
+		new BuiltIn("RTE", RTEParser.class, RTEParser::new, RTEParser::new),
+		new BuiltIn("RSA", RSAParser.class, RSAParser::new, RSAParser::new),
+		new BuiltIn("RSD", RSDParser.class, RSDParser::new, RSDParser::new),
+		new BuiltIn("TLB", TLBParser.class, TLBParser::new, TLBParser::new),
+		new BuiltIn("TLL", TLLParser.class, TLLParser::new, TLLParser::new),
+		new BuiltIn("TTM", TTMParser.class, TTMParser::new, TTMParser::new),
+		new BuiltIn("TXT", TXTParser.class, TXTParser::new, TXTParser::new),
+		new BuiltIn("UBX", UBXParser.class, UBXParser::new, UBXParser::new),
+		new BuiltIn("VBW", VBWParser.class, VBWParser::new, VBWParser::new),
+		new BuiltIn("VDM", VDMParser.class, VDMParser::new, VDMParser::new),
+		new BuiltIn("VDO", VDOParser.class, VDOParser::new, VDOParser::new),
+		new BuiltIn("VDR", VDRParser.class, VDRParser::new, VDRParser::new),
+		new BuiltIn("VHW", VHWParser.class, VHWParser::new, VHWParser::new),
+		new BuiltIn("VLW", VLWParser.class, VLWParser::new, VLWParser::new),
+		new BuiltIn("VTG", VTGParser.class, VTGParser::new, VTGParser::new),
+		new BuiltIn("VWR", VWRParser.class, VWRParser::new, VWRParser::new),
+		new BuiltIn("VWT", VWTParser.class, VWTParser::new, VWTParser::new),
+		new BuiltIn("WPL", WPLParser.class, WPLParser::new, WPLParser::new),
+		new BuiltIn("XTE", XTEParser.class, XTEParser::new, XTEParser::new),
+		new BuiltIn("XDR", XDRParser.class, XDRParser::new, XDRParser::new),
+		new BuiltIn("ZDA", ZDAParser.class, ZDAParser::new, ZDAParser::new),
+		new BuiltIn("MDA", MDAParser.class, MDAParser::new, MDAParser::new),
+		new BuiltIn("MWD", MWDParser.class, MWDParser::new, MWDParser::new),
+		new BuiltIn("DTA", DTAParser.class, DTAParser::new, DTAParser::new),
+		new BuiltIn("DTB", DTBParser.class, DTBParser::new, DTBParser::new)
+	};
 
 	// singleton factory instance
 	private static final SentenceFactory INSTANCE = new SentenceFactory();
@@ -98,8 +167,77 @@ public class SentenceFactory {
 	 *             implement expected constructors or is otherwise unusable.
 	 */
 	public Sentence createParser(String nmea) {
-		String sid = SentenceId.parseStr(nmea);
-		return createParserImpl(sid, nmea);
+		return createParser(SentenceValidator.validate(nmea));
+	}
+
+	/**
+	 * Creates a parser for a sentence String already scanned by
+	 * {@link SentenceValidator#validate(String)}. Callers that validate the
+	 * String before parsing it may thus pass the layout, instead of having
+	 * the String scanned again.
+	 *
+	 * @param layout Layout of NMEA 0183 sentence String
+	 * @return Sentence parser instance for specified sentence
+	 * @throws IllegalArgumentException If there is no parser registered for the
+	 *             given sentence type
+	 * @throws IllegalStateException If parser is found, but it does not
+	 *             implement expected constructors or is otherwise unusable.
+	 * @see #createParser(String)
+	 */
+	public Sentence createParser(SentenceLayout layout) {
+		return create(resolve(layout).layoutParser, layout);
+	}
+
+	/**
+	 * Returns a parser for specified NMEA 0183 sentence String, reusing the
+	 * parser instance returned previously in current thread for the same
+	 * sentence type. The returned parser is re-pointed to the given sentence
+	 * by {@link SentenceParser#reparse(String)}.
+	 * <p>
+	 * The returned instance is thus valid only until the next call of this
+	 * method for the same sentence type in current thread. Callers must not
+	 * retain it, pass it to other threads or modify it, but copy the values
+	 * needed later, or create an own instance with
+	 * {@link #createParser(String)}.
+	 * </p>
+	 *
+	 * @param nmea NMEA 0183 sentence String
+	 * @return Sentence parser instance for specified sentence
+	 * @throws IllegalArgumentException If there is no parser registered for the
+	 *             given sentence type
+	 * @throws IllegalStateException If parser cannot be created or the
+	 *             sentence is invalid.
+	 */
+	public Sentence reuseParser(String nmea) {
+		return reuseParser(SentenceValidator.validate(nmea));
+	}
+
+	/**
+	 * Returns a parser for a sentence String already scanned by
+	 * {@link SentenceValidator#validate(String)}, reusing the parser instance
+	 * as in {@link #reuseParser(String)}.
+	 *
+	 * @param layout Layout of NMEA 0183 sentence String
+	 * @return Sentence parser instance for specified sentence
+	 * @throws IllegalArgumentException If there is no parser registered for the
+	 *             given sentence type
+	 * @throws IllegalStateException If parser cannot be created or the
+	 *             sentence is invalid.
+	 */
+	public Sentence reuseParser(SentenceLayout layout) {
+		Registration r = resolve(layout);
+		SentenceParser parser = r.reusable.get();
+		if (parser == null) {
+			parser = create(r.layoutParser, layout);
+			r.reusable.set(parser);
+		} else {
+			try {
+				parser.reparse(layout);
+			} catch (RuntimeException e) {
+				throw new IllegalStateException("Unable to reparse sentence", e);
+			}
+		}
+		return parser;
 	}
 
 	/**
@@ -137,7 +275,7 @@ public class SentenceFactory {
 			throw new IllegalArgumentException("TalkerId cannot be null");
 		}
 
-		return createParserImpl(type, talker);
+		return create(getRegistration(type).emptyParser, talker);
 	}
 
 	/**
@@ -171,38 +309,32 @@ public class SentenceFactory {
 	 * can be overridden simply be registering a new parser implementation for
 	 * chosen sentence type. That is, each sentence type can have only one
 	 * parser registered at a time.
+	 * </p>
+	 * <p>
+	 * The parser class must declare public constructors taking
+	 * {@code String} and {@link TalkerId}. A public constructor taking
+	 * {@link SentenceLayout} is used for parsing instead of the former one,
+	 * if declared.
+	 * </p>
 	 *
 	 * @param type Sentence type id, e.g. "GGA" or "GLL".
 	 * @param parser Class of parser implementation for given {@code type}.
 	 */
 	public void registerParser(String type,
 		Class<? extends SentenceParser> parser) {
-		registerParser(parsers, type, parser);
-	}
-
-	/**
-	 * Registers a sentence parser to the given factory. After registration,
-	 * {@link #createParser(String)} method can be used to obtain instances of
-	 * registered parser.
-	 * <p>
-	 * Sentences supported by the library are registered automatically, but they
-	 * can be overridden simply be registering a new parser implementation for
-	 * chosen sentence type. That is, each sentence type can have only one
-	 * parser registered at a time.
-	 *
-	 * @param parsers The provided factory to register the sentence parsers to.
-	 * @param type Sentence type id, e.g. "GGA" or "GLL".
-	 * @param parser Class of parser implementation for given {@code type}.
-	 */
-	private void registerParser(
-			Map<String, Class<? extends SentenceParser>> parsers, String type,
-			Class<? extends SentenceParser> parser) {
 
 		try {
-			parser.getConstructor(new Class[] { String.class });
-			parser.getConstructor(new Class[] { TalkerId.class });
-			parsers.put(type, parser);
-		} catch (SecurityException e) {
+			Function<String, SentenceParser> c = constructor(parser, String.class);
+			Function<TalkerId, SentenceParser> e = constructor(parser, TalkerId.class);
+			Function<SentenceLayout, SentenceParser> p;
+			try {
+				p = constructor(parser, SentenceLayout.class);
+			} catch (NoSuchMethodException ex) {
+				p = layout -> c.apply(layout.getString());
+			}
+			register(parsers, type, parser, p, e);
+			index(type);
+		} catch (SecurityException | IllegalAccessException e) {
 			String msg = "Unable to register parser due security violation";
 			throw new IllegalArgumentException(msg, e);
 		} catch (NoSuchMethodException e) {
@@ -212,6 +344,52 @@ public class SentenceFactory {
 		}
 	}
 
+	/**
+	 * Registers sentence parser constructors to the factory. After
+	 * registration, {@link #createParser(String)} and
+	 * {@link #createParser(TalkerId, String)} methods can be used to obtain
+	 * instances of registered parser. For example:
+	 * <p>
+	 * {@code registerParser("XYZ", XYZParser::new, XYZParser::new);}
+	 * </p>
+	 * Any existing parser for given {@code type} is replaced.
+	 *
+	 * @param type Sentence type id, e.g. "GGA" or "GLL".
+	 * @param parser Function that creates a parser for given sentence String.
+	 * @param emptyParser Function that creates an empty parser with given
+	 *            talker id.
+	 * @throws IllegalArgumentException If either function is {@code null}.
+	 */
+	public void registerParser(String type,
+		Function<String, ? extends SentenceParser> parser,
+		Function<TalkerId, ? extends SentenceParser> emptyParser) {
+
+		if (parser == null || emptyParser == null) {
+			throw new IllegalArgumentException("Parser functions cannot be null");
+		}
+		register(parsers, type, null, l -> parser.apply(l.getString()),
+			emptyParser);
+		index(type);
+	}
+
+	/**
+	 * Registers parser constructors to given registry.
+	 *
+	 * @param parsers Registry to register the parser to.
+	 * @param type Sentence type id, e.g. "GGA" or "GLL".
+	 * @param parserClass Class of parser created by the functions, or
+	 *            {@code null} if not known.
+	 * @param parser Function for creating parser of scanned sentence
+	 * @param emptyParser Function for creating empty parser
+	 */
+	private static void register(Map<String, Registration> parsers,
+		String type, Class<? extends SentenceParser> parserClass,
+		Function<SentenceLayout, ? extends SentenceParser> parser,
+		Function<TalkerId, ? extends SentenceParser> emptyParser) {
+
+		parsers.put(type, new Registration(parserClass, parser, emptyParser));
+	}
+
 	/**
 	 * Unregisters a parser class, regardless of sentence type(s) it is
 	 * registered for.
@@ -223,48 +401,118 @@ public class SentenceFactory {
 
 		for (String key : parsers.keySet()) {
 
-			if (parsers.get(key) == parser) {
+			if (parsers.get(key).type == parser) {
 				parsers.remove(key);
+				index(key);
 				break;
 			}
 		}
 	}
 
 	/**
-	 * Creates a new parser instance with specified parameters.
+	 * Unregisters the parser of specified sentence type, regardless of how it
+	 * was registered.
 	 *
-	 * @param sid Sentence/parser type ID, e.g. "GGA" or "GLL"
-	 * @param param Object to pass as parameter to parser constructor
-	 * @return Sentence parser
+	 * @param type Sentence type id, e.g. "GGA" or "GLL".
+	 * @see #registerParser(String, Function, Function)
+	 */
+	public void unregisterParser(String type) {
+		parsers.remove(type);
+		index(type);
+	}
+
+	/**
+	 * Updates the registration of specified type in the ordinal index, if
+	 * type is one of {@link SentenceId} values.
+	 *
+	 * @param type Sentence type id, e.g. "GGA" or "GLL".
 	 */
-	private Sentence createParserImpl(String sid, Object param) {
+	private static void index(String type) {
+		SentenceId id = SentenceId.lookup(type, 0, type.length());
+		if (id != null) {
+			INDEX.set(id.ordinal(), parsers.get(type));
+		}
+	}
 
-		if (!hasParser(sid)) {
+	/**
+	 * Returns the registration for specified sentence. Types defined in
+	 * {@link SentenceId} are resolved by ordinal and others by the type
+	 * String.
+	 *
+	 * @param layout Layout of sentence String
+	 * @return Registered parser constructors
+	 * @throws IllegalArgumentException If String is not a sentence.
+	 * @throws UnsupportedSentenceException If type is not registered.
+	 */
+	private Registration resolve(SentenceLayout layout) {
+		if (!layout.isSentence()) {
+			throw new IllegalArgumentException("String is not a sentence");
+		}
+		SentenceId id = layout.resolveSentenceId();
+		Registration r = id != null ? INDEX.get(id.ordinal()) : null;
+		return r != null ? r : getRegistration(layout.getSentenceId());
+	}
+
+	/**
+	 * Returns the registration of specified sentence type.
+	 *
+	 * @param sid Sentence/parser type ID, e.g. "GGA" or "GLL"
+	 * @return Registered parser constructors
+	 * @throws UnsupportedSentenceException If type is not registered.
+	 */
+	private Registration getRegistration(String sid) {
+		Registration r = sid == null ? null : parsers.get(sid);
+		if (r == null) {
 			String msg = String.format("Parser for type '%s' not found", sid);
 			throw new UnsupportedSentenceException(msg);
 		}
+		return r;
+	}
 
-		Sentence parser = null;
-		Class<?> klass = param.getClass();
-
+	/**
+	 * Creates a new parser instance with specified parameter.
+	 *
+	 * @param constructor Parser constructor function
+	 * @param param Object to pass as parameter to parser constructor
+	 * @return Sentence parser
+	 * @throws IllegalStateException If constructor fails.
+	 */
+	private static <T> SentenceParser create(
+		Function<T, ? extends SentenceParser> constructor, T param) {
 		try {
-			Class<? extends SentenceParser> c = parsers.get(sid);
-			Constructor<? extends SentenceParser> co = c.getConstructor(klass);
-			parser = co.newInstance(param);
-		} catch (NoSuchMethodException e) {
-			String name = klass.getName();
-			String msg = "Constructor with %s parameter not found";
-			throw new IllegalStateException(String.format(msg, name), e);
-		} catch (InstantiationException e) {
-			throw new IllegalStateException("Unable to instantiate parser", e);
-		} catch (IllegalAccessException e) {
-			throw new IllegalStateException("Unable to access parser", e);
-		} catch (InvocationTargetException e) {
+			return constructor.apply(param);
+		} catch (RuntimeException e) {
 			throw new IllegalStateException(
 				"Unable to invoke parser constructor", e);
 		}
+	}
 
-		return parser;
+	/**
+	 * Resolves the public constructor of given parser class that takes one
+	 * parameter of specified type.
+	 *
+	 * @param parser Parser class
+	 * @param param Constructor parameter type
+	 * @return Function invoking the constructor
+	 */
+	private static <T> Function<T, SentenceParser> constructor(
+		Class<? extends SentenceParser> parser, Class<T> param)
+		throws NoSuchMethodException, IllegalAccessException {
+
+		parser.getConstructor(param);
+		MethodHandle mh = MethodHandles.lookup()
+			.findConstructor(parser, MethodType.methodType(void.class, param))
+			.asType(MethodType.methodType(SentenceParser.class, Object.class));
+
+		return p -> {
+			try {
+				return (SentenceParser) mh.invokeExact((Object) p);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable t) {
+				throw new IllegalStateException(t);
+			}
+		};
 	}
 
 	/**
@@ -282,61 +530,54 @@ public class SentenceFactory {
 	 *
 	 */
 	public void reset() {
-		Map<String, Class<? extends SentenceParser>> tempParsers = new ConcurrentHashMap<>();
-		registerParser(tempParsers, "APB", APBParser.class);
-		registerParser(tempParsers, "ALK", STALKParser.class);
-		registerParser(tempParsers, "BOD", BODParser.class);
-		registerParser(tempParsers, "CUR", CURParser.class);
-		registerParser(tempParsers, "DBT", DBTParser.class);
-		registerParser(tempParsers, "DPT", DPTParser.class);
-		registerParser(tempParsers, "DTM", DTMParser.class);
-		registerParser(tempParsers, "GBS", GBSParser.class);
-		registerParser(tempParsers, "GGA", GGAParser.class);
-		registerParser(tempParsers, "GLL", GLLParser.class);
-		registerParser(tempParsers, "GNS", GNSParser.class);
-		registerParser(tempParsers, "GSA", GSAParser.class);
-		registerParser(tempParsers, "GST", GSTParser.class);
-		registerParser(tempParsers, "GSV", GSVParser.class);
-		registerParser(tempParsers, "HDG", HDGParser.class);
-		registerParser(tempParsers, "HDM", HDMParser.class);
-		registerParser(tempParsers, "HDT", HDTParser.class);
-		registerParser(tempParsers, "HTC", HTCParser.class);
-		registerParser(tempParsers, "HTD", HTDParser.class);
-		registerParser(tempParsers, "MHU", MHUParser.class);
-		registerParser(tempParsers, "MMB", MMBParser.class);
-		registerParser(tempParsers, "MTA", MTAParser.class);
-		registerParser(tempParsers, "MTW", MTWParser.class);
-		registerParser(tempParsers, "MWV", MWVParser.class);
-		registerParser(tempParsers, "OSD", OSDParser.class);
-		registerParser(tempParsers, "RMB", RMBParser.class);
-		registerParser(tempParsers, "RMC", RMCParser.class);
-		registerParser(tempParsers, "RPM", RPMParser.class);
-		registerParser(tempParsers, "ROT", ROTParser.class);
-		registerParser(tempParsers, "RTE", RTEParser.class);
-		registerParser(tempParsers, "RSA", RSAParser.class);
-		registerParser(tempParsers, "RSD", RSDParser.class);
-		registerParser(tempParsers, "TLB", TLBParser.class);
-		registerParser(tempParsers, "TLL", TLLParser.class);
-		registerParser(tempParsers, "TTM", TTMParser.class);
-		registerParser(tempParsers, "TXT", TXTParser.class);
-		registerParser(tempParsers, "UBX", UBXParser.class);
-		registerParser(tempParsers, "VBW", VBWParser.class);
-		registerParser(tempParsers, "VDM", VDMParser.class);
-		registerParser(tempParsers, "VDO", VDOParser.class);
-		registerParser(tempParsers, "VDR", VDRParser.class);
-		registerParser(tempParsers, "VHW", VHWParser.class);
-		registerParser(tempParsers, "VLW", VLWParser.class);
-		registerParser(tempParsers, "VTG", VTGParser.class);
-		registerParser(tempParsers, "VWR", VWRParser.class);
-		registerParser(tempParsers, "VWT", VWTParser.class);
-		registerParser(tempParsers, "WPL", WPLParser.class);
-		registerParser(tempParsers, "XTE", XTEParser.class);
-		registerParser(tempParsers, "XDR", XDRParser.class);
-		registerParser(tempParsers, "ZDA", ZDAParser.class);
-		registerParser(tempParsers, "MDA", MDAParser.class);
-		registerParser(tempParsers, "MWD", MWDParser.class);
-		registerParser(tempParsers, "DTA", DTAParser.class);
-		registerParser(tempParsers, "DTB", DTBParser.class);
+		Map<String, Registration> tempParsers = new ConcurrentHashMap<>();
+		for (BuiltIn b : BUILT_IN) {
+			register(tempParsers, b.type, b.parserClass, b.parser, b.emptyParser);
+		}
 		parsers = tempParsers;
+		for (SentenceId id : SentenceId.values()) {
+			index(id.name());
+		}
+	}
+
+	/**
+	 * Parser of the library and the sentence type it is registered for.
+	 */
+	private static final class BuiltIn {
+
+		final String type;
+		final Class<? extends SentenceParser> parserClass;
+		final Function<SentenceLayout, ? extends SentenceParser> parser;
+		final Function<TalkerId, ? extends SentenceParser> emptyParser;
+
+		<P extends SentenceParser> BuiltIn(String type, Class<P> parserClass,
+			Function<SentenceLayout, P> parser,
+			Function<TalkerId, P> emptyParser) {
+			this.type = type;
+			this.parserClass = parserClass;
+			this.parser = parser;
+			this.emptyParser = emptyParser;
+		}
+	}
+
+	/**
+	 * Registered parser class, if any, constructor functions and the parsers
+	 * reused in each thread. Parsers without a constructor for scanned
+	 * sentences are created from the sentence String.
+	 */
+	private static final class Registration {
+
+		final Class<? extends SentenceParser> type;
+		final Function<SentenceLayout, ? extends SentenceParser> layoutParser;
+		final Function<TalkerId, ? extends SentenceParser> emptyParser;
+		final ThreadLocal<SentenceParser> reusable = new ThreadLocal<>();
+
+		Registration(Class<? extends SentenceParser> type,
+			Function<SentenceLayout, ? extends SentenceParser> layoutParser,
+			Function<TalkerId, ? extends SentenceParser> emptyParser) {
+			this.type = type;
+			this.layoutParser = layoutParser;
+			this.emptyParser = emptyParser;
+		}
 	}
 }
@@ -20,8 +20,9 @@
  */
 package net.sf.marineapi.nmea.parser;
 
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -29,8 +30,13 @@ import java.util.List;
 import net.sf.marineapi.nmea.sentence.Checksum;
 import net.sf.marineapi.nmea.sentence.Sentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.SentenceValidator;
 import net.sf.marineapi.nmea.sentence.TalkerId;
+import net.sf.marineapi.nmea.util.Date;
+import net.sf.marineapi.nmea.util.Time;
+import net.sf.marineapi.util.NumberFormatter;
+import net.sf.marineapi.util.NumberParser;
 
 /**
  * <p>
@@ -70,8 +76,23 @@ public class SentenceParser implements Sentence {
 	// The next three characters after talker id.
 	private final String sentenceId;
 
-	// actual data fields (sentence id and checksum omitted)
-	private List<String> fields = new ArrayList<String>();
+	// actual data fields (sentence id and checksum omitted), created from
+	// layout on first write
+	private List<String> fields;
+
+	// field positions in parsed sentence String, until fields are modified
+	private SentenceLayout layout;
+
+	// whether toString() is known to be a valid sentence, i.e. the sentence
+	// was parsed with checksum or validated once and modified only with
+	// values that cannot break it, as checksum is calculated by toString()
+	private boolean verified = false;
+
+	// parsed sentence String, until the sentence is modified
+	private String raw;
+
+	// cached toString(), until the sentence is modified
+	private String canonical;
 
 	/**
 	 * Creates a new instance of SentenceParser. Validates the input String and
@@ -82,22 +103,32 @@ public class SentenceParser implements Sentence {
 	 *             if sentence type is not supported.
 	 */
 	public SentenceParser(String nmea) {
+		this(SentenceValidator.validate(nmea));
+	}
+
+	/**
+	 * Creates a new instance of SentenceParser from a sentence String that has
+	 * already been scanned by {@link SentenceValidator#validate(String)}. The
+	 * String is thus not scanned again, e.g. when the caller has checked it
+	 * before choosing to parse.
+	 *
+	 * @param layout Layout of a valid NMEA 0183 sentence
+	 * @throws IllegalArgumentException If the specified sentence is invalid.
+	 * @see SentenceFactory#createParser(SentenceLayout)
+	 */
+	public SentenceParser(SentenceLayout layout) {
 
-		if (!SentenceValidator.isValid(nmea)) {
+		String nmea = layout.getString();
+		if (!layout.isValid()) {
 			String msg = String.format("Invalid data [%s]", nmea);
 			throw new IllegalArgumentException(msg);
 		}
 
 		beginChar = nmea.charAt(0);
-		talkerId = TalkerId.parse(nmea);
-		sentenceId = SentenceId.parseStr(nmea);
-		
-		int begin = nmea.indexOf(Sentence.FIELD_DELIMITER) + 1;
-		int end = Checksum.index(nmea);
-		
-		String csv = nmea.substring(begin, end);
-		String[] values = csv.split(String.valueOf(FIELD_DELIMITER), -1);
-		fields.addAll(Arrays.asList(values));
+		talkerId = layout.resolveTalkerId();
+		sentenceId = layout.getSentenceId();
+		parsed(nmea, layout);
+		parsed();
 	}
 
 	/**
@@ -137,7 +168,7 @@ public class SentenceParser implements Sentence {
 		sentenceId = type;
 		String[] values = new String[size];
 		Arrays.fill(values, "");
-		fields.addAll(Arrays.asList(values));
+		fields = new ArrayList<String>(Arrays.asList(values));
 	}
 
 	/**
@@ -153,7 +184,21 @@ public class SentenceParser implements Sentence {
 	 *             or is not of expected type.
 	 */
 	protected SentenceParser(String nmea, String type) {
-		this(nmea);
+		this(SentenceValidator.validate(nmea), type);
+	}
+
+	/**
+	 * Creates a new instance of SentenceParser from already scanned sentence
+	 * of the specified {@code type}.
+	 *
+	 * @param layout Layout of NMEA 0183 sentence String
+	 * @param type Expected type of the sentence
+	 * @throws IllegalArgumentException If the specified sentence is not a valid
+	 *             or is not of expected type.
+	 * @see #SentenceParser(SentenceLayout)
+	 */
+	protected SentenceParser(SentenceLayout layout, String type) {
+		this(layout);
 		if (type == null || "".equals(type)) {
 			throw new IllegalArgumentException(
 				"Sentence type must be specified.");
@@ -189,6 +234,18 @@ public class SentenceParser implements Sentence {
 		this(nmea, type.toString());
 	}
 
+	/**
+	 * Creates a new instance of SentenceParser from already scanned sentence.
+	 * Type of the sentence is checked against the specified expected sentence
+	 * type id.
+	 *
+	 * @param layout Layout of sentence String
+	 * @param type Sentence type enum
+	 */
+	SentenceParser(SentenceLayout layout, SentenceId type) {
+		this(layout, type.toString());
+	}
+
 	/**
 	 * Creates a new instance of SentenceParser without any data.
 	 * 
@@ -211,7 +268,7 @@ public class SentenceParser implements Sentence {
 		}
 		if (obj instanceof SentenceParser) {
 			SentenceParser sp = (SentenceParser) obj;
-			return sp.toString().equals(toString());
+			return sp.hashCode() == hashCode() && sp.toString().equals(toString());
 		}
 		return false;
 	}
@@ -229,8 +286,8 @@ public class SentenceParser implements Sentence {
 	 * @see net.sf.marineapi.nmea.sentence.Sentence#getFieldCount()
 	 */
 	public final int getFieldCount() {
-		if (fields == null) {
-			return 0;
+		if (layout != null) {
+			return layout.getFieldCount();
 		}
 		return fields.size();
 	}
@@ -251,6 +308,14 @@ public class SentenceParser implements Sentence {
 		return talkerId;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.Sentence#getRawSentence()
+	 */
+	public final String getRawSentence() {
+		return raw != null ? raw : toString();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#hashCode()
@@ -281,11 +346,68 @@ public class SentenceParser implements Sentence {
 		return SentenceValidator.isValid(toString());
 	}
 
+	/**
+	 * Re-points the parser to a new sentence of the same type, replacing
+	 * the begin char, talker id and all data fields. The String is validated
+	 * and indexed as in {@link #SentenceParser(String)}, but the parser
+	 * instance is reused.
+	 *
+	 * @param nmea A valid NMEA 0183 sentence of this parser's type
+	 * @throws IllegalArgumentException If the sentence is invalid or of
+	 *             different type.
+	 * @see SentenceFactory#reuseParser(String)
+	 */
+	public void reparse(String nmea) {
+		reparse(SentenceValidator.validate(nmea));
+	}
+
+	/**
+	 * Re-points the parser to an already scanned sentence of the same type.
+	 *
+	 * @param layout Layout of a valid NMEA 0183 sentence of this parser's type
+	 * @throws IllegalArgumentException If the sentence is invalid or of
+	 *             different type.
+	 * @see #reparse(String)
+	 * @see SentenceFactory#reuseParser(SentenceLayout)
+	 */
+	public void reparse(SentenceLayout layout) {
+		String nmea = layout.getString();
+		if (!layout.isValid()) {
+			String msg = String.format("Invalid data [%s]", nmea);
+			throw new IllegalArgumentException(msg);
+		}
+		String sid = layout.getSentenceId();
+		if (!sentenceId.equals(sid)) {
+			String ptrn = "Sentence id mismatch; expected [%s], found [%s].";
+			String msg = String.format(ptrn, sentenceId, sid);
+			throw new IllegalArgumentException(msg);
+		}
+		beginChar = nmea.charAt(0);
+		talkerId = layout.resolveTalkerId();
+		this.fields = null;
+		parsed(nmea, layout);
+		parsed();
+	}
+
+	/**
+	 * Called when the parser has been set to a new sentence String, both on
+	 * construction and on {@link #reparse(SentenceLayout)}. Subclasses may
+	 * override this to adjust or check the parsed fields; the default
+	 * implementation does nothing. Notice that on construction this is called
+	 * before the subclass constructor has completed.
+	 *
+	 * @throws IllegalArgumentException If the sentence is not acceptable for
+	 *             the parser.
+	 */
+	protected void parsed() {
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.Sentence#reset()
 	 */
 	public final void reset() {
+		List<String> fields = getFields();
 		for (int i = 0; i < fields.size(); i++) {
 			fields.set(i, "");
 		}
@@ -300,7 +422,10 @@ public class SentenceParser implements Sentence {
 			String msg = "Invalid begin char; expected '$' or '!'";
 			throw new IllegalArgumentException(msg);
 		}
-		beginChar = ch;
+		if (ch != beginChar) {
+			beginChar = ch;
+			modified();
+		}
 	}
 
 	/*
@@ -310,7 +435,12 @@ public class SentenceParser implements Sentence {
 	 * nmea.util.TalkerId)
 	 */
 	public final void setTalkerId(TalkerId id) {
+		if (id == null || id.name().length() != talkerId.name().length()) {
+			// may exceed the sentence id length limit
+			verified = false;
+		}
 		this.talkerId = id;
+		modified();
 	}
 
 	/*
@@ -319,9 +449,12 @@ public class SentenceParser implements Sentence {
 	 */
 	public final String toSentence() {
 		String s = toString();
-		if (!SentenceValidator.isValid(s)) {
-			String msg = String.format("Validation failed [%s]", toString());
-			throw new IllegalStateException(msg);
+		if (!verified) {
+			if (!SentenceValidator.isValid(s)) {
+				String msg = String.format("Validation failed [%s]", s);
+				throw new IllegalStateException(msg);
+			}
+			verified = true;
 		}
 		return s;
 	}
@@ -345,22 +478,131 @@ public class SentenceParser implements Sentence {
 	 */
 	@Override
 	public String toString() {
+		String s = canonical;
+		if (s == null) {
+			StringBuilder sb = new StringBuilder(MAX_LENGTH);
+			write(sb);
+			s = sb.toString();
+			canonical = s;
+		}
+		return s;
+	}
 
-		StringBuilder sb = new StringBuilder(MAX_LENGTH);
-		sb.append(talkerId.toString());
-		sb.append(sentenceId);
-		
-		for (String field : fields) {
-			sb.append(FIELD_DELIMITER);
-			sb.append(field == null ? "" : field);
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.Sentence#writeTo(java.lang.Appendable)
+	 */
+	public final void writeTo(Appendable out) throws IOException {
+		if (!verified) {
+			// set with a value that may be invalid
+			toSentence();
 		}
-		
-		final String checksum = Checksum.xor(sb.toString());
+		String s = canonical;
+		if (s != null) {
+			out.append(s);
+			return;
+		}
+		out.append(beginChar);
+		int sum;
+		if (raw != null) {
+			int end = layout.getChecksumIndex();
+			out.append(raw, 1, end);
+			sum = Checksum.xor(0, raw, 1, end);
+		} else {
+			String tid = talkerId.toString();
+			out.append(tid).append(sentenceId);
+			sum = Checksum.xor(0, tid, 0, tid.length());
+			sum = Checksum.xor(sum, sentenceId, 0, sentenceId.length());
+			for (int i = 0; i < getFieldCount(); i++) {
+				String src = getFieldSource(i);
+				int start = getFieldStart(i);
+				int end = getFieldEnd(i);
+				out.append(FIELD_DELIMITER).append(src, start, end);
+				sum = Checksum.xor(sum ^ FIELD_DELIMITER, src, start, end);
+			}
+		}
+		out.append(CHECKSUM_DELIMITER);
+		out.append(Checksum.hexDigit(sum >> 4)).append(Checksum.hexDigit(sum));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.Sentence#writeTo(java.nio.ByteBuffer)
+	 */
+	public final void writeTo(ByteBuffer buffer) {
+		if (!verified) {
+			toSentence();
+		}
+		String tid = talkerId.toString();
+		int count = getFieldCount();
+		int length;
+		if (raw != null) {
+			length = layout.getChecksumIndex() + 3;
+		} else {
+			length = tid.length() + sentenceId.length() + count + 4;
+			for (int i = 0; i < count; i++) {
+				length += getFieldEnd(i) - getFieldStart(i);
+			}
+		}
+		if (buffer.remaining() < length) {
+			throw new BufferOverflowException();
+		}
+
+		buffer.put((byte) beginChar);
+		int sum;
+		if (raw != null) {
+			sum = put(buffer, raw, 1, layout.getChecksumIndex(), 0);
+		} else {
+			sum = put(buffer, tid, 0, tid.length(), 0);
+			sum = put(buffer, sentenceId, 0, sentenceId.length(), sum);
+			for (int i = 0; i < count; i++) {
+				buffer.put((byte) FIELD_DELIMITER);
+				sum ^= FIELD_DELIMITER;
+				sum = put(buffer, getFieldSource(i), getFieldStart(i),
+					getFieldEnd(i), sum);
+			}
+		}
+		buffer.put((byte) CHECKSUM_DELIMITER);
+		buffer.put((byte) Checksum.hexDigit(sum >> 4));
+		buffer.put((byte) Checksum.hexDigit(sum));
+	}
+
+	/**
+	 * Writes the sentence in StringBuilder, see {@link #writeTo(Appendable)}.
+	 */
+	private void write(StringBuilder sb) {
+		sb.append(beginChar);
+		int start = sb.length();
+		if (raw != null) {
+			sb.append(raw, 1, layout.getChecksumIndex());
+		} else {
+			sb.append(talkerId.toString());
+			sb.append(sentenceId);
+			for (int i = 0; i < getFieldCount(); i++) {
+				sb.append(FIELD_DELIMITER);
+				sb.append(getFieldSource(i), getFieldStart(i), getFieldEnd(i));
+			}
+		}
+		int sum = Checksum.xor(0, sb, start, sb.length());
 		sb.append(CHECKSUM_DELIMITER);
-		sb.append(checksum);
-		sb.insert(0, beginChar);
+		sb.append(Checksum.hexDigit(sum >> 4));
+		sb.append(Checksum.hexDigit(sum));
+	}
 
-		return sb.toString();
+	/**
+	 * Puts the specified characters in buffer as bytes and updates the
+	 * checksum.
+	 *
+	 * @return Updated checksum
+	 */
+	private static int put(ByteBuffer buffer, String str, int start, int end,
+		int sum) {
+		for (int i = start; i < end; i++) {
+			char c = str.charAt(i);
+			buffer.put((byte) c);
+			sum ^= c;
+		}
+		return sum & 0xFF;
 	}
 
 	/**
@@ -372,6 +614,13 @@ public class SentenceParser implements Sentence {
 	 *             than one character
 	 */
 	protected final char getCharValue(int index) {
+		if (layout != null) {
+			int start = layout.getFieldStart(index);
+			int end = layout.getFieldEnd(index);
+			if (end - start == 1) {
+				return layout.getString().charAt(start);
+			}
+		}
 		String val = getStringValue(index);
 		if (val.length() > 1) {
 			String msg = String.format("Expected char, found String [%s]", val);
@@ -387,15 +636,39 @@ public class SentenceParser implements Sentence {
 	 * @return Field as parsed by {@link java.lang.Double#parseDouble(String)}
 	 */
 	protected final double getDoubleValue(int index) {
+		String source = getFieldSource(index);
+		int start = getFieldStart(index);
+		int end = getFieldEnd(index);
+		checkValue(start, end);
 		double value;
 		try {
-			value = Double.parseDouble(getStringValue(index));
+			value = NumberParser.parseDouble(source, start, end);
 		} catch (NumberFormatException ex) {
 			throw new ParseException("Field does not contain double value", ex);
 		}
 		return value;
 	}
 
+	/**
+	 * Parse double value from the specified sentence field, or return the
+	 * given default value if the field is empty or malformed.
+	 *
+	 * @param index Data field index in sentence
+	 * @param defaultValue Value to return if field is empty or malformed
+	 * @return Field value or {@code defaultValue}
+	 */
+	protected final double getDoubleValue(int index, double defaultValue) {
+		if (!hasValue(index)) {
+			return defaultValue;
+		}
+		try {
+			return NumberParser.parseDouble(getFieldSource(index),
+				getFieldStart(index), getFieldEnd(index));
+		} catch (NumberFormatException ex) {
+			return defaultValue;
+		}
+	}
+
 	/**
 	 * Parse integer value from the specified sentence field.
 	 * 
@@ -403,15 +676,39 @@ public class SentenceParser implements Sentence {
 	 * @return Field parsed by {@link java.lang.Integer#parseInt(String)}
 	 */
 	protected final int getIntValue(int index) {
+		String source = getFieldSource(index);
+		int start = getFieldStart(index);
+		int end = getFieldEnd(index);
+		checkValue(start, end);
 		int value;
 		try {
-			value = Integer.parseInt(getStringValue(index));
+			value = NumberParser.parseInt(source, start, end);
 		} catch (NumberFormatException ex) {
 			throw new ParseException("Field does not contain integer value", ex);
 		}
 		return value;
 	}
 
+	/**
+	 * Parse integer value from the specified sentence field, or return the
+	 * given default value if the field is empty or malformed.
+	 *
+	 * @param index Field index in sentence
+	 * @param defaultValue Value to return if field is empty or malformed
+	 * @return Field value or {@code defaultValue}
+	 */
+	protected final int getIntValue(int index, int defaultValue) {
+		if (!hasValue(index)) {
+			return defaultValue;
+		}
+		try {
+			return NumberParser.parseInt(getFieldSource(index),
+				getFieldStart(index), getFieldEnd(index));
+		} catch (NumberFormatException ex) {
+			return defaultValue;
+		}
+	}
+
 	/**
 	 * Get contents of a data field as a String. Field indexing is zero-based.
 	 * The address field (e.g. {@code $GPGGA}) and checksum at the end are
@@ -427,6 +724,14 @@ public class SentenceParser implements Sentence {
 	 *             empty
 	 */
 	protected final String getStringValue(int index) {
+		if (layout != null) {
+			int start = layout.getFieldStart(index);
+			int end = layout.getFieldEnd(index);
+			if (start == end) {
+				throw new DataNotAvailableException("Data not available");
+			}
+			return layout.getString().substring(start, end);
+		}
 		String value = fields.get(index);
 		if (value == null || "".equals(value)) {
 			throw new DataNotAvailableException("Data not available");
@@ -434,6 +739,40 @@ public class SentenceParser implements Sentence {
 		return value;
 	}
 
+	/**
+	 * Parse time value from the specified field, formatted as
+	 * {@code hhmmss.sss}.
+	 *
+	 * @param index Field index
+	 * @return Time parsed as by {@link Time#Time(String)}
+	 * @throws net.sf.marineapi.nmea.parser.DataNotAvailableException If the
+	 *             field is empty
+	 */
+	protected final Time getTimeValue(int index) {
+		String source = getFieldSource(index);
+		int start = getFieldStart(index);
+		int end = getFieldEnd(index);
+		checkValue(start, end);
+		return new Time(source, start, end);
+	}
+
+	/**
+	 * Parse date value from the specified field, formatted as
+	 * {@code ddmmyy}.
+	 *
+	 * @param index Field index
+	 * @return Date parsed as by {@link Date#Date(String)}
+	 * @throws net.sf.marineapi.nmea.parser.DataNotAvailableException If the
+	 *             field is empty
+	 */
+	protected final Date getDateValue(int index) {
+		String source = getFieldSource(index);
+		int start = getFieldStart(index);
+		int end = getFieldEnd(index);
+		checkValue(start, end);
+		return new Date(source, start, end);
+	}
+
 	/**
 	 * Tells is if the field specified by the given index contains a value.
 	 * 
@@ -441,6 +780,10 @@ public class SentenceParser implements Sentence {
 	 * @return True if field contains value, otherwise false.
 	 */
 	protected final boolean hasValue(int index) {
+		if (layout != null) {
+			return index < layout.getFieldCount()
+				&& layout.getFieldEnd(index) > layout.getFieldStart(index);
+		}
 		return fields.size() > index &&
 			fields.get(index) != null && !fields.get(index).isEmpty();
 	}
@@ -496,26 +839,7 @@ public class SentenceParser implements Sentence {
 	protected final void setDoubleValue(int index, double value, int leading,
 		int decimals) {
 
-		StringBuilder pattern = new StringBuilder();
-		for (int i = 0; i < leading; i++) {
-			pattern.append('0');
-		}
-		if (decimals > 0) {
-			pattern.append('.');
-			for (int i = 0; i < decimals; i++) {
-				pattern.append('0');
-			}
-		}
-		if (pattern.length() == 0) {
-			pattern.append('0');
-		}
-
-		DecimalFormat nf = new DecimalFormat(pattern.toString());
-		DecimalFormatSymbols dfs = new DecimalFormatSymbols();
-		dfs.setDecimalSeparator('.');
-		nf.setDecimalFormatSymbols(dfs);
-
-		setStringValue(index, nf.format(value));
+		setStringValue(index, NumberFormatter.formatDouble(value, leading, decimals));
 	}
 
 	/**
@@ -532,8 +856,9 @@ public class SentenceParser implements Sentence {
 				"Number of fields must be greater than zero.");
 		}
 		
+		List<String> fields = getFields();
 		if(size < fields.size()) {
-			fields = fields.subList(0, size);
+			this.fields = fields.subList(0, size);
 		} else if (size > fields.size()) {
 			for(int i = fields.size(); i < size; i++) {
 				fields.add("");
@@ -560,11 +885,7 @@ public class SentenceParser implements Sentence {
 	 * @param leading Number of digits to use.
 	 */
 	protected final void setIntValue(int index, int value, int leading) {
-		String pattern = "%d";
-		if (leading > 0) {
-			pattern = "%0" + leading + "d";
-		}
-		setStringValue(index, String.format(pattern, value));
+		setStringValue(index, NumberFormatter.formatInt(value, leading));
 	}
 
 	/**
@@ -574,7 +895,12 @@ public class SentenceParser implements Sentence {
 	 * @param value String to set, {@code null} converts to empty String.
 	 */
 	protected final void setStringValue(int index, String value) {
-		fields.set(index, value == null ? "" : value);
+		List<String> fields = getFields();
+		String v = value == null ? "" : value;
+		if (!isFieldValue(v)) {
+			verified = false;
+		}
+		fields.set(index, v);
 	}
 
 	/**
@@ -595,14 +921,22 @@ public class SentenceParser implements Sentence {
 	 */
 	protected final void setStringValues(int first, String[] newFields) {
 		
+		List<String> fields = getFields();
 		List<String> temp = new ArrayList<String>();		
 		temp.addAll(fields.subList(0, first));
 		
 		for (String field : newFields) {
-			temp.add(field == null ? "" : field);
+			String v = field == null ? "" : field;
+			if (!isFieldValue(v)) {
+				verified = false;
+			}
+			temp.add(v);
+		}
+		if (temp.isEmpty()) {
+			verified = false;
 		}
 		fields.clear();
-		fields = temp;
+		this.fields = temp;
 	}
 
 	/**
@@ -613,7 +947,122 @@ public class SentenceParser implements Sentence {
 	 * @return Array of String values
 	 */
 	protected final String[] getStringValues(int first) {
+		if (layout != null) {
+			int count = layout.getFieldCount();
+			String[] values = new String[count - first];
+			for (int i = first; i < count; i++) {
+				values[i - first] = layout.getField(i);
+			}
+			return values;
+		}
 		String[] values = new String[fields.size()-first];
 		return fields.subList(first, fields.size()).toArray(values);
 	}
+
+	/**
+	 * Returns the String that contains the specified field, i.e. the parsed
+	 * sentence String or the field value set after parsing.
+	 *
+	 * @param index Field index
+	 * @return String containing the field
+	 * @see #getFieldStart(int)
+	 * @see #getFieldEnd(int)
+	 */
+	final String getFieldSource(int index) {
+		if (layout != null) {
+			layout.getFieldStart(index);
+			return layout.getString();
+		}
+		String value = fields.get(index);
+		return value == null ? "" : value;
+	}
+
+	/**
+	 * Returns the index where specified field begins in field source.
+	 *
+	 * @param index Field index
+	 * @return Start index of field
+	 */
+	final int getFieldStart(int index) {
+		return layout != null ? layout.getFieldStart(index) : 0;
+	}
+
+	/**
+	 * Returns the index where specified field ends in field source.
+	 *
+	 * @param index Field index
+	 * @return End index of field (exclusive)
+	 */
+	final int getFieldEnd(int index) {
+		return layout != null ? layout.getFieldEnd(index)
+			: getFieldSource(index).length();
+	}
+
+	/**
+	 * Throws {@link DataNotAvailableException} if field range is empty.
+	 */
+	static void checkValue(int start, int end) {
+		if (start == end) {
+			throw new DataNotAvailableException("Data not available");
+		}
+	}
+
+	/**
+	 * Sets the state of a sentence parsed from specified String. The String
+	 * is also the canonical form of sentence, if it has checksum in upper
+	 * case and no trailing characters.
+	 */
+	private void parsed(String nmea, SentenceLayout layout) {
+		int length = nmea.length();
+		int index = layout.getChecksumIndex();
+		this.layout = layout;
+		this.raw = nmea;
+		this.verified = index < length;
+		this.canonical = index == length - 3
+			&& !Character.isLowerCase(nmea.charAt(length - 2))
+			&& !Character.isLowerCase(nmea.charAt(length - 1)) ? nmea : null;
+	}
+
+	/**
+	 * Tells if the given value may be set in a data field without making the
+	 * sentence invalid, i.e. it has only printable ASCII characters other than
+	 * checksum delimiter.
+	 */
+	private static boolean isFieldValue(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c < 0x20 || c > 0x7F || c == CHECKSUM_DELIMITER) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Clears the state cached for unmodified sentence. Setters that may
+	 * produce an invalid sentence must also clear the verified flag.
+	 */
+	private void modified() {
+		raw = null;
+		canonical = null;
+	}
+
+	/**
+	 * Returns the mutable field values, copying them from the parsed sentence
+	 * String on first call. As the fields are about to be modified, the
+	 * cached state is cleared.
+	 */
+	private List<String> getFields() {
+		modified();
+		if (layout != null) {
+			int count = layout.getFieldCount();
+			List<String> values = new ArrayList<String>(count);
+			for (int i = 0; i < count; i++) {
+				values.add(layout.getField(i));
+			}
+			fields = values;
+			layout = null;
+		}
+		return fields;
+	}
 }
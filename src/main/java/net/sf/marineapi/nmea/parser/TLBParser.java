@@ -21,6 +21,8 @@
 package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
+import net.sf.marineapi.nmea.sentence.SentenceValidator;
 import net.sf.marineapi.nmea.sentence.TLBSentence;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
@@ -40,8 +42,23 @@ class TLBParser extends SentenceParser implements TLBSentence {
 	 * @param nmea TLB sentence string.
 	 */
 	public TLBParser(String nmea) {
-        super(nmea, SentenceId.TLB);
-        
+        this(SentenceValidator.validate(nmea));
+    }
+
+    /**
+     * Creates a new instance of TLBParser from validated sentence.
+     *
+     * @param layout Layout of TLB sentence String
+     */
+    TLBParser(SentenceLayout layout) {
+        super(layout, SentenceId.TLB);
+    }
+
+    /**
+     * Checks that the sentence contains pairs of target ids and labels.
+     */
+    @Override
+    protected void parsed() {
         if ((getFieldCount() % 2) != 0) {
             throw new IllegalArgumentException("Invalid TLB sentence. Must contain pairs of target numbers and labels.");
         }
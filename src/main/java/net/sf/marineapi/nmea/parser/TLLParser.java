@@ -1,14 +1,13 @@
 package net.sf.marineapi.nmea.parser;
 
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TLLSentence;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.Position;
 import net.sf.marineapi.nmea.util.TargetStatus;
 import net.sf.marineapi.nmea.util.Time;
+import net.sf.marineapi.util.NumberFormatter;
 
 /**
  * Sent by the Radar (ARPA / MARPA) and handled by the AIS Decoder in the same way as an AIS target
@@ -49,6 +48,10 @@ class TLLParser extends PositionParser implements TLLSentence{
 		super(nmea,SentenceId.TLL);
 	}
 
+	TLLParser(SentenceLayout layout) {
+		super(layout,SentenceId.TLL);
+	}
+
 	public TLLParser(TalkerId talker) {
 		super(talker, SentenceId.TLL,9);
 	}
@@ -85,8 +88,7 @@ class TLLParser extends PositionParser implements TLLSentence{
 
 	@Override
 	public Time getTime() {
-		String str = getStringValue(UTC_TIME);
-		return new Time(str);
+		return getTimeValue(UTC_TIME);
 	}
 
 	@Override
@@ -103,15 +105,11 @@ class TLLParser extends PositionParser implements TLLSentence{
 
 	@Override
 	public void setTime(Time t) {
-		String str = String.format("%02d%02d", t.getHour(), t.getMinutes());
-
-		DecimalFormat nf = new DecimalFormat("00.00");
-		DecimalFormatSymbols dfs = new DecimalFormatSymbols();
-		dfs.setDecimalSeparator('.');
-		nf.setDecimalFormatSymbols(dfs);
-
-		str += nf.format(t.getSeconds());
-		setStringValue(UTC_TIME, str);
+		StringBuilder sb = new StringBuilder(9);
+		NumberFormatter.appendInt(sb, t.getHour(), 2);
+		NumberFormatter.appendInt(sb, t.getMinutes(), 2);
+		NumberFormatter.appendDouble(sb, t.getSeconds(), 2, 2);
+		setStringValue(UTC_TIME, sb.toString());
 
 
 	}
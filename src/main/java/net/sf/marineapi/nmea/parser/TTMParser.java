@@ -20,16 +20,15 @@
  */
 package net.sf.marineapi.nmea.parser;
 
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TTMSentence;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.AcquisitionType;
 import net.sf.marineapi.nmea.util.TargetStatus;
 import net.sf.marineapi.nmea.util.Time;
 import net.sf.marineapi.nmea.util.Units;
+import net.sf.marineapi.util.NumberFormatter;
 
 /**
  * TTM sentence parser.
@@ -66,6 +65,15 @@ class TTMParser extends SentenceParser implements TTMSentence {
 		super(nmea, SentenceId.TTM);
 	}
 
+	/**
+	 * Creates a new instance of TTMParser from validated sentence.
+	 *
+	 * @param layout Layout of TTM sentence String
+	 */
+	TTMParser(SentenceLayout layout) {
+		super(layout, SentenceId.TTM);
+	}
+
 	/**
 	 * Create a TTM parser with an empty sentence.
 	 *
@@ -83,8 +91,7 @@ class TTMParser extends SentenceParser implements TTMSentence {
 	 */
 	@Override
 	public Time getTime() {
-		String str = getStringValue(UTC_TIME);
-		return new Time(str);
+		return getTimeValue(UTC_TIME);
 	}
 
 	/*
@@ -99,15 +106,11 @@ class TTMParser extends SentenceParser implements TTMSentence {
 		 * usual three implemented by the Time.toString(). So we create our own
 		 * string.
 		 */
-		String str = String.format("%02d%02d", t.getHour(), t.getMinutes());
-
-		DecimalFormat nf = new DecimalFormat("00.00");
-		DecimalFormatSymbols dfs = new DecimalFormatSymbols();
-		dfs.setDecimalSeparator('.');
-		nf.setDecimalFormatSymbols(dfs);
-
-		str += nf.format(t.getSeconds());
-		setStringValue(UTC_TIME, str);
+		StringBuilder sb = new StringBuilder(9);
+		NumberFormatter.appendInt(sb, t.getHour(), 2);
+		NumberFormatter.appendInt(sb, t.getMinutes(), 2);
+		NumberFormatter.appendDouble(sb, t.getSeconds(), 2, 2);
+		setStringValue(UTC_TIME, sb.toString());
 	}
 
 	/*
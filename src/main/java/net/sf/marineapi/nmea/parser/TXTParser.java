@@ -21,6 +21,7 @@
 package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TXTSentence;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
@@ -57,6 +58,15 @@ class TXTParser extends SentenceParser implements TXTSentence {
         super(nmea, SentenceId.TXT);
     }
 
+    /**
+     * Creates a new instance of TXTParser from validated sentence.
+     *
+     * @param layout Layout of TXT sentence String
+     */
+    TXTParser(SentenceLayout layout) {
+        super(layout, SentenceId.TXT);
+    }
+
     /**
      * Constructs an empty TXT sentence.
      *
@@ -20,6 +20,7 @@
 package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.sentence.UBXSentence;
 import net.sf.marineapi.ublox.parser.UBXMessageParser;
@@ -42,6 +43,10 @@ class UBXParser extends SentenceParser implements UBXSentence {
 		super(nmea, SentenceId.UBX);
 	}
 
+	UBXParser(SentenceLayout layout) {
+		super(layout, SentenceId.UBX);
+	}
+
 	/**
 	 * Creates a new empty UBX Parser.
 	 *
@@ -65,6 +70,11 @@ class UBXParser extends SentenceParser implements UBXSentence {
 		return super.getIntValue(index);
 	}
 
+	@Override
+	public int getUBXFieldIntValue(int index, int defaultValue) {
+		return super.getIntValue(index, defaultValue);
+	}
+
 	@Override
 	public String getUBXFieldStringValue(int index) {
 		return super.getStringValue(index);
@@ -80,6 +90,16 @@ class UBXParser extends SentenceParser implements UBXSentence {
 		return super.getDoubleValue(index);
 	}
 
+	@Override
+	public double getUBXFieldDoubleValue(int index, double defaultValue) {
+		return super.getDoubleValue(index, defaultValue);
+	}
+
+	@Override
+	public boolean hasUBXFieldValue(int index) {
+		return super.hasValue(index);
+	}
+
 	@Override
 	public int getUBXFieldCount() {
 		return super.getFieldCount();
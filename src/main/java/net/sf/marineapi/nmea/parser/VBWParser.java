@@ -21,6 +21,7 @@
 package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.sentence.VBWSentence;
 import net.sf.marineapi.nmea.util.DataStatus;
@@ -53,6 +54,15 @@ class VBWParser extends SentenceParser implements VBWSentence {
 		super(nmea, SentenceId.VBW);
 	}
 
+	/**
+	 * Creates a new instance of VBWParser from validated sentence.
+	 *
+	 * @param layout Layout of VBW sentence String
+	 */
+	VBWParser(SentenceLayout layout) {
+		super(layout, SentenceId.VBW);
+	}
+
 	/**
 	 * Create a VBW parser with an empty sentence.
 	 * 
@@ -3,6 +3,7 @@ package net.sf.marineapi.nmea.parser;
 import net.sf.marineapi.nmea.sentence.SentenceId;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.sentence.AISSentence;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 
 /**
  * AIS VDM sentence parser, contains only the NMEA layer. The actual payload
@@ -23,6 +24,15 @@ class VDMParser extends AISParser {
 		super(nmea, SentenceId.VDM);
 	}
 
+	/**
+	 * Creates a new instance of VDMParser from validated sentence.
+	 *
+	 * @param layout Layout of VDM sentence String
+	 */
+	VDMParser(SentenceLayout layout) {
+		super(layout, SentenceId.VDM);
+	}
+
 	/**
 	 * Creates a new empty VDMParser.
 	 * 
@@ -22,6 +22,7 @@ package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.AISSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
 /**
@@ -43,6 +44,15 @@ class VDOParser extends AISParser {
 		super(nmea, SentenceId.VDO);
 	}
 
+	/**
+	 * Creates a new instance of VDOParser from validated sentence.
+	 *
+	 * @param layout Layout of VDO sentence String
+	 */
+	VDOParser(SentenceLayout layout) {
+		super(layout, SentenceId.VDO);
+	}
+
 	/**
 	 * Creates a new empty VDOParser.
 	 * 
@@ -21,6 +21,7 @@
 package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.sentence.VDRSentence;
 import net.sf.marineapi.nmea.util.Units;
@@ -48,6 +49,15 @@ class VDRParser extends SentenceParser implements VDRSentence {
 		super(nmea);
 	}
 
+	/**
+	 * Creates a new instance of VDRParser from validated sentence.
+	 *
+	 * @param layout Layout of VDR sentence String
+	 */
+	VDRParser(SentenceLayout layout) {
+		super(layout);
+	}
+
 	/**
 	 * Creates a new empty instance of VDRParser.
 	 * 
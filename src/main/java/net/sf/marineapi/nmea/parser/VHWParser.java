@@ -21,6 +21,7 @@
 package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.sentence.VHWSentence;
 
@@ -49,6 +50,15 @@ class VHWParser extends SentenceParser implements VHWSentence {
 		super(nmea);
 	}
 
+	/**
+	 * Creates a new instance of VHWParser from validated sentence.
+	 *
+	 * @param layout Layout of VHW sentence String
+	 */
+	VHWParser(SentenceLayout layout) {
+		super(layout);
+	}
+
 	/**
 	 * Creates a new empty VHW parser instance.
 	 * 
@@ -70,6 +80,22 @@ class VHWParser extends SentenceParser implements VHWSentence {
 		return getDoubleValue(TRUE_HEADING);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.HeadingSentence#getHeading(double)
+	 */
+	public double getHeading(double defaultValue) {
+		return getDoubleValue(TRUE_HEADING, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.HeadingSentence#hasHeading()
+	 */
+	public boolean hasHeading() {
+		return hasValue(TRUE_HEADING);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.VHWSentence#getMagneticHeading()
@@ -78,6 +104,22 @@ class VHWParser extends SentenceParser implements VHWSentence {
 		return getDoubleValue(MAGNETIC_HEADING);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.VHWSentence#getMagneticHeading(double)
+	 */
+	public double getMagneticHeading(double defaultValue) {
+		return getDoubleValue(MAGNETIC_HEADING, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.VHWSentence#hasMagneticHeading()
+	 */
+	public boolean hasMagneticHeading() {
+		return hasValue(MAGNETIC_HEADING);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.VHWSentence#getSpeedKilometres()
@@ -86,6 +128,22 @@ class VHWParser extends SentenceParser implements VHWSentence {
 		return getDoubleValue(SPEED_KMH);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.VHWSentence#getSpeedKmh(double)
+	 */
+	public double getSpeedKmh(double defaultValue) {
+		return getDoubleValue(SPEED_KMH, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.VHWSentence#hasSpeedKmh()
+	 */
+	public boolean hasSpeedKmh() {
+		return hasValue(SPEED_KMH);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.VHWSentence#getSpeedKnots()
@@ -94,6 +152,22 @@ class VHWParser extends SentenceParser implements VHWSentence {
 		return getDoubleValue(SPEED_KNOTS);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.VHWSentence#getSpeedKnots(double)
+	 */
+	public double getSpeedKnots(double defaultValue) {
+		return getDoubleValue(SPEED_KNOTS, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.VHWSentence#hasSpeedKnots()
+	 */
+	public boolean hasSpeedKnots() {
+		return hasValue(SPEED_KNOTS);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.HeadingSentence#isTrue()
@@ -20,6 +20,7 @@
  */
 package net.sf.marineapi.nmea.parser;
 
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.sentence.VLWSentence;
 
@@ -44,6 +45,15 @@ class VLWParser extends SentenceParser implements VLWSentence {
 		super(nmea);
 	}
 
+	/**
+	 * Creates a new instance of VLWParser from validated sentence.
+	 *
+	 * @param layout Layout of VLW sentence String
+	 */
+	VLWParser(SentenceLayout layout) {
+		super(layout);
+	}
+
 	/**
 	 * Creates a new empty instance of VLWParser.
 	 * 
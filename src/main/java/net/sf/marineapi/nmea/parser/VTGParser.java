@@ -21,6 +21,7 @@
 package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.sentence.VTGSentence;
 import net.sf.marineapi.nmea.util.FaaMode;
@@ -52,6 +53,15 @@ class VTGParser extends SentenceParser implements VTGSentence {
 		super(nmea, SentenceId.VTG);
 	}
 
+	/**
+	 * Creates a new instance of VTGParser from validated sentence.
+	 *
+	 * @param layout Layout of VTG sentence String
+	 */
+	VTGParser(SentenceLayout layout) {
+		super(layout, SentenceId.VTG);
+	}
+
 	/**
 	 * Creates VTG parser with empty sentence.
 	 * 
@@ -73,6 +83,22 @@ class VTGParser extends SentenceParser implements VTGSentence {
 		return getDoubleValue(MAGNETIC_COURSE);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.VTGSentence#getMagneticCourse(double)
+	 */
+	public double getMagneticCourse(double defaultValue) {
+		return getDoubleValue(MAGNETIC_COURSE, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.VTGSentence#hasMagneticCourse()
+	 */
+	public boolean hasMagneticCourse() {
+		return hasValue(MAGNETIC_COURSE);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.VTGSentence#getMode()
@@ -89,6 +115,22 @@ class VTGParser extends SentenceParser implements VTGSentence {
 		return getDoubleValue(SPEED_KMPH);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.VTGSentence#getSpeedKmh(double)
+	 */
+	public double getSpeedKmh(double defaultValue) {
+		return getDoubleValue(SPEED_KMPH, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.VTGSentence#hasSpeedKmh()
+	 */
+	public boolean hasSpeedKmh() {
+		return hasValue(SPEED_KMPH);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.VTGSentence#getSpeedKnots()
@@ -97,6 +139,22 @@ class VTGParser extends SentenceParser implements VTGSentence {
 		return getDoubleValue(SPEED_KNOTS);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.VTGSentence#getSpeedKnots(double)
+	 */
+	public double getSpeedKnots(double defaultValue) {
+		return getDoubleValue(SPEED_KNOTS, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.VTGSentence#hasSpeedKnots()
+	 */
+	public boolean hasSpeedKnots() {
+		return hasValue(SPEED_KNOTS);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.VTGSentence#getTrueCourse()
@@ -105,6 +163,22 @@ class VTGParser extends SentenceParser implements VTGSentence {
 		return getDoubleValue(TRUE_COURSE);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.VTGSentence#getTrueCourse(double)
+	 */
+	public double getTrueCourse(double defaultValue) {
+		return getDoubleValue(TRUE_COURSE, defaultValue);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.VTGSentence#hasTrueCourse()
+	 */
+	public boolean hasTrueCourse() {
+		return hasValue(TRUE_COURSE);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.VTGSentence#setMagneticCourse(double)
@@ -21,6 +21,7 @@
 package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.sentence.VWRSentence;
 import net.sf.marineapi.nmea.util.Direction;
@@ -51,6 +52,15 @@ class VWRParser extends SentenceParser implements VWRSentence {
 		super(nmea, SentenceId.VWR);
 	}
 
+	/**
+	 * Creates a new instance of VWRParser from validated sentence.
+	 *
+	 * @param layout Layout of VWR sentence String
+	 */
+	VWRParser(SentenceLayout layout) {
+		super(layout, SentenceId.VWR);
+	}
+
 	/**
 	 * Creates VWR parser with empty sentence.
 	 *
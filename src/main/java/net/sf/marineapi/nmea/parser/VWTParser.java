@@ -21,6 +21,7 @@
 package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.sentence.VWTSentence;
 import net.sf.marineapi.nmea.util.Direction;
@@ -51,6 +52,15 @@ class VWTParser extends SentenceParser implements VWTSentence {
 		super(nmea, SentenceId.VWT);
 	}
 
+	/**
+	 * Creates a new instance of VWTParser from validated sentence.
+	 *
+	 * @param layout Layout of VWT sentence String
+	 */
+	VWTParser(SentenceLayout layout) {
+		super(layout, SentenceId.VWT);
+	}
+
 	/**
 	 * Creates VWT parser with empty sentence.
 	 *
@@ -21,6 +21,7 @@
 package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.sentence.WPLSentence;
 import net.sf.marineapi.nmea.util.Position;
@@ -50,6 +51,15 @@ class WPLParser extends PositionParser implements WPLSentence {
 		super(nmea, SentenceId.WPL);
 	}
 
+	/**
+	 * Creates a new instance of WPLParser from validated sentence.
+	 *
+	 * @param layout Layout of WPL sentence String
+	 */
+	WPLParser(SentenceLayout layout) {
+		super(layout, SentenceId.WPL);
+	}
+
 	/**
 	 * Creates WPL parser with empty sentence.
 	 * 
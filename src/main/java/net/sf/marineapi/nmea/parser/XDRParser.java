@@ -25,6 +25,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.sentence.XDRSentence;
 import net.sf.marineapi.nmea.util.Measurement;
@@ -71,6 +72,15 @@ class XDRParser extends SentenceParser implements XDRSentence {
 		super(nmea, SentenceId.XDR);
 	}
 
+	/**
+	 * Creates a new instance of XDRParser from validated sentence.
+	 *
+	 * @param layout Layout of XDR sentence String
+	 */
+	XDRParser(SentenceLayout layout) {
+		super(layout, SentenceId.XDR);
+	}
+
 	/**
 	 * Creates XDR parser with empty sentence.
 	 * 
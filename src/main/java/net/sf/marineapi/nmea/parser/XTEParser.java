@@ -21,6 +21,8 @@
 package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
+import net.sf.marineapi.nmea.sentence.SentenceValidator;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.sentence.XTESentence;
 import net.sf.marineapi.nmea.util.DataStatus;
@@ -47,8 +49,16 @@ class XTEParser extends SentenceParser implements XTESentence {
 	 * @param nmea XTE sentence String
 	 */
 	public XTEParser(String nmea) {
-		super(nmea);
-		setFieldCount(6);
+		this(SentenceValidator.validate(nmea));
+	}
+
+	/**
+	 * Creates a new instance of XTEParser from validated sentence.
+	 *
+	 * @param layout Layout of XTE sentence String
+	 */
+	XTEParser(SentenceLayout layout) {
+		super(layout);
 	}
 
 	public XTEParser(TalkerId talker) {
@@ -59,6 +69,14 @@ class XTEParser extends SentenceParser implements XTESentence {
 		setCharValue(DISTANCE_UNIT, 'N');
 	}
 
+	/**
+	 * Pads the sentence to six fields, as the FAA mode is often omitted.
+	 */
+	@Override
+	protected void parsed() {
+		setFieldCount(6);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -21,6 +21,7 @@
 package net.sf.marineapi.nmea.parser;
 
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.sentence.ZDASentence;
 import net.sf.marineapi.nmea.util.Date;
@@ -51,6 +52,15 @@ class ZDAParser extends SentenceParser implements ZDASentence {
 		super(nmea, SentenceId.ZDA);
 	}
 
+	/**
+	 * Creates a new instance of ZDAParser from validated sentence.
+	 *
+	 * @param layout Layout of ZDA sentence String
+	 */
+	ZDAParser(SentenceLayout layout) {
+		super(layout, SentenceId.ZDA);
+	}
+
 	/**
 	 * Creates WPL parser with empty sentence.
 	 *
@@ -93,11 +103,10 @@ class ZDAParser extends SentenceParser implements ZDASentence {
 	 */
 	public Time getTime() {
 
-		String str = getStringValue(UTC_TIME);
+		Time t = getTimeValue(UTC_TIME);
 		int tzHrs = getLocalZoneHours();
 		int tzMin = getLocalZoneMinutes();
 
-		Time t = new Time(str);
 		t.setOffsetHours(tzHrs);
 		t.setOffsetMinutes(tzMin);
 
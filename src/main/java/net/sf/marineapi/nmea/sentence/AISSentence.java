@@ -59,6 +59,16 @@ public interface AISSentence extends Sentence {
 	 */
 	String getMessageId();
 
+	/**
+	 * Tells if the sequential message ID is available. Single sentence
+	 * messages usually leave it blank.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasMessageId() {
+		return OptionalValues.has(this::getMessageId);
+	}
+
 	/**
 	 * Returns the radio channel information of the messsage.
 	 * 
@@ -66,6 +76,15 @@ public interface AISSentence extends Sentence {
 	 */
 	String getRadioChannel();
 
+	/**
+	 * Tells if the radio channel is available. Some receivers leave it blank.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasRadioChannel() {
+		return OptionalValues.has(this::getRadioChannel);
+	}
+
 	/**
 	 * Returns the raw 6-bit decoded message.
 	 * 
@@ -28,6 +28,9 @@ package net.sf.marineapi.nmea.sentence;
  */
 public final class Checksum {
 
+	// hexadecimal digits by value
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
 	private Checksum() {
 	}
 
@@ -39,8 +42,11 @@ public final class Checksum {
 	 */
 	public static String add(String nmea) {
 		String str = nmea.substring(0, index(nmea));
-		String sum = calculate(str);
-		return String.format("%s%c%s", str, Sentence.CHECKSUM_DELIMITER, sum);
+		int sum = xor(0, str, 1, str.length());
+		StringBuilder sb = new StringBuilder(str.length() + 3);
+		sb.append(str).append(Sentence.CHECKSUM_DELIMITER);
+		sb.append(hexDigit(sum >> 4)).append(hexDigit(sum));
+		return sb.toString();
 	}
 
 	/**
@@ -62,11 +68,38 @@ public final class Checksum {
 	 * @return Hexadecimal checksum
 	 */
 	public static String xor(String str) {
-		int sum = 0;
-		for (int i = 0; i < str.length(); i++) {
-			sum ^= (byte) str.charAt(i);
+		int sum = xor(0, str, 0, str.length());
+		return new String(new char[] { hexDigit(sum >> 4), hexDigit(sum) });
+	}
+
+	/**
+	 * Continues XOR checksum calculation over the specified range of
+	 * characters, allowing the checksum of a sentence to be calculated
+	 * incrementally while it is being written.
+	 *
+	 * @param sum Checksum of the preceding characters, or 0 to begin.
+	 * @param str Characters to add in checksum
+	 * @param start Index of first character (inclusive)
+	 * @param end Index of last character (exclusive)
+	 * @return Checksum value, 0-255
+	 */
+	public static int xor(int sum, CharSequence str, int start, int end) {
+		for (int i = start; i < end; i++) {
+			sum ^= str.charAt(i);
 		}
-		return String.format("%02X", sum);
+		return sum & 0xFF;
+	}
+
+	/**
+	 * Returns the hexadecimal digit of the lowest four bits of given value,
+	 * e.g. {@code hexDigit(sum >> 4)} and {@code hexDigit(sum)} for the two
+	 * digits of checksum.
+	 *
+	 * @param value Value to convert
+	 * @return Hexadecimal digit, 0-9 or A-F
+	 */
+	public static char hexDigit(int value) {
+		return HEX[value & 0xF];
 	}
 
 	/**
@@ -20,6 +20,7 @@
  */
 package net.sf.marineapi.nmea.sentence;
 
+
 /**
  * Interface for sentences containing the depth of water.
  * 
@@ -34,6 +35,27 @@ public interface DepthSentence extends Sentence {
 	 */
 	double getDepth();
 
+	/**
+	 * Tells if the depth is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasDepth() {
+		return OptionalValues.has(this::getDepth);
+	}
+
+	/**
+	 * Returns the depth, or the specified default value if not available or
+	 * malformed. Unlike {@link #getDepth()}, missing or malformed value does
+	 * not throw an exception.
+	 *
+	 * @param defaultValue Value to return if depth is not available
+	 * @return Depth or {@code defaultValue}
+	 */
+	default double getDepth(double defaultValue) {
+		return OptionalValues.getDouble(this::getDepth, defaultValue);
+	}
+
 	/**
 	 * Set depth of water, in meters.
 	 * 
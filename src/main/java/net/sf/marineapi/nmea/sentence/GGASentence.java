@@ -55,6 +55,27 @@ public interface GGASentence extends PositionSentence, TimeSentence {
 	 */
 	double getAltitude();
 
+	/**
+	 * Tells if the antenna altitude is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasAltitude() {
+		return OptionalValues.has(this::getAltitude);
+	}
+
+	/**
+	 * Returns the antenna altitude, or the specified default value if not
+	 * available or malformed. Unlike {@link #getAltitude()}, missing or
+	 * malformed value does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if antenna altitude is not available
+	 * @return Antenna altitude or {@code defaultValue}
+	 */
+	default double getAltitude(double defaultValue) {
+		return OptionalValues.getDouble(this::getAltitude, defaultValue);
+	}
+
 	/**
 	 * Gets the altitude units, meters or feet.
 	 * 
@@ -77,6 +98,27 @@ public interface GGASentence extends PositionSentence, TimeSentence {
 	 */
 	double getDgpsAge();
 
+	/**
+	 * Tells if the age of differential GPS data is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasDgpsAge() {
+		return OptionalValues.has(this::getDgpsAge);
+	}
+
+	/**
+	 * Returns the age of differential GPS data, or the specified default value
+	 * if not available or malformed. Unlike {@link #getDgpsAge()}, missing or
+	 * malformed value does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if age of differential GPS data is not available
+	 * @return Age of differential GPS data or {@code defaultValue}
+	 */
+	default double getDgpsAge(double defaultValue) {
+		return OptionalValues.getDouble(this::getDgpsAge, defaultValue);
+	}
+
 	/**
 	 * Gets the ID of DGPS station.
 	 * 
@@ -112,6 +154,27 @@ public interface GGASentence extends PositionSentence, TimeSentence {
 	 */
 	double getGeoidalHeight();
 
+	/**
+	 * Tells if the height of geoid is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasGeoidalHeight() {
+		return OptionalValues.has(this::getGeoidalHeight);
+	}
+
+	/**
+	 * Returns the height of geoid, or the specified default value if not
+	 * available or malformed. Unlike {@link #getGeoidalHeight()}, missing or
+	 * malformed value does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if height of geoid is not available
+	 * @return Height of geoid or {@code defaultValue}
+	 */
+	default double getGeoidalHeight(double defaultValue) {
+		return OptionalValues.getDouble(this::getGeoidalHeight, defaultValue);
+	}
+
 	/**
 	 * Get units of height above geoid.
 	 * 
@@ -135,6 +198,27 @@ public interface GGASentence extends PositionSentence, TimeSentence {
 	 */
 	double getHorizontalDOP();
 
+	/**
+	 * Tells if the horizontal dilution of precision is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasHorizontalDOP() {
+		return OptionalValues.has(this::getHorizontalDOP);
+	}
+
+	/**
+	 * Returns the horizontal dilution of precision, or the specified default
+	 * value if not available or malformed. Unlike {@link #getHorizontalDOP()},
+	 * missing or malformed value does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if horizontal dilution of precision is not available
+	 * @return Horizontal dilution of precision or {@code defaultValue}
+	 */
+	default double getHorizontalDOP(double defaultValue) {
+		return OptionalValues.getDouble(this::getHorizontalDOP, defaultValue);
+	}
+
 	/**
 	 * Get the number of active satellites in use.
 	 * 
@@ -146,6 +230,27 @@ public interface GGASentence extends PositionSentence, TimeSentence {
 	 */
 	int getSatelliteCount();
 
+	/**
+	 * Tells if the number of satellites in use is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasSatelliteCount() {
+		return OptionalValues.has(this::getSatelliteCount);
+	}
+
+	/**
+	 * Returns the number of satellites in use, or the specified default value
+	 * if not available or malformed. Unlike {@link #getSatelliteCount()},
+	 * missing or malformed value does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if number of satellites in use is not available
+	 * @return Number of satellites in use or {@code defaultValue}
+	 */
+	default int getSatelliteCount(int defaultValue) {
+		return OptionalValues.getInt(this::getSatelliteCount, defaultValue);
+	}
+
 	/**
 	 * Set the antenna altitude.
 	 * 
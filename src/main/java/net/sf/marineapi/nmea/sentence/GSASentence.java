@@ -57,6 +57,27 @@ public interface GSASentence extends Sentence {
 	 */
 	double getHorizontalDOP();
 
+	/**
+	 * Tells if the horizontal dilution of precision is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasHorizontalDOP() {
+		return OptionalValues.has(this::getHorizontalDOP);
+	}
+
+	/**
+	 * Returns the horizontal dilution of precision, or the specified default
+	 * value if not available or malformed. Unlike {@link #getHorizontalDOP()},
+	 * missing or malformed value does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if horizontal dilution of precision is not available
+	 * @return Horizontal dilution of precision or {@code defaultValue}
+	 */
+	default double getHorizontalDOP(double defaultValue) {
+		return OptionalValues.getDouble(this::getHorizontalDOP, defaultValue);
+	}
+
 	/**
 	 * Get the FAA operation mode of GPS.
 	 * 
@@ -79,6 +100,27 @@ public interface GSASentence extends Sentence {
 	 */
 	double getPositionDOP();
 
+	/**
+	 * Tells if the position dilution of precision is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasPositionDOP() {
+		return OptionalValues.has(this::getPositionDOP);
+	}
+
+	/**
+	 * Returns the position dilution of precision, or the specified default
+	 * value if not available or malformed. Unlike {@link #getPositionDOP()},
+	 * missing or malformed value does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if position dilution of precision is not available
+	 * @return Position dilution of precision or {@code defaultValue}
+	 */
+	default double getPositionDOP(double defaultValue) {
+		return OptionalValues.getDouble(this::getPositionDOP, defaultValue);
+	}
+
 	/**
 	 * Get list of satellites used for acquiring the GPS fix.
 	 * 
@@ -101,6 +143,27 @@ public interface GSASentence extends Sentence {
 	 */
 	double getVerticalDOP();
 
+	/**
+	 * Tells if the vertical dilution of precision is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasVerticalDOP() {
+		return OptionalValues.has(this::getVerticalDOP);
+	}
+
+	/**
+	 * Returns the vertical dilution of precision, or the specified default
+	 * value if not available or malformed. Unlike {@link #getVerticalDOP()},
+	 * missing or malformed value does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if vertical dilution of precision is not available
+	 * @return Vertical dilution of precision or {@code defaultValue}
+	 */
+	default double getVerticalDOP(double defaultValue) {
+		return OptionalValues.getDouble(this::getVerticalDOP, defaultValue);
+	}
+
 	/**
 	 * Set the GPS fix mode; 2D, 3D or no fix.
 	 * 
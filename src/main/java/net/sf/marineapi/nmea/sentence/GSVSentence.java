@@ -48,7 +48,10 @@ public interface GSVSentence extends Sentence {
 	int getSatelliteCount();
 
 	/**
-	 * Get the satellites information.
+	 * Get the satellites information. Satellites having a blank or malformed
+	 * id, elevation or azimuth are left out of the list, and blank or
+	 * malformed SNR is reported as zero. Thus, this method does not throw
+	 * exceptions on missing or invalid satellite data.
 	 * 
 	 * @return List of SatelliteInfo objects.
 	 */
@@ -20,6 +20,7 @@
  */
 package net.sf.marineapi.nmea.sentence;
 
+
 /**
  * <p>Vessel heading with magnetic deviation and variation.</p>
  * 
@@ -36,6 +37,27 @@ public interface HDGSentence extends HeadingSentence {
 	 */
 	double getDeviation();
 
+	/**
+	 * Tells if the magnetic deviation is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasDeviation() {
+		return OptionalValues.has(this::getDeviation);
+	}
+
+	/**
+	 * Returns the magnetic deviation, or the specified default value if not
+	 * available or malformed. Unlike {@link #getDeviation()}, missing or
+	 * malformed value does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if magnetic deviation is not available
+	 * @return Magnetic deviation or {@code defaultValue}
+	 */
+	default double getDeviation(double defaultValue) {
+		return OptionalValues.getDouble(this::getDeviation, defaultValue);
+	}
+
 	/**
 	 * Get magnetic variation. Returns negative values for easterly variation
 	 * and positive for westerly.
@@ -44,6 +66,27 @@ public interface HDGSentence extends HeadingSentence {
 	 */
 	double getVariation();
 
+	/**
+	 * Tells if the magnetic variation is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasVariation() {
+		return OptionalValues.has(this::getVariation);
+	}
+
+	/**
+	 * Returns the magnetic variation, or the specified default value if not
+	 * available or malformed. Unlike {@link #getVariation()}, missing or
+	 * malformed value does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if magnetic variation is not available
+	 * @return Magnetic variation or {@code defaultValue}
+	 */
+	default double getVariation(double defaultValue) {
+		return OptionalValues.getDouble(this::getVariation, defaultValue);
+	}
+
 	/**
 	 * Set magnetic deviation. Provide negative values to set easterly deviation
 	 * and positive to set westerly. Sets also the correct direction indicator
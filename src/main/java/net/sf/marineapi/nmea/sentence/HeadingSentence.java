@@ -35,6 +35,27 @@ public interface HeadingSentence extends Sentence {
 	 */
 	double getHeading();
 
+	/**
+	 * Tells if the heading is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasHeading() {
+		return OptionalValues.has(this::getHeading);
+	}
+
+	/**
+	 * Returns the heading, or the specified default value if not available or
+	 * malformed. Unlike {@link #getHeading()}, missing or malformed value does
+	 * not throw an exception.
+	 *
+	 * @param defaultValue Value to return if heading is not available
+	 * @return Heading or {@code defaultValue}
+	 */
+	default double getHeading(double defaultValue) {
+		return OptionalValues.getDouble(this::getHeading, defaultValue);
+	}
+
 	/**
 	 * Tells if the heading returned and set by {@link #getHeading()} and
 	 * {@link #setHeading(double)} methods is <em>true</em> or <em>magnetic</em>
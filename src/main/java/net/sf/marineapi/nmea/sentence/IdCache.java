@@ -0,0 +1,66 @@
+/*
+ * IdCache.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.sentence;
+
+/**
+ * Cache of talker and sentence id Strings that are not enum constants, e.g.
+ * proprietary and custom sentence ids. Recurring ids are thus returned as
+ * the same String instance, without creating substrings of each sentence.
+ * <p>
+ * The cache is direct-mapped by hash code of the id and a colliding id
+ * replaces the previous one. Strings are immutable, so the slots are
+ * updated without locking and a racing thread may only miss the cache.
+ * </p>
+ *
+ * @author Kimmo Tuukkanen
+ */
+final class IdCache {
+
+	private static final int SIZE = 256;
+
+	private static final String[] CACHE = new String[SIZE];
+
+	private IdCache() {
+	}
+
+	/**
+	 * Returns the id String in specified range of chars.
+	 *
+	 * @param s String containing the id
+	 * @param start Start index, inclusive
+	 * @param end End index, exclusive
+	 * @return Id String
+	 */
+	static String get(String s, int start, int end) {
+		int hash = 0;
+		for (int i = start; i < end; i++) {
+			hash = 31 * hash + s.charAt(i);
+		}
+		int slot = (hash ^ (hash >>> 16)) & (SIZE - 1);
+		String id = CACHE[slot];
+		if (id == null || id.length() != end - start
+			|| !s.regionMatches(start, id, 0, id.length())) {
+			id = s.substring(start, end);
+			CACHE[slot] = id;
+		}
+		return id;
+	}
+}
@@ -40,6 +40,27 @@ public interface MWVSentence extends Sentence {
 	 */
 	double getAngle();
 
+	/**
+	 * Tells if the wind angle is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasAngle() {
+		return OptionalValues.has(this::getAngle);
+	}
+
+	/**
+	 * Returns the wind angle, or the specified default value if not available
+	 * or malformed. Unlike {@link #getAngle()}, missing or malformed value does
+	 * not throw an exception.
+	 *
+	 * @param defaultValue Value to return if wind angle is not available
+	 * @return Wind angle or {@code defaultValue}
+	 */
+	default double getAngle(double defaultValue) {
+		return OptionalValues.getDouble(this::getAngle, defaultValue);
+	}
+
 	/**
 	 * Returns the wind speed.
 	 * 
@@ -47,6 +68,27 @@ public interface MWVSentence extends Sentence {
 	 */
 	double getSpeed();
 
+	/**
+	 * Tells if the wind speed is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasSpeed() {
+		return OptionalValues.has(this::getSpeed);
+	}
+
+	/**
+	 * Returns the wind speed, or the specified default value if not available
+	 * or malformed. Unlike {@link #getSpeed()}, missing or malformed value does
+	 * not throw an exception.
+	 *
+	 * @param defaultValue Value to return if wind speed is not available
+	 * @return Wind speed or {@code defaultValue}
+	 */
+	default double getSpeed(double defaultValue) {
+		return OptionalValues.getDouble(this::getSpeed, defaultValue);
+	}
+
 	/**
 	 * Returns the wind speed unit.
 	 * 
@@ -0,0 +1,91 @@
+/*
+ * OptionalValues.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.sentence;
+
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+
+import net.sf.marineapi.nmea.parser.DataNotAvailableException;
+import net.sf.marineapi.nmea.parser.ParseException;
+
+/**
+ * Default implementation of the optional field accessors of sentence
+ * interfaces, based on the plain getters. Used by sentences that implement
+ * only the plain getters, whereas the parsers of library check the fields
+ * directly without exceptions.
+ *
+ * @author Kimmo Tuukkanen
+ */
+final class OptionalValues {
+
+	private OptionalValues() {
+	}
+
+	/**
+	 * Tells if the field read by given getter has a value, i.e. the getter
+	 * does not report missing data. Malformed value is considered present.
+	 *
+	 * @param getter Plain getter of the field
+	 * @return {@code true} if field has a value, otherwise {@code false}.
+	 */
+	static boolean has(Runnable getter) {
+		try {
+			getter.run();
+			return true;
+		} catch (ParseException e) {
+			return true;
+		} catch (DataNotAvailableException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the value of given getter, or the default value if the field
+	 * is empty or cannot be parsed.
+	 *
+	 * @param getter Plain getter of the field
+	 * @param defaultValue Value to return if not available
+	 * @return Field value or {@code defaultValue}
+	 */
+	static double getDouble(DoubleSupplier getter, double defaultValue) {
+		try {
+			return getter.getAsDouble();
+		} catch (DataNotAvailableException | IllegalArgumentException e) {
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * Returns the value of given getter, or the default value if the field
+	 * is empty or cannot be parsed.
+	 *
+	 * @param getter Plain getter of the field
+	 * @param defaultValue Value to return if not available
+	 * @return Field value or {@code defaultValue}
+	 */
+	static int getInt(IntSupplier getter, int defaultValue) {
+		try {
+			return getter.getAsInt();
+		} catch (DataNotAvailableException | IllegalArgumentException e) {
+			return defaultValue;
+		}
+	}
+}
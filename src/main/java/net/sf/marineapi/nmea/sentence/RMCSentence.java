@@ -63,6 +63,27 @@ public interface RMCSentence extends PositionSentence, TimeSentence,
 	 */
 	double getCourse();
 
+	/**
+	 * Tells if the course over ground is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasCourse() {
+		return OptionalValues.has(this::getCourse);
+	}
+
+	/**
+	 * Returns the course over ground, or the specified default value if not
+	 * available or malformed. Unlike {@link #getCourse()}, missing or malformed
+	 * value does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if course over ground is not available
+	 * @return Course over ground or {@code defaultValue}
+	 */
+	default double getCourse(double defaultValue) {
+		return OptionalValues.getDouble(this::getCourse, defaultValue);
+	}
+
 	/**
 	 * Get the direction of magnetic variation; east or west.
 	 * 
@@ -103,6 +124,27 @@ public interface RMCSentence extends PositionSentence, TimeSentence,
 	 */
 	double getSpeed();
 
+	/**
+	 * Tells if the speed over ground is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasSpeed() {
+		return OptionalValues.has(this::getSpeed);
+	}
+
+	/**
+	 * Returns the speed over ground, or the specified default value if not
+	 * available or malformed. Unlike {@link #getSpeed()}, missing or malformed
+	 * value does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if speed over ground is not available
+	 * @return Speed over ground or {@code defaultValue}
+	 */
+	default double getSpeed(double defaultValue) {
+		return OptionalValues.getDouble(this::getSpeed, defaultValue);
+	}
+
 	/**
 	 * Gets the data status, valid or invalid.
 	 * 
@@ -127,6 +169,27 @@ public interface RMCSentence extends PositionSentence, TimeSentence,
 	 */
 	double getVariation();
 
+	/**
+	 * Tells if the magnetic variation is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasVariation() {
+		return OptionalValues.has(this::getVariation);
+	}
+
+	/**
+	 * Returns the magnetic variation, or the specified default value if not
+	 * available or malformed. Unlike {@link #getVariation()}, missing or
+	 * malformed value does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if magnetic variation is not available
+	 * @return Magnetic variation or {@code defaultValue}
+	 */
+	default double getVariation(double defaultValue) {
+		return OptionalValues.getDouble(this::getVariation, defaultValue);
+	}
+
 	/**
 	 * Set true course over ground (COG).
 	 * 
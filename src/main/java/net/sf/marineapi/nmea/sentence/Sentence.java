@@ -20,6 +20,10 @@
  */
 package net.sf.marineapi.nmea.sentence;
 
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
 /**
  * Base interface and constants for NMEA 0183 sentences.
  *
@@ -74,6 +78,20 @@ public interface Sentence {
 	 */
 	int getFieldCount();
 
+	/**
+	 * Returns the sentence String this sentence was parsed from, as it was
+	 * received, if the sentence has not been modified since. Otherwise, e.g.
+	 * if the sentence was created empty or any of its fields have been set,
+	 * returns the result of {@link #toString()}. Suitable for relaying the
+	 * sentences without encoding them again. The default implementation
+	 * returns {@code toString()}.
+	 *
+	 * @return Original or formatted sentence String
+	 */
+	default String getRawSentence() {
+		return toString();
+	}
+
 	/**
 	 * Get the sentence ID that specifies the sentence type and data it holds.
 	 * ID is the last three characters in address field. For example, in case of
@@ -174,4 +192,44 @@ public interface Sentence {
 	 * @return String representation of sentence
 	 */
 	String toString();
+
+	/**
+	 * Writes the sentence in specified output, as returned by
+	 * {@link #toString()}. The default implementation writes the result of
+	 * {@link #toSentence()}. {@link net.sf.marineapi.nmea.parser.SentenceParser}
+	 * writes the fields directly in the output and calculates the checksum
+	 * while writing, without creating intermediate Strings. The sentence is
+	 * validated first only if it has been modified with values that may make
+	 * it invalid.
+	 *
+	 * @param out Output to write to, e.g. a {@code StringBuilder} or
+	 *            {@code Writer}.
+	 * @throws IOException If writing to output fails.
+	 * @throws IllegalStateException If the sentence is invalid, as in
+	 *             {@link #toSentence()}.
+	 */
+	default void writeTo(Appendable out) throws IOException {
+		out.append(toSentence());
+	}
+
+	/**
+	 * Writes the sentence in specified buffer as ASCII bytes, as returned by
+	 * {@link #toString()}, starting at the current position of buffer. The
+	 * default implementation writes the result of {@link #toSentence()}.
+	 *
+	 * @param buffer Buffer to write to
+	 * @throws BufferOverflowException If the remaining space in buffer is
+	 *             insufficient, in which case nothing is written.
+	 * @throws IllegalStateException If the sentence is invalid, as in
+	 *             {@link #toSentence()}, in which case nothing is written.
+	 */
+	default void writeTo(ByteBuffer buffer) {
+		String s = toSentence();
+		if (buffer.remaining() < s.length()) {
+			throw new BufferOverflowException();
+		}
+		for (int i = 0; i < s.length(); i++) {
+			buffer.put((byte) s.charAt(i));
+		}
+	}
 }
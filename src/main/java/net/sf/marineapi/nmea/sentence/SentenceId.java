@@ -20,6 +20,8 @@
  */
 package net.sf.marineapi.nmea.sentence;
 
+import java.util.Arrays;
+
 /**
  * Defines the supported NMEA 0183 sentence types. Sentence address field is a
  * combination of talker and sentence IDs, for example GPBOD, GPGGA or GPGGL.
@@ -139,6 +141,98 @@ public enum SentenceId {
     /** UTC time and date with local time zone offset */
 	ZDA;
 
+    // initial and max bits in perfect hash of sentence ids
+    private static final int MIN_BITS = 8;
+    private static final int MAX_BITS = 16;
+
+    // multipliers to try for each table size before growing the table
+    private static final int MAX_TRIES = 10000;
+
+    // sentence ids by perfect hash
+    private static final SentenceId[] TABLE;
+
+    // shift of hash that gives the slot in table
+    private static final int SHIFT;
+
+    // hash multiplier that maps each id to a different slot, see below
+    private static final int MULTIPLIER;
+
+    static {
+        SentenceId[] table = null;
+        int multiplier = 0;
+        int bits = MIN_BITS;
+        search:
+        for (; bits <= MAX_BITS; bits++) {
+            table = new SentenceId[1 << bits];
+            int m = 0x9E3779B1;
+            for (int i = 0; i < MAX_TRIES; i++, m += 2) {
+                if (fill(table, m, 32 - bits)) {
+                    multiplier = m;
+                    break search;
+                }
+            }
+        }
+        if (bits > MAX_BITS) {
+            throw new IllegalStateException("No perfect hash for sentence ids");
+        }
+        TABLE = table;
+        SHIFT = 32 - bits;
+        MULTIPLIER = multiplier;
+    }
+
+    /**
+     * Fills the table with given hash multiplier and shift.
+     *
+     * @return {@code true} if successful, {@code false} if ids collided.
+     */
+    private static boolean fill(SentenceId[] table, int multiplier, int shift) {
+        Arrays.fill(table, null);
+        for (SentenceId id : values()) {
+            int slot = slot(pack(id.name(), 0), multiplier, shift);
+            if (table[slot] != null) {
+                return false;
+            }
+            table[slot] = id;
+        }
+        return true;
+    }
+
+    private static int pack(CharSequence chars, int start) {
+        return chars.charAt(start) << 16 | chars.charAt(start + 1) << 8
+            | chars.charAt(start + 2);
+    }
+
+    private static int slot(int key, int multiplier, int shift) {
+        return (key * multiplier) >>> shift;
+    }
+
+    /**
+     * Returns the SentenceId in specified range of chars, without creating
+     * a String of the range.
+     *
+     * @param chars Chars containing the sentence id, e.g. a sentence String
+     * @param start Index where sentence id begins, inclusive
+     * @param end Index where sentence id ends, exclusive
+     * @return SentenceId enum or {@code null} if range does not contain a
+     *         sentence id of this enum, e.g. proprietary or custom id.
+     */
+    public static SentenceId lookup(CharSequence chars, int start, int end) {
+        if (end - start != 3) {
+            return null;
+        }
+        SentenceId id = TABLE[slot(pack(chars, start), MULTIPLIER, SHIFT)];
+        if (id == null) {
+            return null;
+        }
+        String name = id.name();
+        for (int i = 0; i < 3; i++) {
+            if (name.charAt(i) != chars.charAt(start + i)) {
+                return null;
+            }
+        }
+        return id;
+    }
+
     /**
      * Parses the sentence id from specified sentence String and returns a
      * corresponding {@code SentenceId} enum (assuming it exists).
@@ -149,8 +243,12 @@ public enum SentenceId {
      *             sentence
      */
     public static SentenceId parse(String nmea) {
-        String sid = parseStr(nmea);
-        return SentenceId.valueOf(sid);
+        SentenceLayout layout = SentenceValidator.validate(nmea);
+        if (!layout.isSentence()) {
+            throw new IllegalArgumentException("String is not a sentence");
+        }
+        SentenceId id = layout.resolveSentenceId();
+        return id != null ? id : SentenceId.valueOf(layout.getSentenceId());
     }
 
     /**
@@ -164,16 +262,10 @@ public enum SentenceId {
      */
     public static String parseStr(String nmea) {
 
-        if (!SentenceValidator.isSentence(nmea)) {
+        SentenceLayout layout = SentenceValidator.validate(nmea);
+        if (!layout.isSentence()) {
             throw new IllegalArgumentException("String is not a sentence");
         }
-
-        String id = null;
-        if (nmea.startsWith("$P")) {
-            id = nmea.substring(2, nmea.indexOf(','));
-        } else {
-            id = nmea.substring(3, nmea.indexOf(','));
-        }
-        return id;
+        return layout.getSentenceId();
     }
 }
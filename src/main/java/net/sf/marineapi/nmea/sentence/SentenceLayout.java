@@ -0,0 +1,323 @@
+/*
+ * SentenceLayout.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.sentence;
+
+import java.util.Arrays;
+
+/**
+ * Result of validating a String as NMEA 0183 sentence. The String is scanned
+ * once, checking the framing, character set and checksum and recording the
+ * positions of talker id, sentence id, data fields and checksum. The
+ * positions are valid only if the String was recognized as a sentence.
+ *
+ * @author Kimmo Tuukkanen
+ * @see SentenceValidator#validate(String)
+ */
+public final class SentenceLayout {
+
+	// sentence id length limits
+	private static final int MIN_ID = 3;
+	private static final int MAX_ID = 10;
+
+	private static final int[] NO_FIELDS = new int[0];
+
+	private final String nmea;
+	private boolean sentence;
+	private boolean valid;
+	private int idStart;
+	private int idEnd;
+	private int checksumIndex;
+	private int fieldsEnd;
+	private int fieldCount;
+	private int[] fieldStarts = NO_FIELDS;
+
+	/**
+	 * Creates a new layout by scanning the given String.
+	 *
+	 * @param nmea String to scan, may be {@code null}.
+	 */
+	SentenceLayout(String nmea) {
+		this.nmea = nmea;
+		if (nmea != null && !nmea.isEmpty()) {
+			scan();
+		}
+	}
+
+	/**
+	 * Returns the scanned String.
+	 *
+	 * @return Sentence String
+	 */
+	public String getString() {
+		return nmea;
+	}
+
+	/**
+	 * Tells if the String matches the NMEA 0183 sentence format.
+	 *
+	 * @return {@code true} if recognized as sentence, otherwise {@code false}.
+	 * @see SentenceValidator#isSentence(String)
+	 */
+	public boolean isSentence() {
+		return sentence;
+	}
+
+	/**
+	 * Tells if the String is a sentence with correct or omitted checksum.
+	 *
+	 * @return {@code true} if valid, otherwise {@code false}.
+	 * @see SentenceValidator#isValid(String)
+	 */
+	public boolean isValid() {
+		return valid;
+	}
+
+	/**
+	 * Returns the index where talker id begins.
+	 *
+	 * @return Talker id start index
+	 */
+	public int getTalkerIdStart() {
+		return 1;
+	}
+
+	/**
+	 * Returns the index where talker id ends (exclusive), i.e. where sentence
+	 * id begins. Proprietary sentences have one char talker id "P".
+	 *
+	 * @return Talker id end index
+	 */
+	public int getTalkerIdEnd() {
+		return idStart;
+	}
+
+	/**
+	 * Returns the index of field delimiter following the sentence id.
+	 *
+	 * @return Sentence id end index (exclusive)
+	 */
+	public int getSentenceIdEnd() {
+		return idEnd;
+	}
+
+	/**
+	 * Returns the talker id String, e.g. "GP" or "P". Known and recurring
+	 * ids are returned as shared String instances.
+	 *
+	 * @return Talker id
+	 */
+	public String getTalkerId() {
+		TalkerId id = TalkerId.lookup(nmea, 1, idStart);
+		return id != null ? id.name() : IdCache.get(nmea, 1, idStart);
+	}
+
+	/**
+	 * Returns the talker id enum, resolved from the chars of sentence.
+	 *
+	 * @return TalkerId enum
+	 * @throws IllegalArgumentException If talker id is not defined in
+	 *             {@link TalkerId}.
+	 */
+	public TalkerId resolveTalkerId() {
+		TalkerId id = TalkerId.lookup(nmea, 1, idStart);
+		return id != null ? id : TalkerId.valueOf(getTalkerId());
+	}
+
+	/**
+	 * Returns the sentence id String, e.g. "GGA" or "GLL". Known and
+	 * recurring ids are returned as shared String instances.
+	 *
+	 * @return Sentence id
+	 */
+	public String getSentenceId() {
+		SentenceId id = SentenceId.lookup(nmea, idStart, idEnd);
+		return id != null ? id.name() : IdCache.get(nmea, idStart, idEnd);
+	}
+
+	/**
+	 * Returns the sentence id enum, resolved from the chars of sentence.
+	 *
+	 * @return SentenceId enum or {@code null} if sentence id is not defined
+	 *         in {@link SentenceId}, e.g. proprietary or custom sentence.
+	 */
+	public SentenceId resolveSentenceId() {
+		return SentenceId.lookup(nmea, idStart, idEnd);
+	}
+
+	/**
+	 * Returns the index of checksum delimiter, or String length if the
+	 * sentence has no checksum.
+	 *
+	 * @return Checksum index
+	 * @see Checksum#index(String)
+	 */
+	public int getChecksumIndex() {
+		return checksumIndex;
+	}
+
+	/**
+	 * Returns the number of data fields.
+	 *
+	 * @return Field count
+	 */
+	public int getFieldCount() {
+		return fieldCount;
+	}
+
+	/**
+	 * Returns the index where specified data field begins.
+	 *
+	 * @param index Field index
+	 * @return Start index of field
+	 */
+	public int getFieldStart(int index) {
+		if (index < 0 || index >= fieldCount) {
+			throw new IndexOutOfBoundsException("Field index " + index);
+		}
+		return fieldStarts[index];
+	}
+
+	/**
+	 * Returns the index where specified data field ends (exclusive).
+	 *
+	 * @param index Field index
+	 * @return End index of field
+	 */
+	public int getFieldEnd(int index) {
+		if (index < 0 || index >= fieldCount) {
+			throw new IndexOutOfBoundsException("Field index " + index);
+		}
+		return index + 1 < fieldCount ? fieldStarts[index + 1] - 1 : fieldsEnd;
+	}
+
+	/**
+	 * Returns the value of specified data field.
+	 *
+	 * @param index Field index
+	 * @return Field value, empty String if field is empty.
+	 */
+	public String getField(int index) {
+		return nmea.substring(getFieldStart(index), getFieldEnd(index));
+	}
+
+	/**
+	 * Scans the String and records the positions.
+	 */
+	private void scan() {
+		final String s = nmea;
+		final int length = s.length();
+
+		// begin char, '|' accepted for compatibility with former pattern
+		char c = s.charAt(0);
+		if (c != '$' && c != '!' && c != '|') {
+			return;
+		}
+
+		// sentence id
+		int i = 1;
+		while (i < length && isIdChar(s.charAt(i))) {
+			i++;
+		}
+		int idLength = i - 1;
+		if (idLength < MIN_ID || idLength > MAX_ID || i == length
+			|| s.charAt(i) != Sentence.FIELD_DELIMITER) {
+			return;
+		}
+		boolean proprietary = c == '$' && s.charAt(1) == 'P';
+		idStart = proprietary ? 2 : 3;
+		idEnd = i;
+
+		// optional terminator
+		int end = length;
+		c = s.charAt(end - 1);
+		if (c == '\r' || c == '\n') {
+			end--;
+			char t = c == '\r' ? '\n' : '\r';
+			if (end > i && s.charAt(end - 1) == t) {
+				end--;
+			}
+		}
+
+		// payload and checksum of chars preceding the first delimiter
+		int sum = 0;
+		for (int k = 1; k < i; k++) {
+			sum ^= s.charAt(k);
+		}
+		int[] starts = new int[16];
+		int count = 1;
+		starts[0] = i + 1;
+		int star = -1;
+		for (int k = i; k < end; k++) {
+			c = s.charAt(k);
+			if (c < 0x20 || c > 0x7F) {
+				return;
+			}
+			if (star < 0) {
+				if (c == Sentence.CHECKSUM_DELIMITER) {
+					star = k;
+				} else {
+					sum ^= c;
+					if (c == Sentence.FIELD_DELIMITER && k > i) {
+						if (count == starts.length) {
+							starts = Arrays.copyOf(starts, count * 2);
+						}
+						starts[count++] = k + 1;
+					}
+				}
+			}
+		}
+		if (star < 0) {
+			// terminator, if any, is included in last field
+			checksumIndex = length;
+			valid = true;
+		} else {
+			checksumIndex = star;
+			int h = end - 3;
+			if (h <= i || s.charAt(h) != Sentence.CHECKSUM_DELIMITER) {
+				return;
+			}
+			int hi = hexValue(s.charAt(h + 1));
+			int lo = hexValue(s.charAt(h + 2));
+			if (hi < 0 || lo < 0) {
+				return;
+			}
+			valid = star == h && end == length && (hi << 4 | lo) == sum;
+		}
+		sentence = true;
+		fieldsEnd = checksumIndex;
+		fieldCount = count;
+		fieldStarts = starts;
+	}
+
+	private static boolean isIdChar(char c) {
+		return (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+	}
+
+	private static int hexValue(char c) {
+		if (c >= '0' && c <= '9') {
+			return c - '0';
+		}
+		if (c >= 'A' && c <= 'F') {
+			return c - 'A' + 10;
+		}
+		return -1;
+	}
+}
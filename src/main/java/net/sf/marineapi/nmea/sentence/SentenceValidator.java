@@ -20,24 +20,32 @@
  */
 package net.sf.marineapi.nmea.sentence;
 
-import java.util.regex.Pattern;
-
 /**
  * SentenceValidator for detecting and validation of sentence Strings.
+ * <p>
+ * Strings are validated by scanning them once into a {@link SentenceLayout}.
+ * Callers that parse the String after validating it should pass the layout
+ * to {@link net.sf.marineapi.nmea.parser.SentenceFactory#createParser(SentenceLayout)},
+ * so that the String is not scanned again.
+ * </p>
  *
  * @author Kimmo Tuukkanen
  */
 public final class SentenceValidator {
 
-	private static final Pattern reChecksum = Pattern.compile(
-		"^[$|!]{1}[A-Z0-9]{3,10}[,][\\x20-\\x7F]*[*][A-F0-9]{2}(\\r|\\n|\\r\\n|\\n\\r){0,1}$");
-
-	private static final Pattern reNoChecksum = Pattern.compile(
-		"^[$|!]{1}[A-Z0-9]{3,10}[,][\\x20-\\x7F]*(\\r|\\n|\\r\\n|\\n\\r){0,1}$");
-
 	private SentenceValidator() {
 	}
 
+	/**
+	 * Scans the specified String and returns its layout.
+	 *
+	 * @param nmea String to validate, may be {@code null}.
+	 * @return Layout of the String
+	 */
+	public static SentenceLayout validate(String nmea) {
+		return new SentenceLayout(nmea);
+	}
+
 	/**
 	 * <p>
 	 * Tells if the specified String matches the NMEA 0183 sentence format.</p>
@@ -63,16 +71,7 @@ public final class SentenceValidator {
 	 * @return true if recognized as sentence, otherwise false.
 	 */
 	public static boolean isSentence(String nmea) {
-
-		if (nmea == null || "".equals(nmea)) {
-			return false;
-		}
-
-		if (Checksum.index(nmea) == nmea.length()) {
-			return reNoChecksum.matcher(nmea).matches();
-		}
-
-		return reChecksum.matcher(nmea).matches();
+		return validate(nmea).isSentence();
 	}
 
 	/**
@@ -85,20 +84,6 @@ public final class SentenceValidator {
 	 * @return {@code true} if valid, otherwise {@code false}.
 	 */
 	public static boolean isValid(String nmea) {
-
-		boolean isValid = false;
-
-		if (SentenceValidator.isSentence(nmea)) {
-			int i = nmea.indexOf(Sentence.CHECKSUM_DELIMITER);
-			if (i > 0) {
-				String sum = nmea.substring(++i, nmea.length());
-				isValid = sum.equals(Checksum.calculate(nmea));
-			} else {
-				// no checksum
-				isValid = true;
-			}
-		}
-
-		return isValid;
+		return validate(nmea).isValid();
 	}
 }
@@ -259,6 +259,63 @@ public enum TalkerId {
 	/** Timekeeper - Radio Update, WWV or WWVH */
 	ZV;
 
+	// number of chars allowed in ids, A-Z and 0-9
+	private static final int CHARS = 36;
+
+	// two char ids by index of their chars
+	private static final TalkerId[] TABLE = new TalkerId[CHARS * CHARS];
+
+	static {
+		for (TalkerId id : values()) {
+			String name = id.name();
+			if (name.length() == 2) {
+				TABLE[index(name, 0, 2)] = id;
+			}
+		}
+	}
+
+	/**
+	 * Returns the TalkerId in specified range of chars, without creating a
+	 * String of the range.
+	 *
+	 * @param chars Chars containing the talker id, e.g. a sentence String
+	 * @param start Index where talker id begins, inclusive
+	 * @param end Index where talker id ends, exclusive
+	 * @return TalkerId enum or {@code null} if range does not contain a
+	 *         talker id of this enum.
+	 */
+	public static TalkerId lookup(CharSequence chars, int start, int end) {
+		if (end - start == 1) {
+			return chars.charAt(start) == 'P' ? P : null;
+		}
+		if (end - start == 2) {
+			int i = index(chars, start, end);
+			return i < 0 ? null : TABLE[i];
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the table index of two char id in specified range, or -1 if
+	 * the range contains other than A-Z and 0-9.
+	 */
+	private static int index(CharSequence chars, int start, int end) {
+		int index = 0;
+		for (int i = start; i < end; i++) {
+			char c = chars.charAt(i);
+			int code;
+			if (c >= 'A' && c <= 'Z') {
+				code = c - 'A';
+			} else if (c >= '0' && c <= '9') {
+				code = c - '0' + 26;
+			} else {
+				return -1;
+			}
+			index = index * CHARS + code;
+		}
+		return index;
+	}
+
 	/**
 	 * Parses the Talker ID from specified sentence String and returns the
 	 * corresponding TalkerId enum using the {@link TalkerId#valueOf(Class, String)} method.
@@ -270,16 +327,10 @@ public enum TalkerId {
 	 */
 	public static TalkerId parse(String nmea) {
 
-		if (!SentenceValidator.isSentence(nmea)) {
+		SentenceLayout layout = SentenceValidator.validate(nmea);
+		if (!layout.isSentence()) {
 			throw new IllegalArgumentException("String is not a sentence");
 		}
-
-		String tid = "";
-		if (nmea.startsWith("$P")) {
-			tid = "P";
-		} else {
-			tid = nmea.substring(1, 3);
-		}
-		return TalkerId.valueOf(TalkerId.class, tid);
+		return layout.resolveTalkerId();
 	}
 }
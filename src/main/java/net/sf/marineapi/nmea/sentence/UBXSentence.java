@@ -70,6 +70,18 @@ public interface UBXSentence extends Sentence {
 	 */
 	Integer getUBXFieldIntValue(int index);
 
+	/**
+	 * Parse integer value from the specified sentence field, or return the
+	 * given default value if the field is empty or malformed.
+	 *
+	 * @param index Field index in sentence
+	 * @param defaultValue Value to return if field is empty or malformed
+	 * @return Field parsed by {@link SentenceParser} or {@code defaultValue}
+	 */
+	default int getUBXFieldIntValue(int index, int defaultValue) {
+		return OptionalValues.getInt(() -> getUBXFieldIntValue(index), defaultValue);
+	}
+
 	/**
 	 * Parse {@link String} value from the specified sentence field.
 	 *
@@ -94,6 +106,28 @@ public interface UBXSentence extends Sentence {
 	 */
 	double getUBXFieldDoubleValue(int index);
 
+	/**
+	 * Parse double value from the specified sentence field, or return the
+	 * given default value if the field is empty or malformed.
+	 *
+	 * @param index Field index in sentence
+	 * @param defaultValue Value to return if field is empty or malformed
+	 * @return Field parsed by {@link SentenceParser} or {@code defaultValue}
+	 */
+	default double getUBXFieldDoubleValue(int index, double defaultValue) {
+		return OptionalValues.getDouble(() -> getUBXFieldDoubleValue(index), defaultValue);
+	}
+
+	/**
+	 * Tells if the specified sentence field contains a value.
+	 *
+	 * @param index Field index in sentence
+	 * @return {@code true} if field contains value, otherwise {@code false}.
+	 */
+	default boolean hasUBXFieldValue(int index) {
+		return OptionalValues.has(() -> getUBXFieldStringValue(index));
+	}
+
 	/**
 	 * @return the number of data fields in the sentence, excluding ID field
 	 * and checksum.
@@ -20,6 +20,7 @@
  */
 package net.sf.marineapi.nmea.sentence;
 
+
 /**
  * <p>Water speed and heading in respect to true and magnetic north.</p>
  * 
@@ -36,6 +37,27 @@ public interface VHWSentence extends HeadingSentence {
 	 */
 	double getMagneticHeading();
 
+	/**
+	 * Tells if the magnetic heading is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasMagneticHeading() {
+		return OptionalValues.has(this::getMagneticHeading);
+	}
+
+	/**
+	 * Returns the magnetic heading, or the specified default value if not
+	 * available or malformed. Unlike {@link #getMagneticHeading()}, missing or
+	 * malformed value does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if magnetic heading is not available
+	 * @return Magnetic heading or {@code defaultValue}
+	 */
+	default double getMagneticHeading(double defaultValue) {
+		return OptionalValues.getDouble(this::getMagneticHeading, defaultValue);
+	}
+
 	/**
 	 * Returns the current water speed.
 	 * 
@@ -43,6 +65,27 @@ public interface VHWSentence extends HeadingSentence {
 	 */
 	double getSpeedKmh();
 
+	/**
+	 * Tells if the speed in km/h is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasSpeedKmh() {
+		return OptionalValues.has(this::getSpeedKmh);
+	}
+
+	/**
+	 * Returns the speed in km/h, or the specified default value if not
+	 * available or malformed. Unlike {@link #getSpeedKmh()}, missing or
+	 * malformed value does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if speed in km/h is not available
+	 * @return Speed in km/h or {@code defaultValue}
+	 */
+	default double getSpeedKmh(double defaultValue) {
+		return OptionalValues.getDouble(this::getSpeedKmh, defaultValue);
+	}
+
 	/**
 	 * Returns the current water speed.
 	 * 
@@ -50,6 +93,27 @@ public interface VHWSentence extends HeadingSentence {
 	 */
 	double getSpeedKnots();
 
+	/**
+	 * Tells if the speed in knots is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasSpeedKnots() {
+		return OptionalValues.has(this::getSpeedKnots);
+	}
+
+	/**
+	 * Returns the speed in knots, or the specified default value if not
+	 * available or malformed. Unlike {@link #getSpeedKnots()}, missing or
+	 * malformed value does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if speed in knots is not available
+	 * @return Speed in knots or {@code defaultValue}
+	 */
+	default double getSpeedKnots(double defaultValue) {
+		return OptionalValues.getDouble(this::getSpeedKnots, defaultValue);
+	}
+
 	/**
 	 * Sets the magnetic heading.
 	 * 
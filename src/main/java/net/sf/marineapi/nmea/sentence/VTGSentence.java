@@ -58,6 +58,27 @@ public interface VTGSentence extends Sentence {
 	 */
 	double getMagneticCourse();
 
+	/**
+	 * Tells if the magnetic course is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasMagneticCourse() {
+		return OptionalValues.has(this::getMagneticCourse);
+	}
+
+	/**
+	 * Returns the magnetic course, or the specified default value if not
+	 * available or malformed. Unlike {@link #getMagneticCourse()}, missing or
+	 * malformed value does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if magnetic course is not available
+	 * @return Magnetic course or {@code defaultValue}
+	 */
+	default double getMagneticCourse(double defaultValue) {
+		return OptionalValues.getDouble(this::getMagneticCourse, defaultValue);
+	}
+
 	/**
 	 * Get the FAA operating mode of GPS receiver. The field may not be
 	 * available, depending on the NMEA version.
@@ -82,6 +103,27 @@ public interface VTGSentence extends Sentence {
 	 */
 	double getSpeedKmh();
 
+	/**
+	 * Tells if the speed in km/h is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasSpeedKmh() {
+		return OptionalValues.has(this::getSpeedKmh);
+	}
+
+	/**
+	 * Returns the speed in km/h, or the specified default value if not
+	 * available or malformed. Unlike {@link #getSpeedKmh()}, missing or
+	 * malformed value does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if speed in km/h is not available
+	 * @return Speed in km/h or {@code defaultValue}
+	 */
+	default double getSpeedKmh(double defaultValue) {
+		return OptionalValues.getDouble(this::getSpeedKmh, defaultValue);
+	}
+
 	/**
 	 * Get speed over ground in knots.
 	 * 
@@ -93,6 +135,27 @@ public interface VTGSentence extends Sentence {
 	 */
 	double getSpeedKnots();
 
+	/**
+	 * Tells if the speed in knots is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasSpeedKnots() {
+		return OptionalValues.has(this::getSpeedKnots);
+	}
+
+	/**
+	 * Returns the speed in knots, or the specified default value if not
+	 * available or malformed. Unlike {@link #getSpeedKnots()}, missing or
+	 * malformed value does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if speed in knots is not available
+	 * @return Speed in knots or {@code defaultValue}
+	 */
+	default double getSpeedKnots(double defaultValue) {
+		return OptionalValues.getDouble(this::getSpeedKnots, defaultValue);
+	}
+
 	/**
 	 * Get the true course over ground.
 	 * 
@@ -104,6 +167,27 @@ public interface VTGSentence extends Sentence {
 	 */
 	double getTrueCourse();
 
+	/**
+	 * Tells if the true course is available.
+	 *
+	 * @return {@code true} if the field has a value, otherwise {@code false}.
+	 */
+	default boolean hasTrueCourse() {
+		return OptionalValues.has(this::getTrueCourse);
+	}
+
+	/**
+	 * Returns the true course, or the specified default value if not available
+	 * or malformed. Unlike {@link #getTrueCourse()}, missing or malformed value
+	 * does not throw an exception.
+	 *
+	 * @param defaultValue Value to return if true course is not available
+	 * @return True course or {@code defaultValue}
+	 */
+	default double getTrueCourse(double defaultValue) {
+		return OptionalValues.getDouble(this::getTrueCourse, defaultValue);
+	}
+
 	/**
 	 * Set the magnetic course over ground.
 	 * 
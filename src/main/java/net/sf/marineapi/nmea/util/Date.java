@@ -23,6 +23,9 @@ package net.sf.marineapi.nmea.util;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 
+import net.sf.marineapi.util.NumberFormatter;
+import net.sf.marineapi.util.NumberParser;
+
 /**
  * Represents a calendar date (day-month-year) transmitted in sentences that
  * implement {@link net.sf.marineapi.nmea.sentence.DateSentence}.
@@ -67,9 +70,22 @@ public class Date {
 	 * @param date Date String to parse.
 	 */
 	public Date(String date) {
-		setDay(Integer.parseInt(date.substring(0, 2)));
-		setMonth(Integer.parseInt(date.substring(2, 4)));
-		setYear(Integer.parseInt(date.substring(4)));
+		this(date, 0, date.length());
+	}
+
+	/**
+	 * Creates a new instance of {@code Date} based on given range of chars,
+	 * e.g. a field in sentence String. Assumes the default NMEA 0183 date
+	 * formatting, {@code ddmmyy} or {@code ddmmyyyy}.
+	 *
+	 * @param date Chars containing the date
+	 * @param start Index where date begins
+	 * @param end Index where date ends (exclusive)
+	 */
+	public Date(CharSequence date, int start, int end) {
+		setDay(NumberParser.parseInt(date, start, checkIndex(start + 2, end)));
+		setMonth(NumberParser.parseInt(date, start + 2, checkIndex(start + 4, end)));
+		setYear(NumberParser.parseInt(date, start + 4, end));
 	}
 
 	/**
@@ -211,8 +227,10 @@ public class Date {
 		int y = getYear();
 		String ystr = String.valueOf(y);
 		String year = ystr.substring(2);
-		String date = String.format("%02d%02d%s", getDay(), getMonth(), year);
-		return date;
+		StringBuilder sb = new StringBuilder(6);
+		NumberFormatter.appendInt(sb, getDay(), 2);
+		NumberFormatter.appendInt(sb, getMonth(), 2);
+		return sb.append(year).toString();
 	}
 
 	/**
@@ -251,4 +269,11 @@ public class Date {
 		cal.set(Calendar.MILLISECOND, 0);
 		return cal.getTime();
 	}
+
+	private static int checkIndex(int index, int end) {
+		if (index > end) {
+			throw new StringIndexOutOfBoundsException(index);
+		}
+		return index;
+	}
 }
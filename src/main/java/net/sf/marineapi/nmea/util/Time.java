@@ -20,12 +20,13 @@
  */
 package net.sf.marineapi.nmea.util;
 
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 
+import net.sf.marineapi.util.NumberFormatter;
+import net.sf.marineapi.util.NumberParser;
+
 /**
  * Represents a time of day in 24-hour clock, i.e. the UTC time used as default
  * in NMEA 0183. Transmitted by
@@ -69,9 +70,22 @@ public class Time {
 	 * @param time Timestamp String
 	 */
 	public Time(String time) {
-		setHour(Integer.parseInt(time.substring(0, 2)));
-		setMinutes(Integer.parseInt(time.substring(2, 4)));
-		setSeconds(Double.parseDouble(time.substring(4)));
+		this(time, 0, time.length());
+	}
+
+	/**
+	 * Creates a new instance of {@code Time} based on given range of chars,
+	 * e.g. a field in sentence String. Assumes the {@code hhmmss.sss}
+	 * formatting used in NMEA sentences.
+	 *
+	 * @param time Chars containing the timestamp
+	 * @param start Index where timestamp begins
+	 * @param end Index where timestamp ends (exclusive)
+	 */
+	public Time(CharSequence time, int start, int end) {
+		setHour(NumberParser.parseInt(time, start, checkIndex(start + 2, end)));
+		setMinutes(NumberParser.parseInt(time, start + 2, checkIndex(start + 4, end)));
+		setSeconds(NumberParser.parseDouble(time, start + 4, end));
 	}
 
 	/**
@@ -313,12 +327,11 @@ public class Time {
 	 */
 	@Override
 	public String toString() {
-		String str = String.format("%02d%02d", getHour(), getMinutes());
-		DecimalFormat nf = new DecimalFormat("00.000");
-		DecimalFormatSymbols dfs = new DecimalFormatSymbols();
-		dfs.setDecimalSeparator('.');
-		nf.setDecimalFormatSymbols(dfs);
-		return str.concat(nf.format(getSeconds()));
+		StringBuilder sb = new StringBuilder(10);
+		NumberFormatter.appendInt(sb, getHour(), 2);
+		NumberFormatter.appendInt(sb, getMinutes(), 2);
+		NumberFormatter.appendDouble(sb, getSeconds(), 2, 3);
+		return sb.toString();
 	}
 
 	/**
@@ -334,4 +347,11 @@ public class Time {
 		int tzMin = getOffsetMinutes();
 		return String.format(TIME_PATTERN, hr, min, sec, tzHr, tzMin);
 	}
+
+	private static int checkIndex(int index, int end) {
+		if (index > end) {
+			throw new StringIndexOutOfBoundsException(index);
+		}
+		return index;
+	}
 }
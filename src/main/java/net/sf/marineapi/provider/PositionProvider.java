@@ -21,7 +21,6 @@
 package net.sf.marineapi.provider;
 
 import net.sf.marineapi.nmea.io.SentenceReader;
-import net.sf.marineapi.nmea.parser.DataNotAvailableException;
 import net.sf.marineapi.nmea.sentence.GGASentence;
 import net.sf.marineapi.nmea.sentence.GLLSentence;
 import net.sf.marineapi.nmea.sentence.RMCSentence;
@@ -83,10 +82,10 @@ public class PositionProvider extends AbstractProvider<PositionEvent> {
 			if (s instanceof RMCSentence) {
 				RMCSentence rmc = (RMCSentence) s;
 				sog = rmc.getSpeed();
-				try {
-					cog = rmc.getCourse();
-				} catch (DataNotAvailableException e) {
-					// If we are not moving, cource can be undefined. Leave null in that case.
+				// If we are not moving, cource can be undefined. Leave null in that case.
+				double course = rmc.getCourse(Double.NaN);
+				if (!Double.isNaN(course)) {
+					cog = course;
 				}
 				d = rmc.getDate();
 				t = rmc.getTime();
@@ -99,10 +98,10 @@ public class PositionProvider extends AbstractProvider<PositionEvent> {
 			} else if (s instanceof VTGSentence) {
 				VTGSentence vtg = (VTGSentence) s;
 				sog = vtg.getSpeedKnots();
-				try {
-					cog = vtg.getTrueCourse();
-				} catch (DataNotAvailableException e) {
-					// If we are not moving, cource can be undefined. Leave null in that case.
+				// If we are not moving, cource can be undefined. Leave null in that case.
+				double course = vtg.getTrueCourse(Double.NaN);
+				if (!Double.isNaN(course)) {
+					cog = course;
 				}
 			} else if (s instanceof GGASentence) {
 				// Using GGA as primary position source as it contains both
@@ -22,7 +22,6 @@ package net.sf.marineapi.ublox.parser;
 import java.util.ArrayList;
 import java.util.List;
 
-import net.sf.marineapi.nmea.parser.DataNotAvailableException;
 import net.sf.marineapi.nmea.sentence.UBXSentence;
 import net.sf.marineapi.ublox.message.UBXMessage03;
 import net.sf.marineapi.ublox.util.UbloxSatelliteInfo;
@@ -70,36 +69,10 @@ class UBXMessage03Parser extends UBXMessageParser implements UBXMessage03 {
 			final int satelliteId = sentence.getUBXFieldIntValue(UBX_SATELLITE_ID + i*6);
 			final UbloxSatelliteStatus satelliteStatus = UbloxSatelliteStatus.fromStatusFlag(sentence.getUBXFieldCharValue(SATELLITE_STATUS + i*6));
 
-			int satelliteAzimuth;
-			try {
-				satelliteAzimuth = sentence.getUBXFieldIntValue(SATELLITE_AZIMUTH + i*6);
-			}
-			catch (DataNotAvailableException e) {
-				satelliteAzimuth = -1;
-			}
-
-			int satelliteElevation;
-			try {
-				satelliteElevation = sentence.getUBXFieldIntValue(SATELLITE_ELEVATION + i*6);
-			}
-			catch (DataNotAvailableException e) {
-				satelliteElevation = -1;
-			}
-
-			int signalStrength;
-
-			try {
-				signalStrength = sentence.getUBXFieldIntValue(SATELLITE_SIGNAL_STRENGTH + i*6);
-			} catch (DataNotAvailableException e) {
-				signalStrength = -1;
-			}
-
-			int satelliteCarrierLockTime;
-			try {
-				satelliteCarrierLockTime = sentence.getUBXFieldIntValue(SATELLIT_CARRIER_LOCK_TIME + i*6);
-			} catch (DataNotAvailableException e) {
-				satelliteCarrierLockTime = -1;
-			}
+			final int satelliteAzimuth = sentence.getUBXFieldIntValue(SATELLITE_AZIMUTH + i*6, -1);
+			final int satelliteElevation = sentence.getUBXFieldIntValue(SATELLITE_ELEVATION + i*6, -1);
+			final int signalStrength = sentence.getUBXFieldIntValue(SATELLITE_SIGNAL_STRENGTH + i*6, -1);
+			final int satelliteCarrierLockTime = sentence.getUBXFieldIntValue(SATELLIT_CARRIER_LOCK_TIME + i*6, -1);
 
 			final UbloxSatelliteInfo satelliteInfo = new UbloxSatelliteInfo(
 				String.valueOf(satelliteId), satelliteElevation, satelliteAzimuth, signalStrength, satelliteStatus, satelliteCarrierLockTime);
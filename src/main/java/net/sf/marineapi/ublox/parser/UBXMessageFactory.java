@@ -19,9 +19,9 @@
  */
 package net.sf.marineapi.ublox.parser;
 
-import java.lang.reflect.Constructor;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 import net.sf.marineapi.nmea.sentence.UBXSentence;
 import net.sf.marineapi.ublox.message.UBXMessage;
@@ -40,15 +40,15 @@ import net.sf.marineapi.ublox.message.UBXMessage;
 public class UBXMessageFactory {
 
 	private static UBXMessageFactory instance;
-	private Map<Integer, Class<? extends UBXMessage>> parsers;
+	private Map<Integer, Function<UBXSentence, UBXMessage>> parsers;
 
 	/**
 	 * Hidden constructor.
 	 */
 	private UBXMessageFactory() {
-		parsers = new HashMap<Integer, Class<? extends UBXMessage>>(2);
-		parsers.put(0, UBXMessage00Parser.class);
-		parsers.put(3, UBXMessage03Parser.class);
+		parsers = new HashMap<Integer, Function<UBXSentence, UBXMessage>>(2);
+		parsers.put(0, UBXMessage00Parser::new);
+		parsers.put(3, UBXMessage03Parser::new);
 	}
 
 	/**
@@ -64,18 +64,17 @@ public class UBXMessageFactory {
 
 		final UBXMessageParser parser = new UBXMessageParser(sentence);
 
-		if (!parsers.containsKey(parser.getMessageType())) {
+		Function<UBXSentence, UBXMessage> c = parsers.get(parser.getMessageType());
+		if (c == null) {
 			String msg = String.format("no parser for message type %d", parser.getMessageType());
 			throw new IllegalArgumentException(msg);
 		}
 
 		UBXMessage result;
-		Class<? extends UBXMessage> c = parsers.get(parser.getMessageType());
 		try {
-			Constructor<? extends UBXMessage> co = c.getConstructor(UBXSentence.class);
-			result = co.newInstance(sentence);
-		} catch (Exception e) {
-			throw new IllegalStateException(e.getCause());
+			result = c.apply(sentence);
+		} catch (RuntimeException e) {
+			throw new IllegalStateException(e);
 		}
 
 		return result;
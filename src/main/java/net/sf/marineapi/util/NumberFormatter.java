@@ -0,0 +1,226 @@
+/*
+ * NumberFormatter.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.util;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Locale independent formatters for numeric values in NMEA 0183 data fields,
+ * with fixed number of leading zeros and decimals.
+ * <p>
+ * Double values are formatted like {@link DecimalFormat} with pattern such as
+ * {@code "000.00"}, i.e. rounded half-even and with a minus sign also for
+ * negative zero. Values with at most 14 digits before the rounding position
+ * are scaled and rounded by their exact binary value in integer arithmetic.
+ * As any halfway point of rounding then has at most 15 significant digits,
+ * the result equals to rounding the shortest decimal representation as done
+ * by {@code DecimalFormat}. The one exception is a value below 0.001 whose
+ * shortest representation is a single digit 5 right after the rounding
+ * position, such as 0.0005 with three decimals. {@code DecimalFormat} reads
+ * it as "5.0E-4" and rounds it to zero, even when the binary value is above
+ * the halfway point, which is repeated here. Other values, NaN and
+ * infinities are passed to {@code DecimalFormat}, so that the results are
+ * always the same. Integers are formatted like
+ * {@link String#format(String, Object...)} with pattern {@code "%03d"}.
+ * </p>
+ *
+ * @author Kimmo Tuukkanen
+ */
+public final class NumberFormatter {
+
+	// max scaled value formatted in integer arithmetic, so that the halfway
+	// points of rounding have at most 15 significant digits
+	private static final double MAX_SCALED = 1e14;
+
+	// max number of decimals formatted in integer arithmetic
+	private static final int MAX_DECIMALS = 14;
+
+	// powers of ten that are exactly representable as long
+	private static final long[] POWERS = {
+		1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L,
+		100000000L, 1000000000L, 10000000000L, 100000000000L,
+		1000000000000L, 10000000000000L, 100000000000000L,
+		1000000000000000L, 10000000000000000L, 100000000000000000L,
+		1000000000000000000L
+	};
+
+	// values nearest to 5 at the first position after each number of
+	// decimals, e.g. 0.0005 for three decimals
+	private static final double[] HALF_UNITS = new double[MAX_DECIMALS + 1];
+
+	// min number of decimals for which DecimalFormat rounds HALF_UNITS down
+	private static final int MIN_EXP_DECIMALS = 3;
+
+	static {
+		for (int i = 0; i < HALF_UNITS.length; i++) {
+			HALF_UNITS[i] = 0.5 / POWERS[i];
+		}
+	}
+
+	private NumberFormatter() {
+	}
+
+	/**
+	 * Formats a double value with given number of digits before and after
+	 * the decimal separator ('.'). The value is padded with leading zeros
+	 * and rounded when necessary.
+	 *
+	 * @param value Value to format
+	 * @param leading Minimum number of digits before decimal separator
+	 * @param decimals Number of digits after decimal separator
+	 * @return Formatted value
+	 */
+	public static String formatDouble(double value, int leading, int decimals) {
+		StringBuilder sb = new StringBuilder(32);
+		appendDouble(sb, value, leading, decimals);
+		return sb.toString();
+	}
+
+	/**
+	 * Appends a double value formatted as by
+	 * {@link #formatDouble(double, int, int)}.
+	 *
+	 * @param sb Builder to append to
+	 * @param value Value to format
+	 * @param leading Minimum number of digits before decimal separator
+	 * @param decimals Number of digits after decimal separator
+	 * @return The specified builder
+	 */
+	public static StringBuilder appendDouble(StringBuilder sb, double value,
+		int leading, int decimals) {
+
+		leading = Math.max(leading, 0);
+		decimals = Math.max(decimals, 0);
+		if (leading == 0 && decimals == 0) {
+			leading = 1;
+		}
+		if (decimals > MAX_DECIMALS) {
+			return sb.append(decimalFormat(value, leading, decimals));
+		}
+
+		double abs = Math.abs(value);
+		double scale = POWERS[decimals];
+		double scaled = abs * scale;
+		if (!(scaled < MAX_SCALED)) {
+			return sb.append(decimalFormat(value, leading, decimals));
+		}
+
+		// exact remainder of the rounded product, compared with the distance
+		// to halfway in order to round the exact value of the product
+		double error = Math.fma(abs, scale, -scaled);
+		double floor = Math.floor(scaled);
+		double half = (scaled - floor - 0.5) + error;
+		long digits = (long) floor;
+		if (half > 0 || (half == 0 && (digits & 1) != 0)) {
+			digits++;
+		}
+		if (digits == 1 && decimals >= MIN_EXP_DECIMALS
+			&& abs == HALF_UNITS[decimals]) {
+			// rounded down by DecimalFormat, see class comment
+			digits = 0;
+		}
+
+		if (Double.doubleToRawLongBits(value) < 0) {
+			sb.append('-');
+		}
+		long integer = digits / POWERS[decimals];
+		if (integer > 0 || leading > 0) {
+			appendDigits(sb, integer, leading);
+		}
+		if (decimals > 0) {
+			sb.append('.');
+			appendDigits(sb, digits % POWERS[decimals], decimals);
+		}
+		return sb;
+	}
+
+	/**
+	 * Formats an integer value with given minimum number of digits, padded
+	 * with leading zeros when necessary. As in {@code String.format()}, the
+	 * minus sign of negative values is included in the number of digits.
+	 *
+	 * @param value Value to format
+	 * @param leading Minimum number of digits
+	 * @return Formatted value
+	 */
+	public static String formatInt(int value, int leading) {
+		StringBuilder sb = new StringBuilder(Math.max(leading, 0) + 11);
+		appendInt(sb, value, leading);
+		return sb.toString();
+	}
+
+	/**
+	 * Appends an integer value formatted as by {@link #formatInt(int, int)}.
+	 *
+	 * @param sb Builder to append to
+	 * @param value Value to format
+	 * @param leading Minimum number of digits
+	 * @return The specified builder
+	 */
+	public static StringBuilder appendInt(StringBuilder sb, int value,
+		int leading) {
+
+		if (value < 0) {
+			sb.append('-');
+			leading--;
+		}
+		appendDigits(sb, Math.abs((long) value), leading);
+		return sb;
+	}
+
+	/**
+	 * Appends the digits of non-negative value, padded with leading zeros
+	 * to the given width.
+	 */
+	private static void appendDigits(StringBuilder sb, long value, int width) {
+		int count = 1;
+		while (count < POWERS.length && value >= POWERS[count]) {
+			count++;
+		}
+		for (int i = count; i < width; i++) {
+			sb.append('0');
+		}
+		for (int i = count - 1; i >= 0; i--) {
+			sb.append((char) ('0' + value / POWERS[i] % 10));
+		}
+	}
+
+	/**
+	 * Formats the value with {@code DecimalFormat}.
+	 */
+	private static String decimalFormat(double value, int leading, int decimals) {
+		StringBuilder pattern = new StringBuilder();
+		for (int i = 0; i < leading; i++) {
+			pattern.append('0');
+		}
+		if (decimals > 0) {
+			pattern.append('.');
+			for (int i = 0; i < decimals; i++) {
+				pattern.append('0');
+			}
+		}
+		DecimalFormatSymbols dfs = DecimalFormatSymbols.getInstance(Locale.ROOT);
+		dfs.setDecimalSeparator('.');
+		return new DecimalFormat(pattern.toString(), dfs).format(value);
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * NumberParser.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.util;
+
+/**
+ * Decoders for numeric values in NMEA 0183 data fields, reading the digits
+ * directly from a range of chars without creating substrings.
+ * <p>
+ * Plain decimal values such as {@code 4916.45}, {@code 123519.00} or
+ * {@code -12.5} with at most 15 significant digits are decoded by dividing
+ * the digits by an exactly representable power of ten. The result is thus
+ * correctly rounded and equal to {@link Double#parseDouble(String)}. Any
+ * other content, e.g. exponents or white space, is passed to the JDK
+ * parsers, so that the results and errors are always the same.
+ * </p>
+ *
+ * @author Kimmo Tuukkanen
+ */
+public final class NumberParser {
+
+	// significant digits that fit in double mantissa exactly
+	private static final int MAX_DIGITS = 15;
+
+	// powers of ten that are exactly representable as double
+	private static final double[] POWERS = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+		1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	private NumberParser() {
+	}
+
+	/**
+	 * Parses a double value from specified range of chars.
+	 *
+	 * @param s Chars to parse
+	 * @param start Start index, inclusive
+	 * @param end End index, exclusive
+	 * @return Value parsed as by {@link Double#parseDouble(String)}
+	 * @throws NumberFormatException If range does not contain a double.
+	 */
+	public static double parseDouble(CharSequence s, int start, int end) {
+		int i = start;
+		boolean negative = false;
+		if (i < end) {
+			char c = s.charAt(i);
+			if (c == '-' || c == '+') {
+				negative = c == '-';
+				i++;
+			}
+		}
+		long mantissa = 0;
+		int digits = 0;
+		int decimals = 0;
+		boolean found = false;
+		boolean dot = false;
+		for (; i < end; i++) {
+			char c = s.charAt(i);
+			if (c >= '0' && c <= '9') {
+				found = true;
+				mantissa = mantissa * 10 + (c - '0');
+				if (mantissa != 0 && ++digits > MAX_DIGITS) {
+					return fallback(s, start, end);
+				}
+				if (dot) {
+					decimals++;
+				}
+			} else if (c == '.' && !dot) {
+				dot = true;
+			} else {
+				return fallback(s, start, end);
+			}
+		}
+		if (!found || decimals >= POWERS.length) {
+			return fallback(s, start, end);
+		}
+		double value = mantissa / POWERS[decimals];
+		return negative ? -value : value;
+	}
+
+	/**
+	 * Parses an integer value from specified range of chars.
+	 *
+	 * @param s Chars to parse
+	 * @param start Start index, inclusive
+	 * @param end End index, exclusive
+	 * @return Value parsed as by {@link Integer#parseInt(String)}
+	 * @throws NumberFormatException If range does not contain an integer.
+	 */
+	public static int parseInt(CharSequence s, int start, int end) {
+		return Integer.parseInt(s, start, end, 10);
+	}
+
+	/**
+	 * Parses a long value from specified range of chars.
+	 *
+	 * @param s Chars to parse
+	 * @param start Start index, inclusive
+	 * @param end End index, exclusive
+	 * @return Value parsed as by {@link Long#parseLong(String)}
+	 * @throws NumberFormatException If range does not contain a long.
+	 */
+	public static long parseLong(CharSequence s, int start, int end) {
+		return Long.parseLong(s, start, end, 10);
+	}
+
+	private static double fallback(CharSequence s, int start, int end) {
+		return Double.parseDouble(s.subSequence(start, end).toString());
+	}
+}
@@ -0,0 +1,60 @@
+package net.sf.marineapi.ais;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.parser.AISMessageFactory;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of updating and reading vessel states in a store tracking 100,000
+ * vessels.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class VesselStateStoreBenchmark {
+
+	private static final int VESSELS = 100000;
+
+	private final VesselStateStore store = new VesselStateStore(VESSELS);
+	private AISMessage position;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		AISSentence s = (AISSentence) SentenceFactory.getInstance()
+			.createParser("!AIVDM,1,1,,A,15RTgt0PAso;90TKcjM8h6g208CQ,0*4A");
+		position = AISMessageFactory.getInstance().create(s);
+		for (int i = 0; i < VESSELS; i++) {
+			store.update(new VesselStateStoreTest.StaticData(200000000 + i * 7), i);
+		}
+		store.update(position, 0);
+	}
+
+	@Benchmark
+	public VesselState update() {
+		return store.update(position, next++);
+	}
+
+	@Benchmark
+	public VesselState get() {
+		next = (next + 1) % VESSELS;
+		return store.get(200000000 + next * 7);
+	}
+}
@@ -0,0 +1,206 @@
+package net.sf.marineapi.ais;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.message.AISPositionReport;
+import net.sf.marineapi.ais.parser.AISMessageFactory;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class VesselStateStoreTest {
+
+    private static final SentenceFactory SF = SentenceFactory.getInstance();
+    private static final AISMessageFactory MF = AISMessageFactory.getInstance();
+
+    private final AISMessage msg01 = create("!AIVDM,1,1,,A,15RTgt0PAso;90TKcjM8h6g208CQ,0*4A");
+    private final AISMessage msg04 = create("!AIVDM,1,1,,A,403OviQuMGCqWrRO9>E6fE700@GO,0*4D");
+    private final AISMessage msg05 = create(
+            "!AIVDM,2,1,0,A,58wt8Ui`g??r21`7S=:22058<v05Htp000000015>8OA;0sk,0*7B",
+            "!AIVDM,2,2,0,A,eQ8823mDm3kP00000000000,2*5D");
+    private final AISMessage msg19 = create("!AIVDM,1,1,,B,C5N3SRgPEnJGEBT>NhWAwwo862PaLELTBJ:V00000000S0D:R220,0*0B");
+    private final AISMessage msg24a = create("!AIVDM,1,1,,A,H42O55i18tMET00000000000000,2*6D");
+    private final AISMessage msg24b = create("!AIVDM,1,1,,A,H42O55lti4hhhilD3nink000?050,0*40");
+
+    private final VesselStateStore store = new VesselStateStore();
+
+    private static AISMessage create(String... nmea) {
+        AISSentence[] sentences = new AISSentence[nmea.length];
+        for (int i = 0; i < nmea.length; i++) {
+            sentences[i] = (AISSentence) SF.createParser(nmea[i]);
+        }
+        return MF.create(sentences);
+    }
+
+    @Test
+    public void testPositionReport() {
+        AISPositionReport pos = (AISPositionReport) msg01;
+        VesselState state = store.update(msg01, 1000);
+
+        assertNotNull(state);
+        assertSame(state, store.get(msg01.getMMSI()));
+        assertEquals(1, store.size());
+        assertEquals(1000, state.getLastSeen());
+        assertEquals(1000, state.getPositionTime());
+        assertTrue(state.hasPosition());
+        assertEquals(pos.getLatitudeInDegrees(), state.getLatitude(), 1e-6);
+        assertEquals(pos.getLongitudeInDegrees(), state.getLongitude(), 1e-6);
+        assertEquals(pos.getSpeedOverGround(), state.getSpeedOverGround(), 0.01);
+        assertEquals(pos.getCourseOverGround(), state.getCourseOverGround(), 0.01);
+        assertEquals(pos.getTrueHeading(), state.getTrueHeading());
+        assertEquals(pos.getNavigationalStatus(), state.getNavigationalStatus());
+        assertNull(state.getName());
+    }
+
+    @Test
+    public void testStaticData() {
+        VesselState state = store.update(msg05, 1000);
+        assertEquals("ARCO AVON", state.getName());
+        assertEquals("ZA83R", state.getCallSign());
+        assertEquals("HOUSTON", state.getDestination());
+        assertEquals(439303422, state.getIMONumber());
+        assertEquals(69, state.getTypeOfShipAndCargoType());
+        assertEquals(113, state.getBow());
+        assertEquals(31, state.getStern());
+        assertEquals(17, state.getPort());
+        assertEquals(11, state.getStarboard());
+        assertEquals(13.2, state.getMaximumDraught(), 0.01);
+        assertFalse(state.hasPosition());
+        assertTrue(Double.isNaN(state.getLatitude()));
+        assertFalse(state.hasSpeedOverGround());
+    }
+
+    @Test
+    public void testMessage19() {
+        VesselState state = store.update(msg19, 1000);
+        assertTrue(state.hasPosition());
+        assertEquals("CAPT.J.RIMES", state.getName());
+        assertEquals(-1, state.getNavigationalStatus());
+    }
+
+    @Test
+    public void testMessage24Parts() {
+        assertEquals(msg24a.getMMSI(), msg24b.getMMSI());
+        store.update(msg24a, 1000);
+        VesselState state = store.update(msg24b, 2000);
+        assertEquals("PROGUY", state.getName());
+        assertNotNull(state.getCallSign());
+        assertEquals(2000, state.getLastSeen());
+        assertEquals(0, state.getPositionTime());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    public void testUnsupportedMessage() {
+        assertNull(store.update(msg04, 1000));
+        assertNull(store.get(msg04.getMMSI()));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void testUpdateKeepsPreviousValues() {
+        VesselState first = store.update(msg01, 1000);
+        AISMessage renamed = new StaticData(msg01.getMMSI());
+        VesselState second = store.update(renamed, 2000);
+        assertEquals(first.getLatitude(), second.getLatitude(), 0.0);
+        assertEquals(1000, second.getPositionTime());
+        assertEquals(2000, second.getLastSeen());
+        assertEquals("TEST", second.getName());
+        assertNull(first.getName());
+    }
+
+    @Test
+    public void testEvict() {
+        store.update(msg01, 1000);
+        store.update(msg05, 2000);
+        assertEquals(1, store.evict(1500));
+        assertNull(store.get(msg01.getMMSI()));
+        assertNotNull(store.get(msg05.getMMSI()));
+        assertEquals(1, store.size());
+
+        store.update(msg01, 3000);
+        assertEquals(2, store.size());
+        assertNotNull(store.get(msg01.getMMSI()));
+    }
+
+    @Test
+    public void testManyVessels() {
+        final int count = 100000;
+        for (int i = 0; i < count; i++) {
+            store.update(new StaticData(i * 7 + 200000000), i);
+        }
+        assertEquals(count, store.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, store.get(i * 7 + 200000000).getLastSeen());
+        }
+        assertNull(store.get(1));
+
+        assertEquals(count / 2, store.evict(count / 2));
+        for (int i = 0; i < count; i++) {
+            store.update(new StaticData(i * 7 + 200000000), count + i);
+        }
+        assertEquals(count, store.size());
+
+        List<VesselState> all = new ArrayList<>();
+        store.forEach(all::add);
+        assertEquals(count, all.size());
+
+        store.clear();
+        assertEquals(0, store.size());
+        assertNull(store.get(200000000));
+    }
+
+    @Test
+    public void testConcurrentReads() throws InterruptedException {
+        final int count = 20000;
+        final boolean[] failed = new boolean[1];
+        Thread reader = new Thread(() -> {
+            for (int n = 0; n < 20; n++) {
+                for (int i = 0; i < count; i++) {
+                    VesselState s = store.get(i + 1);
+                    if (s != null && s.getMMSI() != i + 1) {
+                        failed[0] = true;
+                    }
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < count; i++) {
+            store.update(new StaticData(i + 1), i);
+            if (i % 1000 == 999) {
+                store.evict(i - 500);
+            }
+        }
+        reader.join();
+        assertFalse(failed[0]);
+    }
+
+    /** Type 24 part A message with given MMSI **/
+    static class StaticData implements net.sf.marineapi.ais.message.AISMessage24 {
+        private final int mmsi;
+        StaticData(int mmsi) { this.mmsi = mmsi; }
+        public int getMessageType() { return 24; }
+        public int getRepeatIndicator() { return 0; }
+        public int getMMSI() { return mmsi; }
+        public int getPartNumber() { return 0; }
+        public String getName() { return "TEST"; }
+        public int getTypeOfShipAndCargoType() { return 0; }
+        public String getVendorId() { return null; }
+        public int getUnitModelCode() { return 0; }
+        public int getSerialNumber() { return 0; }
+        public String getCallSign() { return null; }
+        public int getBow() { return 0; }
+        public int getStern() { return 0; }
+        public int getPort() { return 0; }
+        public int getStarboard() { return 0; }
+    }
+}
@@ -0,0 +1,70 @@
+package net.sf.marineapi.ais.event;
+
+import net.sf.marineapi.ais.util.AISHeader;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AISMessageFilterTest {
+
+    private final AISSentence AIS_01 = (AISSentence) SentenceFactory.getInstance()
+            .createParser("!AIVDM,1,1,,A,13aEOK?P00PD2wVMdLDRhgvL289?,0*26");
+
+    private final AISMessageFilter filter = new AISMessageFilter();
+
+    @Test
+    public void testAcceptAllByDefault() {
+        assertTrue(filter.accept(AIS_01));
+        assertTrue(filter.accept(5, 123456789));
+        assertTrue(filter.accept(AISHeader.NONE));
+    }
+
+    @Test
+    public void testAllowedTypes() {
+        filter.setAllowedTypes(5, 1, 3);
+        assertTrue(filter.accept(AIS_01));
+        assertTrue(filter.accept(3, 123456789));
+        assertFalse(filter.accept(2, 123456789));
+
+        filter.setAllowedTypes();
+        assertTrue(filter.accept(2, 123456789));
+    }
+
+    @Test
+    public void testDeniedTypes() {
+        filter.setDeniedTypes(1, 4);
+        assertFalse(filter.accept(AIS_01));
+        assertTrue(filter.accept(5, 123456789));
+    }
+
+    @Test
+    public void testAllowedMMSIs() {
+        filter.setAllowedMMSIs(244670316);
+        assertTrue(filter.accept(AIS_01));
+        assertFalse(filter.accept(1, 123456789));
+    }
+
+    @Test
+    public void testDeniedMMSIs() {
+        filter.setDeniedMMSIs(123456789, 244670316);
+        assertFalse(filter.accept(AIS_01));
+        assertTrue(filter.accept(1, 987654321));
+    }
+
+    @Test
+    public void testDeniedOverridesAllowed() {
+        filter.setAllowedTypes(1);
+        filter.setDeniedMMSIs(244670316);
+        assertFalse(filter.accept(AIS_01));
+        assertTrue(filter.accept(1, 987654321));
+    }
+
+    @Test
+    public void testAcceptUnreadableHeader() {
+        filter.setAllowedTypes(5);
+        assertTrue(filter.accept(AISHeader.NONE));
+    }
+}
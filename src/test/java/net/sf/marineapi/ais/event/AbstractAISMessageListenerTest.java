@@ -89,8 +89,46 @@ public class AbstractAISMessageListenerTest {
         sl.sentenceRead(AIS_01);
         assertNull(sl.received);
 
+        // single sentence messages may be interleaved with fragments
+        sl.sentenceRead(AIS_05_2);
+        assertEquals(sl.received.toString(), MSG_05.toString());
+    }
+
+    @Test
+    public void testSequenceListenerWithInterleavedMessages() {
+
+        SequenceListener sl = new SequenceListener();
+
+        sl.sentenceRead((AISSentence) sf.createParser("!AIVDM,2,1,6,B,542M92h00001@<7;?G0PD4i@R0<tqA8tj37>220o0h:2240Ht50000000000,0*3B"));
+        sl.sentenceRead(AIS_05_1);
+        sl.sentenceRead(AIS_05_2);
+        assertEquals(sl.received.toString(), MSG_05.toString());
+
+        sl.sentenceRead((AISSentence) sf.createParser("!AIVDM,2,2,6,B,00000000000,2*21"));
+        assertEquals(271010059, sl.received.getMMSI());
+        assertEquals(2, sl.getAssembler().getCompletedCount());
+    }
+
+    @Test
+    public void testFilter() {
+
+        SequenceListener sl = new SequenceListener();
+        AISMessageFilter filter = new AISMessageFilter();
+        filter.setDeniedMMSIs(MSG_05.getMMSI());
+        sl.setFilter(filter);
+        assertEquals(filter, sl.getFilter());
+
+        sl.sentenceRead(AIS_05_1);
         sl.sentenceRead(AIS_05_2);
         assertNull(sl.received);
+        assertEquals(0, sl.getAssembler().getOutOfOrderCount());
+        assertEquals(0, sl.getAssembler().getPendingCount());
+
+        filter.setDeniedMMSIs();
+        filter.setAllowedTypes(5);
+        sl.sentenceRead(AIS_05_1);
+        sl.sentenceRead(AIS_05_2);
+        assertEquals(sl.received.toString(), MSG_05.toString());
     }
 
     @Test
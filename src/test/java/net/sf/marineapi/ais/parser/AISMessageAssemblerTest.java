@@ -0,0 +1,216 @@
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+import net.sf.marineapi.nmea.sentence.Checksum;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class AISMessageAssemblerTest {
+
+    private static final SentenceFactory SF = SentenceFactory.getInstance();
+
+    private final AISSentence single = parse("!AIVDM,1,1,,A,13aEOK?P00PD2wVMdLDRhgvL289?,0*26");
+
+    // interleaved messages on both channels
+    private final AISSentence b1 = parse("!AIVDM,2,1,6,B,542M92h00001@<7;?G0PD4i@R0<tqA8tj37>220o0h:2240Ht50000000000,0*3B");
+    private final AISSentence a1 = parse("!AIVDM,2,1,2,A,542M92h00001@<7;?G0PD4i@R0<tqA8tj37>220o0h:2240Ht500000000000000,0*3C");
+    private final AISSentence a2 = parse("!AIVDM,2,2,2,A,0000002,2*24");
+    private final AISSentence b2 = parse("!AIVDM,2,2,6,B,00000000000,2*21");
+
+    private final AISMessageAssembler assembler = new AISMessageAssembler(1000, 64);
+
+    private static AISSentence parse(String nmea) {
+        return (AISSentence) SF.createParser(nmea);
+    }
+
+    @Test
+    public void testConstructorWithInvalidArguments() {
+        try {
+            new AISMessageAssembler(0, 10);
+            fail("did not throw on zero timeout");
+        } catch (IllegalArgumentException e) {
+            assertEquals("Timeout must be positive", e.getMessage());
+        }
+        try {
+            new AISMessageAssembler(10, 0);
+            fail("did not throw on zero capacity");
+        } catch (IllegalArgumentException e) {
+            assertEquals("Capacity must be positive", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testSingleSentence() {
+        assertArrayEquals(new AISSentence[] { single }, assembler.add(single));
+        assertEquals(1, assembler.getCompletedCount());
+        assertEquals(0, assembler.getPendingCount());
+    }
+
+    @Test
+    public void testInterleavedMessages() {
+        assertNull(assembler.add(null, b1, 0));
+        assertNull(assembler.add(null, a1, 1));
+        assertEquals(2, assembler.getPendingCount());
+        assertArrayEquals(new AISSentence[] { a1, a2 }, assembler.add(null, a2, 2));
+        assertArrayEquals(new AISSentence[] { b1, b2 }, assembler.add(null, b2, 3));
+        assertEquals(2, assembler.getCompletedCount());
+        assertEquals(0, assembler.getPendingCount());
+        assertEquals(0, assembler.getOutOfOrderCount());
+    }
+
+    @Test
+    public void testBlankChannel() {
+        AISSentence first = parse(Checksum.add(
+            "!AIVDM,2,1,6,,542M92h00001@<7;?G0PD4i@R0<tqA8tj37>220o0h:2240Ht50000000000,0"));
+        AISSentence last = parse(Checksum.add("!AIVDM,2,2,6,,00000000000,2"));
+        assertNull(assembler.add(null, first, 0));
+        assertArrayEquals(new AISSentence[] { first, last }, assembler.add(null, last, 1));
+        assertEquals(1, assembler.getCompletedCount());
+        assertEquals(0, assembler.getOutOfOrderCount());
+    }
+
+    @Test
+    public void testBlankMessageId() {
+        AISSentence first = parse(Checksum.add(
+            "!AIVDM,2,1,,A,542M92h00001@<7;?G0PD4i@R0<tqA8tj37>220o0h:2240Ht500000000000000,0"));
+        AISSentence last = parse(Checksum.add("!AIVDM,2,2,,A,0000002,2"));
+        assertNull(assembler.add(null, first, 0));
+        assertArrayEquals(new AISSentence[] { first, last }, assembler.add(null, last, 1));
+        assertEquals(1, assembler.getCompletedCount());
+    }
+
+    @Test
+    public void testSkip() {
+        assembler.skip(null, a1, 0);
+        assembler.skip(null, single, 0);
+        assertEquals(1, assembler.getPendingCount());
+        assertNull(assembler.add(null, b1, 1));
+        assertNull(assembler.add(null, a2, 2));
+        assertArrayEquals(new AISSentence[] { b1, b2 }, assembler.add(null, b2, 3));
+        assertEquals(0, assembler.getPendingCount());
+        assertEquals(1, assembler.getCompletedCount());
+        assertEquals(0, assembler.getOutOfOrderCount());
+        assertEquals(0, assembler.getExpiredCount());
+
+        assembler.skip(null, a1, 4);
+        assembler.expire(2000);
+        assertEquals(0, assembler.getPendingCount());
+        assertEquals(0, assembler.getExpiredCount());
+    }
+
+    @Test
+    public void testMessagesFromDifferentSources() {
+        assertNull(assembler.add("rx1", a1, 0));
+        assertNull(assembler.add("rx2", a1, 0));
+        assertArrayEquals(new AISSentence[] { a1, a2 }, assembler.add("rx2", a2, 1));
+        assertArrayEquals(new AISSentence[] { a1, a2 }, assembler.add("rx1", a2, 1));
+        assertEquals(2, assembler.getCompletedCount());
+    }
+
+    @Test
+    public void testOutOfOrder() {
+        assertNull(assembler.add(null, a2, 0));
+        assertEquals(1, assembler.getOutOfOrderCount());
+
+        assertNull(assembler.add(null, a1, 1));
+        assertNull(assembler.add(null, a1, 2));
+        assertEquals(2, assembler.getOutOfOrderCount());
+        assertEquals(1, assembler.getPendingCount());
+
+        assertArrayEquals(new AISSentence[] { a1, a2 }, assembler.add(null, a2, 3));
+        assertEquals(1, assembler.getCompletedCount());
+    }
+
+    @Test
+    public void testTimeout() {
+        assertNull(assembler.add(null, a1, 0));
+        assertNull(assembler.add(null, b1, 500));
+        assertNull(assembler.add(null, a2, 1001));
+        assertEquals(1, assembler.getExpiredCount());
+        assertEquals(1, assembler.getOutOfOrderCount());
+        assertEquals(1, assembler.getPendingCount());
+
+        assembler.expire(1501);
+        assertEquals(2, assembler.getExpiredCount());
+        assertEquals(0, assembler.getPendingCount());
+    }
+
+    @Test
+    public void testCapacity() {
+        AISMessageAssembler small = new AISMessageAssembler(1000, 1);
+        assertNull(small.add(null, a1, 0));
+        assertNull(small.add(null, b1, 1));
+        assertEquals(1, small.getExpiredCount());
+        assertEquals(1, small.getPendingCount());
+        assertArrayEquals(new AISSentence[] { b1, b2 }, small.add(null, b2, 2));
+    }
+
+    @Test
+    public void testSmallCapacityIsNotDividedAmongShards() {
+        AISMessageAssembler small = new AISMessageAssembler(1000, 100);
+        for (int i = 0; i < 100; i++) {
+            assertNull(small.add(i, a1, 0));
+        }
+        assertEquals(100, small.getPendingCount());
+        assertEquals(0, small.getExpiredCount());
+
+        assertNull(small.add(100, a1, 0));
+        assertEquals(100, small.getPendingCount());
+        assertEquals(1, small.getExpiredCount());
+    }
+
+    @Test
+    public void testClear() {
+        assertNull(assembler.add(null, a1, 0));
+        assembler.clear();
+        assertEquals(0, assembler.getPendingCount());
+        assertEquals(0, assembler.getExpiredCount());
+    }
+
+    @Test
+    public void testToString() {
+        assembler.add(single);
+        assertEquals("completed=1, expired=0, outOfOrder=0, pending=0", assembler.toString());
+    }
+
+    @Test
+    public void testConcurrentSources() throws Exception {
+        final int threads = 4;
+        final int messages = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final Integer source = t;
+            results.add(executor.submit(() -> {
+                int completed = 0;
+                for (int i = 0; i < messages; i++) {
+                    assembler.add(source, b1, 0);
+                    assembler.add(source, a1, 0);
+                    completed += assembler.add(source, a2, 0) != null ? 1 : 0;
+                    completed += assembler.add(source, b2, 0) != null ? 1 : 0;
+                }
+                return completed;
+            }));
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        for (Future<Integer> f : results) {
+            assertEquals(2 * messages, f.get().intValue());
+        }
+        assertEquals(2L * messages * threads, assembler.getCompletedCount());
+        assertEquals(0, assembler.getOutOfOrderCount());
+        assertEquals(0, assembler.getPendingCount());
+    }
+}
@@ -0,0 +1,108 @@
+package net.sf.marineapi.ais.parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.ais.event.AISMessageFilter;
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.message.AISPositionInfo;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+import net.sf.marineapi.nmea.sentence.Sentence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of creating AIS messages from the single-fragment sample sentences,
+ * when filtering by MMSI and reading the position of matching vessels only,
+ * compared to decoding all fields of every message. The prefilter benchmark
+ * drops the other vessels by header before creating the messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class AISMessageDecodeBenchmark {
+
+	private final AISMessageFactory factory = AISMessageFactory.getInstance();
+	private final List<AISSentence> sentences = new ArrayList<>();
+	private final AISMessageFilter filter = new AISMessageFilter();
+	private int mmsi;
+
+	@Setup
+	public void setUp() throws IOException {
+		SentenceFactory sf = SentenceFactory.getInstance();
+		File file = new File("src/test/resources/data/AISsample.txt");
+		for (String line : Files.readAllLines(file.toPath())) {
+			if (!line.startsWith("!")) {
+				continue;
+			}
+			try {
+				Sentence s = sf.createParser(line);
+				if (s instanceof AISSentence && !((AISSentence) s).isFragmented()) {
+					AISSentence ais = (AISSentence) s;
+					factory.create(ais).toString();
+					sentences.add(ais);
+				}
+			} catch (RuntimeException e) {
+				// skip unsupported and malformed samples
+			}
+		}
+		mmsi = factory.create(sentences.get(0)).getMMSI();
+		filter.setAllowedMMSIs(mmsi);
+	}
+
+	@Benchmark
+	public double filterByMmsi() {
+		double sum = 0;
+		for (AISSentence s : sentences) {
+			AISMessage msg = factory.create(s);
+			if (msg.getMMSI() == mmsi && msg instanceof AISPositionInfo) {
+				AISPositionInfo pos = (AISPositionInfo) msg;
+				sum += pos.getLatitudeInDegrees() + pos.getLongitudeInDegrees();
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double prefilterByMmsi() {
+		double sum = 0;
+		for (AISSentence s : sentences) {
+			if (filter.accept(s)) {
+				AISMessage msg = factory.create(s);
+				if (msg instanceof AISPositionInfo) {
+					AISPositionInfo pos = (AISPositionInfo) msg;
+					sum += pos.getLatitudeInDegrees() + pos.getLongitudeInDegrees();
+				}
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int decodeAll() {
+		int length = 0;
+		for (AISSentence s : sentences) {
+			AISMessage msg = factory.create(s);
+			length += msg.toString().length()
+				+ ((AISMessageParser) msg).getNrOfViolations();
+		}
+		return length;
+	}
+}
@@ -1,9 +1,12 @@
 package net.sf.marineapi.ais.parser;
 
+import net.sf.marineapi.ais.util.AISRuleViolation;
 import net.sf.marineapi.ais.util.Sixbit;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 /**
@@ -36,6 +39,35 @@ public class AISMessageParserTest {
         assertEquals(sixbit.getPayload(), decoder.getPayload());
     }
 
+    @Test
+    public void testGetSixbitCached() {
+        AISMessageParser msg = new AISMessageParser();
+        msg.append(payload.substring(0, 10), 1, 0);
+        Sixbit first = msg.getSixbit();
+        assertSame(first, msg.getSixbit());
+        msg.append(payload.substring(10), 2, 0);
+        assertNotSame(first, msg.getSixbit());
+        assertEquals(payload, msg.getSixbit().getPayload());
+        assertEquals(244670316, msg.getMMSI());
+    }
+
+    @Test
+    public void testValidateOnDemand() {
+        final int[] count = new int[1];
+        AISMessageParser msg = new AISMessageParser(sixbit) {
+            @Override
+            protected void validate() {
+                count[0]++;
+                addViolation(new AISRuleViolation("MMSI", getMMSI(), "test"));
+            }
+        };
+        assertEquals(244670316, msg.getMMSI());
+        assertEquals(0, count[0]);
+        assertEquals(1, msg.getNrOfViolations());
+        assertEquals(1, msg.getViolations().size());
+        assertEquals(1, count[0]);
+    }
+
     @Test
     public void testAppend() {
         AISMessageParser msg = new AISMessageParser();
@@ -0,0 +1,57 @@
+package net.sf.marineapi.ais.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.Test;
+
+public class AISHeaderTest {
+
+	@Test
+	public void testRead() {
+		long header = AISHeader.read("13aEOK?P00PD2wVMdLDRhgvL289?");
+		assertEquals(1, AISHeader.getMessageType(header));
+		assertEquals(0, AISHeader.getRepeatIndicator(header));
+		assertEquals(244670316, AISHeader.getMMSI(header));
+	}
+
+	@Test
+	public void testReadShortOrInvalidPayload() {
+		assertEquals(AISHeader.NONE, AISHeader.read(null));
+		assertEquals(AISHeader.NONE, AISHeader.read(""));
+		assertEquals(AISHeader.NONE, AISHeader.read("13aEOK"));
+		assertEquals(AISHeader.NONE, AISHeader.read("13aEOK!P00PD2"));
+	}
+
+	@Test
+	public void testSameAsSixbit() throws IOException {
+		File file = new File("src/test/resources/data/AISsample.txt");
+		int count = 0;
+		for (String line : Files.readAllLines(file.toPath())) {
+			String[] fields = line.split(",");
+			if (!line.startsWith("!") || fields.length < 6 || !"1".equals(fields[2])) {
+				continue;
+			}
+			long header = AISHeader.read(fields[5]);
+			Sixbit sixbit;
+			try {
+				sixbit = new Sixbit(fields[5], 0);
+			} catch (IllegalArgumentException e) {
+				assertEquals(line, AISHeader.NONE, header);
+				continue;
+			}
+			if (sixbit.length() < 42) {
+				continue;
+			}
+			assertEquals(line, sixbit.getInt(0, 6), AISHeader.getMessageType(header));
+			assertEquals(line, sixbit.getInt(6, 8), AISHeader.getRepeatIndicator(header));
+			assertEquals(line, sixbit.getInt(8, 38), AISHeader.getMMSI(header));
+			count++;
+		}
+		assertTrue(count > 10);
+	}
+}
@@ -0,0 +1,71 @@
+package net.sf.marineapi.ais.util;
+
+import java.util.BitSet;
+
+/**
+ * Former BitSet based six-bit decoder, bit by bit, used as the reference for
+ * {@link Sixbit} and {@link BitVector}.
+ */
+class BitSetSixbit {
+
+	private final BitSet bits;
+
+	BitSetSixbit(String payload) {
+		bits = new BitSet(payload.length() * Sixbit.BITS_PER_CHAR);
+		for (int i = 0; i < payload.length(); i++) {
+			char ascii = payload.charAt(i);
+			int value = ascii < 0x60 ? ascii - 0x30 : ascii - 0x38;
+			int index = i * Sixbit.BITS_PER_CHAR + Sixbit.BITS_PER_CHAR;
+			int length = Sixbit.BITS_PER_CHAR;
+			while (value != 0L && length > 0) {
+				if (value % 2L != 0) {
+					bits.set(index);
+				}
+				index--;
+				value = value >>> 1;
+				length--;
+			}
+		}
+	}
+
+	BitSet getBitSet() {
+		return bits;
+	}
+
+	boolean getBoolean(int index) {
+		return bits.get(index);
+	}
+
+	int getInt(int from, int to) {
+		int value = 0;
+		for (int i = bits.previousSetBit(to); i > from; i = bits.previousSetBit(i - 1)) {
+			value += (1 << (to - i));
+		}
+		return value;
+	}
+
+	int getSigned(int from, int to) {
+		int value = getInt(from, to);
+		int bits = to - from;
+		if (value >= 1 << (bits - 1)) {
+			value -= 1 << bits;
+		}
+		return value;
+	}
+
+	String getString(int from, int to) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = from; i < to; i += Sixbit.BITS_PER_CHAR) {
+			int value = getInt(i, i + Sixbit.BITS_PER_CHAR);
+			sb.append((char) (value < 0x20 ? value + 0x40 : value));
+		}
+		int end = sb.length() - 1;
+		for (int i = sb.length() - 1; i >= 0; i--) {
+			if (sb.charAt(i) != '@') {
+				end = i;
+				break;
+			}
+		}
+		return sb.substring(0, end + 1);
+	}
+}
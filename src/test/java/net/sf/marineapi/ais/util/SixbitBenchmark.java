@@ -0,0 +1,51 @@
+package net.sf.marineapi.ais.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of decoding a class A position report payload and reading the fields
+ * of a typical position update, with the former BitSet decoder and with the
+ * packed {@link Sixbit}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class SixbitBenchmark {
+
+	private final String payload = "15RTgt0PAso;90TKcjM8h6g208CQ";
+
+	@Benchmark
+	public int legacy() {
+		BitSetSixbit s = new BitSetSixbit(payload);
+		return s.getInt(0, 6) + s.getInt(8, 38) + s.getSigned(61, 89)
+			+ s.getSigned(89, 116) + s.getInt(50, 60) + s.getInt(116, 128)
+			+ s.getInt(128, 137) + s.getSigned(42, 50);
+	}
+
+	@Benchmark
+	public int packed() {
+		Sixbit s = new Sixbit(payload, 0);
+		return s.getInt(0, 6) + s.getInt(8, 38) + s.getAs28BitInt(61, 89)
+			+ s.getAs27BitInt(89, 116) + s.getInt(50, 60) + s.getInt(116, 128)
+			+ s.getInt(128, 137) + s.getAs8BitInt(42, 50);
+	}
+
+	@Benchmark
+	public String shipName() {
+		return new Sixbit("55P5TL01VIaAL@7WKO@01<PTlh000000000000S0`B:37BU0Ht0;Rkiw0", 2)
+			.getString(112, 232);
+	}
+}
@@ -0,0 +1,119 @@
+package net.sf.marineapi.ais.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class SixbitTest {
+
+	private static final String[] FILES = {
+		"src/test/resources/data/AISsample.txt",
+		"src/test/resources/data/AIS-VDM-VDO.txt"
+	};
+
+	/**
+	 * Reads the payloads of sample sentences, excluding the ones with invalid
+	 * payload characters.
+	 */
+	private static List<String> readPayloads() throws IOException {
+		List<String> payloads = new ArrayList<>();
+		for (String file : FILES) {
+			for (String line : Files.readAllLines(new File(file).toPath())) {
+				String[] fields = line.split(",");
+				if (!line.startsWith("!") || fields.length < 6 || fields[5].isEmpty()) {
+					continue;
+				}
+				try {
+					new Sixbit(fields[5], 0);
+					payloads.add(fields[5]);
+				} catch (IllegalArgumentException e) {
+					// skip
+				}
+			}
+		}
+		return payloads;
+	}
+
+	@Test
+	public void testSameAsBitSetDecoder() throws IOException {
+		List<String> payloads = readPayloads();
+		assertTrue(payloads.size() > 40);
+		for (String payload : payloads) {
+			Sixbit sixbit = new Sixbit(payload, 0);
+			BitSetSixbit legacy = new BitSetSixbit(payload);
+			int length = sixbit.length();
+			for (int from = 0; from <= length + 8; from++) {
+				assertEquals(payload, legacy.getBoolean(from), sixbit.getBoolean(from));
+				for (int bits = 0; bits <= 32; bits++) {
+					int to = from + bits;
+					assertEquals(payload, legacy.getInt(from, to), sixbit.getInt(from, to));
+				}
+				for (int bits = 0; from + bits <= length; bits += Sixbit.BITS_PER_CHAR) {
+					assertEquals(payload, legacy.getString(from, from + bits),
+						sixbit.getString(from, from + bits));
+				}
+				assertEquals(legacy.getSigned(from, from + 8), sixbit.getAs8BitInt(from, from + 8));
+				assertEquals(legacy.getSigned(from, from + 17), sixbit.getAs17BitInt(from, from + 17));
+				assertEquals(legacy.getSigned(from, from + 18), sixbit.getAs18BitInt(from, from + 18));
+				assertEquals(legacy.getSigned(from, from + 27), sixbit.getAs27BitInt(from, from + 27));
+				assertEquals(legacy.getSigned(from, from + 28), sixbit.getAs28BitInt(from, from + 28));
+			}
+		}
+	}
+
+	@Test
+	public void testGetRange() {
+		String payload = "15RTgt0PAso;90TKcjM8h6g208CQ";
+		Sixbit sixbit = new Sixbit(payload, 0);
+		BitSetSixbit legacy = new BitSetSixbit(payload);
+		for (int from = 0; from < sixbit.length(); from += 7) {
+			for (int to = from; to <= sixbit.length(); to += 13) {
+				BitVector range = sixbit.get(from, to);
+				BitVector expected = new BitVector(legacy.getBitSet().get(from + 1, to + 1));
+				for (int i = -1; i + 32 <= to - from + 32; i++) {
+					assertEquals(expected.getUInt(i, i + 32), range.getUInt(i, i + 32));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testSignedIntOfWiderRange() {
+		BitVector vector = new BitVector(10);
+		// 10-bit range 0b1100000000
+		vector.set(1);
+		vector.set(2);
+		assertEquals(768 - 256, vector.getAs8BitInt(0, 10));
+		// 8-bit range 0b11000000
+		assertEquals(192 - 256, vector.getAs8BitInt(0, 8));
+		// 20-bit range of value 0x20000
+		vector = new BitVector(10);
+		vector.set(3);
+		assertEquals(0x20000 - 0x20000, vector.getAs17BitInt(0, 20));
+		assertEquals(0x20000 - 0x40000, vector.getAs18BitInt(0, 20));
+		assertEquals(0x20000, vector.getAs27BitInt(0, 20));
+	}
+
+	@Test
+	public void testSetBits() {
+		BitVector vector = new BitVector(10);
+		vector.set(1);
+		vector.set(200);
+		assertTrue(vector.getBoolean(1));
+		assertTrue(vector.getBoolean(200));
+		assertEquals(1 << 31, vector.getUInt(0, 32));
+		assertEquals(1, vector.getUInt(180, 200));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidCharacter() {
+		new Sixbit("15RTgt0PAso;9X", 0);
+	}
+}
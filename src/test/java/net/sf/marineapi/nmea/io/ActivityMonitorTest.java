@@ -0,0 +1,162 @@
+package net.sf.marineapi.nmea.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.sf.marineapi.nmea.event.AbstractSentenceListener;
+import net.sf.marineapi.nmea.sentence.Sentence;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ActivityMonitorTest {
+
+	private final AtomicInteger started = new AtomicInteger();
+	private final AtomicInteger paused = new AtomicInteger();
+	private final AtomicBoolean alternating = new AtomicBoolean(true);
+	private SentenceReader reader;
+	private ActivityMonitor monitor;
+
+	@Before
+	public void setUp() {
+		reader = new SentenceReader(new ByteArrayInputStream(new byte[0]));
+		reader.setPauseTimeout(100);
+		reader.addSentenceListener(new AbstractSentenceListener<Sentence>() {
+			@Override
+			public void readingStarted() {
+				if (started.incrementAndGet() != paused.get() + 1) {
+					alternating.set(false);
+				}
+			}
+			@Override
+			public void readingPaused() {
+				if (paused.incrementAndGet() != started.get()) {
+					alternating.set(false);
+				}
+			}
+			@Override
+			public void sentenceRead(Sentence sentence) {
+			}
+		});
+		monitor = new ActivityMonitor(reader);
+	}
+
+	@Test
+	public void testRefreshFiresStartedOnce() {
+		assertFalse(monitor.isStarted());
+		monitor.refresh();
+		monitor.refresh();
+		monitor.refresh();
+		assertTrue(monitor.isStarted());
+		assertEquals(1, started.get());
+		assertEquals(0, paused.get());
+		monitor.reset();
+	}
+
+	@Test
+	public void testPausedWithoutRefresh() throws Exception {
+		monitor.refresh();
+		Thread.sleep(300);
+		assertEquals(1, paused.get());
+		assertFalse(monitor.isStarted());
+
+		monitor.refresh();
+		assertEquals(2, started.get());
+		Thread.sleep(300);
+		assertEquals(2, paused.get());
+	}
+
+	@Test
+	public void testNotPausedWhileRefreshed() throws Exception {
+		monitor.refresh();
+		for (int i = 0; i < 15; i++) {
+			Thread.sleep(20);
+			monitor.refresh();
+		}
+		assertEquals(0, paused.get());
+		assertEquals(1, started.get());
+		monitor.reset();
+	}
+
+	@Test
+	public void testResetCancelsCheck() throws Exception {
+		monitor.refresh();
+		monitor.reset();
+		Thread.sleep(300);
+		assertEquals(0, paused.get());
+		assertFalse(monitor.isStarted());
+
+		monitor.refresh();
+		assertEquals(2, started.get());
+		monitor.reset();
+	}
+
+	@Test
+	public void testEventsAlternateWhenRefreshedConcurrently() throws Exception {
+		reader.setPauseTimeout(1);
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < 2000; j++) {
+					monitor.refresh();
+					if (j % 100 == 0) {
+						try {
+							Thread.sleep(5);
+						} catch (InterruptedException e) {
+							return;
+						}
+					}
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread t : threads) {
+			t.join();
+		}
+		Thread.sleep(100);
+		assertTrue(alternating.get());
+		assertTrue(started.get() > 1);
+		assertEquals(started.get(), paused.get());
+	}
+
+	@Test
+	public void testSlowPausedListenerDoesNotBlockRefresh() throws Exception {
+		CountDownLatch inPause = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		reader.addSentenceListener(new AbstractSentenceListener<Sentence>() {
+			@Override
+			public void readingPaused() {
+				inPause.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			@Override
+			public void sentenceRead(Sentence sentence) {
+			}
+		});
+		monitor.refresh();
+		assertTrue(inPause.await(1, TimeUnit.SECONDS));
+
+		// restarted while the paused event is still being fired
+		monitor.refresh();
+		assertTrue(monitor.isStarted());
+		assertEquals(1, started.get());
+
+		release.countDown();
+		Thread.sleep(50);
+		assertEquals(2, started.get());
+		assertEquals(1, paused.get());
+		assertTrue(alternating.get());
+		monitor.reset();
+	}
+}
@@ -0,0 +1,181 @@
+package net.sf.marineapi.nmea.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.nmea.event.SentenceEvent;
+import net.sf.marineapi.nmea.event.SentenceListener;
+import net.sf.marineapi.nmea.parser.BODTest;
+import net.sf.marineapi.nmea.parser.GGATest;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.Sentence;
+import net.sf.marineapi.nmea.sentence.SentenceId;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class AsyncSentenceListenerTest {
+
+	private SentenceReader reader;
+	private TestListener listener;
+	private Sentence gga;
+	private Sentence bod;
+
+	@Before
+	public void setUp() {
+		reader = new SentenceReader(new ByteArrayInputStream(new byte[0]));
+		listener = new TestListener();
+		gga = SentenceFactory.getInstance().createParser(GGATest.EXAMPLE);
+		bod = SentenceFactory.getInstance().createParser(BODTest.EXAMPLE);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDispatchPolicyWithInvalidCapacity() {
+		new DispatchPolicy(0, OverflowPolicy.BLOCK);
+	}
+
+	@Test
+	public void testDispatchInOrder() throws Exception {
+		reader.addSentenceListener(listener, SentenceId.GGA,
+			new DispatchPolicy(16, OverflowPolicy.BLOCK));
+
+		reader.fireReadingStarted();
+		for (int i = 0; i < 100; i++) {
+			reader.fireSentenceEvent(gga);
+			reader.fireSentenceEvent(bod);
+		}
+		reader.fireReadingStopped();
+		assertTrue(listener.stopped.await(1, TimeUnit.SECONDS));
+		// counters are updated after listener returns
+		Thread.sleep(50);
+
+		assertEquals(100, listener.received.size());
+		assertEquals(listener.thread, listener.startedBy);
+
+		DispatchStatistics stats = reader.getDispatchStatistics(listener);
+		assertNotNull(stats);
+		assertEquals(102, stats.getDeliveredCount());
+		assertEquals(0, stats.getDroppedCount());
+		assertEquals(0, stats.getQueueDepth());
+		assertTrue(stats.getMaxLatency() >= stats.getAverageLatency());
+		assertTrue(stats.getAverageLatency() > 0);
+	}
+
+	@Test
+	public void testDropNewest() throws Exception {
+		listener.gate = new CountDownLatch(1);
+		reader.addSentenceListener(listener,
+			new DispatchPolicy(4, OverflowPolicy.DROP_NEWEST));
+
+		for (int i = 0; i < 20; i++) {
+			reader.fireSentenceEvent(gga);
+		}
+		reader.fireSentenceEvent(bod);
+
+		DispatchStatistics stats = reader.getDispatchStatistics(listener);
+		assertEquals(4, stats.getQueueDepth());
+		listener.gate.countDown();
+		reader.fireReadingStopped();
+		assertTrue(listener.stopped.await(1, TimeUnit.SECONDS));
+
+		// one in progress, four queued
+		assertEquals(5, listener.received.size());
+		assertEquals(16, stats.getDroppedCount());
+		assertEquals(GGATest.EXAMPLE, listener.received.get(4));
+	}
+
+	@Test
+	public void testDropOldest() throws Exception {
+		listener.gate = new CountDownLatch(1);
+		reader.addSentenceListener(listener,
+			new DispatchPolicy(4, OverflowPolicy.DROP_OLDEST));
+
+		for (int i = 0; i < 20; i++) {
+			reader.fireSentenceEvent(gga);
+		}
+		reader.fireSentenceEvent(bod);
+		listener.gate.countDown();
+		Thread.sleep(100);
+
+		DispatchStatistics stats = reader.getDispatchStatistics(listener);
+		assertEquals(5, listener.received.size());
+		assertEquals(16, stats.getDroppedCount());
+		assertEquals(BODTest.EXAMPLE, listener.received.get(4));
+	}
+
+	@Test
+	public void testRemoveAsyncListener() throws Exception {
+		DispatchPolicy policy = new DispatchPolicy(8, OverflowPolicy.BLOCK);
+		reader.addSentenceListener(listener, SentenceId.GGA, policy);
+		reader.addSentenceListener(listener, SentenceId.BOD, policy);
+		assertEquals(1, reader.getSentenceListeners().size());
+
+		reader.removeSentenceListener(listener, SentenceId.GGA);
+		assertNotNull(reader.getDispatchStatistics(listener));
+		reader.fireSentenceEvent(gga);
+		reader.fireSentenceEvent(bod);
+		Thread.sleep(100);
+		assertEquals(1, listener.received.size());
+		assertEquals(BODTest.EXAMPLE, listener.received.get(0));
+
+		reader.removeSentenceListener(listener);
+		assertNull(reader.getDispatchStatistics(listener));
+		assertEquals(0, reader.getSentenceListeners().size());
+	}
+
+	@Test
+	public void testThreadName() throws Exception {
+		SentenceListener anonymous = new TestListener() {
+		};
+		assertEquals("TestListener", AsyncSentenceListener.getName(listener));
+		assertEquals("AsyncSentenceListenerTest$1",
+			AsyncSentenceListener.getName(anonymous));
+
+		DispatchPolicy policy = new DispatchPolicy(8, OverflowPolicy.BLOCK);
+		reader.addSentenceListener(listener, policy);
+		reader.fireSentenceEvent(bod);
+		Thread.sleep(100);
+		String name = listener.thread.getName();
+		assertTrue(name.startsWith("SentenceListener-TestListener-"));
+		assertFalse(name.endsWith("-"));
+	}
+
+	private static class TestListener implements SentenceListener {
+
+		final List<String> received = new CopyOnWriteArrayList<>();
+		final CountDownLatch stopped = new CountDownLatch(1);
+		volatile CountDownLatch gate = new CountDownLatch(0);
+		volatile Thread thread;
+		volatile Thread startedBy;
+
+		public void readingPaused() {
+		}
+
+		public void readingStarted() {
+			startedBy = Thread.currentThread();
+		}
+
+		public void readingStopped() {
+			stopped.countDown();
+		}
+
+		public void sentenceRead(SentenceEvent event) {
+			thread = Thread.currentThread();
+			try {
+				gate.await();
+			} catch (InterruptedException e) {
+				// ignore
+			}
+			received.add(event.getSentence().toString());
+		}
+	}
+}
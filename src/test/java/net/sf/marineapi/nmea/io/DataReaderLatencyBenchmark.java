@@ -0,0 +1,80 @@
+package net.sf.marineapi.nmea.io;
+
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.sf.marineapi.nmea.event.AbstractSentenceListener;
+import net.sf.marineapi.nmea.parser.GGATest;
+import net.sf.marineapi.nmea.sentence.GGASentence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end latency from writing a sentence into the stream until it has
+ * been dispatched to a listener, in polling and blocking read modes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class DataReaderLatencyBenchmark {
+
+	private static final byte[] LINE = (GGATest.EXAMPLE + "\r\n").getBytes();
+
+	@Param({ "polling", "blocking" })
+	public String mode;
+
+	private PipedOutputStream out;
+	private SentenceReader reader;
+	private final AtomicLong received = new AtomicLong();
+	private long sent;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		out = new PipedOutputStream();
+		PipedInputStream in = new PipedInputStream(out, 4096);
+		reader = "blocking".equals(mode) ?
+			new SentenceReader(in, 100) : new SentenceReader(in);
+		reader.addSentenceListener(new AbstractSentenceListener<GGASentence>() {
+			@Override
+			public void sentenceRead(GGASentence sentence) {
+				received.incrementAndGet();
+			}
+		});
+		reader.start();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		reader.stop();
+		out.close();
+	}
+
+	@Benchmark
+	public long writeAndDispatch() throws IOException {
+		long expected = ++sent;
+		out.write(LINE);
+		out.flush();
+		while (received.get() < expected) {
+			Thread.onSpinWait();
+		}
+		return expected;
+	}
+}
@@ -0,0 +1,127 @@
+package net.sf.marineapi.nmea.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import net.sf.marineapi.nmea.event.SentenceEvent;
+import net.sf.marineapi.nmea.event.SentenceListener;
+import net.sf.marineapi.nmea.parser.BODTest;
+import net.sf.marineapi.nmea.parser.GGATest;
+import net.sf.marineapi.nmea.parser.TXTTest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DatagramDataReaderTest {
+
+	private DatagramChannel channel;
+	private DatagramChannel sender;
+	private SentenceReader reader;
+	private final List<String> received = new CopyOnWriteArrayList<>();
+	private volatile boolean stopped;
+
+	@Before
+	public void setUp() throws Exception {
+		InetAddress host = InetAddress.getLoopbackAddress();
+		channel = DatagramChannel.open().bind(new InetSocketAddress(host, 0));
+		sender = DatagramChannel.open();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (reader != null) {
+			reader.stop();
+		}
+		sender.close();
+		channel.close();
+	}
+
+	private void start(DatagramDataReader dr) {
+		reader = new SentenceReader(dr);
+		reader.addSentenceListener(new SentenceListener() {
+			public void readingPaused() {
+			}
+			public void readingStarted() {
+			}
+			public void readingStopped() {
+				stopped = true;
+			}
+			public void sentenceRead(SentenceEvent event) {
+				received.add(event.getSentence().toString());
+			}
+		});
+		reader.start();
+	}
+
+	private void send(String data) throws Exception {
+		sender.send(ByteBuffer.wrap(data.getBytes()), channel.getLocalAddress());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructorWithNonBlockingChannel() throws Exception {
+		channel.configureBlocking(false);
+		new DatagramDataReader(channel);
+	}
+
+	@Test
+	public void testMultipleSentencesPerDatagram() throws Exception {
+		DatagramDataReader dr = new DatagramDataReader(channel);
+		start(dr);
+
+		send(GGATest.EXAMPLE + "\r\n" + BODTest.EXAMPLE + "\r\n" + TXTTest.EXAMPLE);
+		send(GGATest.EXAMPLE + "\r\n");
+		Thread.sleep(200);
+
+		assertEquals(4, received.size());
+		assertEquals(GGATest.EXAMPLE, received.get(0));
+		assertEquals(BODTest.EXAMPLE, received.get(1));
+		assertEquals(TXTTest.EXAMPLE, received.get(2));
+		assertEquals(GGATest.EXAMPLE, received.get(3));
+
+		SourceStatistics stats = dr.getStatistics();
+		assertEquals(2, stats.getPacketCount());
+		assertEquals(4, stats.getSentenceCount());
+		assertEquals(0, stats.getTruncatedCount());
+		assertEquals(0, stats.getDroppedCount());
+	}
+
+	@Test
+	public void testTruncatedDatagram() throws Exception {
+		int size = GGATest.EXAMPLE.length() + 10;
+		DatagramDataReader dr = new DatagramDataReader(channel, size);
+		start(dr);
+
+		send(GGATest.EXAMPLE + "\r\n" + BODTest.EXAMPLE + "\r\n");
+		send(TXTTest.EXAMPLE);
+		Thread.sleep(200);
+
+		assertEquals(2, received.size());
+		assertEquals(GGATest.EXAMPLE, received.get(0));
+		assertEquals(TXTTest.EXAMPLE, received.get(1));
+
+		SourceStatistics stats = dr.getStatistics();
+		assertEquals(2, stats.getPacketCount());
+		assertEquals(1, stats.getTruncatedCount());
+		assertEquals(1, stats.getDroppedCount());
+		assertEquals(size + TXTTest.EXAMPLE.length(), stats.getByteCount());
+	}
+
+	@Test
+	public void testStop() throws Exception {
+		start(new DatagramDataReader(channel));
+		Thread.sleep(100);
+		assertFalse(stopped);
+		reader.stop();
+		Thread.sleep(100);
+		assertTrue(stopped);
+	}
+}
@@ -0,0 +1,105 @@
+package net.sf.marineapi.nmea.io;
+
+import java.io.ByteArrayInputStream;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.nmea.event.SentenceEvent;
+import net.sf.marineapi.nmea.event.SentenceListener;
+import net.sf.marineapi.nmea.parser.GGATest;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.Sentence;
+import net.sf.marineapi.nmea.sentence.SentenceId;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of dispatching one sentence to listeners, half of them registered for
+ * all sentences and half for the sentence type. The legacy benchmark
+ * replicates the former HashSet and Vector based dispatching for comparison.
+ * Run with {@code -prof gc} to see the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class FireSentenceEventBenchmark {
+
+	private static final String DISPATCH_ALL = "DISPATCH_ALL";
+
+	@Param({ "1", "10", "100" })
+	public int listeners;
+
+	private SentenceReader reader;
+	private Sentence sentence;
+	private final ConcurrentMap<String, List<SentenceListener>> legacy =
+		new ConcurrentHashMap<>();
+
+	@Setup
+	public void setUp(Blackhole bh) {
+		reader = new SentenceReader(new ByteArrayInputStream(new byte[0]));
+		sentence = SentenceFactory.getInstance().createParser(GGATest.EXAMPLE);
+		legacy.put(DISPATCH_ALL, new Vector<>());
+		legacy.put("GGA", new Vector<>());
+
+		for (int i = 0; i < listeners; i++) {
+			SentenceListener l = new SentenceListener() {
+				public void readingPaused() {
+				}
+				public void readingStarted() {
+				}
+				public void readingStopped() {
+				}
+				public void sentenceRead(SentenceEvent event) {
+					bh.consume(event);
+				}
+			};
+			if (i % 2 == 0) {
+				reader.addSentenceListener(l);
+				legacy.get(DISPATCH_ALL).add(l);
+			} else {
+				reader.addSentenceListener(l, SentenceId.GGA);
+				legacy.get("GGA").add(l);
+			}
+		}
+	}
+
+	@Benchmark
+	public void dispatchTable() {
+		reader.fireSentenceEvent(sentence);
+	}
+
+	@Benchmark
+	public void legacy() {
+		String type = sentence.getSentenceId();
+		Set<SentenceListener> targets = new HashSet<>();
+		if (legacy.containsKey(type)) {
+			targets.addAll(legacy.get(type));
+		}
+		if (legacy.containsKey(DISPATCH_ALL)) {
+			targets.addAll(legacy.get(DISPATCH_ALL));
+		}
+		for (SentenceListener listener : targets) {
+			SentenceEvent se = new SentenceEvent(this, sentence);
+			listener.sentenceRead(se);
+		}
+	}
+}
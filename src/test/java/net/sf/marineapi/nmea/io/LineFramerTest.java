@@ -0,0 +1,106 @@
+package net.sf.marineapi.nmea.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class LineFramerTest {
+
+	private LineFramer framer;
+
+	@Before
+	public void setUp() {
+		framer = new LineFramer(16, null);
+	}
+
+	@Test
+	public void testNextWithTerminators() {
+		ByteBuffer buf = ByteBuffer.wrap("$A,1\r\n$B,2\n$C,3\r".getBytes());
+		assertEquals("$A,1", framer.next(buf));
+		assertEquals("$B,2", framer.next(buf));
+		assertEquals("$C,3", framer.next(buf));
+		assertNull(framer.next(buf));
+		assertFalse(buf.hasRemaining());
+		assertFalse(framer.hasPending());
+	}
+
+	@Test
+	public void testNextWithPartialLine() {
+		assertNull(framer.next(ByteBuffer.wrap("$GPG".getBytes())));
+		assertTrue(framer.hasPending());
+		assertEquals("$GPGGA,1", framer.next(ByteBuffer.wrap("GA,1\r\n".getBytes())));
+		assertFalse(framer.hasPending());
+	}
+
+	@Test
+	public void testNextSkipsEmptyLines() {
+		ByteBuffer buf = ByteBuffer.wrap("\r\n\r\n\n$A\r\n\r\n".getBytes());
+		assertEquals("$A", framer.next(buf));
+		assertNull(framer.next(buf));
+	}
+
+	@Test
+	public void testFlushPendingLine() {
+		ByteBuffer buf = ByteBuffer.wrap("$A,1\r\n$B,2".getBytes());
+		assertEquals("$A,1", framer.next(buf));
+		assertNull(framer.next(buf));
+		assertEquals("$B,2", framer.flush());
+		assertNull(framer.flush());
+	}
+
+	@Test
+	public void testHasLine() {
+		ByteBuffer buf = ByteBuffer.wrap("$A,1\r\n$B,2".getBytes());
+		assertTrue(framer.hasLine(buf, false));
+		assertEquals("$A,1", framer.next(buf));
+		int position = buf.position();
+		assertFalse(framer.hasLine(buf, false));
+		assertTrue(framer.hasLine(buf, true));
+		assertEquals(position, buf.position());
+	}
+
+	@Test
+	public void testHasLineWithPendingBytes() {
+		assertNull(framer.next(ByteBuffer.wrap("$A,1".getBytes())));
+		assertTrue(framer.hasLine(ByteBuffer.wrap("\r\n".getBytes()), false));
+		assertFalse(framer.hasLine(ByteBuffer.wrap(",2".getBytes()), false));
+	}
+
+	@Test
+	public void testHasLineWithTerminatorsOnly() {
+		ByteBuffer buf = ByteBuffer.wrap("\r\n\n".getBytes());
+		assertFalse(framer.hasLine(buf, false));
+		assertFalse(framer.hasLine(buf, true));
+	}
+
+	@Test
+	public void testDirectBuffer() {
+		byte[] data = "$A,1\n$B,2\n".getBytes();
+		ByteBuffer buf = ByteBuffer.allocateDirect(data.length);
+		buf.put(data).flip();
+		assertEquals("$A,1", framer.next(buf));
+		assertEquals("$B,2", framer.next(buf));
+		assertNull(framer.next(buf));
+	}
+
+	@Test
+	public void testOverlongLineIsDropped() {
+		ByteBuffer buf = ByteBuffer.wrap("$01234567890123456789\r\n$A\r\n".getBytes());
+		assertEquals("$A", framer.next(buf));
+		assertEquals(1, framer.getDroppedCount());
+	}
+
+	@Test
+	public void testReset() {
+		assertNull(framer.next(ByteBuffer.wrap("$GPG".getBytes())));
+		framer.reset();
+		assertFalse(framer.hasPending());
+		assertNull(framer.flush());
+	}
+}
@@ -0,0 +1,119 @@
+package net.sf.marineapi.nmea.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assume.assumeNotNull;
+
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import net.sf.marineapi.nmea.event.AbstractSentenceListener;
+import net.sf.marineapi.nmea.parser.BODTest;
+import net.sf.marineapi.nmea.parser.GGATest;
+import net.sf.marineapi.nmea.sentence.Sentence;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MulticastDataReaderTest {
+
+	private MulticastDataReader mc;
+	private SentenceReader reader;
+	private DatagramChannel sender;
+	private NetworkInterface nif;
+	private InetAddress groupA;
+	private InetAddress groupB;
+	private int port;
+	private final List<Sentence> received = new CopyOnWriteArrayList<>();
+
+	@Before
+	public void setUp() throws Exception {
+		nif = NetworkInterface.getByInetAddress(InetAddress.getLoopbackAddress());
+		assumeNotNull(nif);
+
+		groupA = InetAddress.getByName("239.255.10.1");
+		groupB = InetAddress.getByName("239.255.10.2");
+		try (DatagramSocket s = new DatagramSocket()) {
+			port = s.getLocalPort();
+		}
+
+		mc = new MulticastDataReader();
+		reader = new SentenceReader(mc);
+		reader.addSentenceListener(new AbstractSentenceListener<Sentence>() {
+			@Override
+			public void sentenceRead(Sentence sentence) {
+				received.add(sentence);
+			}
+		});
+
+		sender = DatagramChannel.open(StandardProtocolFamily.INET);
+		sender.setOption(StandardSocketOptions.IP_MULTICAST_IF, nif);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (reader != null) {
+			reader.stop();
+			sender.close();
+		}
+	}
+
+	private void send(String data, InetAddress group) throws Exception {
+		ByteBuffer buf = ByteBuffer.wrap(data.getBytes());
+		sender.send(buf, new InetSocketAddress(group, port));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testJoinGroupWithUnicastAddress() throws Exception {
+		mc.joinGroup(InetAddress.getLoopbackAddress(), port, nif);
+	}
+
+	@Test
+	public void testJoinGroups() throws Exception {
+
+		SourceStatistics a = mc.joinGroup(groupA, port, nif);
+		SourceStatistics b = mc.joinGroup(groupB, port, nif);
+		assertNotNull(a);
+		assertNotNull(b);
+		reader.start();
+
+		send(GGATest.EXAMPLE + "\r\n" + BODTest.EXAMPLE + "\r\n", groupA);
+		send(GGATest.EXAMPLE, groupA);
+		send(BODTest.EXAMPLE, groupB);
+		Thread.sleep(300);
+
+		assertEquals(4, received.size());
+		assertEquals(2, a.getPacketCount());
+		assertEquals(3, a.getSentenceCount());
+		assertEquals(1, b.getPacketCount());
+		assertEquals(1, b.getSentenceCount());
+		assertEquals(BODTest.EXAMPLE.length(), b.getByteCount());
+		assertEquals(a, mc.getStatistics(groupA, port));
+	}
+
+	@Test
+	public void testLeaveGroup() throws Exception {
+
+		mc.joinGroup(groupA, port, nif);
+		reader.start();
+		send(GGATest.EXAMPLE, groupA);
+		Thread.sleep(200);
+		assertEquals(1, received.size());
+
+		mc.leaveGroup(groupA, port);
+		assertNull(mc.getStatistics(groupA, port));
+		send(GGATest.EXAMPLE, groupA);
+		Thread.sleep(200);
+		assertEquals(1, received.size());
+	}
+}
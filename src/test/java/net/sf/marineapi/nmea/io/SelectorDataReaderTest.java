@@ -0,0 +1,144 @@
+package net.sf.marineapi.nmea.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.sf.marineapi.nmea.event.SentenceEvent;
+import net.sf.marineapi.nmea.event.SentenceListener;
+import net.sf.marineapi.nmea.parser.BODTest;
+import net.sf.marineapi.nmea.parser.GGATest;
+import net.sf.marineapi.nmea.parser.TXTTest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SelectorDataReaderTest {
+
+	private SelectorDataReader mux;
+	private SentenceReader reader;
+	private final List<String> received = new CopyOnWriteArrayList<>();
+	private final AtomicInteger started = new AtomicInteger();
+	private final AtomicInteger stopped = new AtomicInteger();
+
+	@Before
+	public void setUp() throws Exception {
+		mux = new SelectorDataReader();
+		reader = new SentenceReader(mux);
+		reader.addSentenceListener(new SentenceListener() {
+			public void readingPaused() {
+			}
+			public void readingStarted() {
+				started.incrementAndGet();
+			}
+			public void readingStopped() {
+				stopped.incrementAndGet();
+			}
+			public void sentenceRead(SentenceEvent event) {
+				received.add(event.getSentence().toString());
+			}
+		});
+	}
+
+	@After
+	public void tearDown() {
+		reader.stop();
+	}
+
+	@Test
+	public void testDatagramSources() throws Exception {
+
+		InetAddress host = InetAddress.getLoopbackAddress();
+		DatagramChannel a = DatagramChannel.open().bind(new InetSocketAddress(host, 0));
+		DatagramChannel b = DatagramChannel.open().bind(new InetSocketAddress(host, 0));
+		mux.addSource(a);
+		mux.addSource(b);
+		reader.start();
+
+		DatagramChannel sender = DatagramChannel.open();
+		String multi = GGATest.EXAMPLE + "\r\n" + BODTest.EXAMPLE;
+		sender.send(ByteBuffer.wrap(multi.getBytes()), a.getLocalAddress());
+		sender.send(ByteBuffer.wrap(TXTTest.EXAMPLE.getBytes()), b.getLocalAddress());
+		Thread.sleep(300);
+
+		assertEquals(3, received.size());
+		assertTrue(received.contains(GGATest.EXAMPLE));
+		assertTrue(received.contains(BODTest.EXAMPLE));
+		assertTrue(received.contains(TXTTest.EXAMPLE));
+		assertEquals(2, started.get());
+
+		sender.close();
+		a.close();
+		b.close();
+	}
+
+	@Test
+	public void testStreamSourceFraming() throws Exception {
+
+		ServerSocketChannel server = ServerSocketChannel.open();
+		server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+		SocketChannel client = SocketChannel.open(server.getLocalAddress());
+		SocketChannel peer = server.accept();
+
+		mux.addSource(client);
+		reader.start();
+
+		String data = GGATest.EXAMPLE + "\r\n" + BODTest.EXAMPLE + "\r\n";
+		int split = GGATest.EXAMPLE.length() / 2;
+		peer.write(ByteBuffer.wrap(data.substring(0, split).getBytes()));
+		Thread.sleep(150);
+		assertTrue(received.isEmpty());
+
+		peer.write(ByteBuffer.wrap(data.substring(split).getBytes()));
+		Thread.sleep(150);
+
+		assertEquals(2, received.size());
+		assertEquals(GGATest.EXAMPLE, received.get(0));
+		assertEquals(BODTest.EXAMPLE, received.get(1));
+
+		peer.close();
+		server.close();
+	}
+
+	@Test
+	public void testRemoveSource() throws Exception {
+
+		InetAddress host = InetAddress.getLoopbackAddress();
+		DatagramChannel a = DatagramChannel.open().bind(new InetSocketAddress(host, 0));
+		mux.addSource(a);
+		reader.start();
+
+		DatagramChannel sender = DatagramChannel.open();
+		sender.send(ByteBuffer.wrap(GGATest.EXAMPLE.getBytes()), a.getLocalAddress());
+		Thread.sleep(150);
+		assertEquals(1, received.size());
+
+		mux.removeSource(a);
+		Thread.sleep(150);
+		sender.send(ByteBuffer.wrap(GGATest.EXAMPLE.getBytes()), a.getLocalAddress());
+		Thread.sleep(150);
+		assertEquals(1, received.size());
+
+		sender.close();
+		a.close();
+	}
+
+	@Test
+	public void testStop() throws Exception {
+		reader.start();
+		Thread.sleep(100);
+		reader.stop();
+		Thread.sleep(200);
+		assertEquals(1, stopped.get());
+	}
+}
@@ -0,0 +1,149 @@
+package net.sf.marineapi.nmea.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import net.sf.marineapi.nmea.event.BatchSentenceListener;
+import net.sf.marineapi.nmea.parser.BODTest;
+import net.sf.marineapi.nmea.parser.GGATest;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.parser.TXTTest;
+import net.sf.marineapi.nmea.sentence.Sentence;
+
+import org.junit.Test;
+
+public class SentenceBatcherTest {
+
+	private final List<List<Sentence>> batches = new CopyOnWriteArrayList<>();
+	private final BatchSentenceListener listener = new BatchSentenceListener() {
+		public void sentencesRead(List<Sentence> sentences) {
+			batches.add(sentences);
+		}
+	};
+
+	@Test
+	public void testMaxSize() {
+		SentenceBatcher b = new SentenceBatcher(listener, 3, 0);
+		Sentence s = SentenceFactory.getInstance().createParser(GGATest.EXAMPLE);
+		for (int i = 0; i < 7; i++) {
+			b.add(s);
+		}
+		assertEquals(2, batches.size());
+		assertEquals(3, batches.get(0).size());
+		assertEquals(3, batches.get(1).size());
+
+		b.flush();
+		assertEquals(3, batches.size());
+		assertEquals(1, batches.get(2).size());
+
+		b.flush();
+		assertEquals(3, batches.size());
+	}
+
+	@Test
+	public void testMaxLatency() throws Exception {
+		SentenceBatcher b = new SentenceBatcher(listener, 100, 20);
+		Sentence s = SentenceFactory.getInstance().createParser(GGATest.EXAMPLE);
+		b.add(s);
+		b.add(s);
+		assertEquals(0, batches.size());
+		Thread.sleep(30);
+		b.add(s);
+		assertEquals(1, batches.size());
+		assertEquals(3, batches.get(0).size());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testBatchIsUnmodifiable() {
+		SentenceBatcher b = new SentenceBatcher(listener, 1, 0);
+		b.add(SentenceFactory.getInstance().createParser(GGATest.EXAMPLE));
+		batches.get(0).clear();
+	}
+
+	@Test
+	public void testBatchPerDatagram() throws Exception {
+		InetAddress host = InetAddress.getLoopbackAddress();
+		try (DatagramChannel channel = DatagramChannel.open().bind(new InetSocketAddress(host, 0));
+			DatagramChannel sender = DatagramChannel.open()) {
+
+			SentenceReader reader = new SentenceReader(new DatagramDataReader(channel));
+			reader.addBatchListener(listener, 100, 0);
+			reader.start();
+
+			String first = GGATest.EXAMPLE + "\r\n" + BODTest.EXAMPLE + "\r\n" + TXTTest.EXAMPLE;
+			String second = BODTest.EXAMPLE + "\r\n" + GGATest.EXAMPLE + "\r\n";
+			sender.send(ByteBuffer.wrap(first.getBytes()), channel.getLocalAddress());
+			Thread.sleep(100);
+			sender.send(ByteBuffer.wrap(second.getBytes()), channel.getLocalAddress());
+			Thread.sleep(100);
+			reader.stop();
+
+			assertEquals(2, batches.size());
+			assertEquals(3, batches.get(0).size());
+			assertEquals(TXTTest.EXAMPLE, batches.get(0).get(2).toString());
+			assertEquals(2, batches.get(1).size());
+		}
+	}
+
+	@Test
+	public void testBatchesFromStream() throws Exception {
+		File file = new File(SentenceReaderTest.TEST_DATA);
+		SentenceReader reader = new SentenceReader(new FileInputStream(file), 100);
+		reader.addBatchListener(listener, 10, 0);
+		reader.start();
+		Thread.sleep(500);
+		reader.stop();
+
+		assertTrue(batches.size() > 1);
+		for (List<Sentence> batch : batches) {
+			assertTrue(batch.size() <= 10);
+			assertTrue(batch.size() > 0);
+		}
+	}
+
+	@Test
+	public void testRemoveBatchListener() {
+		SentenceReader reader = new SentenceReader(new ByteArrayInputStream(new byte[0]));
+		reader.addBatchListener(listener, 10, 0);
+		assertTrue(reader.hasBatchListeners());
+
+		Sentence s = SentenceFactory.getInstance().createParser(GGATest.EXAMPLE);
+		reader.fireSentenceEvent(s);
+		reader.fireBatchEnd();
+		assertEquals(1, batches.size());
+
+		reader.removeBatchListener(listener);
+		reader.fireSentenceEvent(s);
+		reader.fireBatchEnd();
+		assertEquals(1, batches.size());
+		assertEquals(false, reader.hasBatchListeners());
+	}
+
+	@Test
+	public void testBatchDeliveredWhenPaused() throws Exception {
+		SentenceReader reader = new SentenceReader(new ByteArrayInputStream(new byte[0]));
+		reader.setPauseTimeout(50);
+		reader.addBatchListener(listener, 10, 0);
+		ActivityMonitor monitor = new ActivityMonitor(reader);
+
+		Sentence s = SentenceFactory.getInstance().createParser(GGATest.EXAMPLE);
+		monitor.refresh();
+		reader.fireSentenceEvent(s);
+		assertEquals(0, batches.size());
+
+		Thread.sleep(300);
+		assertEquals(false, monitor.isStarted());
+		assertEquals(1, batches.size());
+		assertEquals(1, batches.get(0).size());
+	}
+}
@@ -0,0 +1,118 @@
+package net.sf.marineapi.nmea.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import net.sf.marineapi.nmea.event.SentenceEvent;
+import net.sf.marineapi.nmea.event.SentenceListener;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of parsing and dispatching recorded GPS data sequentially on
+ * the reader thread (zero workers) and in pipelined mode with 1-8 workers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class SentencePipelineBenchmark {
+
+	private static final int BATCH = 4096;
+
+	@Param({ "0", "1", "2", "4", "8" })
+	public int workers;
+
+	private String[] lines;
+	private SentenceReader reader;
+	private AbstractDataReader dataReader;
+	private ActivityMonitor monitor;
+	private SentencePipeline pipeline;
+	private final AtomicLong received = new AtomicLong();
+	private long sent;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		List<String> valid = Files.readAllLines(
+			Paths.get(SentenceReaderTest.TEST_DATA)).stream()
+			.filter(SentenceValidator::isValid)
+			.filter(s -> SentenceFactory.getInstance().hasParser(SentenceId.parseStr(s)))
+			.collect(Collectors.toList());
+		lines = new String[BATCH];
+		for (int i = 0; i < BATCH; i++) {
+			lines[i] = valid.get(i % valid.size());
+		}
+
+		reader = new SentenceReader(new ByteArrayInputStream(new byte[0]));
+		reader.addSentenceListener(new SentenceListener() {
+			public void readingPaused() {
+			}
+			public void readingStarted() {
+			}
+			public void readingStopped() {
+			}
+			public void sentenceRead(SentenceEvent event) {
+				received.incrementAndGet();
+			}
+		});
+		dataReader = new AbstractDataReader(reader) {
+			@Override
+			public String read() {
+				return null;
+			}
+		};
+		monitor = new ActivityMonitor(reader);
+		if (workers > 0) {
+			pipeline = new SentencePipeline(reader, workers, 1024, OverflowPolicy.BLOCK);
+			pipeline.start();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (pipeline != null) {
+			pipeline.close();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public long dispatch() throws InterruptedException {
+		for (String line : lines) {
+			if (pipeline == null) {
+				dataReader.dispatch(line, monitor);
+			} else {
+				pipeline.submit(line, monitor, null);
+			}
+		}
+		sent += BATCH;
+		while (received.get() < sent) {
+			Thread.onSpinWait();
+		}
+		return sent;
+	}
+}
@@ -0,0 +1,155 @@
+package net.sf.marineapi.nmea.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import net.sf.marineapi.nmea.event.SentenceEvent;
+import net.sf.marineapi.nmea.event.SentenceListener;
+import net.sf.marineapi.nmea.parser.BODTest;
+import net.sf.marineapi.nmea.parser.GGATest;
+import net.sf.marineapi.nmea.parser.TXTTest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class SentencePipelineTest {
+
+	private static final String[] LINES = {
+		GGATest.EXAMPLE, BODTest.EXAMPLE, "foobar", TXTTest.EXAMPLE
+	};
+
+	private SentenceReader parent;
+	private ActivityMonitor monitor;
+	private final List<String> received = new CopyOnWriteArrayList<>();
+	private final List<String> data = new CopyOnWriteArrayList<>();
+	private volatile CountDownLatch gate = new CountDownLatch(0);
+
+	@Before
+	public void setUp() {
+		parent = new SentenceReader(new ByteArrayInputStream(new byte[0]));
+		monitor = new ActivityMonitor(parent);
+		parent.setDataListener(new DataListener() {
+			public void dataRead(String line) {
+				data.add(line);
+			}
+		});
+		parent.addSentenceListener(new SentenceListener() {
+			public void readingPaused() {
+			}
+			public void readingStarted() {
+			}
+			public void readingStopped() {
+			}
+			public void sentenceRead(SentenceEvent event) {
+				try {
+					gate.await();
+				} catch (InterruptedException e) {
+					// ignore
+				}
+				received.add(event.getSentence().toString());
+			}
+		});
+	}
+
+	@Test
+	public void testDispatchOrder() throws Exception {
+		SentencePipeline p = new SentencePipeline(parent, 4, 16, OverflowPolicy.BLOCK);
+		p.start();
+
+		List<String> expected = new ArrayList<>();
+		SourceStatistics stats = new SourceStatistics();
+		for (int i = 0; i < 1000; i++) {
+			String line = LINES[i % LINES.length];
+			p.submit(line, monitor, stats);
+			if (!"foobar".equals(line)) {
+				expected.add(line);
+			}
+		}
+		p.close();
+
+		assertEquals(expected, received);
+		assertEquals(250, data.size());
+		assertEquals(750, stats.getSentenceCount());
+		assertEquals(0, p.getDroppedCount());
+	}
+
+	@Test
+	public void testDropNewest() throws Exception {
+		gate = new CountDownLatch(1);
+		SentencePipeline p = new SentencePipeline(parent, 2, 4, OverflowPolicy.DROP_NEWEST);
+		p.start();
+
+		for (int i = 0; i < 100; i++) {
+			p.submit(GGATest.EXAMPLE, monitor, null);
+		}
+		assertTrue(p.getDroppedCount() > 0);
+
+		gate.countDown();
+		p.close();
+		assertEquals(100, received.size() + p.getDroppedCount());
+	}
+
+	@Test
+	public void testDropOldest() throws Exception {
+		gate = new CountDownLatch(1);
+		SentencePipeline p = new SentencePipeline(parent, 2, 4, OverflowPolicy.DROP_OLDEST);
+		p.start();
+
+		for (int i = 0; i < 100; i++) {
+			p.submit(GGATest.EXAMPLE, monitor, null);
+		}
+		p.submit(BODTest.EXAMPLE, monitor, null);
+		assertTrue(p.getDroppedCount() > 0);
+
+		gate.countDown();
+		p.close();
+		assertEquals(101, received.size() + p.getDroppedCount());
+		assertEquals(BODTest.EXAMPLE, received.get(received.size() - 1));
+	}
+
+	@Test
+	public void testPipelinedReader() throws Exception {
+		SentenceReader reader = new SentenceReader(new AbstractDataReader() {
+			@Override
+			public String read() throws Exception {
+				return GGATest.EXAMPLE;
+			}
+		});
+		reader.setPipelined(2, 64, OverflowPolicy.BLOCK);
+
+		final List<String> sentences = new CopyOnWriteArrayList<>();
+		final CountDownLatch stopped = new CountDownLatch(1);
+		reader.addSentenceListener(new SentenceListener() {
+			public void readingPaused() {
+			}
+			public void readingStarted() {
+			}
+			public void readingStopped() {
+				stopped.countDown();
+			}
+			public void sentenceRead(SentenceEvent event) {
+				sentences.add(event.getSentence().toString());
+			}
+		});
+
+		reader.start();
+		Thread.sleep(100);
+		reader.stop();
+		stopped.await();
+
+		assertTrue(sentences.size() > 0);
+		assertEquals(0, reader.getPipelineDropCount());
+		assertTrue(reader.getPipeline() != null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetPipelinedWithInvalidCapacity() {
+		parent.setPipelined(2, 0, OverflowPolicy.BLOCK);
+	}
+}
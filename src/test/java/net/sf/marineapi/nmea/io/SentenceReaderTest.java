@@ -10,6 +10,8 @@ import static org.junit.Assert.fail;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.net.DatagramSocket;
 import java.net.InetAddress;
 import java.util.ArrayList;
@@ -18,6 +20,7 @@ import java.util.List;
 import net.sf.marineapi.nmea.event.AbstractSentenceListener;
 import net.sf.marineapi.nmea.event.SentenceEvent;
 import net.sf.marineapi.nmea.event.SentenceListener;
+import net.sf.marineapi.nmea.event.TransientSentenceListener;
 import net.sf.marineapi.nmea.parser.BODTest;
 import net.sf.marineapi.nmea.parser.GGATest;
 import net.sf.marineapi.nmea.parser.SentenceFactory;
@@ -142,6 +145,50 @@ public class SentenceReaderTest {
 		assertEquals(server.TXT, received.get(0).toString());
 	}
 
+	@Test
+	public void testSetParserReuse() throws Exception {
+		reader.removeSentenceListener(dummyListener);
+		reader.removeSentenceListener(testListener);
+		assertFalse(reader.isParserReuse());
+		reader.setParserReuse(true);
+		assertTrue(reader.isParserReuse());
+
+		List<Sentence> received = new ArrayList<>();
+		List<String> values = new ArrayList<>();
+		reader.addSentenceListener(new TransientListener() {
+			@Override
+			public void sentenceRead(SentenceEvent event) {
+				received.add(event.getSentence());
+				values.add(event.getSentence().toString());
+			}
+		});
+		assertTrue(reader.isParserReuse());
+		DummyDataReader dr = new DummyDataReader(TXTTest.EXAMPLE);
+		dr.setParent(reader);
+		dr.dispatch(TXTTest.EXAMPLE, new ActivityMonitor(reader));
+		dr.dispatch(TXTTest.EXAMPLE, new ActivityMonitor(reader));
+		assertEquals(2, received.size());
+		assertTrue(received.get(0) == received.get(1));
+		assertEquals(TXTTest.EXAMPLE, values.get(1));
+
+		reader.addBatchListener(sentences -> { }, 10, 0);
+		assertFalse(reader.isParserReuse());
+	}
+
+	@Test
+	public void testParserReuseSuspendedByRetainingListener() {
+		reader.removeSentenceListener(dummyListener);
+		reader.removeSentenceListener(testListener);
+		reader.setParserReuse(true);
+		reader.addSentenceListener(new TransientListener());
+		assertTrue(reader.isParserReuse());
+
+		reader.addSentenceListener(testListener, SentenceId.GGA);
+		assertFalse(reader.isParserReuse());
+		reader.removeSentenceListener(testListener);
+		assertTrue(reader.isParserReuse());
+	}
+
 	@Test
 	public void testSetPauseTimeout() {
 		final int timeout = 2500;
@@ -188,6 +235,29 @@ public class SentenceReaderTest {
 		assertNull(sentence);
 	}
 
+	@Test
+	public void testFireSentenceEventOncePerListener() {
+		final List<SentenceEvent> events = new ArrayList<>();
+		SentenceListener listener = new DummySentenceListener() {
+			@Override
+			public void sentenceRead(SentenceEvent event) {
+				events.add(event);
+			}
+		};
+		reader.addSentenceListener(listener);
+		reader.addSentenceListener(listener, SentenceId.GGA);
+		reader.addSentenceListener(dummyListener, SentenceId.GGA);
+
+		Sentence s = SentenceFactory.getInstance().createParser(GGATest.EXAMPLE);
+		reader.fireSentenceEvent(s);
+		assertEquals(1, events.size());
+		assertEquals(s, sentence);
+
+		reader.removeSentenceListener(listener, SentenceId.GGA);
+		reader.fireSentenceEvent(s);
+		assertEquals(2, events.size());
+	}
+
 	@Test
 	public void testStartAndStop() {
 		try {
@@ -213,6 +283,43 @@ public class SentenceReaderTest {
 		}
 	}
 
+	@Test
+	public void testBlockingRead() throws Exception {
+
+		PipedOutputStream out = new PipedOutputStream();
+		PipedInputStream in = new PipedInputStream(out);
+		SentenceReader blocking = new SentenceReader(in, 100);
+		blocking.addSentenceListener(testListener);
+
+		blocking.start();
+		out.write((GGATest.EXAMPLE + "\r\n").getBytes());
+		out.flush();
+		Thread.sleep(100);
+
+		assertTrue(started);
+		assertNotNull(sentence);
+		assertEquals(GGATest.EXAMPLE, sentence.toString());
+
+		blocking.stop();
+		Thread.sleep(100);
+		assertTrue(stopped);
+	}
+
+	@Test
+	public void testBlockingReadFromFile() throws Exception {
+		reader.setInputStream(new FileInputStream(new File(TEST_DATA)), 100);
+		reader.start();
+		Thread.sleep(500);
+
+		assertNotNull(sentence);
+		assertTrue(started);
+		assertFalse(paused);
+
+		reader.stop();
+		Thread.sleep(100);
+		assertTrue(stopped);
+	}
+
 	@Test
 	public void testHandleException() {
 
@@ -262,6 +369,10 @@ public class SentenceReaderTest {
 		}
 	}
 
+	public class TransientListener extends DummySentenceListener
+		implements TransientSentenceListener {
+	}
+
 	public class TestSentenceListener implements SentenceListener {
 
 		public void readingPaused() {
@@ -0,0 +1,164 @@
+package net.sf.marineapi.nmea.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import net.sf.marineapi.nmea.event.SentenceEvent;
+import net.sf.marineapi.nmea.event.SentenceListener;
+import net.sf.marineapi.nmea.parser.BODTest;
+import net.sf.marineapi.nmea.parser.GGATest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TcpDataReaderTest {
+
+	private ServerSocket server;
+	private TcpDataReader tcp;
+	private SentenceReader reader;
+	private final List<String> received = new CopyOnWriteArrayList<>();
+	private final List<ConnectionState> states = new CopyOnWriteArrayList<>();
+	private volatile boolean stopped;
+
+	@Before
+	public void setUp() throws Exception {
+		server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+		tcp = new TcpDataReader(
+			InetAddress.getLoopbackAddress().getHostAddress(), server.getLocalPort());
+		tcp.setBackoff(20, 100);
+		tcp.addConnectionListener(new ConnectionListener() {
+			public void connectionStateChanged(ConnectionState state, long reconnects) {
+				states.add(state);
+			}
+		});
+		reader = new SentenceReader(tcp);
+		reader.addSentenceListener(new SentenceListener() {
+			public void readingPaused() {
+			}
+			public void readingStarted() {
+			}
+			public void readingStopped() {
+				stopped = true;
+			}
+			public void sentenceRead(SentenceEvent event) {
+				received.add(event.getSentence().toString());
+			}
+		});
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		reader.stop();
+		server.close();
+	}
+
+	private static void write(Socket s, String data) throws Exception {
+		OutputStream out = s.getOutputStream();
+		out.write(data.getBytes());
+		out.flush();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructorWithInvalidPort() {
+		new TcpDataReader("localhost", 65536);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetBackoffInvalidRange() {
+		tcp.setBackoff(100, 10);
+	}
+
+	@Test
+	public void testRead() throws Exception {
+		reader.start();
+		try (Socket s = server.accept()) {
+			write(s, GGATest.EXAMPLE + "\r\n" + BODTest.EXAMPLE);
+			write(s, "\r\n");
+			Thread.sleep(200);
+		}
+		assertEquals(2, received.size());
+		assertEquals(GGATest.EXAMPLE, received.get(0));
+		assertEquals(BODTest.EXAMPLE, received.get(1));
+		assertEquals(2, tcp.getStatistics().getSentenceCount());
+		assertEquals(GGATest.EXAMPLE.length() + BODTest.EXAMPLE.length() + 4,
+			tcp.getStatistics().getByteCount());
+	}
+
+	@Test
+	public void testReconnect() throws Exception {
+		reader.start();
+		try (Socket s = server.accept()) {
+			write(s, GGATest.EXAMPLE + "\r\n" + BODTest.EXAMPLE.substring(0, 10));
+			Thread.sleep(100);
+			assertEquals(ConnectionState.CONNECTED, tcp.getState());
+		}
+
+		try (Socket s = server.accept()) {
+			write(s, BODTest.EXAMPLE + "\r\n");
+			Thread.sleep(100);
+			assertEquals(ConnectionState.CONNECTED, tcp.getState());
+		}
+
+		assertEquals(2, received.size());
+		assertEquals(GGATest.EXAMPLE, received.get(0));
+		assertEquals(BODTest.EXAMPLE, received.get(1));
+		assertEquals(1, tcp.getReconnectCount());
+		assertEquals(1, tcp.getStatistics().getDroppedCount());
+		assertEquals(ConnectionState.CONNECTING, states.get(0));
+		assertEquals(ConnectionState.CONNECTED, states.get(1));
+		assertEquals(ConnectionState.DISCONNECTED, states.get(2));
+		assertEquals(ConnectionState.CONNECTING, states.get(3));
+		assertEquals(ConnectionState.CONNECTED, states.get(4));
+	}
+
+	@Test
+	public void testReconnectAfterServerRestart() throws Exception {
+		int port = server.getLocalPort();
+		server.close();
+		reader.start();
+		Thread.sleep(300);
+		assertEquals(ConnectionState.CONNECTING, tcp.getState());
+
+		server = new ServerSocket(port, 1, InetAddress.getLoopbackAddress());
+		try (Socket s = server.accept()) {
+			write(s, GGATest.EXAMPLE + "\r\n");
+			Thread.sleep(100);
+		}
+		assertEquals(1, received.size());
+		assertEquals(0, tcp.getReconnectCount());
+	}
+
+	@Test
+	public void testConnectFailureNotReported() throws Exception {
+		final List<Exception> errors = new CopyOnWriteArrayList<>();
+		reader.setExceptionListener(new ExceptionListener() {
+			public void onException(Exception e) {
+				errors.add(e);
+			}
+		});
+		server.close();
+		reader.start();
+		Thread.sleep(300);
+		assertEquals(ConnectionState.CONNECTING, tcp.getState());
+		assertTrue(errors.isEmpty());
+	}
+
+	@Test
+	public void testStop() throws Exception {
+		server.close();
+		tcp.setBackoff(10000, 10000);
+		reader.start();
+		Thread.sleep(200);
+		reader.stop();
+		Thread.sleep(100);
+		assertTrue(stopped);
+	}
+}
@@ -85,6 +85,17 @@ public class ChecksumTest {
 		assertEquals("25", Checksum.calculate(RTETest.EXAMPLE));
 	}
 
+	@Test
+	public void testIncrementalXor() {
+		String body = GGATest.EXAMPLE.substring(1, Checksum.index(GGATest.EXAMPLE));
+		int sum = Checksum.xor(0, body, 0, 10);
+		sum = Checksum.xor(sum, body, 10, body.length());
+		assertEquals(0x63, sum);
+		assertEquals('6', Checksum.hexDigit(sum >> 4));
+		assertEquals('3', Checksum.hexDigit(sum));
+		assertEquals("0A", Checksum.xor("\n"));
+	}
+
 	@Test
 	public void testDelimiterIndex() {
 		assertEquals(13, Checksum.index("$GPGGA,,,,,,,"));
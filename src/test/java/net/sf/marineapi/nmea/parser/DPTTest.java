@@ -1,6 +1,8 @@
 package net.sf.marineapi.nmea.parser;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import net.sf.marineapi.nmea.sentence.DPTSentence;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
@@ -39,6 +41,16 @@ public class DPTTest {
 		assertEquals(12.6, dpt.getDepth(), 0.01);
 	}
 
+	@Test
+	public void testOptionalValues() {
+		assertTrue(dpt.hasDepth());
+		assertEquals(12.6, dpt.getDepth(-1), 0.01);
+
+		DPTSentence empty = new DPTParser(TalkerId.II);
+		assertFalse(empty.hasDepth());
+		assertEquals(-1.0, empty.getDepth(-1), 0.01);
+	}
+
 	@Test
 	public void testGetOffset() {
 		assertEquals(-1.0, dpt.getOffset(), 0.01);
@@ -1,6 +1,7 @@
 package net.sf.marineapi.nmea.parser;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -48,6 +49,21 @@ public class GGATest {
 		assertEquals(28.0, gga.getAltitude(), 0.001);
 	}
 
+	@Test
+	public void testOptionalValues() {
+		assertTrue(gga.hasAltitude());
+		assertEquals(28.0, gga.getAltitude(-1), 0.001);
+		assertTrue(gga.hasSatelliteCount());
+		assertEquals(0, gga.getSatelliteCount(-1));
+		assertFalse(gga.hasDgpsAge());
+		assertEquals(-1.0, gga.getDgpsAge(-1), 0.001);
+		assertFalse(empty.hasAltitude());
+		assertFalse(empty.hasGeoidalHeight());
+		assertEquals(-1.0, empty.getGeoidalHeight(-1), 0.001);
+		assertEquals(-1.0, empty.getHorizontalDOP(-1), 0.001);
+		assertEquals(-1, empty.getSatelliteCount(-1));
+	}
+
 	@Test
 	public void testGetAltitudeUnits() {
 		assertEquals(Units.METER, gga.getAltitudeUnits());
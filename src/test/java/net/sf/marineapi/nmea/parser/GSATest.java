@@ -1,6 +1,7 @@
 package net.sf.marineapi.nmea.parser;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import net.sf.marineapi.nmea.sentence.GSASentence;
@@ -66,6 +67,18 @@ public class GSATest {
 		assertEquals(1.6, hdop, 0.001);
 	}
 
+	@Test
+	public void testOptionalValues() {
+		assertTrue(instance.hasHorizontalDOP());
+		assertEquals(1.6, instance.getHorizontalDOP(-1), 0.001);
+		assertEquals(1.6, instance.getPositionDOP(-1), 0.001);
+		assertEquals(1.0, instance.getVerticalDOP(-1), 0.001);
+		assertFalse(empty.hasHorizontalDOP());
+		assertFalse(empty.hasPositionDOP());
+		assertFalse(empty.hasVerticalDOP());
+		assertEquals(-1.0, empty.getVerticalDOP(-1), 0.001);
+	}
+
 	/**
 	 * Test method for
 	 * {@link net.sf.marineapi.nmea.parser.GSAParser#getPositionDOP()}.
@@ -25,6 +25,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import net.sf.marineapi.nmea.sentence.HDGSentence;
+import net.sf.marineapi.nmea.sentence.HeadingSentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
@@ -107,6 +108,39 @@ public class HDGTest {
 		assertEquals(1.2, hdg.getDeviation(), 0.1);
 	}
 
+	@Test
+	public void testOptionalValues() {
+		assertTrue(hdg.hasHeading());
+		assertEquals(123.4, hdg.getHeading(-1), 0.1);
+		assertTrue(hdg.hasDeviation());
+		assertEquals(1.2, hdg.getDeviation(0), 0.1);
+		assertTrue(hdg.hasVariation());
+		assertEquals(-1.2, hdg.getVariation(0), 0.1);
+
+		HDGSentence empty = new HDGParser(TalkerId.HC);
+		assertFalse(empty.hasHeading());
+		assertFalse(empty.hasDeviation());
+		assertFalse(empty.hasVariation());
+		assertEquals(-1.0, empty.getHeading(-1), 0.1);
+		assertEquals(0.0, empty.getDeviation(0), 0.1);
+		assertEquals(0.0, empty.getVariation(0), 0.1);
+	}
+
+	@Test
+	public void testDefaultOptionalValues() {
+		HeadingSentence legacy = new LegacyHeadingParser("$HCHDT,123.4,T");
+		assertTrue(legacy.hasHeading());
+		assertEquals(123.4, legacy.getHeading(-1), 0.1);
+
+		legacy = new LegacyHeadingParser("$HCHDT,,T");
+		assertFalse(legacy.hasHeading());
+		assertEquals(-1.0, legacy.getHeading(-1), 0.1);
+
+		legacy = new LegacyHeadingParser("$HCHDT,foo,T");
+		assertTrue(legacy.hasHeading());
+		assertEquals(-1.0, legacy.getHeading(-1), 0.1);
+	}
+
 	/**
 	 * Test method for
 	 * {@link net.sf.marineapi.nmea.parser.HDGParser#getHeading()}.
@@ -286,4 +320,28 @@ public class HDGTest {
 			fail(e.getMessage());
 		}
 	}
+
+	/**
+	 * Parser implementing only the abstract methods of HeadingSentence, as
+	 * parsers written before the optional accessors.
+	 */
+	private static class LegacyHeadingParser extends SentenceParser
+		implements HeadingSentence {
+
+		LegacyHeadingParser(String nmea) {
+			super(nmea);
+		}
+
+		public double getHeading() {
+			return getDoubleValue(0);
+		}
+
+		public boolean isTrue() {
+			return true;
+		}
+
+		public void setHeading(double hdt) {
+			setDoubleValue(0, hdt, 1, 1);
+		}
+	}
 }
@@ -72,6 +72,20 @@ public class MWVTest {
 		assertEquals(125.1, mwv.getAngle(), 0.1); // "$IIMWV,125.1,T,5.5,A"
 	}
 
+	@Test
+	public void testOptionalValues() {
+		assertTrue(mwv.hasAngle());
+		assertEquals(125.1, mwv.getAngle(-1), 0.1);
+		assertTrue(mwv.hasSpeed());
+		assertEquals(5.5, mwv.getSpeed(-1), 0.1);
+
+		MWVSentence empty = new MWVParser(TalkerId.II);
+		assertFalse(empty.hasAngle());
+		assertFalse(empty.hasSpeed());
+		assertEquals(-1.0, empty.getAngle(-1), 0.1);
+		assertEquals(-1.0, empty.getSpeed(-1), 0.1);
+	}
+
 	/**
 	 * Test method for {@link net.sf.marineapi.nmea.parser.MWVParser#getSpeed()}
 	 * .
@@ -1,9 +1,11 @@
 package net.sf.marineapi.nmea.parser;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import net.sf.marineapi.nmea.sentence.Checksum;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.CompassPoint;
 import net.sf.marineapi.nmea.util.DataStatus;
@@ -69,6 +71,31 @@ public class RMCTest {
 		assertEquals(360.0, rmc.getCourse(), 0.001);
 	}
 
+	@Test
+	public void testOptionalValues() {
+		assertTrue(rmc.hasCourse());
+		assertEquals(360.0, rmc.getCourse(-1), 0.001);
+		assertTrue(rmc.hasSpeed());
+		assertEquals(0.0, rmc.getSpeed(-1), 0.001);
+		assertTrue(rmc.hasVariation());
+		assertEquals(-6.1, rmc.getVariation(0), 0.001);
+		assertFalse(empty.hasCourse());
+		assertFalse(empty.hasSpeed());
+		assertFalse(empty.hasVariation());
+		assertEquals(-1.0, empty.getCourse(-1), 0.001);
+		assertEquals(-1.0, empty.getSpeed(-1), 0.001);
+		assertEquals(0.0, empty.getVariation(0), 0.001);
+	}
+
+	@Test
+	public void testOptionalValuesMalformed() {
+		RMCParser malformed = new RMCParser(Checksum.add(EXAMPLE.replace("360.0", "x12")));
+		assertTrue(malformed.hasCourse());
+		assertEquals(-1.0, malformed.getCourse(-1), 0.001);
+		malformed.setStringValue(10, "X");
+		assertEquals(0.0, malformed.getVariation(0), 0.001);
+	}
+
 	/**
 	 * Test method for
 	 * {@link net.sf.marineapi.nmea.parser.RMCParser#getDataStatus()}.
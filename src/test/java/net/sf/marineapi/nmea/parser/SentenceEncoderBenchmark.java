@@ -0,0 +1,104 @@
+package net.sf.marineapi.nmea.parser;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.nmea.sentence.MWVSentence;
+import net.sf.marineapi.nmea.sentence.Sentence;
+import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceValidator;
+import net.sf.marineapi.nmea.sentence.TalkerId;
+import net.sf.marineapi.nmea.util.DataStatus;
+import net.sf.marineapi.nmea.util.Units;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of encoding a sentence built with the API, as done by autopilot and
+ * simulator outputs. The legacy benchmark replicates the former toString()
+ * with String based checksum and validation on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class SentenceEncoderBenchmark {
+
+	private MWVSentence mwv;
+	private SentenceParser parsed;
+	private final StringBuilder sb = new StringBuilder(Sentence.MAX_LENGTH);
+	private final ByteBuffer buffer = ByteBuffer.allocate(Sentence.MAX_LENGTH);
+
+	@Setup
+	public void setUp() {
+		mwv = (MWVSentence) SentenceFactory.getInstance().createParser(TalkerId.II, SentenceId.MWV);
+		mwv.setAngle(125.1);
+		mwv.setSpeed(5.5);
+		mwv.setSpeedUnit(Units.METER);
+		mwv.setTrue(true);
+		mwv.setStatus(DataStatus.ACTIVE);
+		parsed = new SentenceParser(RMCTest.EXAMPLE);
+	}
+
+	@Benchmark
+	public String legacy() {
+		SentenceParser s = (SentenceParser) mwv;
+		StringBuilder sb = new StringBuilder(Sentence.MAX_LENGTH);
+		sb.append(s.getTalkerId().toString());
+		sb.append(s.getSentenceId());
+		for (int i = 0; i < s.getFieldCount(); i++) {
+			sb.append(Sentence.FIELD_DELIMITER);
+			sb.append(s.getStringValue(i));
+		}
+		String str = sb.toString();
+		int sum = 0;
+		for (int i = 0; i < str.length(); i++) {
+			sum ^= (byte) str.charAt(i);
+		}
+		sb.append(Sentence.CHECKSUM_DELIMITER);
+		sb.append(String.format("%02X", sum));
+		sb.insert(0, s.getBeginChar());
+		String nmea = sb.toString();
+		if (!SentenceValidator.isValid(nmea)) {
+			throw new IllegalStateException();
+		}
+		return nmea;
+	}
+
+	@Benchmark
+	public String toSentence() {
+		return mwv.toSentence();
+	}
+
+	@Benchmark
+	public StringBuilder writeToStringBuilder() throws Exception {
+		sb.setLength(0);
+		mwv.writeTo(sb);
+		return sb;
+	}
+
+	@Benchmark
+	public ByteBuffer writeToByteBuffer() {
+		buffer.clear();
+		mwv.writeTo(buffer);
+		return buffer;
+	}
+
+	@Benchmark
+	public ByteBuffer writeParsedToByteBuffer() {
+		buffer.clear();
+		parsed.writeTo(buffer);
+		return buffer;
+	}
+}
@@ -0,0 +1,95 @@
+package net.sf.marineapi.nmea.parser;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.nmea.sentence.Sentence;
+import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.TalkerId;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of creating a parser per sentence type through the factory and by
+ * the former reflective constructor lookup and invocation. Both create the
+ * parser from the same String instance, so validation is shared by the
+ * parser and factory in both cases.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class SentenceFactoryBenchmark {
+
+	@Param({ "GGA", "RMC", "GSV", "VDM", "TXT", "MDA" })
+	public String type;
+
+	private String nmea;
+	private Class<? extends SentenceParser> parser;
+	private final SentenceFactory factory = SentenceFactory.getInstance();
+
+	@Setup
+	public void setUp() {
+		switch (type) {
+			case "GGA":
+				nmea = GGATest.EXAMPLE;
+				break;
+			case "RMC":
+				nmea = RMCTest.EXAMPLE;
+				break;
+			case "GSV":
+				nmea = GSVTest.EXAMPLE;
+				break;
+			case "VDM":
+				nmea = VDMTest.EXAMPLE;
+				break;
+			case "TXT":
+				nmea = TXTTest.EXAMPLE;
+				break;
+			default:
+				nmea = MDATest.EXAMPLE;
+		}
+		parser = factory.createParser(nmea).getClass().asSubclass(SentenceParser.class);
+	}
+
+	@Benchmark
+	public Sentence factory() {
+		return factory.createParser(nmea);
+	}
+
+	@Benchmark
+	public Sentence reflection() throws Exception {
+		String sid = SentenceId.parseStr(nmea);
+		if (!factory.hasParser(sid)) {
+			throw new UnsupportedSentenceException(sid);
+		}
+		Constructor<? extends SentenceParser> co = parser.getConstructor(String.class);
+		return co.newInstance(nmea);
+	}
+
+	@Benchmark
+	public Sentence emptyFactory() {
+		return factory.createParser(TalkerId.GP, type);
+	}
+
+	@Benchmark
+	public Sentence emptyReflection() throws Exception {
+		if (!factory.hasParser(type)) {
+			throw new UnsupportedSentenceException(type);
+		}
+		Constructor<? extends SentenceParser> co = parser.getConstructor(TalkerId.class);
+		return co.newInstance(TalkerId.GP);
+	}
+}
@@ -9,8 +9,11 @@ import static org.junit.Assert.fail;
 import java.util.List;
 
 import net.sf.marineapi.nmea.sentence.BODSentence;
+import net.sf.marineapi.nmea.sentence.Checksum;
 import net.sf.marineapi.nmea.sentence.Sentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceLayout;
+import net.sf.marineapi.nmea.sentence.SentenceValidator;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.test.util.BARParser;
 import net.sf.marineapi.test.util.FOOParser;
@@ -180,7 +183,7 @@ public class SentenceFactoryTest {
 	@Test
 	public void testCreateParserWithNull() {
 		try {
-			instance.createParser(null);
+			instance.createParser((String) null);
 			fail("Did not throw exception");
 		} catch (IllegalArgumentException e) {
 			// pass
@@ -271,6 +274,19 @@ public class SentenceFactoryTest {
 		assertFalse(instance.hasParser("FOO"));
 	}
 
+	/**
+	 * Test method for
+	 * {@link net.sf.marineapi.nmea.parser.SentenceFactory#unregisterParser(java.lang.Class)}
+	 * .
+	 */
+	@Test
+	public void testUnregisterBuiltInParser() {
+		assertTrue(instance.hasParser("GGA"));
+		instance.unregisterParser(GGAParser.class);
+		assertFalse(instance.hasParser("GGA"));
+		assertTrue(instance.hasParser("GLL"));
+	}
+
 	/**
 	 * Test method for
 	 * {@link net.sf.marineapi.nmea.parser.SentenceFactory#hasParser(java.lang.String)}
@@ -307,4 +323,136 @@ public class SentenceFactoryTest {
 		assertEquals(instance, SentenceFactory.getInstance());
 	}
 
+	/**
+	 * Test method for
+	 * {@link net.sf.marineapi.nmea.parser.SentenceFactory#registerParser(String, java.util.function.Function, java.util.function.Function)}
+	 * .
+	 */
+	@Test
+	public void testRegisterParserFunctions() {
+		instance.registerParser("FOO", FOOParser::new, FOOParser::new);
+		assertTrue(instance.hasParser("FOO"));
+
+		Sentence s = instance.createParser("$IIFOO,aa,bb,cc");
+		assertTrue(s instanceof FOOParser);
+		assertEquals("bb", ((FOOSentence) s).getValueB());
+
+		s = instance.createParser(TalkerId.II, "FOO");
+		assertTrue(s instanceof FOOParser);
+		assertEquals(TalkerId.II, s.getTalkerId());
+
+		instance.unregisterParser("FOO");
+		assertFalse(instance.hasParser("FOO"));
+	}
+
+	@Test
+	public void testOverrideAndUnregisterStandardParser() {
+		instance.unregisterParser("GGA");
+		try {
+			instance.createParser(GGATest.EXAMPLE);
+			fail("Did not throw exception");
+		} catch (UnsupportedSentenceException e) {
+			// pass
+		}
+
+		instance.registerParser("GGA", s -> new GGAParser(s) {}, t -> new GGAParser(t) {});
+		Sentence s = instance.createParser(GGATest.EXAMPLE);
+		assertTrue(s instanceof GGAParser);
+		assertFalse(s.getClass() == GGAParser.class);
+
+		instance.reset();
+		s = instance.createParser(GGATest.EXAMPLE);
+		assertTrue(s.getClass() == GGAParser.class);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testRegisterParserWithNullFunction() {
+		instance.registerParser("FOO", FOOParser::new, null);
+	}
+
+	@Test
+	public void testCreateParserWhenConstructorFails() {
+		instance.registerParser("FOO", nmea -> {
+			throw new IllegalArgumentException("failed");
+		}, FOOParser::new);
+		try {
+			instance.createParser("$IIFOO,aa,bb,cc");
+			fail("Did not throw exception");
+		} catch (IllegalStateException e) {
+			assertEquals("failed", e.getCause().getMessage());
+		}
+	}
+
+	@Test
+	public void testReuseParser() {
+		Sentence first = instance.reuseParser(BODTest.EXAMPLE);
+		assertEquals(BODTest.EXAMPLE, first.toString());
+
+		String other = Checksum.add("$GPBOD,100.0,T,101.0,M,DEST,START");
+		Sentence second = instance.reuseParser(other);
+		assertTrue(first == second);
+		assertEquals("DEST", ((BODSentence) second).getDestinationWaypointId());
+
+		Sentence gga = instance.reuseParser(GGATest.EXAMPLE);
+		assertFalse(gga == first);
+		assertTrue(first != instance.createParser(BODTest.EXAMPLE));
+
+		instance.reset();
+		assertFalse(first == instance.reuseParser(BODTest.EXAMPLE));
+	}
+
+	@Test
+	public void testCreateParserWithLayout() {
+		SentenceLayout layout = SentenceValidator.validate(GGATest.EXAMPLE);
+		Sentence s = instance.createParser(layout);
+		assertTrue(s instanceof GGAParser);
+		assertEquals(GGATest.EXAMPLE, s.toString());
+
+		instance.registerParser("FOO", FOOParser::new, FOOParser::new);
+		s = instance.createParser(SentenceValidator.validate("$IIFOO,aa,bb,cc"));
+		assertTrue(s instanceof FOOParser);
+		assertEquals("bb", ((FOOSentence) s).getValueB());
+	}
+
+	@Test
+	public void testReuseParserWithLayout() {
+		Sentence first = instance.reuseParser(SentenceValidator.validate(BODTest.EXAMPLE));
+		String other = Checksum.add("$GPBOD,100.0,T,101.0,M,DEST,START");
+		Sentence second = instance.reuseParser(SentenceValidator.validate(other));
+		assertTrue(first == second);
+		assertEquals(other, second.toString());
+	}
+
+	@Test
+	public void testReuseParserPadsXTEFields() {
+		String first = Checksum.add("$GPXTE,A,A,0.67,L,N");
+		String second = Checksum.add("$GPXTE,V,V,1.23,R,N");
+		Sentence xte = instance.reuseParser(first);
+		assertEquals(6, xte.getFieldCount());
+		assertTrue(xte == instance.reuseParser(second));
+		assertEquals(6, xte.getFieldCount());
+		assertEquals(Checksum.add("$GPXTE,V,V,1.23,R,N,"), xte.toString());
+	}
+
+	@Test
+	public void testReuseParserWithOddTLBFields() {
+		instance.reuseParser(Checksum.add("$RATLB,1,A,2,B"));
+		try {
+			instance.reuseParser(Checksum.add("$RATLB,1,A,2"));
+			fail("Did not throw exception");
+		} catch (IllegalStateException e) {
+			assertTrue(e.getCause() instanceof IllegalArgumentException);
+		}
+	}
+
+	@Test
+	public void testReuseParserPerThread() throws Exception {
+		Sentence first = instance.reuseParser(BODTest.EXAMPLE);
+		Sentence[] other = new Sentence[1];
+		Thread t = new Thread(() -> other[0] = instance.reuseParser(BODTest.EXAMPLE));
+		t.start();
+		t.join();
+		assertNotNull(other[0]);
+		assertFalse(first == other[0]);
+	}
 }
@@ -0,0 +1,64 @@
+package net.sf.marineapi.nmea.parser;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.nmea.sentence.Checksum;
+import net.sf.marineapi.nmea.sentence.Sentence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of looking up parsed sentences in a HashSet, as done by dedup caches.
+ * The legacy benchmark replicates the former hashing and comparison of the
+ * sentences encoded again on each call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class SentenceHashBenchmark {
+
+	private final Set<Sentence> set = new HashSet<>();
+	private final Set<String> legacy = new HashSet<>();
+	private Sentence sentence;
+
+	@Setup
+	public void setUp() {
+		SentenceFactory sf = SentenceFactory.getInstance();
+		for (String s : new String[] { GGATest.EXAMPLE, RMCTest.EXAMPLE, GSVTest.EXAMPLE }) {
+			set.add(sf.createParser(s));
+			legacy.add(sf.createParser(s).toString());
+		}
+		sentence = sf.createParser(RMCTest.EXAMPLE);
+	}
+
+	@Benchmark
+	public boolean contains() {
+		return set.contains(sentence);
+	}
+
+	@Benchmark
+	public boolean legacy() {
+		StringBuilder sb = new StringBuilder(Sentence.MAX_LENGTH);
+		sb.append(sentence.getBeginChar());
+		sb.append(sentence.getTalkerId()).append(sentence.getSentenceId());
+		for (int i = 0; i < sentence.getFieldCount(); i++) {
+			sb.append(',').append(((SentenceParser) sentence).getStringValue(i));
+		}
+		sb.append('*').append(Checksum.xor(sb.substring(1)));
+		return legacy.contains(sb.toString());
+	}
+}
@@ -4,6 +4,15 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import net.sf.marineapi.nmea.sentence.Checksum;
 import net.sf.marineapi.nmea.sentence.Sentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
 import net.sf.marineapi.nmea.sentence.TalkerId;
@@ -135,7 +144,7 @@ public class SentenceParserTest {
 	@Test
 	public void testConstructorWithNulls() {
 		try {
-			new SentenceParser(null, (String) null);
+			new SentenceParser((String) null, (String) null);
 			fail("Did not throw exception");
 		} catch (IllegalArgumentException iae) {
 			// OK
@@ -522,6 +531,132 @@ public class SentenceParserTest {
 		}
 	}
 
+	@Test
+	public void testToSentenceAfterModification() {
+		assertEquals(RMCTest.EXAMPLE, instance.toSentence());
+		instance.setStringValue(0, "\t");
+		try {
+			instance.toSentence();
+			fail("didn't throw exception");
+		} catch (IllegalStateException e) {
+			// pass
+		}
+		instance.setStringValue(0, "120044.567");
+		assertEquals(RMCTest.EXAMPLE, instance.toSentence());
+	}
+
+	@Test
+	public void testToSentenceAfterSettingChecksumDelimiter() {
+		SentenceParser empty = new SentenceParser(TalkerId.GP, "FOO", 2);
+		empty.setIntValue(0, 1);
+		assertEquals(Checksum.add("$GPFOO,1,"), empty.toSentence());
+		empty.setStringValue(1, "a*b");
+		try {
+			empty.toSentence();
+			fail("didn't throw exception");
+		} catch (IllegalStateException e) {
+			// pass
+		}
+		empty.setStringValue(1, "ab");
+		assertEquals(Checksum.add("$GPFOO,1,ab"), empty.toSentence());
+	}
+
+	@Test
+	public void testWriteToAppendable() throws Exception {
+		StringWriter out = new StringWriter();
+		instance.writeTo(out);
+		assertEquals(RMCTest.EXAMPLE, out.toString());
+
+		StringBuilder sb = new StringBuilder("foo");
+		SentenceParser empty = new SentenceParser(TalkerId.GP, "FOO", 3);
+		empty.setStringValue(1, "bar");
+		empty.writeTo(sb);
+		assertEquals("foo" + empty.toString(), sb.toString());
+		assertEquals(Checksum.add("$GPFOO,,bar,"), empty.toString());
+	}
+
+	@Test
+	public void testWriteToByteBuffer() {
+		ByteBuffer buffer = ByteBuffer.allocate(2 * Sentence.MAX_LENGTH);
+		instance.writeTo(buffer);
+		instance.setStringValue(0, "120045.000");
+		instance.writeTo(buffer);
+
+		buffer.flip();
+		String expected = RMCTest.EXAMPLE + instance.toString();
+		assertEquals(expected, StandardCharsets.US_ASCII.decode(buffer).toString());
+	}
+
+	@Test
+	public void testWriteToWithInvalidField() throws Exception {
+		BODParser bod = new BODParser(BODTest.EXAMPLE);
+		bod.setDestinationWaypointId("A*B\r\n");
+		StringBuilder sb = new StringBuilder();
+		try {
+			bod.writeTo(sb);
+			fail("didn't throw exception");
+		} catch (IllegalStateException e) {
+			assertEquals(0, sb.length());
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(Sentence.MAX_LENGTH);
+		try {
+			bod.writeTo(buffer);
+			fail("didn't throw exception");
+		} catch (IllegalStateException e) {
+			assertEquals(0, buffer.position());
+		}
+	}
+
+	@Test
+	public void testWriteToByteBufferOverflow() {
+		ByteBuffer buffer = ByteBuffer.allocate(RMCTest.EXAMPLE.length() - 1);
+		try {
+			instance.writeTo(buffer);
+			fail("didn't throw exception");
+		} catch (BufferOverflowException e) {
+			assertEquals(0, buffer.position());
+		}
+	}
+
+	@Test
+	public void testGetRawSentence() {
+		String noChecksum = BODTest.EXAMPLE.substring(0, Checksum.index(BODTest.EXAMPLE));
+		SentenceParser parser = new SentenceParser(noChecksum);
+		assertEquals(noChecksum, parser.getRawSentence());
+		assertEquals(BODTest.EXAMPLE, parser.toString());
+
+		assertTrue(RMCTest.EXAMPLE == instance.getRawSentence());
+		assertTrue(RMCTest.EXAMPLE == instance.toString());
+		instance.setStringValue(0, "120045.000");
+		assertEquals(instance.toString(), instance.getRawSentence());
+		assertFalse(RMCTest.EXAMPLE.equals(instance.getRawSentence()));
+	}
+
+	@Test
+	public void testSetTalkerIdOnParsedSentence() {
+		int hash = instance.hashCode();
+		instance.setTalkerId(TalkerId.GN);
+		assertEquals(Checksum.add(RMCTest.EXAMPLE.replace("$GP", "$GN")), instance.toString());
+		assertEquals(instance.toString(), instance.getRawSentence());
+		assertFalse(hash == instance.hashCode());
+		assertTrue(instance.toSentence().startsWith("$GNRMC,"));
+	}
+
+	@Test
+	public void testHashCodeAfterModification() {
+		SentenceParser other = new SentenceParser(RMCTest.EXAMPLE);
+		Set<Sentence> set = new HashSet<>();
+		set.add(instance);
+		assertTrue(set.contains(other));
+
+		other.setStringValue(0, "120045.000");
+		assertFalse(set.contains(other));
+		assertFalse(instance.equals(other));
+		other.setStringValue(0, instance.getStringValue(0));
+		assertTrue(set.contains(other));
+		assertEquals(instance.hashCode(), other.hashCode());
+	}
+
 	/**
 	 * Test method for
 	 * {@link net.sf.marineapi.nmea.parser.SentenceParser#equals(Object)
@@ -622,4 +757,86 @@ public class SentenceParserTest {
 		assertEquals("6", parser.getStringValue(2));
 		assertEquals("7", parser.getStringValue(3));
 	}
+
+	@Test
+	public void testGetValuesBeforeWrite() {
+		SentenceParser parser = new SentenceParser("$GPGGA,12,,A,1.5,-3,ab");
+		assertEquals(6, parser.getFieldCount());
+		assertEquals(12, parser.getIntValue(0));
+		assertFalse(parser.hasValue(1));
+		assertEquals('A', parser.getCharValue(2));
+		assertEquals(1.5, parser.getDoubleValue(3), 0.0);
+		assertEquals(-3, parser.getIntValue(4));
+		assertTrue(parser.hasValue(5));
+		assertFalse(parser.hasValue(6));
+		assertEquals(4, parser.getStringValues(2).length);
+		try {
+			parser.getIntValue(1);
+			fail("Did not throw DataNotAvailableException");
+		} catch (DataNotAvailableException e) {
+			assertFalse(e instanceof ParseException);
+		}
+		try {
+			parser.getIntValue(5);
+			fail("Did not throw ParseException");
+		} catch (ParseException e) {
+			// pass
+		}
+		try {
+			parser.getCharValue(5);
+			fail("Did not throw ParseException");
+		} catch (ParseException e) {
+			// pass
+		}
+	}
+
+	@Test
+	public void testCopyOnFirstWrite() {
+		SentenceParser parser = new SentenceParser("$GPGGA,1,2,3");
+		String before = parser.toString();
+		assertEquals("$GPGGA,1,2,3*4A", before);
+
+		parser.setStringValue(1, "5");
+		assertEquals("1", parser.getStringValue(0));
+		assertEquals("5", parser.getStringValue(1));
+		assertEquals("3", parser.getStringValue(2));
+
+		parser.setFieldCount(4);
+		assertEquals(4, parser.getFieldCount());
+		assertEquals("$GPGGA,1,5,3,*61", parser.toString());
+
+		SentenceParser other = new SentenceParser("$GPGGA,1,2,3");
+		other.reset();
+		assertEquals(3, other.getFieldCount());
+		assertFalse(other.hasValue(0));
+	}
+
+	@Test
+	public void testReparse() {
+		String gll = "$GPGLL,6011.552,N,02501.941,E,120045,A*26";
+		String gga = instance.toString();
+		SentenceParser p = new SentenceParser(gll);
+		p.setStringValue(0, "foo");
+		p.reparse(gll);
+		assertEquals(gll, p.toString());
+		assertEquals("6011.552", p.getStringValue(0));
+
+		p.reparse(Checksum.add("!IIGLL,1,N"));
+		assertEquals(Sentence.ALTERNATIVE_BEGIN_CHAR, p.getBeginChar());
+		assertEquals(TalkerId.II, p.getTalkerId());
+		assertEquals(2, p.getFieldCount());
+
+		try {
+			p.reparse(gga);
+			fail("Did not throw exception");
+		} catch (IllegalArgumentException e) {
+			assertTrue(e.getMessage().startsWith("Sentence id mismatch"));
+		}
+		try {
+			p.reparse("$GPGLL,foo*00");
+			fail("Did not throw exception");
+		} catch (IllegalArgumentException e) {
+			assertTrue(e.getMessage().startsWith("Invalid data"));
+		}
+	}
 }
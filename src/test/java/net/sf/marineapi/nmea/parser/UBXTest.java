@@ -1,6 +1,8 @@
 package net.sf.marineapi.nmea.parser;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -47,6 +49,17 @@ public class UBXTest {
 		assertEquals(Integer.valueOf(0), ubxSentence.getMessageId());
 	}
 
+	@Test
+	public void testOptionalValues() {
+		assertTrue(ubxSentence.hasUBXFieldValue(1));
+		assertEquals(1932.33821, ubxSentence.getUBXFieldDoubleValue(2, -1), 0.00001);
+		assertFalse(ubxSentence.hasUBXFieldValue(13));
+		assertEquals(-1.0, ubxSentence.getUBXFieldDoubleValue(13, -1), 0.00001);
+		assertEquals(17, ubxSentence.getUBXFieldIntValue(17, -1));
+		assertFalse(ubxSentence.hasUBXFieldValue(20));
+		assertEquals(-1, ubxSentence.getUBXFieldIntValue(20, -1));
+	}
+
 	/**
 	 * Test method for
 	 * {@link net.sf.marineapi.nmea.parser.UBXParser#getUBXFieldCount()}.
@@ -21,6 +21,7 @@
 package net.sf.marineapi.nmea.parser;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import net.sf.marineapi.nmea.sentence.SentenceId;
 import net.sf.marineapi.nmea.sentence.TalkerId;
@@ -91,6 +92,23 @@ public class VHWTest {
 		assertEquals(1.5, vhw.getMagneticHeading(), 0.1);
 	}
 
+	@Test
+	public void testOptionalValues() {
+		assertTrue(vhw.hasHeading());
+		assertEquals(0.0, vhw.getHeading(-1), 0.1);
+		assertTrue(vhw.hasMagneticHeading());
+		assertEquals(1.5, vhw.getMagneticHeading(-1), 0.1);
+		assertEquals(1.0, vhw.getSpeedKnots(-1), 0.1);
+		assertEquals(1.85, vhw.getSpeedKmh(-1), 0.01);
+
+		VHWParser empty = new VHWParser(TalkerId.VW);
+		assertFalse(empty.hasHeading());
+		assertFalse(empty.hasMagneticHeading());
+		assertFalse(empty.hasSpeedKnots());
+		assertFalse(empty.hasSpeedKmh());
+		assertEquals(-1.0, empty.getMagneticHeading(-1), 0.1);
+	}
+
 	/**
 	 * Test method for
 	 * {@link net.sf.marineapi.nmea.parser.VHWParser#getSpeedKmh()}.
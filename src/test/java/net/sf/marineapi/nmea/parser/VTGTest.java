@@ -1,6 +1,7 @@
 package net.sf.marineapi.nmea.parser;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import net.sf.marineapi.nmea.sentence.TalkerId;
@@ -82,6 +83,22 @@ public class VTGTest {
 		assertEquals(360.0, vtg.getTrueCourse(), 0.001);
 	}
 
+	@Test
+	public void testOptionalValues() {
+		assertTrue(vtg.hasTrueCourse());
+		assertEquals(360.0, vtg.getTrueCourse(-1), 0.001);
+		assertTrue(vtg.hasMagneticCourse());
+		assertEquals(348.7, vtg.getMagneticCourse(-1), 0.001);
+		assertEquals(16.89, vtg.getSpeedKnots(-1), 0.001);
+		assertEquals(31.28, vtg.getSpeedKmh(-1), 0.001);
+		assertFalse(empty.hasTrueCourse());
+		assertFalse(empty.hasMagneticCourse());
+		assertFalse(empty.hasSpeedKnots());
+		assertFalse(empty.hasSpeedKmh());
+		assertEquals(-1.0, empty.getTrueCourse(-1), 0.001);
+		assertEquals(-1.0, empty.getSpeedKnots(-1), 0.001);
+	}
+
 	/**
 	 * Test method for
 	 * {@link net.sf.marineapi.nmea.parser.VTGParser#setMagneticCourse(double)}.
@@ -21,6 +21,7 @@
 package net.sf.marineapi.nmea.sentence;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
 import org.junit.Test;
@@ -75,4 +76,16 @@ public class SentenceIdTest {
 		String s = SentenceId.parseStr("$PABCDEFGHI,,,,,,,");
 		assertEquals("ABCDEFGHI", s);
 	}
+
+	@Test
+	public void testLookup() {
+		for (SentenceId id : SentenceId.values()) {
+			assertEquals(id, SentenceId.lookup("$GP" + id.name() + ",", 3, 6));
+		}
+		assertNull(SentenceId.lookup("FOO", 0, 3));
+		assertNull(SentenceId.lookup("gga", 0, 3));
+		assertNull(SentenceId.lookup("GG\u0141", 0, 3));
+		assertNull(SentenceId.lookup("GGAX", 0, 4));
+		assertNull(SentenceId.lookup("GG", 0, 2));
+	}
 }
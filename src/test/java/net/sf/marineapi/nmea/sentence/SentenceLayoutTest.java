@@ -0,0 +1,191 @@
+package net.sf.marineapi.nmea.sentence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import net.sf.marineapi.nmea.parser.GGATest;
+
+import org.junit.Test;
+
+public class SentenceLayoutTest {
+
+	static final String DATA_DIR = "src/test/resources/data";
+
+	// patterns of the former regex based validator
+	private static final Pattern reChecksum = Pattern.compile(
+		"^[$|!]{1}[A-Z0-9]{3,10}[,][\\x20-\\x7F]*[*][A-F0-9]{2}(\\r|\\n|\\r\\n|\\n\\r){0,1}$");
+
+	private static final Pattern reNoChecksum = Pattern.compile(
+		"^[$|!]{1}[A-Z0-9]{3,10}[,][\\x20-\\x7F]*(\\r|\\n|\\r\\n|\\n\\r){0,1}$");
+
+	/**
+	 * Former regex based {@link SentenceValidator#isSentence(String)}.
+	 */
+	static boolean legacyIsSentence(String nmea) {
+		if (nmea == null || "".equals(nmea)) {
+			return false;
+		}
+		if (Checksum.index(nmea) == nmea.length()) {
+			return reNoChecksum.matcher(nmea).matches();
+		}
+		return reChecksum.matcher(nmea).matches();
+	}
+
+	/**
+	 * Former regex based {@link SentenceValidator#isValid(String)}.
+	 */
+	static boolean legacyIsValid(String nmea) {
+		if (legacyIsSentence(nmea)) {
+			int i = nmea.indexOf(Sentence.CHECKSUM_DELIMITER);
+			if (i > 0) {
+				String sum = nmea.substring(++i, nmea.length());
+				return sum.equals(Checksum.calculate(nmea));
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Reads all lines of the data logs.
+	 */
+	static List<String> readLogs() throws IOException {
+		List<String> lines = new ArrayList<>();
+		File[] files = new File(DATA_DIR).listFiles();
+		for (File f : files) {
+			lines.addAll(Files.readAllLines(f.toPath(), StandardCharsets.ISO_8859_1));
+		}
+		return lines;
+	}
+
+	@Test
+	public void testLayout() {
+		SentenceLayout layout = new SentenceLayout(GGATest.EXAMPLE);
+		assertTrue(layout.isSentence());
+		assertTrue(layout.isValid());
+		assertEquals("GP", layout.getTalkerId());
+		assertEquals("GGA", layout.getSentenceId());
+		assertEquals(1, layout.getTalkerIdStart());
+		assertEquals(3, layout.getTalkerIdEnd());
+		assertEquals(6, layout.getSentenceIdEnd());
+		assertEquals(GGATest.EXAMPLE.indexOf('*'), layout.getChecksumIndex());
+		assertEquals(14, layout.getFieldCount());
+		assertEquals("120044.567", layout.getField(0));
+		assertEquals("", layout.getField(13));
+		assertEquals(7, layout.getFieldStart(0));
+		assertEquals(17, layout.getFieldEnd(0));
+	}
+
+	@Test
+	public void testLayoutProprietary() {
+		SentenceLayout layout = new SentenceLayout("$PGRME,15.0,M,45.0,M,25.0,M*1C");
+		assertTrue(layout.isValid());
+		assertEquals("P", layout.getTalkerId());
+		assertEquals("GRME", layout.getSentenceId());
+		assertEquals(6, layout.getFieldCount());
+		assertEquals("M", layout.getField(5));
+	}
+
+	@Test
+	public void testLayoutWithoutChecksum() {
+		String nmea = "$GPRMC,142312.000,V,,\r\n";
+		SentenceLayout layout = new SentenceLayout(nmea);
+		assertTrue(layout.isValid());
+		assertEquals(nmea.length(), layout.getChecksumIndex());
+		assertEquals(4, layout.getFieldCount());
+		assertEquals("\r\n", layout.getField(3));
+	}
+
+	@Test
+	public void testLayoutEmptyFields() {
+		SentenceLayout layout = new SentenceLayout("$GPXYZ,*23");
+		assertTrue(layout.isSentence());
+		assertEquals(1, layout.getFieldCount());
+		assertEquals("", layout.getField(0));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetFieldOutOfBounds() {
+		new SentenceLayout(GGATest.EXAMPLE).getField(14);
+	}
+
+	@Test
+	public void testValidate() {
+		String nmea = new String(GGATest.EXAMPLE);
+		SentenceLayout layout = SentenceValidator.validate(nmea);
+		assertSame(nmea, layout.getString());
+		assertTrue(layout.isValid());
+		assertFalse(layout == SentenceValidator.validate(nmea));
+	}
+
+	@Test
+	public void testEquivalentToPatternsWithLogs() throws IOException {
+		for (String line : readLogs()) {
+			assertEquals(line, legacyIsSentence(line), SentenceValidator.isSentence(line));
+			assertEquals(line, legacyIsValid(line), SentenceValidator.isValid(line));
+		}
+	}
+
+	@Test
+	public void testEquivalentToPatternsWithMutations() throws IOException {
+		final String chars = "$!|*,\r\n\t0123456789ABCDEFGPZabc\u00e4 ";
+		Random rnd = new Random(42);
+		for (String line : readLogs()) {
+			for (int n = 0; n < 5; n++) {
+				StringBuilder sb = new StringBuilder(line);
+				int mutations = 1 + rnd.nextInt(3);
+				for (int m = 0; m < mutations && sb.length() > 0; m++) {
+					int pos = rnd.nextInt(sb.length());
+					char c = chars.charAt(rnd.nextInt(chars.length()));
+					switch (rnd.nextInt(4)) {
+						case 0:
+							sb.setCharAt(pos, c);
+							break;
+						case 1:
+							sb.insert(pos, c);
+							break;
+						case 2:
+							sb.deleteCharAt(pos);
+							break;
+						default:
+							sb.append(c);
+					}
+				}
+				String s = sb.toString();
+				assertEquals(s, legacyIsSentence(s), SentenceValidator.isSentence(s));
+				assertEquals(s, legacyIsValid(s), SentenceValidator.isValid(s));
+			}
+		}
+	}
+
+	@Test
+	public void testSharedIds() {
+		SentenceLayout gga = new SentenceLayout(new String(GGATest.EXAMPLE));
+		assertSame(TalkerId.GP, gga.resolveTalkerId());
+		assertSame(SentenceId.GGA, gga.resolveSentenceId());
+		assertSame("GGA", gga.getSentenceId());
+
+		SentenceLayout first = new SentenceLayout("$GPFOO,1,2,3");
+		SentenceLayout second = new SentenceLayout("$GPFOO,4,5,6");
+		assertNull(first.resolveSentenceId());
+		assertEquals("FOO", first.getSentenceId());
+		assertSame(first.getSentenceId(), second.getSentenceId());
+
+		SentenceLayout prop = new SentenceLayout("$PGRMZ,93,f,3*21");
+		assertSame(TalkerId.P, prop.resolveTalkerId());
+		assertNull(prop.resolveSentenceId());
+		assertEquals("GRMZ", prop.getSentenceId());
+	}
+}
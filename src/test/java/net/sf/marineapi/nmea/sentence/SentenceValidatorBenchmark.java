@@ -0,0 +1,86 @@
+package net.sf.marineapi.nmea.sentence;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of validating the lines of the data logs with the former regex based
+ * validator and with the single-pass scanner. The reader path benchmarks
+ * repeat the checks made for a line when it is read and parsed, i.e. by the
+ * reader, factory, parser and talker id, which the scanner remembers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class SentenceValidatorBenchmark {
+
+	private static final int LINES = 1024;
+
+	private String[] lines;
+
+	@Setup
+	public void setUp() throws IOException {
+		List<String> all = SentenceLayoutTest.readLogs();
+		lines = new String[LINES];
+		for (int i = 0; i < LINES; i++) {
+			lines[i] = all.get(i % all.size());
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LINES)
+	public void legacyIsValid(Blackhole bh) {
+		for (String line : lines) {
+			bh.consume(SentenceLayoutTest.legacyIsValid(line));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LINES)
+	public void isValid(Blackhole bh) {
+		for (String line : lines) {
+			bh.consume(new SentenceLayout(line).isValid());
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LINES)
+	public void legacyReaderPath(Blackhole bh) {
+		for (String line : lines) {
+			if (SentenceLayoutTest.legacyIsValid(line)) {
+				bh.consume(SentenceLayoutTest.legacyIsSentence(line));
+				bh.consume(SentenceLayoutTest.legacyIsValid(line));
+				bh.consume(SentenceLayoutTest.legacyIsSentence(line));
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LINES)
+	public void readerPath(Blackhole bh) {
+		for (String line : lines) {
+			if (SentenceValidator.isValid(line)) {
+				bh.consume(SentenceValidator.isSentence(line));
+				bh.consume(SentenceValidator.isValid(line));
+				bh.consume(SentenceValidator.isSentence(line));
+			}
+		}
+	}
+}
@@ -21,6 +21,7 @@ package net.sf.marineapi.nmea.sentence;
  * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
  */
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
 import org.junit.Before;
@@ -72,4 +73,17 @@ public class TalkerIdTest {
 		}		
 	}
 
+	@Test
+	public void testLookup() {
+		for (TalkerId id : TalkerId.values()) {
+			String nmea = "$" + id.name() + "XYZ,,,";
+			assertEquals(id, TalkerId.lookup(nmea, 1, 1 + id.name().length()));
+		}
+		assertEquals(TalkerId.GP, TalkerId.lookup("GPGGA", 0, 2));
+		assertNull(TalkerId.lookup("XX", 0, 2));
+		assertNull(TalkerId.lookup("gp", 0, 2));
+		assertNull(TalkerId.lookup("G\u00c4", 0, 2));
+		assertNull(TalkerId.lookup("GPS", 0, 3));
+		assertNull(TalkerId.lookup("", 0, 0));
+	}
 }
@@ -32,6 +32,7 @@ import net.sf.marineapi.nmea.parser.GGATest;
 import net.sf.marineapi.nmea.parser.GLLTest;
 import net.sf.marineapi.nmea.parser.RMCTest;
 import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.Checksum;
 import net.sf.marineapi.nmea.sentence.Sentence;
 import net.sf.marineapi.provider.event.PositionEvent;
 import net.sf.marineapi.provider.event.PositionListener;
@@ -112,6 +113,19 @@ public class PositionProviderTest implements PositionListener {
 
 	}
 
+	@Test
+	public void testSentenceReadWithMalformedCourse() {
+
+		SentenceFactory sf = SentenceFactory.getInstance();
+		Sentence gll = sf.createParser(GLLTest.EXAMPLE);
+		instance.sentenceRead(new SentenceEvent(this, gll));
+
+		Sentence rmc = sf.createParser(Checksum.add(RMCTest.EXAMPLE.replace("360.0", "x12")));
+		instance.sentenceRead(new SentenceEvent(this, rmc));
+		assertNotNull(event);
+		assertNull(event.getCourse());
+	}
+
 	@Test
 	public void testSentenceReadWithLegacyRMC() {
 
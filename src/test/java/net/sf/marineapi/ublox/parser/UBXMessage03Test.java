@@ -27,6 +27,7 @@ import java.util.List;
 import org.junit.Test;
 
 import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.Checksum;
 import net.sf.marineapi.nmea.sentence.Sentence;
 import net.sf.marineapi.nmea.sentence.UBXSentence;
 import net.sf.marineapi.ublox.message.UBXMessage03;
@@ -66,4 +67,18 @@ public class UBXMessage03Test {
 
 	}
 
+	@Test
+	public void testParsingOfMalformedSatelliteFields() {
+
+		final String malformed = Checksum.add(message03.replace(",U,063,15,18,", ",U,06x,15,18,"));
+		final UBXSentence sentence = (UBXSentence) SentenceFactory.getInstance().createParser(malformed);
+		final UBXMessage03Parser pubx03MessageParser = new UBXMessage03Parser(sentence);
+
+		final List<UbloxSatelliteInfo> satellites = pubx03MessageParser.getSatellites();
+
+		assertEquals(31, satellites.size());
+		assertEquals(-1, satellites.get(0).getAzimuth());
+		assertEquals(15, satellites.get(0).getElevation());
+	}
+
 }
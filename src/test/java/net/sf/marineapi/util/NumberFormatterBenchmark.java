@@ -0,0 +1,63 @@
+package net.sf.marineapi.util;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of formatting a latitude field ("ddmm.mmm") and an integer field as
+ * done by the sentence setters. The legacy benchmarks replicate the former
+ * DecimalFormat and String.format based formatting.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class NumberFormatterBenchmark {
+
+	public double lat = 60.19253;
+	public int value = 7;
+
+	@Benchmark
+	public String legacyLatitude() {
+		int deg = (int) Math.floor(lat);
+		double min = (lat - deg) * 60;
+		DecimalFormat df = new DecimalFormat("00.000");
+		DecimalFormatSymbols dfs = new DecimalFormatSymbols();
+		dfs.setDecimalSeparator('.');
+		df.setDecimalFormatSymbols(dfs);
+		return String.format("%02d%s", deg, df.format(min));
+	}
+
+	@Benchmark
+	public String latitude() {
+		int deg = (int) Math.floor(lat);
+		double min = (lat - deg) * 60;
+		StringBuilder sb = new StringBuilder(10);
+		NumberFormatter.appendInt(sb, deg, 2);
+		NumberFormatter.appendDouble(sb, min, 2, 3);
+		return sb.toString();
+	}
+
+	@Benchmark
+	public String legacyInt() {
+		return String.format("%03d", value);
+	}
+
+	@Benchmark
+	public String formatInt() {
+		return NumberFormatter.formatInt(value, 3);
+	}
+}
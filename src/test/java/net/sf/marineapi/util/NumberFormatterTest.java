@@ -0,0 +1,133 @@
+package net.sf.marineapi.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class NumberFormatterTest {
+
+	/**
+	 * Former SentenceParser.setDoubleValue() formatting.
+	 */
+	private static String legacyDouble(double value, int leading, int decimals) {
+		StringBuilder pattern = new StringBuilder();
+		for (int i = 0; i < leading; i++) {
+			pattern.append('0');
+		}
+		if (decimals > 0) {
+			pattern.append('.');
+			for (int i = 0; i < decimals; i++) {
+				pattern.append('0');
+			}
+		}
+		if (pattern.length() == 0) {
+			pattern.append('0');
+		}
+		DecimalFormat nf = new DecimalFormat(pattern.toString());
+		DecimalFormatSymbols dfs = DecimalFormatSymbols.getInstance(Locale.ROOT);
+		dfs.setDecimalSeparator('.');
+		nf.setDecimalFormatSymbols(dfs);
+		return nf.format(value);
+	}
+
+	private static void assertSameDouble(double value) {
+		for (int leading = 0; leading <= 3; leading++) {
+			for (int decimals = 0; decimals <= 4; decimals++) {
+				String expected = legacyDouble(value, leading, decimals);
+				String actual = NumberFormatter.formatDouble(value, leading, decimals);
+				assertEquals(value + " " + leading + "/" + decimals, expected, actual);
+			}
+		}
+	}
+
+	@Test
+	public void testFormatDouble() {
+		assertEquals("012.35", NumberFormatter.formatDouble(12.345678, 3, 2));
+		assertEquals("1.0", NumberFormatter.formatDouble(0.99, 1, 1));
+		assertEquals("-00.5", NumberFormatter.formatDouble(-0.5, 2, 1));
+		assertEquals(".25", NumberFormatter.formatDouble(0.25, 0, 2));
+		assertEquals("0", NumberFormatter.formatDouble(0.4, 0, 0));
+		assertEquals("123", NumberFormatter.formatDouble(123.4, 1, 0));
+	}
+
+	@Test
+	public void testFormatDoubleSpecialValues() {
+		double[] values = {
+			0.0, -0.0, -0.0001, 0.5, 1.5, 2.5, -2.5, 0.125, 0.135, 0.05, 9.995,
+			99.9999, 1e15, 1e16, 1e20, -1e300, Double.MAX_VALUE, Double.MIN_VALUE,
+			Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+		};
+		for (double value : values) {
+			assertSameDouble(value);
+		}
+		assertEquals(legacyDouble(1.0 / 3, 2, 17), NumberFormatter.formatDouble(1.0 / 3, 2, 17));
+	}
+
+	@Test
+	public void testFormatDoubleSingleDigitHalfway() {
+		assertEquals("0.000", NumberFormatter.formatDouble(0.0005, 1, 3));
+		assertEquals(".00000", NumberFormatter.formatDouble(5e-6, 0, 5));
+		assertEquals("-0.0000", NumberFormatter.formatDouble(-5e-5, 1, 4));
+		assertEquals("0.01", NumberFormatter.formatDouble(0.005, 1, 2));
+		assertEquals("0.1", NumberFormatter.formatDouble(0.05, 1, 1));
+		for (int n = 1; n <= 15; n++) {
+			double value = Double.parseDouble("5e-" + n);
+			double[] values = { value, -value, Math.nextUp(value), Math.nextDown(value) };
+			for (double v : values) {
+				for (int decimals = n - 1; decimals <= n; decimals++) {
+					String expected = legacyDouble(v, 1, decimals);
+					String actual = NumberFormatter.formatDouble(v, 1, decimals);
+					assertEquals(v + " " + decimals, expected, actual);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testFormatDoubleRandomValues() {
+		Random rnd = new Random(17);
+		for (int i = 0; i < 20000; i++) {
+			// uniform values, halfway cases and values of varying magnitude
+			assertSameDouble(rnd.nextDouble() * 360 - 180);
+			assertSameDouble(rnd.nextInt(200000) / 16.0 - 5000);
+			assertSameDouble(Math.round(rnd.nextDouble() * 1e6) / 1e4);
+			assertSameDouble(rnd.nextDouble() * Math.pow(10, rnd.nextInt(30) - 10));
+			// halfway points of varying magnitude and their neighbours
+			double tie = (rnd.nextInt(1000000) * 10 + 5) / Math.pow(10, rnd.nextInt(8) + 1);
+			assertSameDouble(tie);
+			assertSameDouble(Math.nextUp(tie));
+			assertSameDouble(Math.nextDown(tie));
+		}
+	}
+
+	@Test
+	public void testFormatInt() {
+		Random rnd = new Random(17);
+		int[] values = { 0, 1, -1, 9, 10, -10, 999, Integer.MAX_VALUE, Integer.MIN_VALUE };
+		for (int leading = 0; leading <= 12; leading++) {
+			String pattern = leading > 0 ? "%0" + leading + "d" : "%d";
+			for (int value : values) {
+				assertEquals(String.format(Locale.ROOT, pattern, value),
+					NumberFormatter.formatInt(value, leading));
+			}
+			for (int i = 0; i < 1000; i++) {
+				int value = rnd.nextInt() >> rnd.nextInt(32);
+				assertEquals(String.format(Locale.ROOT, pattern, value),
+					NumberFormatter.formatInt(value, leading));
+			}
+		}
+	}
+
+	@Test
+	public void testAppend() {
+		StringBuilder sb = new StringBuilder();
+		NumberFormatter.appendInt(sb, 6, 2);
+		NumberFormatter.appendDouble(sb, 11.552, 2, 3);
+		assertEquals("0611.552", sb.toString());
+	}
+}
@@ -0,0 +1,171 @@
+package net.sf.marineapi.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import net.sf.marineapi.nmea.parser.PositionParser;
+import net.sf.marineapi.nmea.util.Date;
+import net.sf.marineapi.nmea.util.Time;
+
+import org.junit.Test;
+
+public class NumberParserTest {
+
+	private static List<String> readFields() throws IOException {
+		List<String> fields = new ArrayList<>();
+		for (File f : new File("src/test/resources/data").listFiles()) {
+			for (String line : Files.readAllLines(f.toPath(), StandardCharsets.ISO_8859_1)) {
+				for (String field : line.split("[,*]")) {
+					fields.add(field);
+				}
+			}
+		}
+		return fields;
+	}
+
+	private static void assertSameDouble(String s) {
+		String padded = "x," + s + ",y";
+		Object expected;
+		try {
+			expected = Double.doubleToRawLongBits(Double.parseDouble(s));
+		} catch (NumberFormatException e) {
+			expected = NumberFormatException.class;
+		}
+		Object actual;
+		try {
+			actual = Double.doubleToRawLongBits(
+				NumberParser.parseDouble(padded, 2, 2 + s.length()));
+		} catch (NumberFormatException e) {
+			actual = NumberFormatException.class;
+		}
+		assertEquals(s, expected, actual);
+	}
+
+	private static void assertSameInt(String s) {
+		Object expected;
+		try {
+			expected = Integer.parseInt(s);
+		} catch (NumberFormatException e) {
+			expected = NumberFormatException.class;
+		}
+		Object actual;
+		try {
+			actual = NumberParser.parseInt("x" + s, 1, 1 + s.length());
+		} catch (NumberFormatException e) {
+			actual = NumberFormatException.class;
+		}
+		assertEquals(s, expected, actual);
+	}
+
+	private static Object legacyTime(String s) {
+		try {
+			Time t = new Time(0, 0, 0);
+			t.setHour(Integer.parseInt(s.substring(0, 2)));
+			t.setMinutes(Integer.parseInt(s.substring(2, 4)));
+			t.setSeconds(Double.parseDouble(s.substring(4)));
+			return t;
+		} catch (RuntimeException e) {
+			return e.getClass();
+		}
+	}
+
+	private static Object legacyDegrees(String s) {
+		try {
+			int dot = s.indexOf(".");
+			String deg = dot > 2 ? s.substring(0, dot - 2) : "0";
+			String min = dot > 2 ? s.substring(dot - 2) : s;
+			return Integer.parseInt(deg) + (Double.parseDouble(min) / 60);
+		} catch (RuntimeException e) {
+			return e.getClass();
+		}
+	}
+
+	@Test
+	public void testParseDouble() {
+		assertEquals(4916.45, NumberParser.parseDouble("4916.45", 0, 7), 0.0);
+		assertEquals(-12.5, NumberParser.parseDouble("a-12.5b", 1, 6), 0.0);
+		assertEquals(123519.0, NumberParser.parseDouble("123519.00", 0, 9), 0.0);
+		assertEquals(0.5, NumberParser.parseDouble(".5", 0, 2), 0.0);
+		assertEquals(1.5e3, NumberParser.parseDouble("1.5e3", 0, 5), 0.0);
+		assertEquals(Double.doubleToRawLongBits(-0.0),
+			Double.doubleToRawLongBits(NumberParser.parseDouble("-0", 0, 2)));
+	}
+
+	@Test
+	public void testParseDoubleInvalid() {
+		for (String s : new String[] { "", "-", ".", "1.2.3", "1,2", "A" }) {
+			try {
+				NumberParser.parseDouble(s, 0, s.length());
+				fail("Did not throw NumberFormatException: " + s);
+			} catch (NumberFormatException e) {
+				// pass
+			}
+		}
+	}
+
+	@Test
+	public void testParseIntAndLong() {
+		assertEquals(-42, NumberParser.parseInt("x-42", 1, 4));
+		assertEquals(123456789012L, NumberParser.parseLong("123456789012", 0, 12));
+	}
+
+	@Test
+	public void testSameAsJdkWithLogs() throws IOException {
+		for (String field : readFields()) {
+			assertSameDouble(field);
+			assertSameInt(field);
+			assertEquals(field, legacyTime(field), timeOrError(field));
+			assertEquals(field, legacyDegrees(field), degreesOrError(field));
+		}
+	}
+
+	@Test
+	public void testSameAsJdkWithRandomDecimals() {
+		Random rnd = new Random(7);
+		for (int i = 0; i < 20000; i++) {
+			StringBuilder sb = new StringBuilder();
+			if (rnd.nextInt(4) == 0) {
+				sb.append(rnd.nextBoolean() ? '-' : '+');
+			}
+			int digits = rnd.nextInt(20);
+			int dot = rnd.nextInt(digits + 2) - 1;
+			for (int d = 0; d < digits; d++) {
+				if (d == dot) {
+					sb.append('.');
+				}
+				sb.append((char) ('0' + rnd.nextInt(10)));
+			}
+			assertSameDouble(sb.toString());
+		}
+	}
+
+	@Test
+	public void testDateFromRange() {
+		Date d = new Date("x,010203,y", 2, 8);
+		assertEquals(new Date("010203"), d);
+	}
+
+	private static Object timeOrError(String s) {
+		try {
+			return new Time(s);
+		} catch (RuntimeException e) {
+			return e.getClass();
+		}
+	}
+
+	private static Object degreesOrError(String s) {
+		try {
+			return PositionParser.parseDegrees(s);
+		} catch (RuntimeException e) {
+			return e.getClass();
+		}
+	}
+}